@@ -516,6 +516,22 @@ public class ObservationDaprClient implements DaprClient {
         () -> delegate.getBulkState(request, type));
   }
 
+  @Override
+  public <T> Flux<State<T>> getBulkStateStream(GetBulkStateRequest request, TypeRef<T> type) {
+    return observeFlux(
+        observation("dapr.client.get_bulk_state_stream")
+            .highCardinalityKeyValue("dapr.store.name", safe(request.getStoreName())),
+        () -> delegate.getBulkStateStream(request, type));
+  }
+
+  @Override
+  public <T> Flux<State<T>> getBulkStateStream(GetBulkStateRequest request, Class<T> clazz) {
+    return observeFlux(
+        observation("dapr.client.get_bulk_state_stream")
+            .highCardinalityKeyValue("dapr.store.name", safe(request.getStoreName())),
+        () -> delegate.getBulkStateStream(request, clazz));
+  }
+
   @Override
   public Mono<Void> executeStateTransaction(String storeName,
                                              List<TransactionalStateOperation<?>> operations) {
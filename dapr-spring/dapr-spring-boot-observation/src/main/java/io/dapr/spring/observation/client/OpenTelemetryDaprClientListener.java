@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.observation.client;
+
+import io.dapr.client.instrumentation.DaprClientListener;
+import io.dapr.client.resiliency.OperationType;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.Meter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link DaprClientListener} recording the measurements of a {@link io.dapr.client.DaprClient} as
+ * OpenTelemetry metrics. Register it with
+ * {@link io.dapr.client.DaprClientBuilder#withClientListener(DaprClientListener)}.
+ *
+ * <p>Metrics recorded:
+ * <ul>
+ *   <li>{@code dapr.client.call.duration}: latency of the gRPC calls to Dapr, by method and status.</li>
+ *   <li>{@code dapr.client.call.active}: gRPC calls in flight, by method.</li>
+ *   <li>{@code dapr.client.call.request.size} and {@code dapr.client.call.response.size}: message sizes,
+ *   by method.</li>
+ *   <li>{@code dapr.client.retries}: calls retried, by operation type.</li>
+ *   <li>{@code dapr.client.serialization.duration}: time spent (de)serializing application objects, by
+ *   serializer and direction.</li>
+ * </ul>
+ */
+public class OpenTelemetryDaprClientListener implements DaprClientListener {
+
+  private static final AttributeKey<String> METHOD = AttributeKey.stringKey("dapr.method");
+
+  private static final AttributeKey<String> STATUS = AttributeKey.stringKey("dapr.status");
+
+  private static final AttributeKey<String> OPERATION_TYPE = AttributeKey.stringKey("dapr.operation_type");
+
+  private static final AttributeKey<String> SERIALIZER = AttributeKey.stringKey("dapr.serializer");
+
+  private static final AttributeKey<String> DIRECTION = AttributeKey.stringKey("dapr.direction");
+
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+  private final DoubleHistogram callDuration;
+
+  private final LongUpDownCounter activeCalls;
+
+  private final LongHistogram requestSize;
+
+  private final LongHistogram responseSize;
+
+  private final LongCounter retries;
+
+  private final DoubleHistogram serializationDuration;
+
+  /**
+   * Attributes by method, so they are only built once per method.
+   */
+  private final Map<String, Attributes> methodAttributes = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new {@code OpenTelemetryDaprClientListener}.
+   *
+   * @param meter the OpenTelemetry {@link Meter} creating the instruments
+   */
+  public OpenTelemetryDaprClientListener(Meter meter) {
+    this.callDuration = meter.histogramBuilder("dapr.client.call.duration")
+        .setDescription("Duration of gRPC calls to Dapr")
+        .setUnit("s")
+        .build();
+    this.activeCalls = meter.upDownCounterBuilder("dapr.client.call.active")
+        .setDescription("gRPC calls to Dapr in flight")
+        .setUnit("{call}")
+        .build();
+    this.requestSize = meter.histogramBuilder("dapr.client.call.request.size")
+        .setDescription("Size of the messages sent to Dapr by a gRPC call")
+        .setUnit("By")
+        .ofLongs()
+        .build();
+    this.responseSize = meter.histogramBuilder("dapr.client.call.response.size")
+        .setDescription("Size of the messages received from Dapr by a gRPC call")
+        .setUnit("By")
+        .ofLongs()
+        .build();
+    this.retries = meter.counterBuilder("dapr.client.retries")
+        .setDescription("Calls to Dapr retried")
+        .setUnit("{retry}")
+        .build();
+    this.serializationDuration = meter.histogramBuilder("dapr.client.serialization.duration")
+        .setDescription("Duration of the serialization of application objects")
+        .setUnit("s")
+        .build();
+  }
+
+  @Override
+  public void onCallStarted(String method) {
+    activeCalls.add(1, methodAttributes(method));
+  }
+
+  @Override
+  public void onCallCompleted(
+      String method, String status, long durationNanos, long requestBytes, long responseBytes) {
+    Attributes attributes = methodAttributes(method);
+    activeCalls.add(-1, attributes);
+    requestSize.record(requestBytes, attributes);
+    responseSize.record(responseBytes, attributes);
+    callDuration.record(durationNanos / NANOS_PER_SECOND, attributes.toBuilder().put(STATUS, status).build());
+  }
+
+  @Override
+  public void onRetry(OperationType operationType, Throwable error) {
+    retries.add(1, Attributes.of(OPERATION_TYPE, operationType.name()));
+  }
+
+  @Override
+  public void onSerialized(String serializer, long durationNanos, int bytes) {
+    serializationDuration.record(durationNanos / NANOS_PER_SECOND,
+        Attributes.of(SERIALIZER, serializer, DIRECTION, "serialize"));
+  }
+
+  @Override
+  public void onDeserialized(String serializer, long durationNanos, int bytes) {
+    serializationDuration.record(durationNanos / NANOS_PER_SECOND,
+        Attributes.of(SERIALIZER, serializer, DIRECTION, "deserialize"));
+  }
+
+  private Attributes methodAttributes(String method) {
+    return methodAttributes.computeIfAbsent(method, key -> Attributes.of(METHOD, key));
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.observation.client;
+
+import io.dapr.client.resiliency.OperationType;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.DoubleHistogramBuilder;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongCounterBuilder;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.LongHistogramBuilder;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.LongUpDownCounterBuilder;
+import io.opentelemetry.api.metrics.Meter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Answers.RETURNS_SELF;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link OpenTelemetryDaprClientListener}.
+ */
+class OpenTelemetryDaprClientListenerTest {
+
+  private static final Attributes GET_STATE = Attributes.of(AttributeKey.stringKey("dapr.method"), "GetState");
+
+  private final DoubleHistogram callDuration = mock(DoubleHistogram.class);
+  private final LongUpDownCounter activeCalls = mock(LongUpDownCounter.class);
+  private final LongHistogram requestSize = mock(LongHistogram.class);
+  private final LongHistogram responseSize = mock(LongHistogram.class);
+  private final LongCounter retries = mock(LongCounter.class);
+  private final DoubleHistogram serializationDuration = mock(DoubleHistogram.class);
+
+  private OpenTelemetryDaprClientListener listener;
+
+  @BeforeEach
+  void setUp() {
+    Meter meter = mock(Meter.class);
+    DoubleHistogramBuilder callDurationBuilder = doubleHistogram(callDuration);
+    DoubleHistogramBuilder requestSizeBuilder = longHistogram(requestSize);
+    DoubleHistogramBuilder responseSizeBuilder = longHistogram(responseSize);
+    DoubleHistogramBuilder serializationDurationBuilder = doubleHistogram(serializationDuration);
+    when(meter.histogramBuilder("dapr.client.call.duration")).thenReturn(callDurationBuilder);
+    when(meter.histogramBuilder("dapr.client.call.request.size")).thenReturn(requestSizeBuilder);
+    when(meter.histogramBuilder("dapr.client.call.response.size")).thenReturn(responseSizeBuilder);
+    when(meter.histogramBuilder("dapr.client.serialization.duration")).thenReturn(serializationDurationBuilder);
+    LongUpDownCounterBuilder activeCallsBuilder = mock(LongUpDownCounterBuilder.class, RETURNS_SELF);
+    when(activeCallsBuilder.build()).thenReturn(activeCalls);
+    when(meter.upDownCounterBuilder("dapr.client.call.active")).thenReturn(activeCallsBuilder);
+    LongCounterBuilder retriesBuilder = mock(LongCounterBuilder.class, RETURNS_SELF);
+    when(retriesBuilder.build()).thenReturn(retries);
+    when(meter.counterBuilder("dapr.client.retries")).thenReturn(retriesBuilder);
+
+    listener = new OpenTelemetryDaprClientListener(meter);
+  }
+
+  @Test
+  void recordsCalls() {
+    listener.onCallStarted("GetState");
+    listener.onCallCompleted("GetState", "OK", 2_000_000, 10, 20);
+
+    verify(activeCalls).add(1, GET_STATE);
+    verify(activeCalls).add(-1, GET_STATE);
+    verify(requestSize).record(10, GET_STATE);
+    verify(responseSize).record(20, GET_STATE);
+    verify(callDuration).record(eq(0.002),
+        eq(GET_STATE.toBuilder().put(AttributeKey.stringKey("dapr.status"), "OK").build()));
+  }
+
+  @Test
+  void recordsRetriesAndSerialization() {
+    listener.onRetry(OperationType.STATE_READ, new RuntimeException());
+    listener.onSerialized("state", 1_000, 7);
+
+    verify(retries).add(1, Attributes.of(AttributeKey.stringKey("dapr.operation_type"), "STATE_READ"));
+    verify(serializationDuration).record(1e-6, Attributes.of(
+        AttributeKey.stringKey("dapr.serializer"), "state",
+        AttributeKey.stringKey("dapr.direction"), "serialize"));
+  }
+
+  private static DoubleHistogramBuilder doubleHistogram(DoubleHistogram histogram) {
+    DoubleHistogramBuilder builder = mock(DoubleHistogramBuilder.class, RETURNS_SELF);
+    when(builder.build()).thenReturn(histogram);
+    return builder;
+  }
+
+  private static DoubleHistogramBuilder longHistogram(LongHistogram histogram) {
+    DoubleHistogramBuilder builder = mock(DoubleHistogramBuilder.class, RETURNS_SELF);
+    LongHistogramBuilder longBuilder = mock(LongHistogramBuilder.class, RETURNS_SELF);
+    when(builder.ofLongs()).thenReturn(longBuilder);
+    when(longBuilder.build()).thenReturn(histogram);
+    return builder;
+  }
+}
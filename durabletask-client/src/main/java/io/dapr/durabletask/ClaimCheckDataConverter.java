@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.durabletask;
+
+import javax.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link DataConverter} that offloads large payloads to a {@link PayloadStore}, the claim-check pattern.
+ *
+ * <p>Values whose serialized form is larger than a threshold are saved in the store, and only a small JSON reference
+ * to them is written into orchestration history. References are resolved when deserializing, and the most recently
+ * resolved payloads are cached, so replaying an orchestration does not load the same payload again. History size and
+ * replay payloads therefore stay flat as inputs, outputs and activity results grow.</p>
+ *
+ * <p>Payloads are keyed by the SHA-256 hash of their serialized form. Serializing the same value again, as happens
+ * every time an orchestration is replayed, yields the same reference, and the payload is not saved again while it
+ * is cached. If the store expires payloads, the payload is saved again once half of its time to live has elapsed
+ * since this converter last saved it, so that replays keep it alive.</p>
+ *
+ * <p>Every client and worker that reads the values must be configured with this converter and the same store.</p>
+ */
+public final class ClaimCheckDataConverter implements DataConverter {
+
+  /**
+   * Default size in bytes above which a serialized value is offloaded.
+   */
+  public static final int DEFAULT_THRESHOLD_BYTES = 64 * 1024;
+
+  /**
+   * Default number of resolved payloads kept in memory.
+   */
+  public static final int DEFAULT_CACHE_SIZE = 32;
+
+  private static final String REFERENCE_PREFIX = "{\"$claimCheck\":\"";
+
+  private static final String REFERENCE_SUFFIX = "\"}";
+
+  private final DataConverter dataConverter;
+
+  private final PayloadStore payloadStore;
+
+  private final int thresholdBytes;
+
+  private final Map<String, String> cache;
+
+  private final Map<String, Long> saveTimes;
+
+  private final long resaveAfterNanos;
+
+  /**
+   * Creates a converter that offloads values larger than {@value #DEFAULT_THRESHOLD_BYTES} bytes.
+   *
+   * @param dataConverter the converter that serializes the values
+   * @param payloadStore  the store large payloads are offloaded to
+   */
+  public ClaimCheckDataConverter(DataConverter dataConverter, PayloadStore payloadStore) {
+    this(dataConverter, payloadStore, DEFAULT_THRESHOLD_BYTES, DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * Creates a converter.
+   *
+   * @param dataConverter  the converter that serializes the values
+   * @param payloadStore   the store large payloads are offloaded to
+   * @param thresholdBytes the size in bytes above which a serialized value is offloaded
+   * @param cacheSize      the number of resolved payloads kept in memory, 0 to disable caching
+   */
+  public ClaimCheckDataConverter(
+      DataConverter dataConverter,
+      PayloadStore payloadStore,
+      int thresholdBytes,
+      int cacheSize) {
+    Helpers.throwIfArgumentNull(dataConverter, "dataConverter");
+    Helpers.throwIfArgumentNull(payloadStore, "payloadStore");
+    if (thresholdBytes < 0) {
+      throw new IllegalArgumentException("thresholdBytes must not be negative");
+    }
+    if (cacheSize < 0) {
+      throw new IllegalArgumentException("cacheSize must not be negative");
+    }
+
+    this.dataConverter = dataConverter;
+    this.payloadStore = payloadStore;
+    this.thresholdBytes = thresholdBytes;
+    this.cache = createLruMap(cacheSize);
+    this.saveTimes = createLruMap(cacheSize);
+    Duration ttl = payloadStore.getTtl();
+    this.resaveAfterNanos = ttl == null ? -1 : ttl.toNanos() / 2;
+  }
+
+  @Nullable
+  @Override
+  public String serialize(@Nullable Object value) {
+    String serialized = this.dataConverter.serialize(value);
+    if (serialized == null || !isAboveThreshold(serialized)) {
+      return serialized;
+    }
+
+    String key = getContentKey(serialized);
+    if (!isSaved(key)) {
+      long saveTime = System.nanoTime();
+      try {
+        this.payloadStore.save(key, serialized);
+      } catch (RuntimeException e) {
+        throw new DataConverterException("Failed to offload a payload of " + serialized.length() + " characters", e);
+      }
+      cache(key, serialized);
+      synchronized (this.saveTimes) {
+        this.saveTimes.put(key, saveTime);
+      }
+    }
+    return REFERENCE_PREFIX + key + REFERENCE_SUFFIX;
+  }
+
+  @Nullable
+  @Override
+  public <T> T deserialize(@Nullable String data, Class<T> target) {
+    String key = getReferenceKey(data);
+    if (key == null) {
+      return this.dataConverter.deserialize(data, target);
+    }
+
+    return this.dataConverter.deserialize(resolve(key), target);
+  }
+
+  private boolean isSaved(String key) {
+    if (this.resaveAfterNanos < 0) {
+      // Payloads never expire, any payload seen by this converter is still in the store.
+      synchronized (this.cache) {
+        return this.cache.get(key) != null;
+      }
+    }
+
+    Long saveTime;
+    synchronized (this.saveTimes) {
+      saveTime = this.saveTimes.get(key);
+    }
+    return saveTime != null && System.nanoTime() - saveTime < this.resaveAfterNanos;
+  }
+
+  private boolean isAboveThreshold(String serialized) {
+    // A UTF-8 character takes 1 to 3 bytes, only count them when the length alone does not decide.
+    if (serialized.length() > this.thresholdBytes) {
+      return true;
+    }
+    if ((long) serialized.length() * 3 <= this.thresholdBytes) {
+      return false;
+    }
+    return serialized.getBytes(StandardCharsets.UTF_8).length > this.thresholdBytes;
+  }
+
+  private static String getContentKey(String serialized) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(serialized.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+  }
+
+  @Nullable
+  private static String getReferenceKey(@Nullable String data) {
+    if (data == null
+        || !data.startsWith(REFERENCE_PREFIX)
+        || !data.endsWith(REFERENCE_SUFFIX)
+        || data.length() <= REFERENCE_PREFIX.length() + REFERENCE_SUFFIX.length()) {
+      return null;
+    }
+
+    return data.substring(REFERENCE_PREFIX.length(), data.length() - REFERENCE_SUFFIX.length());
+  }
+
+  private String resolve(String key) {
+    synchronized (this.cache) {
+      String payload = this.cache.get(key);
+      if (payload != null) {
+        return payload;
+      }
+    }
+
+    String payload;
+    try {
+      payload = this.payloadStore.load(key);
+    } catch (RuntimeException e) {
+      throw new DataConverterException("Failed to load offloaded payload " + key, e);
+    }
+    if (payload == null) {
+      throw new DataConverterException("Offloaded payload " + key + " was not found", null);
+    }
+
+    cache(key, payload);
+    return payload;
+  }
+
+  private void cache(String key, String payload) {
+    synchronized (this.cache) {
+      this.cache.put(key, payload);
+    }
+  }
+
+  private static <V> Map<String, V> createLruMap(int maxSize) {
+    return new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+}
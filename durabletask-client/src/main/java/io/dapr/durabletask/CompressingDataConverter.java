@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.durabletask;
+
+import javax.annotation.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@link DataConverter} that gzip-compresses large payloads.
+ *
+ * <p>Values whose serialized form is larger than a threshold are compressed, base64-encoded and wrapped in a small
+ * JSON object, so they remain text that the durable task protocol can carry. A value is only written compressed when
+ * that makes it smaller. Compressed values are decompressed transparently when deserializing, and values written
+ * without compression are still read as they are, so the converter can be enabled on existing workflows.</p>
+ *
+ * <p>Every client and worker that reads the values must be configured with this converter.</p>
+ */
+public final class CompressingDataConverter implements DataConverter {
+
+  /**
+   * Default size in bytes above which a serialized value is compressed.
+   */
+  public static final int DEFAULT_THRESHOLD_BYTES = 1024;
+
+  private static final String COMPRESSED_PREFIX = "{\"$gzip\":\"";
+
+  private static final String COMPRESSED_SUFFIX = "\"}";
+
+  private final DataConverter dataConverter;
+
+  private final int thresholdBytes;
+
+  /**
+   * Creates a converter that compresses values larger than {@value #DEFAULT_THRESHOLD_BYTES} bytes.
+   *
+   * @param dataConverter the converter that serializes the values
+   */
+  public CompressingDataConverter(DataConverter dataConverter) {
+    this(dataConverter, DEFAULT_THRESHOLD_BYTES);
+  }
+
+  /**
+   * Creates a converter.
+   *
+   * @param dataConverter  the converter that serializes the values
+   * @param thresholdBytes the size in bytes above which a serialized value is compressed
+   */
+  public CompressingDataConverter(DataConverter dataConverter, int thresholdBytes) {
+    Helpers.throwIfArgumentNull(dataConverter, "dataConverter");
+    if (thresholdBytes < 0) {
+      throw new IllegalArgumentException("thresholdBytes must not be negative");
+    }
+
+    this.dataConverter = dataConverter;
+    this.thresholdBytes = thresholdBytes;
+  }
+
+  @Nullable
+  @Override
+  public String serialize(@Nullable Object value) {
+    String serialized = this.dataConverter.serialize(value);
+    if (serialized == null || serialized.length() <= this.thresholdBytes / 3) {
+      return serialized;
+    }
+
+    byte[] bytes = serialized.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length <= this.thresholdBytes) {
+      return serialized;
+    }
+
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+    try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(bytes);
+    } catch (IOException e) {
+      throw new DataConverterException("Failed to compress a payload of " + bytes.length + " bytes", e);
+    }
+
+    // Base64 grows the compressed bytes by a third, keep the plain text when it would not be smaller.
+    int encodedLength = COMPRESSED_PREFIX.length() + 4 * ((compressed.size() + 2) / 3) + COMPRESSED_SUFFIX.length();
+    if (encodedLength >= bytes.length) {
+      return serialized;
+    }
+
+    return COMPRESSED_PREFIX + Base64.getEncoder().encodeToString(compressed.toByteArray()) + COMPRESSED_SUFFIX;
+  }
+
+  @Nullable
+  @Override
+  public <T> T deserialize(@Nullable String data, Class<T> target) {
+    if (data == null
+        || !data.startsWith(COMPRESSED_PREFIX)
+        || !data.endsWith(COMPRESSED_SUFFIX)) {
+      return this.dataConverter.deserialize(data, target);
+    }
+
+    String encoded = data.substring(COMPRESSED_PREFIX.length(), data.length() - COMPRESSED_SUFFIX.length());
+    try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(encoded)))) {
+      return this.dataConverter.deserialize(new String(gzip.readAllBytes(), StandardCharsets.UTF_8), target);
+    } catch (IOException | IllegalArgumentException e) {
+      throw new DataConverterException("Failed to decompress a payload of " + data.length() + " characters", e);
+    }
+  }
+}
@@ -16,6 +16,9 @@ package io.dapr.durabletask;
 import javax.annotation.Nullable;
 
 import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -274,6 +277,18 @@ public abstract class DurableTaskClient implements AutoCloseable {
    */
   public abstract PurgeResult purgeInstances(PurgeInstanceCriteria purgeInstanceCriteria) throws TimeoutException;
 
+  /**
+   * Lists the IDs of the orchestration instances in the durable store, one page at a time.
+   *
+   * <p>Pass {@code null} to fetch the first page, then the {@link InstanceIdPage#getContinuationToken()} of each page
+   * to fetch the next one, until a page has no continuation token.</p>
+   *
+   * @param continuationToken the continuation token of the previous page, or {@code null} for the first page
+   * @param pageSize          the maximum number of instance IDs in the page
+   * @return the page of instance IDs
+   */
+  public abstract InstanceIdPage listInstanceIds(@Nullable String continuationToken, int pageSize);
+
   /**
    * Restarts an existing orchestration instance with the original input.
    *
@@ -318,4 +333,155 @@ public abstract class DurableTaskClient implements AutoCloseable {
    * @param reason     the reason for resuming the orchestration instance
    */
   public abstract void resumeInstance(String instanceId, @Nullable String reason);
+
+  /**
+   * Schedules a new orchestration instance with a specified set of options for execution, without blocking the
+   * calling thread.
+   *
+   * <p>This default implementation runs {@link #scheduleNewOrchestrationInstance(String,
+   * NewOrchestrationInstanceOptions)} on the common fork-join pool. Implementations that can make the call
+   * asynchronously should override it, as should they the other asynchronous methods of this class.</p>
+   *
+   * @param orchestratorName the name of the orchestrator to schedule
+   * @param options          the options for the new orchestration instance, including input, instance ID, etc.
+   * @return a future of the ID of the scheduled orchestration instance
+   */
+  public CompletableFuture<String> scheduleNewOrchestrationInstanceAsync(
+      String orchestratorName,
+      NewOrchestrationInstanceOptions options) {
+    return supplyAsync(() -> this.scheduleNewOrchestrationInstance(orchestratorName, options));
+  }
+
+  /**
+   * Sends an event notification message with a payload to a waiting orchestration instance, without blocking the
+   * calling thread.
+   *
+   * @param instanceId   the ID of the orchestration instance that will handle the event
+   * @param eventName    the case-insensitive name of the event
+   * @param eventPayload the serializable data payload to include with the event
+   * @return a future completed once the event is sent
+   * @see #raiseEvent(String, String, Object)
+   */
+  public CompletableFuture<Void> raiseEventAsync(String instanceId, String eventName, @Nullable Object eventPayload) {
+    return supplyAsync(() -> {
+      this.raiseEvent(instanceId, eventName, eventPayload);
+      return null;
+    });
+  }
+
+  /**
+   * Fetches orchestration instance metadata from the configured durable store, without blocking the calling thread.
+   *
+   * @param instanceId          the unique ID of the orchestration instance to fetch
+   * @param getInputsAndOutputs <code>true</code> to fetch the orchestration instance's inputs, outputs, and custom
+   *                            status, or <code>false</code> to omit them
+   * @return a future of the metadata record that describes the orchestration instance
+   * @see #getInstanceMetadata(String, boolean)
+   */
+  public CompletableFuture<OrchestrationMetadata> getInstanceMetadataAsync(
+      String instanceId,
+      boolean getInputsAndOutputs) {
+    return supplyAsync(() -> this.getInstanceMetadata(instanceId, getInputsAndOutputs));
+  }
+
+  /**
+   * Waits for an orchestration to start running, without blocking the calling thread.
+   *
+   * @param instanceId          the unique ID of the orchestration instance to wait for
+   * @param timeout             the amount of time to wait for the orchestration instance to start
+   * @param getInputsAndOutputs <code>true</code> to fetch the orchestration instance's inputs, outputs, and custom
+   *                            status, or <code>false</code> to omit them
+   * @return a future of the orchestration instance metadata, completed exceptionally with a {@link TimeoutException}
+   *     when the orchestration instance is not started within the specified amount of time
+   * @see #waitForInstanceStart(String, Duration, boolean)
+   */
+  public CompletableFuture<OrchestrationMetadata> waitForInstanceStartAsync(
+      String instanceId,
+      Duration timeout,
+      boolean getInputsAndOutputs) {
+    return supplyAsync(() -> this.waitForInstanceStart(instanceId, timeout, getInputsAndOutputs));
+  }
+
+  /**
+   * Waits for an orchestration to complete, without blocking the calling thread.
+   *
+   * @param instanceId          the unique ID of the orchestration instance to wait for
+   * @param timeout             the amount of time to wait for the orchestration instance to complete
+   * @param getInputsAndOutputs <code>true</code> to fetch the orchestration instance's inputs, outputs, and custom
+   *                            status, or <code>false</code> to omit them
+   * @return a future of the orchestration instance metadata, completed exceptionally with a {@link TimeoutException}
+   *     when the orchestration instance is not completed within the specified amount of time
+   * @see #waitForInstanceCompletion(String, Duration, boolean)
+   */
+  public CompletableFuture<OrchestrationMetadata> waitForInstanceCompletionAsync(
+      String instanceId,
+      Duration timeout,
+      boolean getInputsAndOutputs) {
+    return supplyAsync(() -> this.waitForInstanceCompletion(instanceId, timeout, getInputsAndOutputs));
+  }
+
+  /**
+   * Terminates a running orchestration instance, without blocking the calling thread.
+   *
+   * @param instanceId the unique ID of the orchestration instance to terminate
+   * @param output     the optional output to set for the terminated orchestration instance.
+   *                   This value must be serializable.
+   * @return a future completed once the termination is requested
+   * @see #terminate(String, Object)
+   */
+  public CompletableFuture<Void> terminateAsync(String instanceId, @Nullable Object output) {
+    return supplyAsync(() -> {
+      this.terminate(instanceId, output);
+      return null;
+    });
+  }
+
+  /**
+   * Purges orchestration instance metadata from the durable store, without blocking the calling thread.
+   *
+   * @param instanceId the unique ID of the orchestration instance to purge
+   * @return a future of the result of the purge operation
+   * @see #purgeInstance(String)
+   */
+  public CompletableFuture<PurgeResult> purgeInstanceAsync(String instanceId) {
+    return supplyAsync(() -> this.purgeInstance(instanceId));
+  }
+
+  /**
+   * Purges orchestration instance metadata from the durable store using a filter that determines which instances to
+   * purge data for, without blocking the calling thread.
+   *
+   * @param purgeInstanceCriteria orchestration instance filter criteria used to determine which instances to purge
+   * @return a future of the result of the purge operation, completed exceptionally with a {@link TimeoutException}
+   *     when purging instances is not completed within the specified amount of time
+   * @see #purgeInstances(PurgeInstanceCriteria)
+   */
+  public CompletableFuture<PurgeResult> purgeInstancesAsync(PurgeInstanceCriteria purgeInstanceCriteria) {
+    return supplyAsync(() -> this.purgeInstances(purgeInstanceCriteria));
+  }
+
+  /**
+   * Lists the IDs of the orchestration instances in the durable store, one page at a time, without blocking the
+   * calling thread.
+   *
+   * @param continuationToken the continuation token of the previous page, or {@code null} for the first page
+   * @param pageSize          the maximum number of instance IDs in the page
+   * @return a future of the page of instance IDs
+   * @see #listInstanceIds(String, int)
+   */
+  public CompletableFuture<InstanceIdPage> listInstanceIdsAsync(@Nullable String continuationToken, int pageSize) {
+    return supplyAsync(() -> this.listInstanceIds(continuationToken, pageSize));
+  }
+
+  private static <T> CompletableFuture<T> supplyAsync(Callable<T> call) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    ForkJoinPool.commonPool().execute(() -> {
+      try {
+        future.complete(call.call());
+      } catch (Throwable e) {
+        future.completeExceptionally(e);
+      }
+    });
+    return future;
+  }
 }
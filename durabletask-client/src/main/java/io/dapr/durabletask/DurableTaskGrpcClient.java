@@ -28,6 +28,9 @@ import io.grpc.StatusRuntimeException;
 import io.grpc.TlsChannelCredentials;
 import io.grpc.netty.GrpcSslContexts;
 import io.grpc.netty.NettyChannelBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanKind;
@@ -45,12 +48,16 @@ import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 /**
@@ -67,6 +74,7 @@ public final class DurableTaskGrpcClient extends DurableTaskClient {
   private final DataConverter dataConverter;
   private final ManagedChannel managedSidecarChannel;
   private final TaskHubSidecarServiceGrpc.TaskHubSidecarServiceBlockingStub sidecarClient;
+  private final TaskHubSidecarServiceGrpc.TaskHubSidecarServiceStub asyncSidecarClient;
 
   // Optional. When null, scheduling emits no spans and no trace context is propagated (legacy behavior).
   @Nullable
@@ -147,6 +155,7 @@ public final class DurableTaskGrpcClient extends DurableTaskClient {
     this.tracer = builder.tracer;
 
     this.sidecarClient = TaskHubSidecarServiceGrpc.newBlockingStub(sidecarGrpcChannel);
+    this.asyncSidecarClient = TaskHubSidecarServiceGrpc.newStub(sidecarGrpcChannel);
   }
 
   /**
@@ -172,6 +181,60 @@ public final class DurableTaskGrpcClient extends DurableTaskClient {
   public String scheduleNewOrchestrationInstance(
       String orchestratorName,
       NewOrchestrationInstanceOptions options) {
+    OrchestratorService.CreateInstanceRequest.Builder builder = newCreateInstanceRequest(orchestratorName, options);
+    Span span = startScheduleSpan(orchestratorName, builder);
+
+    AtomicReference<OrchestratorService.CreateInstanceResponse> response = new AtomicReference<>();
+
+    OrchestratorService.CreateInstanceRequest request = builder.build();
+    // Make the span current during the call so instrumentation running underneath
+    // (e.g. gRPC OpenTelemetry interceptors) attaches to it.
+    try (Scope ignored = span != null ? span.makeCurrent() : Scope.noop()) {
+      response.set(this.sidecarClient.startInstance(request));
+    } catch (RuntimeException e) {
+      if (span != null) {
+        span.recordException(e);
+        span.setStatus(StatusCode.ERROR, "Failed to schedule orchestration instance");
+      }
+      throw e;
+    } finally {
+      if (span != null) {
+        span.end();
+      }
+    }
+
+    return response.get().getInstanceId();
+  }
+
+  @Override
+  public CompletableFuture<String> scheduleNewOrchestrationInstanceAsync(
+      String orchestratorName,
+      NewOrchestrationInstanceOptions options) {
+    OrchestratorService.CreateInstanceRequest.Builder builder = newCreateInstanceRequest(orchestratorName, options);
+    Span span = startScheduleSpan(orchestratorName, builder);
+
+    CompletableFuture<String> instanceId;
+    try (Scope ignored = span != null ? span.makeCurrent() : Scope.noop()) {
+      instanceId = unaryCall(this.asyncSidecarClient::startInstance, builder.build(),
+          OrchestratorService.CreateInstanceResponse::getInstanceId, null);
+    }
+
+    if (span != null) {
+      instanceId.whenComplete((result, e) -> {
+        if (e != null) {
+          span.recordException(e);
+          span.setStatus(StatusCode.ERROR, "Failed to schedule orchestration instance");
+        }
+        span.end();
+      });
+    }
+
+    return instanceId;
+  }
+
+  private OrchestratorService.CreateInstanceRequest.Builder newCreateInstanceRequest(
+      String orchestratorName,
+      NewOrchestrationInstanceOptions options) {
     if (orchestratorName == null || orchestratorName.length() == 0) {
       throw new IllegalArgumentException("A non-empty orchestrator name must be specified.");
     }
@@ -204,6 +267,12 @@ public final class DurableTaskGrpcClient extends DurableTaskClient {
       builder.setScheduledStartTimestamp(ts);
     }
 
+    return builder;
+  }
+
+  @Nullable
+  private Span startScheduleSpan(String orchestratorName, OrchestratorService.CreateInstanceRequest.Builder builder) {
+    String instanceId = builder.getInstanceId();
     Span span = null;
     if (this.tracer != null) {
       span = this.tracer.spanBuilder("create_orchestration:" + orchestratorName)
@@ -218,26 +287,7 @@ public final class DurableTaskGrpcClient extends DurableTaskClient {
       }
     }
 
-    AtomicReference<OrchestratorService.CreateInstanceResponse> response = new AtomicReference<>();
-
-    OrchestratorService.CreateInstanceRequest request = builder.build();
-    // Make the span current during the call so instrumentation running underneath
-    // (e.g. gRPC OpenTelemetry interceptors) attaches to it.
-    try (Scope ignored = span != null ? span.makeCurrent() : Scope.noop()) {
-      response.set(this.sidecarClient.startInstance(request));
-    } catch (RuntimeException e) {
-      if (span != null) {
-        span.recordException(e);
-        span.setStatus(StatusCode.ERROR, "Failed to schedule orchestration instance");
-      }
-      throw e;
-    } finally {
-      if (span != null) {
-        span.end();
-      }
-    }
-
-    return response.get().getInstanceId();
+    return span;
   }
 
   /**
@@ -268,6 +318,19 @@ public final class DurableTaskGrpcClient extends DurableTaskClient {
 
   @Override
   public void raiseEvent(String instanceId, String eventName, Object eventPayload) {
+    this.sidecarClient.raiseEvent(newRaiseEventRequest(instanceId, eventName, eventPayload));
+  }
+
+  @Override
+  public CompletableFuture<Void> raiseEventAsync(String instanceId, String eventName, @Nullable Object eventPayload) {
+    return unaryCall(this.asyncSidecarClient::raiseEvent, newRaiseEventRequest(instanceId, eventName, eventPayload),
+        response -> null, null);
+  }
+
+  private OrchestratorService.RaiseEventRequest newRaiseEventRequest(
+      String instanceId,
+      String eventName,
+      @Nullable Object eventPayload) {
     Helpers.throwIfArgumentNull(instanceId, "instanceId");
     Helpers.throwIfArgumentNull(eventName, "eventName");
 
@@ -279,35 +342,32 @@ public final class DurableTaskGrpcClient extends DurableTaskClient {
       builder.setInput(StringValue.of(serializedPayload));
     }
 
-    OrchestratorService.RaiseEventRequest request = builder.build();
-    this.sidecarClient.raiseEvent(request);
-
+    return builder.build();
   }
 
   @Override
   public OrchestrationMetadata getInstanceMetadata(String instanceId, boolean getInputsAndOutputs) {
-    OrchestratorService.GetInstanceRequest request = OrchestratorService.GetInstanceRequest.newBuilder()
-        .setInstanceId(instanceId)
-        .setGetInputsAndOutputs(getInputsAndOutputs)
-        .build();
+    OrchestratorService.GetInstanceRequest request = newGetInstanceRequest(instanceId, getInputsAndOutputs);
     OrchestratorService.GetInstanceResponse response = this.sidecarClient.getInstance(request);
     return new OrchestrationMetadata(response, this.dataConverter, request.getGetInputsAndOutputs());
   }
 
+  @Override
+  public CompletableFuture<OrchestrationMetadata> getInstanceMetadataAsync(
+      String instanceId,
+      boolean getInputsAndOutputs) {
+    OrchestratorService.GetInstanceRequest request = newGetInstanceRequest(instanceId, getInputsAndOutputs);
+    return unaryCall(this.asyncSidecarClient::getInstance, request,
+        response -> new OrchestrationMetadata(response, this.dataConverter, getInputsAndOutputs), null);
+  }
+
   @Override
   public OrchestrationMetadata waitForInstanceStart(String instanceId, Duration timeout, boolean getInputsAndOutputs)
       throws TimeoutException {
-    OrchestratorService.GetInstanceRequest request = OrchestratorService.GetInstanceRequest.newBuilder()
-        .setInstanceId(instanceId)
-        .setGetInputsAndOutputs(getInputsAndOutputs)
-        .build();
-
-    if (timeout == null || timeout.isNegative() || timeout.isZero()) {
-      timeout = Duration.ofMinutes(10);
-    }
+    OrchestratorService.GetInstanceRequest request = newGetInstanceRequest(instanceId, getInputsAndOutputs);
 
     TaskHubSidecarServiceGrpc.TaskHubSidecarServiceBlockingStub grpcClient = this.sidecarClient.withDeadlineAfter(
-        timeout.toMillis(),
+        waitTimeout(timeout).toMillis(),
         TimeUnit.MILLISECONDS);
 
     OrchestratorService.GetInstanceResponse response;
@@ -322,20 +382,27 @@ public final class DurableTaskGrpcClient extends DurableTaskClient {
     return new OrchestrationMetadata(response, this.dataConverter, request.getGetInputsAndOutputs());
   }
 
+  @Override
+  public CompletableFuture<OrchestrationMetadata> waitForInstanceStartAsync(
+      String instanceId,
+      Duration timeout,
+      boolean getInputsAndOutputs) {
+    OrchestratorService.GetInstanceRequest request = newGetInstanceRequest(instanceId, getInputsAndOutputs);
+    TaskHubSidecarServiceGrpc.TaskHubSidecarServiceStub grpcClient = this.asyncSidecarClient.withDeadlineAfter(
+        waitTimeout(timeout).toMillis(),
+        TimeUnit.MILLISECONDS);
+    return unaryCall(grpcClient::waitForInstanceStart, request,
+        response -> new OrchestrationMetadata(response, this.dataConverter, getInputsAndOutputs),
+        "Start orchestration timeout reached.");
+  }
+
   @Override
   public OrchestrationMetadata waitForInstanceCompletion(String instanceId, Duration timeout,
                                                          boolean getInputsAndOutputs) throws TimeoutException {
-    OrchestratorService.GetInstanceRequest request = OrchestratorService.GetInstanceRequest.newBuilder()
-        .setInstanceId(instanceId)
-        .setGetInputsAndOutputs(getInputsAndOutputs)
-        .build();
-
-    if (timeout == null || timeout.isNegative() || timeout.isZero()) {
-      timeout = Duration.ofMinutes(10);
-    }
+    OrchestratorService.GetInstanceRequest request = newGetInstanceRequest(instanceId, getInputsAndOutputs);
 
     TaskHubSidecarServiceGrpc.TaskHubSidecarServiceBlockingStub grpcClient = this.sidecarClient.withDeadlineAfter(
-        timeout.toMillis(),
+        waitTimeout(timeout).toMillis(),
         TimeUnit.MILLISECONDS);
 
     OrchestratorService.GetInstanceResponse response;
@@ -350,8 +417,32 @@ public final class DurableTaskGrpcClient extends DurableTaskClient {
     return new OrchestrationMetadata(response, this.dataConverter, request.getGetInputsAndOutputs());
   }
 
+  @Override
+  public CompletableFuture<OrchestrationMetadata> waitForInstanceCompletionAsync(
+      String instanceId,
+      Duration timeout,
+      boolean getInputsAndOutputs) {
+    OrchestratorService.GetInstanceRequest request = newGetInstanceRequest(instanceId, getInputsAndOutputs);
+    TaskHubSidecarServiceGrpc.TaskHubSidecarServiceStub grpcClient = this.asyncSidecarClient.withDeadlineAfter(
+        waitTimeout(timeout).toMillis(),
+        TimeUnit.MILLISECONDS);
+    return unaryCall(grpcClient::waitForInstanceCompletion, request,
+        response -> new OrchestrationMetadata(response, this.dataConverter, getInputsAndOutputs),
+        "Orchestration instance completion timeout reached.");
+  }
+
   @Override
   public void terminate(String instanceId, @Nullable Object output) {
+    this.sidecarClient.terminateInstance(newTerminateRequest(instanceId, output));
+  }
+
+  @Override
+  public CompletableFuture<Void> terminateAsync(String instanceId, @Nullable Object output) {
+    return unaryCall(this.asyncSidecarClient::terminateInstance, newTerminateRequest(instanceId, output),
+        response -> null, null);
+  }
+
+  private OrchestratorService.TerminateRequest newTerminateRequest(String instanceId, @Nullable Object output) {
     Helpers.throwIfArgumentNull(instanceId, "instanceId");
     String serializeOutput = this.dataConverter.serialize(output);
     this.logger.fine(() -> String.format(
@@ -363,7 +454,7 @@ public final class DurableTaskGrpcClient extends DurableTaskClient {
     if (serializeOutput != null) {
       builder.setOutput(StringValue.of(serializeOutput));
     }
-    this.sidecarClient.terminateInstance(builder.build());
+    return builder.build();
   }
 
   @Override
@@ -377,19 +468,18 @@ public final class DurableTaskGrpcClient extends DurableTaskClient {
   }
 
   @Override
-  public PurgeResult purgeInstances(PurgeInstanceCriteria purgeInstanceCriteria) throws TimeoutException {
-    OrchestratorService.PurgeInstanceFilter.Builder builder = OrchestratorService.PurgeInstanceFilter.newBuilder();
-    builder.setCreatedTimeFrom(DataConverter.getTimestampFromInstant(purgeInstanceCriteria.getCreatedTimeFrom()));
-    Optional.ofNullable(purgeInstanceCriteria.getCreatedTimeTo()).ifPresent(createdTimeTo ->
-        builder.setCreatedTimeTo(DataConverter.getTimestampFromInstant(createdTimeTo)));
-    purgeInstanceCriteria.getRuntimeStatusList().forEach(runtimeStatus ->
-        Optional.ofNullable(runtimeStatus).ifPresent(status ->
-            builder.addRuntimeStatus(OrchestrationRuntimeStatus.toProtobuf(status))));
+  public CompletableFuture<PurgeResult> purgeInstanceAsync(String instanceId) {
+    OrchestratorService.PurgeInstancesRequest request = OrchestratorService.PurgeInstancesRequest.newBuilder()
+        .setInstanceId(instanceId)
+        .build();
 
-    Duration timeout = purgeInstanceCriteria.getTimeout();
-    if (timeout == null || timeout.isNegative() || timeout.isZero()) {
-      timeout = Duration.ofMinutes(4);
-    }
+    return unaryCall(this.asyncSidecarClient::purgeInstances, request, this::toPurgeResult, null);
+  }
+
+  @Override
+  public PurgeResult purgeInstances(PurgeInstanceCriteria purgeInstanceCriteria) throws TimeoutException {
+    OrchestratorService.PurgeInstancesRequest request = newPurgeInstancesRequest(purgeInstanceCriteria);
+    Duration timeout = purgeTimeout(purgeInstanceCriteria);
 
     TaskHubSidecarServiceGrpc.TaskHubSidecarServiceBlockingStub grpcClient = this.sidecarClient.withDeadlineAfter(
         timeout.toMillis(),
@@ -397,8 +487,7 @@ public final class DurableTaskGrpcClient extends DurableTaskClient {
 
     OrchestratorService.PurgeInstancesResponse response;
     try {
-      response = grpcClient.purgeInstances(OrchestratorService.PurgeInstancesRequest.newBuilder()
-          .setPurgeInstanceFilter(builder).build());
+      response = grpcClient.purgeInstances(request);
       return toPurgeResult(response);
     } catch (StatusRuntimeException e) {
       if (e.getStatus().getCode() == Status.Code.DEADLINE_EXCEEDED) {
@@ -409,6 +498,69 @@ public final class DurableTaskGrpcClient extends DurableTaskClient {
     }
   }
 
+  @Override
+  public CompletableFuture<PurgeResult> purgeInstancesAsync(PurgeInstanceCriteria purgeInstanceCriteria) {
+    OrchestratorService.PurgeInstancesRequest request = newPurgeInstancesRequest(purgeInstanceCriteria);
+    Duration timeout = purgeTimeout(purgeInstanceCriteria);
+
+    TaskHubSidecarServiceGrpc.TaskHubSidecarServiceStub grpcClient = this.asyncSidecarClient.withDeadlineAfter(
+        timeout.toMillis(),
+        TimeUnit.MILLISECONDS);
+    return unaryCall(grpcClient::purgeInstances, request, this::toPurgeResult,
+        String.format("Purge instances timeout duration of %s reached.", timeout));
+  }
+
+  @Override
+  public InstanceIdPage listInstanceIds(@Nullable String continuationToken, int pageSize) {
+    return toInstanceIdPage(this.sidecarClient.listInstanceIDs(newListInstanceIdsRequest(continuationToken, pageSize)));
+  }
+
+  @Override
+  public CompletableFuture<InstanceIdPage> listInstanceIdsAsync(@Nullable String continuationToken, int pageSize) {
+    return unaryCall(this.asyncSidecarClient::listInstanceIDs, newListInstanceIdsRequest(continuationToken, pageSize),
+        DurableTaskGrpcClient::toInstanceIdPage, null);
+  }
+
+  private static OrchestratorService.ListInstanceIDsRequest newListInstanceIdsRequest(
+      @Nullable String continuationToken, int pageSize) {
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("pageSize must be at least 1");
+    }
+    OrchestratorService.ListInstanceIDsRequest.Builder builder = OrchestratorService.ListInstanceIDsRequest.newBuilder()
+        .setPageSize(pageSize);
+    if (continuationToken != null) {
+      builder.setContinuationToken(continuationToken);
+    }
+    return builder.build();
+  }
+
+  private static InstanceIdPage toInstanceIdPage(OrchestratorService.ListInstanceIDsResponse response) {
+    String continuationToken = response.hasContinuationToken() && !response.getContinuationToken().isEmpty()
+        ? response.getContinuationToken() : null;
+    return new InstanceIdPage(List.copyOf(response.getInstanceIdsList()), continuationToken);
+  }
+
+  private static OrchestratorService.PurgeInstancesRequest newPurgeInstancesRequest(
+      PurgeInstanceCriteria purgeInstanceCriteria) {
+    OrchestratorService.PurgeInstanceFilter.Builder builder = OrchestratorService.PurgeInstanceFilter.newBuilder();
+    builder.setCreatedTimeFrom(DataConverter.getTimestampFromInstant(purgeInstanceCriteria.getCreatedTimeFrom()));
+    Optional.ofNullable(purgeInstanceCriteria.getCreatedTimeTo()).ifPresent(createdTimeTo ->
+        builder.setCreatedTimeTo(DataConverter.getTimestampFromInstant(createdTimeTo)));
+    purgeInstanceCriteria.getRuntimeStatusList().forEach(runtimeStatus ->
+        Optional.ofNullable(runtimeStatus).ifPresent(status ->
+            builder.addRuntimeStatus(OrchestrationRuntimeStatus.toProtobuf(status))));
+
+    return OrchestratorService.PurgeInstancesRequest.newBuilder().setPurgeInstanceFilter(builder).build();
+  }
+
+  private static Duration purgeTimeout(PurgeInstanceCriteria purgeInstanceCriteria) {
+    Duration timeout = purgeInstanceCriteria.getTimeout();
+    if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+      timeout = Duration.ofMinutes(4);
+    }
+    return timeout;
+  }
+
   @Override
   public void suspendInstance(String instanceId, @Nullable String reason) {
     OrchestratorService.SuspendRequest.Builder suspendRequestBuilder = OrchestratorService.SuspendRequest.newBuilder();
@@ -451,4 +603,90 @@ public final class DurableTaskGrpcClient extends DurableTaskClient {
   private PurgeResult toPurgeResult(OrchestratorService.PurgeInstancesResponse response) {
     return new PurgeResult(response.getDeletedInstanceCount());
   }
+
+  private static OrchestratorService.GetInstanceRequest newGetInstanceRequest(
+      String instanceId,
+      boolean getInputsAndOutputs) {
+    return OrchestratorService.GetInstanceRequest.newBuilder()
+        .setInstanceId(instanceId)
+        .setGetInputsAndOutputs(getInputsAndOutputs)
+        .build();
+  }
+
+  private static Duration waitTimeout(Duration timeout) {
+    if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+      return Duration.ofMinutes(10);
+    }
+    return timeout;
+  }
+
+  /**
+   * Starts a unary call on the async stub, so no thread waits for its response.
+   *
+   * @param call           method of the async stub to call
+   * @param request        request of the call
+   * @param mapper         maps the response to the result of the future
+   * @param timeoutMessage message of the {@link TimeoutException} the future fails with when the call's deadline is
+   *                       exceeded, or null to fail with the gRPC error instead
+   * @return future of the result, cancelling it cancels the call
+   */
+  private static <ReqT, RespT, T> CompletableFuture<T> unaryCall(
+      BiConsumer<ReqT, StreamObserver<RespT>> call,
+      ReqT request,
+      Function<RespT, T> mapper,
+      @Nullable String timeoutMessage) {
+    UnaryObserver<ReqT, RespT, T> observer = new UnaryObserver<>(mapper, timeoutMessage);
+    call.accept(request, observer);
+    return observer.future;
+  }
+
+  private static final class UnaryObserver<ReqT, RespT, T> implements ClientResponseObserver<ReqT, RespT> {
+
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+
+    private final Function<RespT, T> mapper;
+
+    @Nullable
+    private final String timeoutMessage;
+
+    private RespT response;
+
+    private UnaryObserver(Function<RespT, T> mapper, @Nullable String timeoutMessage) {
+      this.mapper = mapper;
+      this.timeoutMessage = timeoutMessage;
+    }
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<ReqT> requestStream) {
+      this.future.whenComplete((response, e) -> {
+        if (this.future.isCancelled()) {
+          requestStream.cancel("Cancelled by the caller", null);
+        }
+      });
+    }
+
+    @Override
+    public void onNext(RespT value) {
+      this.response = value;
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      if (this.timeoutMessage != null
+          && Status.fromThrowable(t).getCode() == Status.Code.DEADLINE_EXCEEDED) {
+        this.future.completeExceptionally(new TimeoutException(this.timeoutMessage));
+        return;
+      }
+      this.future.completeExceptionally(t);
+    }
+
+    @Override
+    public void onCompleted() {
+      try {
+        this.future.complete(this.mapper.apply(this.response));
+      } catch (RuntimeException e) {
+        this.future.completeExceptionally(e);
+      }
+    }
+  }
 }
@@ -33,7 +33,9 @@ import io.opentelemetry.context.propagation.TextMapGetter;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -60,16 +62,20 @@ public final class DurableTaskGrpcWorker implements AutoCloseable {
   private final ExecutorService workerPool;
   private final String appId; // App ID for cross-app routing
   private final Tracer tracer;
+  private final WorkerMetrics metrics;
+  private final int workItemStreams;
 
   private final TaskHubSidecarServiceGrpc.TaskHubSidecarServiceBlockingStub sidecarClient;
   private final boolean isExecutorServiceManaged;
   private volatile boolean isNormalShutdown = false;
   private volatile Thread workerThread;
+  private final List<Thread> streamThreads = new CopyOnWriteArrayList<>();
 
   DurableTaskGrpcWorker(DurableTaskGrpcWorkerBuilder builder) {
     this.orchestrationFactories = builder.orchestrationFactories;
     this.activityFactories.putAll(builder.activityFactories);
     this.appId = builder.appId;
+    this.workItemStreams = builder.workItemStreams;
 
     Channel sidecarGrpcChannel;
     if (builder.channel != null) {
@@ -92,6 +98,8 @@ public final class DurableTaskGrpcWorker implements AutoCloseable {
     }
 
     this.tracer = GlobalOpenTelemetry.getTracer("dapr-workflow");
+    this.metrics = new WorkerMetrics(builder.meter != null ? builder.meter
+        : GlobalOpenTelemetry.getMeter(WorkerMetrics.INSTRUMENTATION_SCOPE));
 
     this.sidecarClient = TaskHubSidecarServiceGrpc.newBlockingStub(sidecarGrpcChannel);
     this.dataConverter = builder.dataConverter != null ? builder.dataConverter : new JacksonDataConverter();
@@ -136,6 +144,7 @@ public final class DurableTaskGrpcWorker implements AutoCloseable {
     if (this.workerThread != null) {
       this.workerThread.interrupt();
     }
+    this.streamThreads.forEach(Thread::interrupt);
     this.isNormalShutdown = true;
     this.shutDownWorkerPool();
     this.closeSideCarChannel();
@@ -156,6 +165,9 @@ public final class DurableTaskGrpcWorker implements AutoCloseable {
    * made. This process
    * continues until either a connection succeeds or the process receives an
    * interrupt signal.</p>
+   *
+   * <p>When more than one work-item stream is configured, the additional streams
+   * are read on background threads that stop together with this method.</p>
    */
   public void startAndBlock() {
     this.workerThread = Thread.currentThread();
@@ -172,6 +184,27 @@ public final class DurableTaskGrpcWorker implements AutoCloseable {
         this.dataConverter,
         logger);
 
+    for (int i = 1; i < this.workItemStreams; i++) {
+      Thread streamThread = new Thread(
+          () -> this.processWorkItemStream(taskOrchestrationExecutor, taskActivityExecutor),
+          "durabletask-work-items-" + i);
+      streamThread.setDaemon(true);
+      this.streamThreads.add(streamThread);
+      streamThread.start();
+    }
+
+    try {
+      this.processWorkItemStream(taskOrchestrationExecutor, taskActivityExecutor);
+    } finally {
+      this.streamThreads.forEach(Thread::interrupt);
+      this.streamThreads.clear();
+    }
+  }
+
+  // Reads work items from one GetWorkItems stream and hands them to the worker pool, reconnecting until shutdown.
+  private void processWorkItemStream(
+      TaskOrchestrationExecutor taskOrchestrationExecutor,
+      TaskActivityExecutor taskActivityExecutor) {
     while (!this.isNormalShutdown && !Thread.currentThread().isInterrupted()) {
       try {
         OrchestratorService.GetWorkItemsRequest getWorkItemsRequest = OrchestratorService.GetWorkItemsRequest
@@ -182,25 +215,27 @@ public final class DurableTaskGrpcWorker implements AutoCloseable {
             break;
           }
           OrchestratorService.WorkItem workItem = workItemStream.next();
+          long receivedAtNanos = System.nanoTime();
           OrchestratorService.WorkItem.RequestCase requestType = workItem.getRequestCase();
 
           if (requestType == OrchestratorService.WorkItem.RequestCase.WORKFLOWREQUEST) {
             OrchestratorService.WorkflowRequest orchestratorRequest = workItem.getWorkflowRequest();
             logger.log(Level.FINEST,
-                String.format("Processing orchestrator request for instance: {0}",
-                    orchestratorRequest.getInstanceId()));
+                "Processing orchestrator request for instance: {0}",
+                orchestratorRequest.getInstanceId());
 
-            this.workerPool.submit(new OrchestratorRunner(workItem, taskOrchestrationExecutor, sidecarClient, tracer));
+            this.workerPool.submit(new OrchestratorRunner(workItem, taskOrchestrationExecutor, sidecarClient, tracer,
+                metrics, receivedAtNanos));
           } else if (requestType == OrchestratorService.WorkItem.RequestCase.ACTIVITYREQUEST) {
             OrchestratorService.ActivityRequest activityRequest = workItem.getActivityRequest();
 
-            logger.log(Level.INFO,
-                String.format("Processing activity request: %s for instance: %s, gRPC thread context: %s",
-                    activityRequest.getName(),
-                    activityRequest.getWorkflowInstance().getInstanceId(),
-                    Context.current()));
+            logger.log(Level.FINE, () -> String.format(
+                "Processing activity request: %s for instance: %s",
+                activityRequest.getName(),
+                activityRequest.getWorkflowInstance().getInstanceId()));
 
-            this.workerPool.submit(new ActivityRunner(workItem, taskActivityExecutor, sidecarClient, tracer));
+            this.workerPool.submit(new ActivityRunner(workItem, taskActivityExecutor, sidecarClient, tracer,
+                metrics, receivedAtNanos));
 
           } else {
             logger.log(Level.WARNING,
@@ -307,8 +342,7 @@ public final class DurableTaskGrpcWorker implements AutoCloseable {
       return Context.current();
     }
 
-    logger.log(Level.INFO,
-        String.format("Extracting trace context from ActivityRequest: traceparent=%s", traceParent));
+    logger.log(Level.FINE, "Extracting trace context from ActivityRequest: traceparent={0}", traceParent);
 
     // Use W3CTraceContextPropagator to extract the trace context
     Map<String, String> carrier = new HashMap<>();
@@ -333,8 +367,7 @@ public final class DurableTaskGrpcWorker implements AutoCloseable {
     Context extractedContext = W3CTraceContextPropagator.getInstance()
         .extract(Context.current(), carrier, getter);
 
-    logger.log(Level.INFO,
-        String.format("Extracted trace context: %s", extractedContext));
+    logger.log(Level.FINE, "Extracted trace context: {0}", extractedContext);
 
     return extractedContext;
   }
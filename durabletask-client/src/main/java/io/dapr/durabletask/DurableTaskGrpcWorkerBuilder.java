@@ -16,6 +16,7 @@ package io.dapr.durabletask;
 import io.dapr.durabletask.orchestration.TaskOrchestrationFactories;
 import io.dapr.durabletask.orchestration.TaskOrchestrationFactory;
 import io.grpc.Channel;
+import io.opentelemetry.api.metrics.Meter;
 
 import java.time.Duration;
 import java.util.HashMap;
@@ -34,6 +35,8 @@ public final class DurableTaskGrpcWorkerBuilder {
   Duration maximumTimerInterval;
   ExecutorService executorService;
   String appId; // App ID for cross-app routing
+  int workItemStreams = 1;
+  Meter meter;
 
   /**
    * Adds an orchestration factory to be used by the constructed {@link DurableTaskGrpcWorker}.
@@ -145,6 +148,37 @@ public final class DurableTaskGrpcWorkerBuilder {
     return this;
   }
 
+  /**
+   * Sets the number of concurrent GetWorkItems streams the worker opens to the sidecar. If not specified, a single
+   * stream is used.
+   *
+   * <p>Each stream is read on its own thread and feeds the same executor service, so work-item delivery is no longer
+   * serialized through one stream during bursts. The sidecar decides which stream receives each work item.</p>
+   *
+   * @param workItemStreams the number of streams, at least 1
+   * @return this builder object
+   * @throws IllegalArgumentException if {@code workItemStreams} is less than 1
+   */
+  public DurableTaskGrpcWorkerBuilder workItemStreams(int workItemStreams) {
+    if (workItemStreams < 1) {
+      throw new IllegalArgumentException("The number of work-item streams must be at least 1.");
+    }
+    this.workItemStreams = workItemStreams;
+    return this;
+  }
+
+  /**
+   * Sets the OpenTelemetry meter the worker records its {@link WorkerMetrics} with. If not specified, the meter of
+   * the global OpenTelemetry instance is used, which records nothing unless an OpenTelemetry SDK is installed.
+   *
+   * @param meter the meter to record worker metrics with
+   * @return this builder object
+   */
+  public DurableTaskGrpcWorkerBuilder meter(Meter meter) {
+    this.meter = meter;
+    return this;
+  }
+
   /**
    * Initializes a new {@link DurableTaskGrpcWorker} object with the settings specified in the current builder object.
    *
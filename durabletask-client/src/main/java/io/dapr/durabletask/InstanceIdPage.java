@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.durabletask;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * A page of orchestration instance IDs returned by {@link DurableTaskClient#listInstanceIds(String, int)}.
+ */
+public final class InstanceIdPage {
+
+  private final List<String> instanceIds;
+  private final String continuationToken;
+
+  InstanceIdPage(List<String> instanceIds, @Nullable String continuationToken) {
+    this.instanceIds = instanceIds;
+    this.continuationToken = continuationToken;
+  }
+
+  /**
+   * Gets the instance IDs of this page.
+   *
+   * @return the instance IDs of this page
+   */
+  public List<String> getInstanceIds() {
+    return this.instanceIds;
+  }
+
+  /**
+   * Gets the token to pass to {@link DurableTaskClient#listInstanceIds(String, int)} to fetch the next page.
+   *
+   * @return the continuation token, or {@code null} if this is the last page
+   */
+  @Nullable
+  public String getContinuationToken() {
+    return this.continuationToken;
+  }
+
+  /**
+   * Gets whether there are more pages after this one.
+   *
+   * @return {@code true} if there are more pages after this one
+   */
+  public boolean hasMore() {
+    return this.continuationToken != null;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.durabletask;
+
+import javax.annotation.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Storage for payloads offloaded from orchestration history by a {@link ClaimCheckDataConverter}.
+ *
+ * <p>Payloads are keyed by a hash of their content, so a payload may be saved again under the same key, by another
+ * worker or orchestration, and must then be overwritten. Payloads are read back every time an orchestration that
+ * references them is replayed. Implementations must be safe for concurrent use.</p>
+ */
+public interface PayloadStore {
+
+  /**
+   * Saves a payload.
+   *
+   * @param key     the key of the payload, derived from its content
+   * @param payload the serialized payload
+   */
+  void save(String key, String payload);
+
+  /**
+   * Loads a payload saved before.
+   *
+   * @param key the key of the payload
+   * @return the serialized payload, or <code>null</code> if no payload is saved with this key
+   */
+  String load(String key);
+
+  /**
+   * Gets how long a saved payload is kept, saving it again restarting the countdown.
+   *
+   * @return how long a saved payload is kept, or <code>null</code> if it is kept until deleted
+   */
+  @Nullable
+  default Duration getTtl() {
+    return null;
+  }
+}
@@ -323,6 +323,16 @@ public final class TaskOrchestrationExecutor {
       this.isReplaying = false;
     }
 
+    /**
+     * Gets the future of a task, after decoding its result if it was deferred, for composing it with other tasks.
+     */
+    private <V> CompletableFuture<V> getDecodedFuture(Task<V> task) {
+      if (task instanceof CompletableTask) {
+        ((CompletableTask<V>) task).decodePendingResult();
+      }
+      return task.future;
+    }
+
     public <V> Task<V> completedTask(V value) {
       CompletableTask<V> task = new CompletableTask<>();
       task.complete(value);
@@ -334,7 +344,7 @@ public final class TaskOrchestrationExecutor {
       Helpers.throwIfArgumentNull(tasks, "tasks");
 
       CompletableFuture<V>[] futures = tasks.stream()
-          .map(t -> t.future)
+          .map(this::getDecodedFuture)
           .toArray((IntFunction<CompletableFuture<V>[]>) CompletableFuture[]::new);
 
       Function<Void, List<V>> resultPath = x -> {
@@ -381,7 +391,7 @@ public final class TaskOrchestrationExecutor {
       Helpers.throwIfArgumentNull(tasks, "tasks");
 
       CompletableFuture<?>[] futures = tasks.stream()
-          .map(t -> t.future)
+          .map(this::getDecodedFuture)
           .toArray((IntFunction<CompletableFuture<?>[]>) CompletableFuture[]::new);
 
       CompletableFuture<Task<?>> future = CompletableFuture.anyOf(futures).thenApply(x -> {
@@ -671,9 +681,7 @@ public final class TaskOrchestrationExecutor {
       for (HistoryEvents.HistoryEvent e : this.unprocessedEvents) {
         HistoryEvents.EventRaisedEvent existing = e.getEventRaised();
         if (name.equalsIgnoreCase(existing.getName())) {
-          String rawEventData = existing.getInput().getValue();
-          V data = this.dataConverter.deserialize(rawEventData, dataType);
-          eventTask.complete(data);
+          eventTask.completeLazily(existing.getInput().getValue(), dataType);
           this.unprocessedEvents.remove(e);
           return eventTask;
         }
@@ -776,12 +784,7 @@ public final class TaskOrchestrationExecutor {
 
       }
       CompletableTask task = record.getTask();
-      try {
-        Object result = this.dataConverter.deserialize(rawResult, record.getDataType());
-        task.complete(result);
-      } catch (Exception ex) {
-        task.completeExceptionally(ex);
-      }
+      task.completeLazily(rawResult, record.getDataType());
     }
 
     private void handleTaskFailed(HistoryEvents.HistoryEvent e) {
@@ -826,14 +829,7 @@ public final class TaskOrchestrationExecutor {
       }
       String rawResult = eventRaised.getInput().getValue();
       CompletableTask task = matchingTaskRecord.getTask();
-      try {
-        Object result = this.dataConverter.deserialize(
-            rawResult,
-            matchingTaskRecord.getDataType());
-        task.complete(result);
-      } catch (Exception ex) {
-        task.completeExceptionally(ex);
-      }
+      task.completeLazily(rawResult, matchingTaskRecord.getDataType());
     }
 
     private void handleEventWhileSuspended(HistoryEvents.HistoryEvent historyEvent) {
@@ -1104,12 +1100,7 @@ public final class TaskOrchestrationExecutor {
 
       }
       CompletableTask task = record.getTask();
-      try {
-        Object result = this.dataConverter.deserialize(rawResult, record.getDataType());
-        task.complete(result);
-      } catch (Exception ex) {
-        task.completeExceptionally(ex);
-      }
+      task.completeLazily(rawResult, record.getDataType());
     }
 
     private void handleSubOrchestrationFailed(HistoryEvents.HistoryEvent e) {
@@ -1771,6 +1762,11 @@ public final class TaskOrchestrationExecutor {
     private class CompletableTask<V> extends Task<V> {
       private Task<V> parentTask;
 
+      // Serialized result of a completed task, kept until its value is read.
+      private boolean hasPendingResult;
+      private String pendingResult;
+      private Class<V> pendingResultType;
+
       public CompletableTask() {
         this(new CompletableFuture<>());
       }
@@ -1790,6 +1786,7 @@ public final class TaskOrchestrationExecutor {
       @Override
       public V await() {
         do {
+          this.decodePendingResult();
           // If the future is done, return its value right away
           if (this.future.isDone()) {
             try {
@@ -1833,12 +1830,14 @@ public final class TaskOrchestrationExecutor {
 
       @Override
       public <U> CompletableTask<U> thenApply(Function<V, U> fn) {
+        this.decodePendingResult();
         CompletableFuture<U> newFuture = this.future.thenApply(fn);
         return new CompletableTask<>(newFuture);
       }
 
       @Override
       public Task<Void> thenAccept(Consumer<V> fn) {
+        this.decodePendingResult();
         CompletableFuture<Void> newFuture = this.future.thenAccept(fn);
         return new CompletableTask<>(newFuture);
       }
@@ -1861,7 +1860,40 @@ public final class TaskOrchestrationExecutor {
 
       @Override
       public boolean isDone() {
-        return this.future.isDone();
+        return this.hasPendingResult || this.future.isDone();
+      }
+
+      /**
+       * Completes the task with a serialized result. Replayed orchestrations often never read the results of
+       * completed tasks again, so the result is only deserialized when read, unless a parent task or a composed
+       * future needs it right away.
+       */
+      void completeLazily(String rawResult, Class<V> resultType) {
+        if (this.hasPendingResult || this.future.isDone()) {
+          return;
+        }
+
+        this.pendingResult = rawResult;
+        this.pendingResultType = resultType;
+        this.hasPendingResult = true;
+        if (this.getParentTask() != null || this.future.getNumberOfDependents() > 0) {
+          this.decodePendingResult();
+        }
+      }
+
+      void decodePendingResult() {
+        if (!this.hasPendingResult) {
+          return;
+        }
+
+        String rawResult = this.pendingResult;
+        this.hasPendingResult = false;
+        this.pendingResult = null;
+        try {
+          this.complete(dataConverter.deserialize(rawResult, this.pendingResultType));
+        } catch (Exception ex) {
+          this.completeExceptionally(ex);
+        }
       }
 
       public boolean complete(V value) {
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.durabletask;
+
+import io.grpc.StatusRuntimeException;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.MeterProvider;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OpenTelemetry metrics recorded by the workflow worker while it processes orchestration and activity work items.
+ *
+ * <p>Every instrument carries the work-item type ({@code orchestration} or {@code activity}) and the workflow or
+ * activity name. Durations are recorded in seconds. With no OpenTelemetry SDK installed the meter is a no-op.</p>
+ */
+public final class WorkerMetrics {
+
+  /**
+   * Name of the instrumentation scope the worker records its metrics under.
+   */
+  public static final String INSTRUMENTATION_SCOPE = "dapr-workflow";
+
+  static final AttributeKey<String> WORK_ITEM_TYPE = AttributeKey.stringKey("dapr.workflow.work_item.type");
+  static final AttributeKey<String> NAME = AttributeKey.stringKey("dapr.workflow.name");
+  static final AttributeKey<String> ERROR_TYPE = AttributeKey.stringKey("error.type");
+
+  private static final String ORCHESTRATION = "orchestration";
+  private static final String ACTIVITY = "activity";
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+  private static final WorkerMetrics NOOP = new WorkerMetrics(
+      MeterProvider.noop().get(INSTRUMENTATION_SCOPE));
+
+  private final DoubleHistogram queueDuration;
+  private final DoubleHistogram replayDuration;
+  private final LongHistogram historySize;
+  private final DoubleHistogram activityDuration;
+  private final DoubleHistogram completionDuration;
+
+  // Attributes are reused per name so that recording does not allocate on the hot path.
+  private final Map<String, Attributes> orchestrationAttributes = new ConcurrentHashMap<>();
+  private final Map<String, Attributes> activityAttributes = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the worker instruments on the given meter.
+   *
+   * @param meter the meter to create the instruments with
+   */
+  public WorkerMetrics(Meter meter) {
+    this.queueDuration = meter.histogramBuilder("dapr.workflow.work_item.queue.duration")
+        .setDescription("Time from receiving a work item from the sidecar until its execution starts.")
+        .setUnit("s")
+        .build();
+    this.replayDuration = meter.histogramBuilder("dapr.workflow.orchestration.replay.duration")
+        .setDescription("Time spent replaying the history and running the orchestrator code of a work item.")
+        .setUnit("s")
+        .build();
+    this.historySize = meter.histogramBuilder("dapr.workflow.orchestration.history.size")
+        .setDescription("Number of history events in an orchestration work item.")
+        .setUnit("{event}")
+        .ofLongs()
+        .build();
+    this.activityDuration = meter.histogramBuilder("dapr.workflow.activity.execution.duration")
+        .setDescription("Time spent running the activity code of a work item.")
+        .setUnit("s")
+        .build();
+    this.completionDuration = meter.histogramBuilder("dapr.workflow.work_item.completion.duration")
+        .setDescription("Latency of the call that reports a work item result back to the sidecar.")
+        .setUnit("s")
+        .build();
+  }
+
+  /**
+   * Gets a {@code WorkerMetrics} instance that records nothing.
+   *
+   * @return the no-op instance
+   */
+  public static WorkerMetrics noop() {
+    return NOOP;
+  }
+
+  /**
+   * Records the time an orchestration work item waited between its receipt and the start of its execution.
+   *
+   * @param name            the orchestration name
+   * @param receivedAtNanos the {@link System#nanoTime()} at which the work item was received
+   */
+  public void recordOrchestrationQueued(String name, long receivedAtNanos) {
+    this.queueDuration.record(secondsSince(receivedAtNanos), orchestrationAttributes(name));
+  }
+
+  /**
+   * Records the replay of an orchestration work item.
+   *
+   * @param name         the orchestration name
+   * @param historySize  the number of past and new history events in the work item
+   * @param startedNanos the {@link System#nanoTime()} at which the replay started
+   */
+  public void recordOrchestrationReplay(String name, int historySize, long startedNanos) {
+    Attributes attributes = orchestrationAttributes(name);
+    this.replayDuration.record(secondsSince(startedNanos), attributes);
+    this.historySize.record(historySize, attributes);
+  }
+
+  /**
+   * Records the completion call of an orchestration work item.
+   *
+   * @param name         the orchestration name
+   * @param startedNanos the {@link System#nanoTime()} at which the completion call started
+   * @param error        the error the call failed with, or {@code null} if it succeeded
+   */
+  public void recordOrchestrationCompleted(String name, long startedNanos, @Nullable StatusRuntimeException error) {
+    this.completionDuration.record(secondsSince(startedNanos), withError(orchestrationAttributes(name), error));
+  }
+
+  /**
+   * Records the time an activity work item waited between its receipt and the start of its execution.
+   *
+   * @param name            the activity name
+   * @param receivedAtNanos the {@link System#nanoTime()} at which the work item was received
+   */
+  public void recordActivityQueued(String name, long receivedAtNanos) {
+    this.queueDuration.record(secondsSince(receivedAtNanos), activityAttributes(name));
+  }
+
+  /**
+   * Records the execution of the activity code of a work item.
+   *
+   * @param name         the activity name
+   * @param startedNanos the {@link System#nanoTime()} at which the activity started
+   * @param error        the exception the activity failed with, or {@code null} if it succeeded
+   */
+  public void recordActivityExecuted(String name, long startedNanos, @Nullable Throwable error) {
+    Attributes attributes = activityAttributes(name);
+    if (error != null) {
+      attributes = attributes.toBuilder().put(ERROR_TYPE, error.getClass().getName()).build();
+    }
+    this.activityDuration.record(secondsSince(startedNanos), attributes);
+  }
+
+  /**
+   * Records the completion call of an activity work item.
+   *
+   * @param name         the activity name
+   * @param startedNanos the {@link System#nanoTime()} at which the completion call started
+   * @param error        the error the call failed with, or {@code null} if it succeeded
+   */
+  public void recordActivityCompleted(String name, long startedNanos, @Nullable StatusRuntimeException error) {
+    this.completionDuration.record(secondsSince(startedNanos), withError(activityAttributes(name), error));
+  }
+
+  private Attributes orchestrationAttributes(String name) {
+    return this.orchestrationAttributes.computeIfAbsent(name,
+        n -> Attributes.of(WORK_ITEM_TYPE, ORCHESTRATION, NAME, n));
+  }
+
+  private Attributes activityAttributes(String name) {
+    return this.activityAttributes.computeIfAbsent(name,
+        n -> Attributes.of(WORK_ITEM_TYPE, ACTIVITY, NAME, n));
+  }
+
+  private static Attributes withError(Attributes attributes, @Nullable StatusRuntimeException error) {
+    if (error == null) {
+      return attributes;
+    }
+    return attributes.toBuilder().put(ERROR_TYPE, error.getStatus().getCode().name()).build();
+  }
+
+  private static double secondsSince(long startNanos) {
+    return (System.nanoTime() - startNanos) / NANOS_PER_SECOND;
+  }
+}
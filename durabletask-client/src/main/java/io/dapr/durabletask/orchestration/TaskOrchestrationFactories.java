@@ -74,7 +74,7 @@ public class TaskOrchestrationFactories {
    * @return the orchestration factory
    */
   public TaskOrchestrationFactory getOrchestrationFactory(String orchestrationName) {
-    logger.info("Get orchestration factory for " + orchestrationName);
+    logger.fine(() -> "Get orchestration factory for " + orchestrationName);
     if (this.orchestrationFactories.containsKey(orchestrationName)) {
       return this.orchestrationFactories.get(orchestrationName);
     }
@@ -90,7 +90,7 @@ public class TaskOrchestrationFactories {
    * @return the orchestration factory
    */
   public TaskOrchestrationFactory getOrchestrationFactory(String orchestrationName, String versionName) {
-    logger.info("Get orchestration factory for " + orchestrationName + " version " + versionName);
+    logger.fine(() -> "Get orchestration factory for " + orchestrationName + " version " + versionName);
     if (this.orchestrationFactories.containsKey(orchestrationName)) {
       return this.orchestrationFactories.get(orchestrationName);
     }
@@ -101,9 +101,9 @@ public class TaskOrchestrationFactories {
     }
 
     if (this.emptyString(versionName)) {
-      logger.info("No version specified, returning latest version");
+      logger.fine("No version specified, returning latest version");
       String latestVersion = this.latestVersionOrchestrationFactories.get(orchestrationName);
-      logger.info("Latest version is " + latestVersion);
+      logger.fine(() -> "Latest version is " + latestVersion);
       return this.versionedOrchestrationFactories.get(orchestrationName).get(latestVersion);
     }
 
@@ -16,6 +16,7 @@ package io.dapr.durabletask.runner;
 import com.google.protobuf.StringValue;
 import io.dapr.durabletask.FailureDetails;
 import io.dapr.durabletask.TaskActivityExecutor;
+import io.dapr.durabletask.WorkerMetrics;
 import io.dapr.durabletask.implementation.protobuf.Orchestration;
 import io.dapr.durabletask.implementation.protobuf.OrchestratorService;
 import io.dapr.durabletask.implementation.protobuf.TaskHubSidecarServiceGrpc;
@@ -56,7 +57,27 @@ public class ActivityRunner extends DurableRunner {
       TaskActivityExecutor taskActivityExecutor,
       TaskHubSidecarServiceGrpc.TaskHubSidecarServiceBlockingStub sidecarClient,
       @Nullable Tracer tracer) {
-    super(workItem, sidecarClient, tracer);
+    this(workItem, taskActivityExecutor, sidecarClient, tracer, WorkerMetrics.noop(), System.nanoTime());
+  }
+
+  /**
+   * Constructor that records worker metrics.
+   *
+   * @param workItem             work item to be executed
+   * @param taskActivityExecutor executor for the activity
+   * @param sidecarClient        sidecar client to communicate with the sidecar
+   * @param tracer               tracer to be used for tracing
+   * @param metrics              metrics to record the work item processing with
+   * @param receivedAtNanos      the {@link System#nanoTime()} at which the work item was received
+   */
+  public ActivityRunner(
+      OrchestratorService.WorkItem workItem,
+      TaskActivityExecutor taskActivityExecutor,
+      TaskHubSidecarServiceGrpc.TaskHubSidecarServiceBlockingStub sidecarClient,
+      @Nullable Tracer tracer,
+      WorkerMetrics metrics,
+      long receivedAtNanos) {
+    super(workItem, sidecarClient, tracer, metrics, receivedAtNanos);
     this.activityRequest = workItem.getActivityRequest();
     this.taskActivityExecutor = taskActivityExecutor;
   }
@@ -105,9 +126,13 @@ public class ActivityRunner extends DurableRunner {
     String output = null;
     Orchestration.TaskFailureDetails failureDetails = null;
     Throwable failureException = null;
+    String name = activityRequest.getName();
+    this.metrics.recordActivityQueued(name, this.receivedAtNanos);
+
+    long executionStartedNanos = System.nanoTime();
     try {
       output = taskActivityExecutor.execute(
-          activityRequest.getName(),
+          name,
           activityRequest.getInput().getValue(),
           activityRequest.getTaskExecutionId(),
           activityRequest.getTaskId(),
@@ -122,6 +147,7 @@ public class ActivityRunner extends DurableRunner {
           .build();
       failureException = e;
     }
+    this.metrics.recordActivityExecuted(name, executionStartedNanos, failureException);
 
     OrchestratorService.ActivityResponse.Builder responseBuilder = OrchestratorService.ActivityResponse
         .newBuilder()
@@ -137,9 +163,12 @@ public class ActivityRunner extends DurableRunner {
       responseBuilder.setFailureDetails(failureDetails);
     }
 
+    long completionStartedNanos = System.nanoTime();
     try {
       this.sidecarClient.completeActivityTask(responseBuilder.build());
+      this.metrics.recordActivityCompleted(name, completionStartedNanos, null);
     } catch (StatusRuntimeException e) {
+      this.metrics.recordActivityCompleted(name, completionStartedNanos, e);
       logException(e);
       throw e;
     }
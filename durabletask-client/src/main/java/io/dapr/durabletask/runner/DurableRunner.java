@@ -13,6 +13,7 @@ limitations under the License.
 
 package io.dapr.durabletask.runner;
 
+import io.dapr.durabletask.WorkerMetrics;
 import io.dapr.durabletask.implementation.protobuf.OrchestratorService;
 import io.dapr.durabletask.implementation.protobuf.TaskHubSidecarServiceGrpc;
 import io.grpc.Status;
@@ -29,6 +30,8 @@ public abstract class DurableRunner implements Runnable {
   public final OrchestratorService.WorkItem workItem;
   @Nullable
   public final Tracer tracer;
+  protected final WorkerMetrics metrics;
+  protected final long receivedAtNanos;
 
   /**
    * Constructs a new instance of the DurableRunner.
@@ -40,9 +43,28 @@ public abstract class DurableRunner implements Runnable {
   public DurableRunner(OrchestratorService.WorkItem workItem,
                        TaskHubSidecarServiceGrpc.TaskHubSidecarServiceBlockingStub sidecarClient,
                        @Nullable Tracer tracer) {
+    this(workItem, sidecarClient, tracer, WorkerMetrics.noop(), System.nanoTime());
+  }
+
+  /**
+   * Constructs a new instance of the DurableRunner that records worker metrics.
+   *
+   * @param workItem        the work item to be executed
+   * @param sidecarClient   the sidecar client used to communicate with the durable task sidecar
+   * @param tracer          the tracer used for tracing operations; can be null if tracing is not required
+   * @param metrics         the metrics to record the work item processing with
+   * @param receivedAtNanos the {@link System#nanoTime()} at which the work item was received from the sidecar
+   */
+  public DurableRunner(OrchestratorService.WorkItem workItem,
+                       TaskHubSidecarServiceGrpc.TaskHubSidecarServiceBlockingStub sidecarClient,
+                       @Nullable Tracer tracer,
+                       WorkerMetrics metrics,
+                       long receivedAtNanos) {
     this.workItem = workItem;
     this.sidecarClient = sidecarClient;
     this.tracer = tracer;
+    this.metrics = metrics;
+    this.receivedAtNanos = receivedAtNanos;
   }
 
   protected String getSidecarAddress() {
@@ -16,6 +16,8 @@ package io.dapr.durabletask.runner;
 import com.google.protobuf.StringValue;
 import io.dapr.durabletask.TaskOrchestrationExecutor;
 import io.dapr.durabletask.TaskOrchestratorResult;
+import io.dapr.durabletask.WorkerMetrics;
+import io.dapr.durabletask.implementation.protobuf.HistoryEvents;
 import io.dapr.durabletask.implementation.protobuf.Orchestration;
 import io.dapr.durabletask.implementation.protobuf.OrchestratorService;
 import io.dapr.durabletask.implementation.protobuf.TaskHubSidecarServiceGrpc;
@@ -47,19 +49,45 @@ public class OrchestratorRunner extends DurableRunner {
       TaskOrchestrationExecutor taskOrchestrationExecutor,
       TaskHubSidecarServiceGrpc.TaskHubSidecarServiceBlockingStub sidecarClient,
       @Nullable Tracer tracer) {
+    this(workItem, taskOrchestrationExecutor, sidecarClient, tracer, WorkerMetrics.noop(), System.nanoTime());
+  }
+
+  /**
+   * Constructs a new instance of the OrchestratorRunner class that records worker metrics.
+   *
+   * @param workItem                  The work item containing details about the orchestrator task to be executed.
+   * @param taskOrchestrationExecutor The executor responsible for running task orchestration logic.
+   * @param sidecarClient             The gRPC stub for communication with the Task Hub sidecar service.
+   * @param tracer                    An optional tracer used for distributed tracing, can be null.
+   * @param metrics                   The metrics to record the work item processing with.
+   * @param receivedAtNanos           The {@link System#nanoTime()} at which the work item was received.
+   */
+  public OrchestratorRunner(
+      OrchestratorService.WorkItem workItem,
+      TaskOrchestrationExecutor taskOrchestrationExecutor,
+      TaskHubSidecarServiceGrpc.TaskHubSidecarServiceBlockingStub sidecarClient,
+      @Nullable Tracer tracer,
+      WorkerMetrics metrics,
+      long receivedAtNanos) {
 
-    super(workItem, sidecarClient, tracer);
+    super(workItem, sidecarClient, tracer, metrics, receivedAtNanos);
     this.orchestratorRequest = workItem.getWorkflowRequest();
     this.taskOrchestrationExecutor = taskOrchestrationExecutor;
   }
 
   @Override
   public void run() {
+    String name = this.getOrchestrationName();
+    this.metrics.recordOrchestrationQueued(name, this.receivedAtNanos);
+
+    long replayStartedNanos = System.nanoTime();
     TaskOrchestratorResult taskOrchestratorResult = taskOrchestrationExecutor.execute(
         orchestratorRequest.getPastEventsList(),
         orchestratorRequest.getNewEventsList(),
         orchestratorRequest.hasPropagatedHistory()
             ? orchestratorRequest.getPropagatedHistory() : null);
+    this.metrics.recordOrchestrationReplay(name,
+        orchestratorRequest.getPastEventsCount() + orchestratorRequest.getNewEventsCount(), replayStartedNanos);
 
     var versionBuilder = Orchestration.WorkflowVersion.newBuilder();
 
@@ -79,13 +107,31 @@ public class OrchestratorRunner extends DurableRunner {
         .setVersion(versionBuilder)
         .build();
 
+    long completionStartedNanos = System.nanoTime();
     try {
       this.sidecarClient.completeOrchestratorTask(response);
+      this.metrics.recordOrchestrationCompleted(name, completionStartedNanos, null);
       logger.log(Level.FINEST,
           "Completed orchestrator request for instance: {0}",
           orchestratorRequest.getInstanceId());
     } catch (StatusRuntimeException e) {
+      this.metrics.recordOrchestrationCompleted(name, completionStartedNanos, e);
       this.logException(e);
     }
   }
+
+  // The ExecutionStarted event is at the start of the past events, or of the new events on the first execution.
+  private String getOrchestrationName() {
+    for (HistoryEvents.HistoryEvent event : orchestratorRequest.getPastEventsList()) {
+      if (event.hasExecutionStarted()) {
+        return event.getExecutionStarted().getName();
+      }
+    }
+    for (HistoryEvents.HistoryEvent event : orchestratorRequest.getNewEventsList()) {
+      if (event.hasExecutionStarted()) {
+        return event.getExecutionStarted().getName();
+      }
+    }
+    return "";
+  }
 }
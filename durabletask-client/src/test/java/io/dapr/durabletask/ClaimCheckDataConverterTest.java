@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.durabletask;
+
+import io.dapr.durabletask.orchestration.TaskOrchestrationFactory;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClaimCheckDataConverterTest {
+
+  private final InMemoryPayloadStore store = new InMemoryPayloadStore();
+
+  @Test
+  void smallValuesStayInline() {
+    ClaimCheckDataConverter converter = new ClaimCheckDataConverter(new JacksonDataConverter(), store, 16, 4);
+
+    String serialized = converter.serialize("small");
+
+    assertEquals("\"small\"", serialized);
+    assertEquals("small", converter.deserialize(serialized, String.class));
+    assertNull(converter.serialize(null));
+    assertNull(converter.deserialize(null, String.class));
+    assertTrue(store.payloads.isEmpty());
+  }
+
+  @Test
+  void largeValuesAreOffloadedAndResolved() {
+    ClaimCheckDataConverter converter = new ClaimCheckDataConverter(new JacksonDataConverter(), store, 16, 4);
+    String value = "x".repeat(1000);
+
+    String serialized = converter.serialize(value);
+
+    assertEquals(1, store.payloads.size());
+    assertTrue(serialized.length() < value.length());
+    assertEquals(value, new JacksonDataConverter().deserialize(store.payloads.values().iterator().next(),
+        String.class));
+
+    // A converter without cached payloads, like one of another worker, loads the payload once.
+    ClaimCheckDataConverter other = new ClaimCheckDataConverter(new JacksonDataConverter(), store, 16, 4);
+    assertEquals(value, other.deserialize(serialized, String.class));
+    assertEquals(value, other.deserialize(serialized, String.class));
+    assertEquals(1, store.loads.get());
+  }
+
+  @Test
+  void thresholdCountsUtf8Bytes() {
+    ClaimCheckDataConverter converter = new ClaimCheckDataConverter(new JacksonDataConverter(), store, 16, 4);
+
+    // 10 characters with the quotes, but 18 bytes once encoded.
+    converter.serialize("éééééééé");
+
+    assertEquals(1, store.payloads.size());
+  }
+
+  @Test
+  void missingPayloadFails() {
+    ClaimCheckDataConverter converter = new ClaimCheckDataConverter(new JacksonDataConverter(), store, 16, 0);
+    String serialized = converter.serialize("a value larger than the threshold");
+    store.payloads.clear();
+
+    assertThrows(DataConverter.DataConverterException.class, () -> converter.deserialize(serialized, String.class));
+  }
+
+  @Test
+  void sameValueIsSavedOnce() {
+    ClaimCheckDataConverter converter = new ClaimCheckDataConverter(new JacksonDataConverter(), store, 16, 4);
+    String value = "x".repeat(1000);
+
+    String first = converter.serialize(value);
+    String second = converter.serialize(value);
+    // Another converter, like the one of another worker, derives the same reference.
+    String other = new ClaimCheckDataConverter(new JacksonDataConverter(), store, 16, 4).serialize(value);
+
+    assertEquals(first, second);
+    assertEquals(first, other);
+    assertEquals(1, store.payloads.size());
+    assertEquals(2, store.saves.get());
+  }
+
+  @Test
+  void expiringPayloadIsSavedAgainBeforeItExpires() throws Exception {
+    String value = "x".repeat(1000);
+    store.ttl = Duration.ofHours(1);
+    ClaimCheckDataConverter converter = new ClaimCheckDataConverter(new JacksonDataConverter(), store, 16, 4);
+
+    converter.serialize(value);
+    converter.serialize(value);
+    assertEquals(1, store.saves.get());
+
+    store.ttl = Duration.ofMillis(2);
+    converter = new ClaimCheckDataConverter(new JacksonDataConverter(), store, 16, 4);
+    converter.serialize(value);
+    // Past half of the time to live, the payload could expire before the next replay reads it.
+    Thread.sleep(5);
+    converter.serialize(value);
+
+    assertEquals(3, store.saves.get());
+  }
+
+  @Test
+  void replayedOrchestrationSavesOnePayloadPerValue() throws Exception {
+    String input = "x".repeat(1000);
+    try (InMemoryTaskHubSidecar sidecar = InMemoryTaskHubSidecar.start();
+         DurableTaskGrpcWorker worker = new DurableTaskGrpcWorkerBuilder()
+             .grpcChannel(sidecar.getChannel())
+             .dataConverter(new ClaimCheckDataConverter(new JacksonDataConverter(), store, 16, 4))
+             .addOrchestration(new TaskOrchestrationFactory() {
+               @Override
+               public String getName() {
+                 return "Upper";
+               }
+
+               @Override
+               public TaskOrchestration create() {
+                 return ctx -> {
+                   String value = ctx.getInput(String.class);
+                   // Every activity result replays the orchestration, serializing the activity inputs again.
+                   String first = ctx.callActivity("ToUpperCase", value, String.class).await();
+                   String second = ctx.callActivity("ToUpperCase", value, String.class).await();
+                   ctx.complete(first + second);
+                 };
+               }
+
+               @Override
+               public String getVersionName() {
+                 return "";
+               }
+
+               @Override
+               public Boolean isLatestVersion() {
+                 return false;
+               }
+             })
+             .addActivity(new TaskActivityFactory() {
+               @Override
+               public String getName() {
+                 return "ToUpperCase";
+               }
+
+               @Override
+               public TaskActivity create() {
+                 return ctx -> ctx.getInput(String.class).toUpperCase();
+               }
+             })
+             .build();
+         DurableTaskClient client = new DurableTaskGrpcClientBuilder()
+             .grpcChannel(sidecar.getChannel())
+             .dataConverter(new ClaimCheckDataConverter(new JacksonDataConverter(), store, 16, 4))
+             .build()) {
+      worker.start();
+      String instanceId = client.scheduleNewOrchestrationInstance("Upper", input);
+      OrchestrationMetadata metadata = client.waitForInstanceCompletion(instanceId, Duration.ofSeconds(30), true);
+
+      assertEquals(OrchestrationRuntimeStatus.COMPLETED, metadata.getRuntimeStatus());
+      assertEquals("X".repeat(2000), metadata.readOutputAs(String.class));
+    }
+
+    // The input, the activity result and the output.
+    assertEquals(3, store.payloads.size());
+    assertEquals(3, store.saves.get());
+  }
+
+  private static final class InMemoryPayloadStore implements PayloadStore {
+
+    private final Map<String, String> payloads = new ConcurrentHashMap<>();
+
+    private final AtomicInteger saves = new AtomicInteger();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Duration ttl;
+
+    @Override
+    public void save(String key, String payload) {
+      saves.incrementAndGet();
+      payloads.put(key, payload);
+    }
+
+    @Override
+    public String load(String key) {
+      loads.incrementAndGet();
+      return payloads.get(key);
+    }
+
+    @Override
+    public Duration getTtl() {
+      return ttl;
+    }
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.durabletask;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressingDataConverterTest {
+
+  private final CompressingDataConverter converter = new CompressingDataConverter(new JacksonDataConverter(), 64);
+
+  @Test
+  void smallValuesAreNotCompressed() {
+    assertEquals("\"small\"", converter.serialize("small"));
+    assertEquals("small", converter.deserialize("\"small\"", String.class));
+    assertNull(converter.serialize(null));
+    assertNull(converter.deserialize(null, String.class));
+  }
+
+  @Test
+  void largeValuesAreCompressedAndRestored() {
+    List<String> value = Collections.nCopies(200, "a verbose JSON payload");
+    String plain = new JacksonDataConverter().serialize(value);
+
+    String serialized = converter.serialize(value);
+
+    assertTrue(serialized.startsWith("{\"$gzip\":\""));
+    assertTrue(serialized.length() < plain.length() / 10);
+    assertEquals(value, converter.deserialize(serialized, List.class));
+  }
+
+  @Test
+  void incompressibleValuesStayPlain() {
+    StringBuilder random = new StringBuilder();
+    Random generator = new Random(42);
+    for (int i = 0; i < 200; i++) {
+      random.append((char) ('!' + generator.nextInt(90)));
+    }
+    String value = random.toString().replace("\"", "").replace("\\", "");
+
+    assertEquals(new JacksonDataConverter().serialize(value), converter.serialize(value));
+  }
+
+  @Test
+  void corruptPayloadFails() {
+    assertThrows(DataConverter.DataConverterException.class,
+        () -> converter.deserialize("{\"$gzip\":\"bm90IGd6aXA=\"}", String.class));
+  }
+}
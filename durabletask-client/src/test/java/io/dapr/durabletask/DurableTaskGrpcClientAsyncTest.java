@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.durabletask;
+
+import io.dapr.durabletask.implementation.protobuf.OrchestratorService;
+import io.dapr.durabletask.implementation.protobuf.TaskHubSidecarServiceGrpc;
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the asynchronous operations of the gRPC client, which must not hold a thread while waiting.
+ */
+class DurableTaskGrpcClientAsyncTest {
+
+  private Server server;
+  private ManagedChannel channel;
+  private DurableTaskClient client;
+  private final CountDownLatch waitStarted = new CountDownLatch(1);
+  private final CountDownLatch waitCancelled = new CountDownLatch(1);
+
+  @BeforeEach
+  void setUp() throws Exception {
+    String serverName = InProcessServerBuilder.generateName();
+    server = InProcessServerBuilder.forName(serverName)
+        .addService(new TaskHubSidecarServiceGrpc.TaskHubSidecarServiceImplBase() {
+          @Override
+          public void startInstance(
+              OrchestratorService.CreateInstanceRequest request,
+              StreamObserver<OrchestratorService.CreateInstanceResponse> responseObserver) {
+            if (request.getInstanceId().equals("duplicate")) {
+              responseObserver.onError(Status.ALREADY_EXISTS.asRuntimeException());
+              return;
+            }
+            responseObserver.onNext(OrchestratorService.CreateInstanceResponse.newBuilder()
+                .setInstanceId(request.getInstanceId())
+                .build());
+            responseObserver.onCompleted();
+          }
+
+          @Override
+          public void waitForInstanceCompletion(
+              OrchestratorService.GetInstanceRequest request,
+              StreamObserver<OrchestratorService.GetInstanceResponse> responseObserver) {
+            // Never completes, the client's deadline or cancellation ends the call.
+            Context.current().addListener(context -> waitCancelled.countDown(), Runnable::run);
+            waitStarted.countDown();
+          }
+
+          @Override
+          public void listInstanceIDs(
+              OrchestratorService.ListInstanceIDsRequest request,
+              StreamObserver<OrchestratorService.ListInstanceIDsResponse> responseObserver) {
+            OrchestratorService.ListInstanceIDsResponse.Builder response =
+                OrchestratorService.ListInstanceIDsResponse.newBuilder();
+            if (!request.hasContinuationToken()) {
+              response.addInstanceIds("a").addInstanceIds("b").setContinuationToken("page-2");
+            } else {
+              response.addInstanceIds("c");
+            }
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+          }
+
+          @Override
+          public void purgeInstances(
+              OrchestratorService.PurgeInstancesRequest request,
+              StreamObserver<OrchestratorService.PurgeInstancesResponse> responseObserver) {
+            responseObserver.onNext(OrchestratorService.PurgeInstancesResponse.newBuilder()
+                .setDeletedInstanceCount(1)
+                .build());
+            responseObserver.onCompleted();
+          }
+        })
+        .build()
+        .start();
+    channel = InProcessChannelBuilder.forName(serverName).build();
+    client = new DurableTaskGrpcClientBuilder().grpcChannel(channel).build();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    client.close();
+    channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void scheduleAndPurge() throws Exception {
+    NewOrchestrationInstanceOptions options = new NewOrchestrationInstanceOptions().setInstanceId("instance");
+
+    assertEquals("instance", client.scheduleNewOrchestrationInstanceAsync("Orchestration", options)
+        .get(5, TimeUnit.SECONDS));
+    assertEquals(1, client.purgeInstanceAsync("instance").get(5, TimeUnit.SECONDS).getDeletedInstanceCount());
+  }
+
+  @Test
+  void scheduleFailsWithGrpcError() {
+    NewOrchestrationInstanceOptions options = new NewOrchestrationInstanceOptions().setInstanceId("duplicate");
+
+    ExecutionException exception = assertThrows(ExecutionException.class,
+        () -> client.scheduleNewOrchestrationInstanceAsync("Orchestration", options).get(5, TimeUnit.SECONDS));
+    assertEquals(Status.Code.ALREADY_EXISTS, ((StatusRuntimeException) exception.getCause()).getStatus().getCode());
+  }
+
+  @Test
+  void waitForCompletionFailsWithTimeoutWhenDeadlineIsExceeded() throws Exception {
+    CompletableFuture<OrchestrationMetadata> wait =
+        client.waitForInstanceCompletionAsync("instance", Duration.ofSeconds(1), false);
+    assertTrue(waitStarted.await(5, TimeUnit.SECONDS));
+
+    ExecutionException exception = assertThrows(ExecutionException.class, () -> wait.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(TimeoutException.class, exception.getCause());
+    assertTrue(waitCancelled.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void cancellingWaitCancelsCall() throws Exception {
+    CompletableFuture<OrchestrationMetadata> wait =
+        client.waitForInstanceCompletionAsync("instance", Duration.ofMinutes(1), false);
+    assertTrue(waitStarted.await(5, TimeUnit.SECONDS));
+
+    wait.cancel(true);
+
+    assertTrue(waitCancelled.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void listInstanceIdsPages() throws Exception {
+    InstanceIdPage first = client.listInstanceIdsAsync(null, 2).get(5, TimeUnit.SECONDS);
+    assertEquals(List.of("a", "b"), first.getInstanceIds());
+    assertTrue(first.hasMore());
+
+    InstanceIdPage last = client.listInstanceIds(first.getContinuationToken(), 2);
+    assertEquals(List.of("c"), last.getInstanceIds());
+    assertFalse(last.hasMore());
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.durabletask;
+
+import io.dapr.durabletask.implementation.protobuf.OrchestratorService;
+import io.dapr.durabletask.implementation.protobuf.TaskHubSidecarServiceGrpc;
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the worker can read work items from several concurrent GetWorkItems streams.
+ */
+class DurableTaskGrpcWorkerStreamsTest {
+
+  private DurableTaskGrpcWorker worker;
+  private Server server;
+  private ManagedChannel channel;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (worker != null) {
+      worker.close();
+    }
+    if (channel != null) {
+      channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+    if (server != null) {
+      server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  void workerOpensConfiguredNumberOfStreams() throws Exception {
+    int streams = 3;
+    CountDownLatch opened = new CountDownLatch(streams);
+    CountDownLatch closed = new CountDownLatch(streams);
+
+    String serverName = InProcessServerBuilder.generateName();
+    server = InProcessServerBuilder.forName(serverName)
+        .addService(new TaskHubSidecarServiceGrpc.TaskHubSidecarServiceImplBase() {
+          @Override
+          public void getWorkItems(
+              OrchestratorService.GetWorkItemsRequest request,
+              StreamObserver<OrchestratorService.WorkItem> responseObserver) {
+            // Keep every stream open until the worker cancels it.
+            Context.current().addListener(context -> closed.countDown(), Runnable::run);
+            opened.countDown();
+          }
+        })
+        .build()
+        .start();
+    channel = InProcessChannelBuilder.forName(serverName).build();
+
+    worker = new DurableTaskGrpcWorkerBuilder()
+        .grpcChannel(channel)
+        .workItemStreams(streams)
+        .build();
+    worker.start();
+
+    assertTrue(opened.await(10, TimeUnit.SECONDS), "Expected " + streams + " concurrent work-item streams");
+
+    worker.close();
+    assertTrue(closed.await(10, TimeUnit.SECONDS), "Expected every work-item stream to be cancelled on close");
+  }
+
+  @Test
+  void workItemStreamsMustBePositive() {
+    assertThrows(IllegalArgumentException.class, () -> new DurableTaskGrpcWorkerBuilder().workItemStreams(0));
+  }
+}
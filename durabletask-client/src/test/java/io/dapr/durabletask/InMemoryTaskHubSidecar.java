@@ -0,0 +1,1198 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.durabletask;
+
+import com.google.protobuf.Empty;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import io.dapr.durabletask.implementation.protobuf.HistoryEvents;
+import io.dapr.durabletask.implementation.protobuf.Orchestration;
+import io.dapr.durabletask.implementation.protobuf.OrchestratorActions;
+import io.dapr.durabletask.implementation.protobuf.OrchestratorService;
+import io.dapr.durabletask.implementation.protobuf.TaskHubSidecarServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory implementation of the sidecar's {@code TaskHubSidecarService} for running workflows
+ * at full speed inside a single JVM.
+ *
+ * <p>Instances, histories and timers live in plain collections guarded by a single lock, so a
+ * {@link DurableTaskGrpcWorker} and {@link DurableTaskGrpcClient} pointed at {@link #getChannel()}
+ * exercise the real replay, activity and sub-orchestration paths without a Dapr sidecar or a
+ * state store. Durable timers run on a virtual clock: they fire when {@link #advanceTime(Duration)}
+ * moves the clock past their due time, or as soon as the backend goes idle when
+ * {@link #setAutoAdvance(boolean) auto-advance} is on. Simple throughput counters make it usable
+ * as a load driver for the worker itself.</p>
+ *
+ * <p>This is a test double, not a faithful sidecar: work items are not redelivered when a worker
+ * disconnects, nothing is persisted, and history is never streamed.</p>
+ *
+ * <p>It is published in the {@code durabletask-client} test jar, which other modules can add as a
+ * test dependency with {@code <type>test-jar</type>} to run their workflows against it.</p>
+ */
+public final class InMemoryTaskHubSidecar extends TaskHubSidecarServiceGrpc.TaskHubSidecarServiceImplBase
+    implements AutoCloseable {
+
+  // Timers at or beyond this point are the synthetic "wait forever" timers of external events.
+  private static final Instant AUTO_ADVANCE_LIMIT = Instant.parse("9999-01-01T00:00:00Z");
+
+  private static final int SCHEDULED_START = -1;
+
+  private static final int DEFAULT_PAGE_SIZE = 100;
+
+  private final Object lock = new Object();
+
+  // Guarded by lock.
+  private final NavigableMap<String, Instance> instances = new TreeMap<>();
+  private final PriorityQueue<TimerEntry> timers = new PriorityQueue<>(
+      Comparator.comparing((TimerEntry t) -> t.fireAt).thenComparingLong(t -> t.sequence));
+  private final Map<String, ActivityTicket> activitiesInFlight = new HashMap<>();
+  private final List<ServerCallStreamObserver<OrchestratorService.WorkItem>> streams = new ArrayList<>();
+  private final Deque<OrchestratorService.WorkItem> undelivered = new ArrayDeque<>();
+  private final List<Runnable> effects = new ArrayList<>();
+  private Instant now;
+  private long timerSequence;
+  private int orchestrationsInFlight;
+  private int nextStream;
+  private boolean autoAdvance;
+
+  private final AtomicLong instancesStarted = new AtomicLong();
+  private final AtomicLong instancesCompleted = new AtomicLong();
+  private final AtomicLong orchestrationWorkItems = new AtomicLong();
+  private final AtomicLong activityWorkItems = new AtomicLong();
+  private final AtomicLong timersFired = new AtomicLong();
+
+  private Server server;
+  private ManagedChannel channel;
+
+  /**
+   * Creates a backend whose virtual clock starts at the current wall-clock time, truncated to the
+   * millisecond precision that orchestrations observe.
+   */
+  public InMemoryTaskHubSidecar() {
+    this(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+  }
+
+  /**
+   * Creates a backend whose virtual clock starts at {@code startTime}.
+   *
+   * @param startTime the initial virtual time
+   */
+  public InMemoryTaskHubSidecar(Instant startTime) {
+    this.now = startTime;
+  }
+
+  /**
+   * Creates a backend and serves it on a fresh in-process gRPC server.
+   *
+   * @return the started backend; use {@link #getChannel()} to connect workers and clients
+   * @throws IOException if the in-process server cannot be started
+   */
+  public static InMemoryTaskHubSidecar start() throws IOException {
+    InMemoryTaskHubSidecar sidecar = new InMemoryTaskHubSidecar();
+    String serverName = InProcessServerBuilder.generateName();
+    sidecar.server = InProcessServerBuilder.forName(serverName)
+        .addService(sidecar)
+        .build()
+        .start();
+    sidecar.channel = InProcessChannelBuilder.forName(serverName).build();
+    return sidecar;
+  }
+
+  /**
+   * Gets the channel to the in-process server created by {@link #start()}.
+   *
+   * @return the channel to hand to the worker and client builders
+   */
+  public ManagedChannel getChannel() {
+    if (this.channel == null) {
+      throw new IllegalStateException("The backend was not started with InMemoryTaskHubSidecar.start()");
+    }
+    return this.channel;
+  }
+
+  /**
+   * Gets the current virtual time.
+   *
+   * @return the virtual clock's reading
+   */
+  public Instant getCurrentTime() {
+    synchronized (this.lock) {
+      return this.now;
+    }
+  }
+
+  /**
+   * Moves the virtual clock forward and fires every timer that became due.
+   *
+   * <p>Only timers that exist when the clock moves are fired; timers that the resulting
+   * orchestration episodes create are measured against the new time.</p>
+   *
+   * @param amount how far to move the clock
+   */
+  public void advanceTime(Duration amount) {
+    if (amount.isNegative()) {
+      throw new IllegalArgumentException("The virtual clock cannot move backwards");
+    }
+    synchronized (this.lock) {
+      this.now = this.now.plus(amount);
+      this.fireDueTimers();
+    }
+    this.runEffects();
+  }
+
+  /**
+   * Enables or disables auto-advance of the virtual clock.
+   *
+   * <p>When enabled, the clock jumps to the next pending timer whenever no orchestration or
+   * activity work item is outstanding, so workflows that sleep for days finish immediately.
+   * Leave it off for workflows that wait on external events with a timeout, since the timeout
+   * wins as soon as the workflow is idle.</p>
+   *
+   * @param enabled {@code true} to jump the clock whenever the backend is idle
+   */
+  public void setAutoAdvance(boolean enabled) {
+    synchronized (this.lock) {
+      this.autoAdvance = enabled;
+      this.maybeAutoAdvance();
+    }
+    this.runEffects();
+  }
+
+  /**
+   * Gets the number of pending durable timers.
+   *
+   * @return timers that have been created but not fired
+   */
+  public int getPendingTimerCount() {
+    synchronized (this.lock) {
+      return this.timers.size();
+    }
+  }
+
+  /**
+   * Gets the number of workflow instances started, including sub-orchestrations and
+   * continue-as-new restarts.
+   *
+   * @return started instance count
+   */
+  public long getInstancesStarted() {
+    return this.instancesStarted.get();
+  }
+
+  /**
+   * Gets the number of workflow instances that reached a terminal state.
+   *
+   * @return completed, failed and terminated instance count
+   */
+  public long getInstancesCompleted() {
+    return this.instancesCompleted.get();
+  }
+
+  /**
+   * Gets the number of orchestration work items handed to workers.
+   *
+   * @return orchestration work item count
+   */
+  public long getOrchestrationWorkItems() {
+    return this.orchestrationWorkItems.get();
+  }
+
+  /**
+   * Gets the number of activity work items handed to workers.
+   *
+   * @return activity work item count
+   */
+  public long getActivityWorkItems() {
+    return this.activityWorkItems.get();
+  }
+
+  /**
+   * Gets the number of durable timers fired.
+   *
+   * @return fired timer count
+   */
+  public long getTimersFired() {
+    return this.timersFired.get();
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    if (this.channel != null) {
+      this.channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+    if (this.server != null) {
+      this.server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+  }
+
+  @Override
+  public void hello(Empty request, StreamObserver<Empty> responseObserver) {
+    responseObserver.onNext(Empty.getDefaultInstance());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void startInstance(
+      OrchestratorService.CreateInstanceRequest request,
+      StreamObserver<OrchestratorService.CreateInstanceResponse> responseObserver) {
+    String instanceId = request.getInstanceId().isEmpty()
+        ? UUID.randomUUID().toString()
+        : request.getInstanceId();
+    synchronized (this.lock) {
+      Instance existing = this.instances.get(instanceId);
+      if (existing != null && !isTerminal(existing.status)) {
+        responseObserver.onError(Status.ALREADY_EXISTS
+            .withDescription("Workflow instance '" + instanceId + "' is already running")
+            .asRuntimeException());
+        return;
+      }
+      this.createInstance(
+          instanceId,
+          request.getName(),
+          request.hasInput() ? request.getInput() : null,
+          request.hasScheduledStartTimestamp() ? request.getScheduledStartTimestamp() : null,
+          null);
+    }
+    this.runEffects();
+    responseObserver.onNext(OrchestratorService.CreateInstanceResponse.newBuilder()
+        .setInstanceId(instanceId)
+        .build());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void getInstance(
+      OrchestratorService.GetInstanceRequest request,
+      StreamObserver<OrchestratorService.GetInstanceResponse> responseObserver) {
+    OrchestratorService.GetInstanceResponse response;
+    synchronized (this.lock) {
+      response = toResponse(this.instances.get(request.getInstanceId()), request.getGetInputsAndOutputs());
+    }
+    responseObserver.onNext(response);
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void waitForInstanceStart(
+      OrchestratorService.GetInstanceRequest request,
+      StreamObserver<OrchestratorService.GetInstanceResponse> responseObserver) {
+    this.waitFor(request, responseObserver, false);
+  }
+
+  @Override
+  public void waitForInstanceCompletion(
+      OrchestratorService.GetInstanceRequest request,
+      StreamObserver<OrchestratorService.GetInstanceResponse> responseObserver) {
+    this.waitFor(request, responseObserver, true);
+  }
+
+  @Override
+  public void raiseEvent(
+      OrchestratorService.RaiseEventRequest request,
+      StreamObserver<OrchestratorService.RaiseEventResponse> responseObserver) {
+    synchronized (this.lock) {
+      Instance instance = this.instances.get(request.getInstanceId());
+      if (instance == null) {
+        responseObserver.onError(notFound(request.getInstanceId()));
+        return;
+      }
+      HistoryEvents.EventRaisedEvent.Builder eventRaised = HistoryEvents.EventRaisedEvent.newBuilder()
+          .setName(request.getName());
+      if (request.hasInput()) {
+        eventRaised.setInput(request.getInput());
+      }
+      this.deliver(instance, this.newEvent().setEventRaised(eventRaised));
+    }
+    this.runEffects();
+    responseObserver.onNext(OrchestratorService.RaiseEventResponse.getDefaultInstance());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void terminateInstance(
+      OrchestratorService.TerminateRequest request,
+      StreamObserver<OrchestratorService.TerminateResponse> responseObserver) {
+    synchronized (this.lock) {
+      Instance instance = this.instances.get(request.getInstanceId());
+      if (instance == null) {
+        responseObserver.onError(notFound(request.getInstanceId()));
+        return;
+      }
+      this.terminate(instance, request.hasOutput() ? request.getOutput() : null, request.getRecursive());
+    }
+    this.runEffects();
+    responseObserver.onNext(OrchestratorService.TerminateResponse.getDefaultInstance());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void suspendInstance(
+      OrchestratorService.SuspendRequest request,
+      StreamObserver<OrchestratorService.SuspendResponse> responseObserver) {
+    synchronized (this.lock) {
+      Instance instance = this.instances.get(request.getInstanceId());
+      if (instance == null) {
+        responseObserver.onError(notFound(request.getInstanceId()));
+        return;
+      }
+      if (instance.status == Orchestration.OrchestrationStatus.ORCHESTRATION_STATUS_RUNNING) {
+        HistoryEvents.ExecutionSuspendedEvent.Builder suspended = HistoryEvents.ExecutionSuspendedEvent.newBuilder();
+        if (request.hasReason()) {
+          suspended.setInput(request.getReason());
+        }
+        this.setStatus(instance, Orchestration.OrchestrationStatus.ORCHESTRATION_STATUS_SUSPENDED);
+        this.deliver(instance, this.newEvent().setExecutionSuspended(suspended));
+      }
+    }
+    this.runEffects();
+    responseObserver.onNext(OrchestratorService.SuspendResponse.getDefaultInstance());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void resumeInstance(
+      OrchestratorService.ResumeRequest request,
+      StreamObserver<OrchestratorService.ResumeResponse> responseObserver) {
+    synchronized (this.lock) {
+      Instance instance = this.instances.get(request.getInstanceId());
+      if (instance == null) {
+        responseObserver.onError(notFound(request.getInstanceId()));
+        return;
+      }
+      if (instance.status == Orchestration.OrchestrationStatus.ORCHESTRATION_STATUS_SUSPENDED) {
+        HistoryEvents.ExecutionResumedEvent.Builder resumed = HistoryEvents.ExecutionResumedEvent.newBuilder();
+        if (request.hasReason()) {
+          resumed.setInput(request.getReason());
+        }
+        this.setStatus(instance, Orchestration.OrchestrationStatus.ORCHESTRATION_STATUS_RUNNING);
+        this.deliver(instance, this.newEvent().setExecutionResumed(resumed));
+      }
+    }
+    this.runEffects();
+    responseObserver.onNext(OrchestratorService.ResumeResponse.getDefaultInstance());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void purgeInstances(
+      OrchestratorService.PurgeInstancesRequest request,
+      StreamObserver<OrchestratorService.PurgeInstancesResponse> responseObserver) {
+    int deleted = 0;
+    synchronized (this.lock) {
+      if (request.hasPurgeInstanceFilter()) {
+        OrchestratorService.PurgeInstanceFilter filter = request.getPurgeInstanceFilter();
+        Instant from = filter.hasCreatedTimeFrom()
+            ? DataConverter.getInstantFromTimestamp(filter.getCreatedTimeFrom()) : null;
+        Instant to = filter.hasCreatedTimeTo()
+            ? DataConverter.getInstantFromTimestamp(filter.getCreatedTimeTo()) : null;
+        List<Instance> matches = new ArrayList<>();
+        for (Instance instance : this.instances.values()) {
+          if (isTerminal(instance.status)
+              && (from == null || !instance.createdAt.isBefore(from))
+              && (to == null || !instance.createdAt.isAfter(to))
+              && (filter.getRuntimeStatusCount() == 0 || filter.getRuntimeStatusList().contains(instance.status))) {
+            matches.add(instance);
+          }
+        }
+        for (Instance instance : matches) {
+          deleted += this.purge(instance, request.getRecursive());
+        }
+      } else {
+        Instance instance = this.instances.get(request.getInstanceId());
+        if (instance != null) {
+          if (!isTerminal(instance.status)) {
+            responseObserver.onError(Status.FAILED_PRECONDITION
+                .withDescription("Workflow instance '" + instance.instanceId + "' is not in a terminal state")
+                .asRuntimeException());
+            return;
+          }
+          deleted = this.purge(instance, request.getRecursive());
+        }
+      }
+    }
+    responseObserver.onNext(OrchestratorService.PurgeInstancesResponse.newBuilder()
+        .setDeletedInstanceCount(deleted)
+        .build());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void listInstanceIDs(
+      OrchestratorService.ListInstanceIDsRequest request,
+      StreamObserver<OrchestratorService.ListInstanceIDsResponse> responseObserver) {
+    int pageSize = request.hasPageSize() && request.getPageSize() > 0 ? request.getPageSize() : DEFAULT_PAGE_SIZE;
+    OrchestratorService.ListInstanceIDsResponse.Builder response = OrchestratorService.ListInstanceIDsResponse
+        .newBuilder();
+    synchronized (this.lock) {
+      // Instance IDs are kept sorted, so the last ID of a page is a stable continuation token.
+      NavigableMap<String, Instance> remaining = request.hasContinuationToken()
+          ? this.instances.tailMap(request.getContinuationToken(), false)
+          : this.instances;
+      String last = null;
+      for (String instanceId : remaining.keySet()) {
+        if (response.getInstanceIdsCount() == pageSize) {
+          response.setContinuationToken(last);
+          break;
+        }
+        response.addInstanceIds(instanceId);
+        last = instanceId;
+      }
+    }
+    responseObserver.onNext(response.build());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void getInstanceHistory(
+      OrchestratorService.GetInstanceHistoryRequest request,
+      StreamObserver<OrchestratorService.GetInstanceHistoryResponse> responseObserver) {
+    OrchestratorService.GetInstanceHistoryResponse.Builder response = OrchestratorService.GetInstanceHistoryResponse
+        .newBuilder();
+    synchronized (this.lock) {
+      Instance instance = this.instances.get(request.getInstanceId());
+      if (instance == null) {
+        responseObserver.onError(notFound(request.getInstanceId()));
+        return;
+      }
+      response.addAllEvents(instance.history);
+    }
+    responseObserver.onNext(response.build());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void getWorkItems(
+      OrchestratorService.GetWorkItemsRequest request,
+      StreamObserver<OrchestratorService.WorkItem> responseObserver) {
+    ServerCallStreamObserver<OrchestratorService.WorkItem> stream =
+        (ServerCallStreamObserver<OrchestratorService.WorkItem>) responseObserver;
+    stream.setOnCancelHandler(() -> {
+      synchronized (this.lock) {
+        this.streams.remove(stream);
+      }
+    });
+    synchronized (this.lock) {
+      this.streams.add(stream);
+      while (!this.undelivered.isEmpty()) {
+        this.send(this.undelivered.poll());
+      }
+    }
+    this.runEffects();
+  }
+
+  @Override
+  public void completeActivityTask(
+      OrchestratorService.ActivityResponse response,
+      StreamObserver<OrchestratorService.CompleteTaskResponse> responseObserver) {
+    synchronized (this.lock) {
+      ActivityTicket ticket = this.activitiesInFlight.remove(response.getCompletionToken());
+      Instance instance = ticket == null ? null : this.instances.get(ticket.instanceId);
+      if (instance != null && instance.executionId.equals(ticket.executionId)) {
+        HistoryEvents.HistoryEvent.Builder event = this.newEvent();
+        if (response.hasFailureDetails()) {
+          event.setTaskFailed(HistoryEvents.TaskFailedEvent.newBuilder()
+              .setTaskScheduledId(ticket.taskId)
+              .setFailureDetails(response.getFailureDetails())
+              .setTaskExecutionId(ticket.taskExecutionId));
+        } else {
+          HistoryEvents.TaskCompletedEvent.Builder completed = HistoryEvents.TaskCompletedEvent.newBuilder()
+              .setTaskScheduledId(ticket.taskId)
+              .setTaskExecutionId(ticket.taskExecutionId);
+          if (response.hasResult()) {
+            completed.setResult(response.getResult());
+          }
+          event.setTaskCompleted(completed);
+        }
+        this.deliver(instance, event);
+      }
+      this.maybeAutoAdvance();
+    }
+    this.runEffects();
+    responseObserver.onNext(OrchestratorService.CompleteTaskResponse.getDefaultInstance());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void completeOrchestratorTask(
+      OrchestratorService.WorkflowResponse response,
+      StreamObserver<OrchestratorService.CompleteTaskResponse> responseObserver) {
+    synchronized (this.lock) {
+      Instance instance = this.instances.get(response.getInstanceId());
+      if (instance != null && response.getCompletionToken().equals(instance.completionToken)) {
+        this.orchestrationsInFlight--;
+        this.applyOrchestratorResponse(instance, response);
+        this.fireDueTimers();
+        this.maybeAutoAdvance();
+      }
+    }
+    this.runEffects();
+    responseObserver.onNext(OrchestratorService.CompleteTaskResponse.getDefaultInstance());
+    responseObserver.onCompleted();
+  }
+
+  private void applyOrchestratorResponse(Instance instance, OrchestratorService.WorkflowResponse response) {
+    for (HistoryEvents.HistoryEvent event : instance.dispatched) {
+      if (event.hasWorkflowStarted() && response.hasVersion()) {
+        event = event.toBuilder()
+            .setWorkflowStarted(HistoryEvents.WorkflowStartedEvent.newBuilder().setVersion(response.getVersion()))
+            .build();
+      }
+      instance.history.add(event);
+    }
+    instance.dispatched = null;
+    instance.completionToken = null;
+    instance.customStatus = response.hasCustomStatus() ? response.getCustomStatus() : null;
+
+    OrchestratorActions.CompleteWorkflowAction completion = null;
+    for (OrchestratorActions.WorkflowAction action : response.getActionsList()) {
+      int id = action.getId();
+      switch (action.getWorkflowActionTypeCase()) {
+        case SCHEDULETASK:
+          this.scheduleActivity(instance, id, action.getScheduleTask());
+          break;
+        case CREATETIMER:
+          this.createTimer(instance, id, action.getCreateTimer());
+          break;
+        case CREATECHILDWORKFLOW:
+          this.createChildWorkflow(instance, id, action.getCreateChildWorkflow());
+          break;
+        case SENDEVENT:
+          this.sendEvent(instance, id, action.getSendEvent());
+          break;
+        case TERMINATEWORKFLOW:
+          OrchestratorActions.TerminateWorkflowAction terminate = action.getTerminateWorkflow();
+          Instance target = this.instances.get(terminate.getInstanceId());
+          if (target != null) {
+            this.terminate(target, terminate.hasReason() ? terminate.getReason() : null, terminate.getRecurse());
+          }
+          break;
+        case COMPLETEWORKFLOW:
+          completion = action.getCompleteWorkflow();
+          break;
+        case WORKFLOWVERSIONNOTAVAILABLE:
+          this.setStatus(instance, Orchestration.OrchestrationStatus.ORCHESTRATION_STATUS_STALLED);
+          break;
+        default:
+          throw new IllegalStateException("Unsupported workflow action: " + action.getWorkflowActionTypeCase());
+      }
+    }
+
+    if (completion != null) {
+      this.completeWorkflow(instance, completion);
+    } else {
+      this.touch(instance);
+    }
+    this.dispatchIfReady(instance);
+  }
+
+  private void scheduleActivity(Instance instance, int taskId, OrchestratorActions.ScheduleTaskAction action) {
+    HistoryEvents.TaskScheduledEvent.Builder scheduled = HistoryEvents.TaskScheduledEvent.newBuilder()
+        .setName(action.getName())
+        .setTaskExecutionId(action.getTaskExecutionId());
+    OrchestratorService.ActivityRequest.Builder request = OrchestratorService.ActivityRequest.newBuilder()
+        .setName(action.getName())
+        .setWorkflowInstance(instance.toWorkflowInstance())
+        .setTaskId(taskId)
+        .setTaskExecutionId(action.getTaskExecutionId());
+    if (action.hasInput()) {
+      scheduled.setInput(action.getInput());
+      request.setInput(action.getInput());
+    }
+    instance.history.add(this.newEvent().setEventId(taskId).setTaskScheduled(scheduled).build());
+
+    String completionToken = UUID.randomUUID().toString();
+    this.activitiesInFlight.put(completionToken,
+        new ActivityTicket(instance.instanceId, instance.executionId, taskId, action.getTaskExecutionId()));
+    this.activityWorkItems.incrementAndGet();
+    this.send(OrchestratorService.WorkItem.newBuilder()
+        .setActivityRequest(request)
+        .setCompletionToken(completionToken)
+        .build());
+  }
+
+  private void createTimer(Instance instance, int timerId, OrchestratorActions.CreateTimerAction action) {
+    HistoryEvents.TimerCreatedEvent.Builder created = HistoryEvents.TimerCreatedEvent.newBuilder()
+        .setFireAt(action.getFireAt());
+    if (action.hasName()) {
+      created.setName(action.getName());
+    }
+    switch (action.getOriginCase()) {
+      case CREATETIMER:
+        created.setCreateTimer(action.getCreateTimer());
+        break;
+      case EXTERNALEVENT:
+        created.setExternalEvent(action.getExternalEvent());
+        break;
+      case ACTIVITYRETRY:
+        created.setActivityRetry(action.getActivityRetry());
+        break;
+      case CHILDWORKFLOWRETRY:
+        created.setChildWorkflowRetry(action.getChildWorkflowRetry());
+        break;
+      default:
+        break;
+    }
+    instance.history.add(this.newEvent().setEventId(timerId).setTimerCreated(created).build());
+    this.timers.add(new TimerEntry(
+        DataConverter.getInstantFromTimestamp(action.getFireAt()),
+        this.timerSequence++,
+        instance.instanceId,
+        instance.executionId,
+        timerId));
+  }
+
+  private void createChildWorkflow(
+      Instance parent, int taskId, OrchestratorActions.CreateChildWorkflowAction action) {
+    HistoryEvents.ChildWorkflowInstanceCreatedEvent.Builder created = HistoryEvents.ChildWorkflowInstanceCreatedEvent
+        .newBuilder()
+        .setInstanceId(action.getInstanceId())
+        .setName(action.getName());
+    if (action.hasInput()) {
+      created.setInput(action.getInput());
+    }
+    parent.history.add(this.newEvent().setEventId(taskId).setChildWorkflowInstanceCreated(created).build());
+
+    Instance existing = this.instances.get(action.getInstanceId());
+    if (existing != null && !isTerminal(existing.status)) {
+      this.deliver(parent, this.newEvent().setChildWorkflowInstanceFailed(
+          HistoryEvents.ChildWorkflowInstanceFailedEvent.newBuilder()
+              .setTaskScheduledId(taskId)
+              .setFailureDetails(Orchestration.TaskFailureDetails.newBuilder()
+                  .setErrorType("IllegalStateException")
+                  .setErrorMessage("Workflow instance '" + action.getInstanceId() + "' is already running"))));
+      return;
+    }
+    this.createInstance(
+        action.getInstanceId(),
+        action.getName(),
+        action.hasInput() ? action.getInput() : null,
+        null,
+        Orchestration.ParentInstanceInfo.newBuilder()
+            .setTaskScheduledId(taskId)
+            .setName(StringValue.of(parent.name))
+            .setWorkflowInstance(parent.toWorkflowInstance())
+            .build());
+  }
+
+  private void sendEvent(Instance instance, int id, OrchestratorActions.SendEventAction action) {
+    // The executor does not replay EventSent history events and re-emits the action on every
+    // episode, so sends are de-duplicated by action ID instead of being recorded in history.
+    if (!instance.sentEvents.add(id)) {
+      return;
+    }
+    Instance target = this.instances.get(action.getInstance().getInstanceId());
+    if (target == null) {
+      return;
+    }
+    HistoryEvents.EventRaisedEvent.Builder eventRaised = HistoryEvents.EventRaisedEvent.newBuilder()
+        .setName(action.getName());
+    if (action.hasData()) {
+      eventRaised.setInput(action.getData());
+    }
+    this.deliver(target, this.newEvent().setEventRaised(eventRaised));
+  }
+
+  private void completeWorkflow(Instance instance, OrchestratorActions.CompleteWorkflowAction action) {
+    if (action.getWorkflowStatus() == Orchestration.OrchestrationStatus.ORCHESTRATION_STATUS_CONTINUED_AS_NEW) {
+      List<HistoryEvents.HistoryEvent> buffered = new ArrayList<>(instance.inbox);
+      this.restart(instance, action.hasResult() ? action.getResult() : null);
+      instance.inbox.addAll(action.getCarryoverEventsList());
+      instance.inbox.addAll(buffered);
+      return;
+    }
+
+    HistoryEvents.ExecutionCompletedEvent.Builder completed = HistoryEvents.ExecutionCompletedEvent.newBuilder()
+        .setWorkflowStatus(action.getWorkflowStatus());
+    if (action.hasResult()) {
+      completed.setResult(action.getResult());
+    }
+    if (action.hasFailureDetails()) {
+      completed.setFailureDetails(action.getFailureDetails());
+    }
+    instance.history.add(this.newEvent().setExecutionCompleted(completed).build());
+    instance.output = action.hasResult() ? action.getResult() : null;
+    instance.failureDetails = action.hasFailureDetails() ? action.getFailureDetails() : null;
+    instance.completedAt = this.now;
+    instance.inbox.clear();
+    this.setStatus(instance, action.getWorkflowStatus());
+    this.instancesCompleted.incrementAndGet();
+    this.notifyParent(instance);
+  }
+
+  private void notifyParent(Instance child) {
+    if (child.parent == null) {
+      return;
+    }
+    Instance parent = this.instances.get(child.parent.getWorkflowInstance().getInstanceId());
+    if (parent == null
+        || !parent.executionId.equals(child.parent.getWorkflowInstance().getExecutionId().getValue())) {
+      return;
+    }
+    int taskId = child.parent.getTaskScheduledId();
+    if (child.status == Orchestration.OrchestrationStatus.ORCHESTRATION_STATUS_COMPLETED) {
+      HistoryEvents.ChildWorkflowInstanceCompletedEvent.Builder completed = HistoryEvents
+          .ChildWorkflowInstanceCompletedEvent.newBuilder()
+          .setTaskScheduledId(taskId);
+      if (child.output != null) {
+        completed.setResult(child.output);
+      }
+      this.deliver(parent, this.newEvent().setChildWorkflowInstanceCompleted(completed));
+    } else {
+      Orchestration.TaskFailureDetails failure = child.failureDetails != null
+          ? child.failureDetails
+          : Orchestration.TaskFailureDetails.newBuilder()
+              .setErrorType("TerminatedException")
+              .setErrorMessage("Child workflow '" + child.instanceId + "' was terminated")
+              .build();
+      this.deliver(parent, this.newEvent().setChildWorkflowInstanceFailed(
+          HistoryEvents.ChildWorkflowInstanceFailedEvent.newBuilder()
+              .setTaskScheduledId(taskId)
+              .setFailureDetails(failure)));
+    }
+  }
+
+  private void terminate(Instance instance, StringValue output, boolean recursive) {
+    if (isTerminal(instance.status)) {
+      return;
+    }
+    if (recursive) {
+      for (Instance child : new ArrayList<>(this.instances.values())) {
+        if (child.parent != null
+            && child.parent.getWorkflowInstance().getInstanceId().equals(instance.instanceId)) {
+          this.terminate(child, output, true);
+        }
+      }
+    }
+    if (instance.status == Orchestration.OrchestrationStatus.ORCHESTRATION_STATUS_PENDING) {
+      // Never ran, so there is no orchestrator to observe the termination.
+      instance.output = output;
+      instance.completedAt = this.now;
+      instance.inbox.clear();
+      this.setStatus(instance, Orchestration.OrchestrationStatus.ORCHESTRATION_STATUS_TERMINATED);
+      this.instancesCompleted.incrementAndGet();
+      this.notifyParent(instance);
+      return;
+    }
+    HistoryEvents.ExecutionTerminatedEvent.Builder terminated = HistoryEvents.ExecutionTerminatedEvent.newBuilder()
+        .setRecurse(recursive);
+    if (output != null) {
+      terminated.setInput(output);
+    }
+    this.deliver(instance, this.newEvent().setExecutionTerminated(terminated));
+  }
+
+  private int purge(Instance instance, boolean recursive) {
+    int deleted = 0;
+    if (recursive) {
+      for (Instance child : new ArrayList<>(this.instances.values())) {
+        if (child.parent != null
+            && child.parent.getWorkflowInstance().getInstanceId().equals(instance.instanceId)
+            && isTerminal(child.status)) {
+          deleted += this.purge(child, true);
+        }
+      }
+    }
+    if (this.instances.remove(instance.instanceId, instance)) {
+      deleted++;
+    }
+    return deleted;
+  }
+
+  private void createInstance(
+      String instanceId, String name, StringValue input, Timestamp scheduledStart,
+      Orchestration.ParentInstanceInfo parent) {
+    Instance instance = new Instance(instanceId, name, parent, this.now);
+    this.instances.put(instanceId, instance);
+    boolean delayed = scheduledStart != null
+        && DataConverter.getInstantFromTimestamp(scheduledStart).isAfter(this.now);
+    this.restart(instance, input);
+    if (delayed) {
+      instance.scheduledStart = scheduledStart;
+      this.setStatus(instance, Orchestration.OrchestrationStatus.ORCHESTRATION_STATUS_PENDING);
+      this.timers.add(new TimerEntry(
+          DataConverter.getInstantFromTimestamp(scheduledStart),
+          this.timerSequence++,
+          instanceId,
+          instance.executionId,
+          SCHEDULED_START));
+    }
+    this.dispatchIfReady(instance);
+  }
+
+  // Starts a fresh execution of the instance, as for a new instance or a continue-as-new.
+  private void restart(Instance instance, StringValue input) {
+    instance.executionId = UUID.randomUUID().toString();
+    instance.input = input;
+    instance.output = null;
+    instance.failureDetails = null;
+    instance.completedAt = null;
+    instance.history.clear();
+    instance.inbox.clear();
+    instance.sentEvents.clear();
+    HistoryEvents.ExecutionStartedEvent.Builder started = HistoryEvents.ExecutionStartedEvent.newBuilder()
+        .setName(instance.name)
+        .setWorkflowInstance(instance.toWorkflowInstance());
+    if (input != null) {
+      started.setInput(input);
+    }
+    if (instance.parent != null) {
+      started.setParentInstance(instance.parent);
+    }
+    instance.inbox.add(this.newEvent().setExecutionStarted(started).build());
+    this.setStatus(instance, Orchestration.OrchestrationStatus.ORCHESTRATION_STATUS_RUNNING);
+    this.instancesStarted.incrementAndGet();
+  }
+
+  private void deliver(Instance instance, HistoryEvents.HistoryEvent.Builder event) {
+    if (isTerminal(instance.status)) {
+      return;
+    }
+    instance.inbox.add(event.build());
+    this.dispatchIfReady(instance);
+  }
+
+  private void dispatchIfReady(Instance instance) {
+    if (instance.dispatched != null
+        || instance.inbox.isEmpty()
+        || isTerminal(instance.status)
+        || instance.status == Orchestration.OrchestrationStatus.ORCHESTRATION_STATUS_PENDING) {
+      return;
+    }
+    List<HistoryEvents.HistoryEvent> newEvents = new ArrayList<>(instance.inbox.size() + 1);
+    newEvents.add(this.newEvent()
+        .setWorkflowStarted(HistoryEvents.WorkflowStartedEvent.getDefaultInstance())
+        .build());
+    newEvents.addAll(instance.inbox);
+    instance.inbox.clear();
+    instance.dispatched = newEvents;
+    instance.completionToken = UUID.randomUUID().toString();
+    this.orchestrationsInFlight++;
+    this.orchestrationWorkItems.incrementAndGet();
+    this.send(OrchestratorService.WorkItem.newBuilder()
+        .setWorkflowRequest(OrchestratorService.WorkflowRequest.newBuilder()
+            .setInstanceId(instance.instanceId)
+            .setExecutionId(StringValue.of(instance.executionId))
+            .addAllPastEvents(instance.history)
+            .addAllNewEvents(newEvents))
+        .setCompletionToken(instance.completionToken)
+        .build());
+  }
+
+  private void fireDueTimers() {
+    while (!this.timers.isEmpty() && !this.timers.peek().fireAt.isAfter(this.now)) {
+      TimerEntry timer = this.timers.poll();
+      Instance instance = this.instances.get(timer.instanceId);
+      if (instance == null || !instance.executionId.equals(timer.executionId)) {
+        continue;
+      }
+      if (timer.timerId == SCHEDULED_START) {
+        if (instance.status == Orchestration.OrchestrationStatus.ORCHESTRATION_STATUS_PENDING) {
+          this.setStatus(instance, Orchestration.OrchestrationStatus.ORCHESTRATION_STATUS_RUNNING);
+          this.dispatchIfReady(instance);
+        }
+        continue;
+      }
+      this.timersFired.incrementAndGet();
+      this.deliver(instance, this.newEvent().setTimerFired(HistoryEvents.TimerFiredEvent.newBuilder()
+          .setTimerId(timer.timerId)
+          .setFireAt(DataConverter.getTimestampFromInstant(timer.fireAt))));
+    }
+  }
+
+  private void maybeAutoAdvance() {
+    while (this.autoAdvance
+        && this.orchestrationsInFlight == 0
+        && this.activitiesInFlight.isEmpty()
+        && !this.timers.isEmpty()
+        && this.timers.peek().fireAt.isBefore(AUTO_ADVANCE_LIMIT)) {
+      Instant next = this.timers.peek().fireAt;
+      if (next.isAfter(this.now)) {
+        this.now = next;
+      }
+      this.fireDueTimers();
+    }
+  }
+
+  private void setStatus(Instance instance, Orchestration.OrchestrationStatus status) {
+    instance.status = status;
+    this.touch(instance);
+    List<Waiter> satisfied = new ArrayList<>();
+    for (Waiter waiter : instance.waiters) {
+      if (waiter.isSatisfiedBy(status)) {
+        satisfied.add(waiter);
+      }
+    }
+    if (satisfied.isEmpty()) {
+      return;
+    }
+    instance.waiters.removeAll(satisfied);
+    for (Waiter waiter : satisfied) {
+      OrchestratorService.GetInstanceResponse response = toResponse(instance, waiter.getInputsAndOutputs);
+      this.effects.add(() -> waiter.respond(response));
+    }
+  }
+
+  private void touch(Instance instance) {
+    instance.lastUpdatedAt = this.now;
+  }
+
+  private void waitFor(
+      OrchestratorService.GetInstanceRequest request,
+      StreamObserver<OrchestratorService.GetInstanceResponse> responseObserver,
+      boolean forCompletion) {
+    ServerCallStreamObserver<OrchestratorService.GetInstanceResponse> call =
+        (ServerCallStreamObserver<OrchestratorService.GetInstanceResponse>) responseObserver;
+    Waiter waiter = new Waiter(call, forCompletion, request.getGetInputsAndOutputs());
+    OrchestratorService.GetInstanceResponse response = null;
+    synchronized (this.lock) {
+      Instance instance = this.instances.get(request.getInstanceId());
+      if (instance == null || waiter.isSatisfiedBy(instance.status)) {
+        response = toResponse(instance, request.getGetInputsAndOutputs());
+      } else {
+        instance.waiters.add(waiter);
+        call.setOnCancelHandler(() -> {
+          synchronized (this.lock) {
+            instance.waiters.remove(waiter);
+          }
+        });
+      }
+    }
+    if (response != null) {
+      waiter.respond(response);
+    }
+  }
+
+  // Must be called with the lock held; the stream is written after the lock is released.
+  private void send(OrchestratorService.WorkItem workItem) {
+    if (this.streams.isEmpty()) {
+      this.undelivered.add(workItem);
+      return;
+    }
+    ServerCallStreamObserver<OrchestratorService.WorkItem> stream =
+        this.streams.get(this.nextStream++ % this.streams.size());
+    this.effects.add(() -> {
+      try {
+        synchronized (stream) {
+          stream.onNext(workItem);
+        }
+      } catch (RuntimeException e) {
+        synchronized (this.lock) {
+          this.streams.remove(stream);
+          this.send(workItem);
+        }
+        this.runEffects();
+      }
+    });
+  }
+
+  private void runEffects() {
+    while (true) {
+      List<Runnable> batch;
+      synchronized (this.lock) {
+        if (this.effects.isEmpty()) {
+          return;
+        }
+        batch = new ArrayList<>(this.effects);
+        this.effects.clear();
+      }
+      batch.forEach(Runnable::run);
+    }
+  }
+
+  private HistoryEvents.HistoryEvent.Builder newEvent() {
+    return HistoryEvents.HistoryEvent.newBuilder()
+        .setEventId(-1)
+        .setTimestamp(DataConverter.getTimestampFromInstant(this.now));
+  }
+
+  private static OrchestratorService.GetInstanceResponse toResponse(Instance instance, boolean getInputsAndOutputs) {
+    if (instance == null) {
+      return OrchestratorService.GetInstanceResponse.newBuilder().setExists(false).build();
+    }
+    Orchestration.WorkflowState.Builder state = Orchestration.WorkflowState.newBuilder()
+        .setInstanceId(instance.instanceId)
+        .setName(instance.name)
+        .setWorkflowStatus(instance.status)
+        .setExecutionId(StringValue.of(instance.executionId))
+        .setCreatedTimestamp(DataConverter.getTimestampFromInstant(instance.createdAt))
+        .setLastUpdatedTimestamp(DataConverter.getTimestampFromInstant(instance.lastUpdatedAt));
+    if (instance.completedAt != null) {
+      state.setCompletedTimestamp(DataConverter.getTimestampFromInstant(instance.completedAt));
+    }
+    if (instance.scheduledStart != null) {
+      state.setScheduledStartTimestamp(instance.scheduledStart);
+    }
+    if (instance.parent != null) {
+      state.setParentInstanceId(StringValue.of(instance.parent.getWorkflowInstance().getInstanceId()));
+    }
+    if (instance.failureDetails != null) {
+      state.setFailureDetails(instance.failureDetails);
+    }
+    if (getInputsAndOutputs) {
+      if (instance.input != null) {
+        state.setInput(instance.input);
+      }
+      if (instance.output != null) {
+        state.setOutput(instance.output);
+      }
+      if (instance.customStatus != null) {
+        state.setCustomStatus(instance.customStatus);
+      }
+    }
+    return OrchestratorService.GetInstanceResponse.newBuilder()
+        .setExists(true)
+        .setWorkflowState(state)
+        .build();
+  }
+
+  private static boolean isTerminal(Orchestration.OrchestrationStatus status) {
+    return status == Orchestration.OrchestrationStatus.ORCHESTRATION_STATUS_COMPLETED
+        || status == Orchestration.OrchestrationStatus.ORCHESTRATION_STATUS_FAILED
+        || status == Orchestration.OrchestrationStatus.ORCHESTRATION_STATUS_TERMINATED;
+  }
+
+  private static RuntimeException notFound(String instanceId) {
+    return Status.NOT_FOUND
+        .withDescription("No workflow instance with ID '" + instanceId + "' was found")
+        .asRuntimeException();
+  }
+
+  private static final class Instance {
+    final String instanceId;
+    final String name;
+    final Orchestration.ParentInstanceInfo parent;
+    final Instant createdAt;
+    final List<HistoryEvents.HistoryEvent> history = new ArrayList<>();
+    final List<HistoryEvents.HistoryEvent> inbox = new ArrayList<>();
+    final Set<Integer> sentEvents = new HashSet<>();
+    final List<Waiter> waiters = new ArrayList<>();
+    String executionId;
+    Orchestration.OrchestrationStatus status;
+    StringValue input;
+    StringValue output;
+    StringValue customStatus;
+    Orchestration.TaskFailureDetails failureDetails;
+    Timestamp scheduledStart;
+    Instant lastUpdatedAt;
+    Instant completedAt;
+    // Events handed to a worker and not yet committed to history; non-null while in flight.
+    List<HistoryEvents.HistoryEvent> dispatched;
+    String completionToken;
+
+    Instance(String instanceId, String name, Orchestration.ParentInstanceInfo parent, Instant createdAt) {
+      this.instanceId = instanceId;
+      this.name = name;
+      this.parent = parent;
+      this.createdAt = createdAt;
+      this.lastUpdatedAt = createdAt;
+    }
+
+    Orchestration.WorkflowInstance toWorkflowInstance() {
+      return Orchestration.WorkflowInstance.newBuilder()
+          .setInstanceId(this.instanceId)
+          .setExecutionId(StringValue.of(this.executionId))
+          .build();
+    }
+  }
+
+  private static final class TimerEntry {
+    final Instant fireAt;
+    final long sequence;
+    final String instanceId;
+    final String executionId;
+    final int timerId;
+
+    TimerEntry(Instant fireAt, long sequence, String instanceId, String executionId, int timerId) {
+      this.fireAt = fireAt;
+      this.sequence = sequence;
+      this.instanceId = instanceId;
+      this.executionId = executionId;
+      this.timerId = timerId;
+    }
+  }
+
+  private static final class ActivityTicket {
+    final String instanceId;
+    final String executionId;
+    final int taskId;
+    final String taskExecutionId;
+
+    ActivityTicket(String instanceId, String executionId, int taskId, String taskExecutionId) {
+      this.instanceId = instanceId;
+      this.executionId = executionId;
+      this.taskId = taskId;
+      this.taskExecutionId = taskExecutionId;
+    }
+  }
+
+  private static final class Waiter {
+    final ServerCallStreamObserver<OrchestratorService.GetInstanceResponse> call;
+    final boolean forCompletion;
+    final boolean getInputsAndOutputs;
+
+    Waiter(
+        ServerCallStreamObserver<OrchestratorService.GetInstanceResponse> call,
+        boolean forCompletion,
+        boolean getInputsAndOutputs) {
+      this.call = call;
+      this.forCompletion = forCompletion;
+      this.getInputsAndOutputs = getInputsAndOutputs;
+    }
+
+    boolean isSatisfiedBy(Orchestration.OrchestrationStatus status) {
+      return this.forCompletion
+          ? isTerminal(status)
+          : status != Orchestration.OrchestrationStatus.ORCHESTRATION_STATUS_PENDING;
+    }
+
+    void respond(OrchestratorService.GetInstanceResponse response) {
+      if (this.call.isCancelled()) {
+        return;
+      }
+      try {
+        this.call.onNext(response);
+        this.call.onCompleted();
+      } catch (RuntimeException e) {
+        // The caller gave up (deadline or cancellation) between the check and the write.
+      }
+    }
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.durabletask;
+
+import io.dapr.durabletask.orchestration.TaskOrchestrationFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs real workflows through the worker and client against {@link InMemoryTaskHubSidecar}.
+ */
+class InMemoryTaskHubSidecarTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+  private InMemoryTaskHubSidecar sidecar;
+  private DurableTaskGrpcWorker worker;
+  private DurableTaskClient client;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    sidecar = InMemoryTaskHubSidecar.start();
+    worker = new DurableTaskGrpcWorkerBuilder()
+        .grpcChannel(sidecar.getChannel())
+        .maximumTimerInterval(Duration.ofDays(30))
+        .addOrchestration(orchestration("Chain", ctx -> {
+          int value = ctx.getInput(int.class);
+          for (int i = 0; i < 3; i++) {
+            value = ctx.callActivity("Increment", value, int.class).await();
+          }
+          ctx.complete(value);
+        }))
+        .addOrchestration(orchestration("Sleep", ctx -> {
+          ctx.createTimer(Duration.ofDays(1)).await();
+          ctx.complete(ctx.getCurrentInstant().toString());
+        }))
+        .addOrchestration(orchestration("LongSleeps", ctx -> {
+          for (int i = 0; i < 3; i++) {
+            ctx.createTimer(Duration.ofDays(10)).await();
+          }
+          ctx.complete(ctx.getCurrentInstant().toString());
+        }))
+        .addOrchestration(orchestration("Parent", ctx -> {
+          String reply = ctx.callSubOrchestrator("Child", null, "child", String.class).await();
+          ctx.complete(reply + "!");
+        }))
+        .addOrchestration(orchestration("Child", ctx ->
+            ctx.complete(ctx.waitForExternalEvent("go", String.class).await())))
+        .addOrchestration(orchestration("Echo", ctx -> ctx.complete(ctx.getInput(String.class))))
+        .addActivity(activity("Increment", ctx -> ctx.getInput(int.class) + 1))
+        .build();
+    worker.start();
+    client = new DurableTaskGrpcClientBuilder()
+        .grpcChannel(sidecar.getChannel())
+        .build();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    client.close();
+    worker.close();
+    sidecar.close();
+  }
+
+  @Test
+  void runsManyInstancesAndCountsThroughput() throws Exception {
+    int instances = 200;
+    List<String> instanceIds = new ArrayList<>();
+    for (int i = 0; i < instances; i++) {
+      instanceIds.add(client.scheduleNewOrchestrationInstance("Chain", i));
+    }
+
+    for (int i = 0; i < instances; i++) {
+      OrchestrationMetadata metadata = client.waitForInstanceCompletion(instanceIds.get(i), TIMEOUT, true);
+      assertEquals(OrchestrationRuntimeStatus.COMPLETED, metadata.getRuntimeStatus());
+      assertEquals(i + 3, metadata.readOutputAs(int.class));
+    }
+
+    assertEquals(instances, sidecar.getInstancesStarted());
+    assertEquals(instances, sidecar.getInstancesCompleted());
+    assertEquals(instances * 3L, sidecar.getActivityWorkItems());
+    // One episode to start each instance plus one per activity result.
+    assertEquals(instances * 4L, sidecar.getOrchestrationWorkItems());
+  }
+
+  @Test
+  void timerFiresOnlyWhenVirtualClockAdvances() throws Exception {
+    Instant start = sidecar.getCurrentTime();
+    String instanceId = client.scheduleNewOrchestrationInstance("Sleep");
+
+    await(() -> sidecar.getPendingTimerCount() == 1);
+    assertEquals(OrchestrationRuntimeStatus.RUNNING,
+        client.getInstanceMetadata(instanceId, false).getRuntimeStatus());
+
+    sidecar.advanceTime(Duration.ofDays(1));
+
+    OrchestrationMetadata metadata = client.waitForInstanceCompletion(instanceId, TIMEOUT, true);
+    assertEquals(OrchestrationRuntimeStatus.COMPLETED, metadata.getRuntimeStatus());
+    assertEquals(start.plus(Duration.ofDays(1)).toString(), metadata.readOutputAs(String.class));
+    assertEquals(1, sidecar.getTimersFired());
+  }
+
+  @Test
+  void autoAdvanceSkipsLongTimers() throws Exception {
+    Instant start = sidecar.getCurrentTime();
+    sidecar.setAutoAdvance(true);
+
+    String instanceId = client.scheduleNewOrchestrationInstance("LongSleeps");
+
+    OrchestrationMetadata metadata = client.waitForInstanceCompletion(instanceId, TIMEOUT, true);
+    assertEquals(OrchestrationRuntimeStatus.COMPLETED, metadata.getRuntimeStatus());
+    assertEquals(start.plus(Duration.ofDays(30)).toString(), metadata.readOutputAs(String.class));
+    assertEquals(0, sidecar.getPendingTimerCount());
+  }
+
+  @Test
+  void childWorkflowCompletesParentAfterExternalEvent() throws Exception {
+    String instanceId = client.scheduleNewOrchestrationInstance("Parent", null, "parent");
+
+    await(() -> client.getInstanceMetadata("child", false).isInstanceFound());
+    client.raiseEvent("child", "go", "hello");
+
+    OrchestrationMetadata metadata = client.waitForInstanceCompletion(instanceId, TIMEOUT, true);
+    assertEquals(OrchestrationRuntimeStatus.COMPLETED, metadata.getRuntimeStatus());
+    assertEquals("hello!", metadata.readOutputAs(String.class));
+    assertEquals(2, sidecar.getInstancesCompleted());
+  }
+
+  @Test
+  void terminatedInstanceCanBePurged() throws Exception {
+    String instanceId = client.scheduleNewOrchestrationInstance("Child");
+    client.waitForInstanceStart(instanceId, TIMEOUT);
+
+    client.terminate(instanceId, "stopped");
+
+    OrchestrationMetadata metadata = client.waitForInstanceCompletion(instanceId, TIMEOUT, true);
+    assertEquals(OrchestrationRuntimeStatus.TERMINATED, metadata.getRuntimeStatus());
+    assertEquals("stopped", metadata.readOutputAs(String.class));
+
+    assertEquals(1, client.purgeInstance(instanceId).getDeletedInstanceCount());
+    assertFalse(client.getInstanceMetadata(instanceId, false).isInstanceFound());
+  }
+
+  @Test
+  void listsInstanceIdsPageByPage() throws Exception {
+    Set<String> started = new HashSet<>();
+    for (int i = 0; i < 5; i++) {
+      started.add(client.scheduleNewOrchestrationInstance("Echo", "x"));
+    }
+
+    Set<String> listed = new HashSet<>();
+    InstanceIdPage page = client.listInstanceIds(null, 2);
+    int pages = 1;
+    while (page.hasMore()) {
+      assertEquals(2, page.getInstanceIds().size());
+      listed.addAll(page.getInstanceIds());
+      page = client.listInstanceIds(page.getContinuationToken(), 2);
+      pages++;
+    }
+    listed.addAll(page.getInstanceIds());
+
+    assertEquals(3, pages);
+    assertEquals(started, listed);
+    assertNull(page.getContinuationToken());
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() < deadline, "Timed out waiting for condition");
+      Thread.sleep(10);
+    }
+  }
+
+  private static TaskOrchestrationFactory orchestration(String name, TaskOrchestration implementation) {
+    return new TaskOrchestrationFactory() {
+      @Override
+      public String getName() {
+        return name;
+      }
+
+      @Override
+      public TaskOrchestration create() {
+        return implementation;
+      }
+
+      @Override
+      public String getVersionName() {
+        return "";
+      }
+
+      @Override
+      public Boolean isLatestVersion() {
+        return false;
+      }
+    };
+  }
+
+  private static TaskActivityFactory activity(String name, TaskActivity implementation) {
+    return new TaskActivityFactory() {
+      @Override
+      public String getName() {
+        return name;
+      }
+
+      @Override
+      public TaskActivity create() {
+        return implementation;
+      }
+    };
+  }
+}
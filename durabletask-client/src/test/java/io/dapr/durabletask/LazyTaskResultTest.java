@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.durabletask;
+
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import io.dapr.durabletask.implementation.protobuf.HistoryEvents;
+import io.dapr.durabletask.implementation.protobuf.Orchestration;
+import io.dapr.durabletask.implementation.protobuf.OrchestratorActions;
+import io.dapr.durabletask.orchestration.TaskOrchestrationFactories;
+import io.dapr.durabletask.orchestration.TaskOrchestrationFactory;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that the results of completed tasks are only deserialized when the orchestrator reads them.
+ */
+class LazyTaskResultTest {
+
+  private static final Logger logger = Logger.getLogger(LazyTaskResultTest.class.getName());
+  private static final Instant TEST_INSTANT = Instant.parse("2026-06-12T11:53:03Z");
+
+  private final AtomicInteger deserializations = new AtomicInteger();
+
+  private final DataConverter countingConverter = new DataConverter() {
+    private final DataConverter delegate = new JacksonDataConverter();
+
+    @Override
+    public String serialize(Object value) {
+      return delegate.serialize(value);
+    }
+
+    @Override
+    public <T> T deserialize(String data, Class<T> target) {
+      if (data != null) {
+        deserializations.incrementAndGet();
+      }
+      return delegate.deserialize(data, target);
+    }
+  };
+
+  @Test
+  void unreadResultsAreNotDeserialized() {
+    TaskOrchestratorResult result = execute(ctx -> {
+      // Fire-and-forget fan-out, only the last result is read.
+      ctx.callActivity("Activity", null, null, String.class);
+      ctx.callActivity("Activity", null, null, String.class);
+      ctx.complete(ctx.callActivity("Activity", null, null, String.class).await());
+    });
+
+    assertEquals(1, deserializations.get());
+    assertEquals("\"result-2\"", getOutput(result));
+  }
+
+  @Test
+  void composedResultsAreDeserialized() {
+    TaskOrchestratorResult result = execute(ctx -> {
+      Task<String> first = ctx.callActivity("Activity", null, null, String.class);
+      Task<String> second = ctx.callActivity("Activity", null, null, String.class);
+      Task<String> third = ctx.callActivity("Activity", null, null, String.class);
+      third.await();
+      ctx.complete(ctx.allOf(List.of(first, second, third)).await());
+    });
+
+    assertEquals(3, deserializations.get());
+    assertEquals("[\"result-0\",\"result-1\",\"result-2\"]", getOutput(result));
+  }
+
+  @Test
+  void deserializationFailureSurfacesWhenResultIsRead() {
+    TaskOrchestratorResult result = execute(ctx -> {
+      Task<Integer> task = ctx.callActivity("Activity", null, null, Integer.class);
+      ctx.callActivity("Activity", null, null, String.class);
+      ctx.callActivity("Activity", null, null, String.class).await();
+      try {
+        task.await();
+        ctx.complete("read");
+      } catch (DataConverter.DataConverterException e) {
+        ctx.complete("failed");
+      }
+    });
+
+    assertEquals("\"failed\"", getOutput(result));
+  }
+
+  private TaskOrchestratorResult execute(TaskOrchestration orchestration) {
+    TaskOrchestrationFactories factories = new TaskOrchestrationFactories();
+    factories.addOrchestration(new TaskOrchestrationFactory() {
+      @Override
+      public String getName() {
+        return "FanOut";
+      }
+
+      @Override
+      public TaskOrchestration create() {
+        return orchestration;
+      }
+
+      @Override
+      public String getVersionName() {
+        return null;
+      }
+
+      @Override
+      public Boolean isLatestVersion() {
+        return false;
+      }
+    });
+
+    TaskOrchestrationExecutor executor =
+        new TaskOrchestrationExecutor(factories, countingConverter, Duration.ofDays(3), logger, null);
+    return executor.execute(
+        List.of(workflowStarted(), executionStarted(),
+            taskScheduled(0), taskScheduled(1), taskScheduled(2)),
+        List.of(workflowStarted(), taskCompleted(0), taskCompleted(1), taskCompleted(2)));
+  }
+
+  private static String getOutput(TaskOrchestratorResult result) {
+    for (OrchestratorActions.WorkflowAction action : result.getActions()) {
+      if (action.hasCompleteWorkflow()) {
+        return action.getCompleteWorkflow().getResult().getValue();
+      }
+    }
+    throw new AssertionError("The orchestration did not complete");
+  }
+
+  private static Timestamp ts() {
+    return Timestamp.newBuilder().setSeconds(TEST_INSTANT.getEpochSecond()).build();
+  }
+
+  private static HistoryEvents.HistoryEvent workflowStarted() {
+    return HistoryEvents.HistoryEvent.newBuilder()
+        .setEventId(-1)
+        .setTimestamp(ts())
+        .setWorkflowStarted(HistoryEvents.WorkflowStartedEvent.newBuilder().build())
+        .build();
+  }
+
+  private static HistoryEvents.HistoryEvent executionStarted() {
+    return HistoryEvents.HistoryEvent.newBuilder()
+        .setEventId(-1)
+        .setTimestamp(ts())
+        .setExecutionStarted(HistoryEvents.ExecutionStartedEvent.newBuilder()
+            .setName("FanOut")
+            .setWorkflowInstance(Orchestration.WorkflowInstance.newBuilder().setInstanceId("instance").build())
+            .build())
+        .build();
+  }
+
+  private static HistoryEvents.HistoryEvent taskScheduled(int eventId) {
+    return HistoryEvents.HistoryEvent.newBuilder()
+        .setEventId(eventId)
+        .setTimestamp(ts())
+        .setTaskScheduled(HistoryEvents.TaskScheduledEvent.newBuilder().setName("Activity").build())
+        .build();
+  }
+
+  private static HistoryEvents.HistoryEvent taskCompleted(int taskScheduledId) {
+    return HistoryEvents.HistoryEvent.newBuilder()
+        .setEventId(-1)
+        .setTimestamp(ts())
+        .setTaskCompleted(HistoryEvents.TaskCompletedEvent.newBuilder()
+            .setTaskScheduledId(taskScheduledId)
+            .setResult(StringValue.of("\"result-" + taskScheduledId + "\""))
+            .build())
+        .build();
+  }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.durabletask;
+
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import io.dapr.durabletask.implementation.protobuf.HistoryEvents;
+import io.dapr.durabletask.implementation.protobuf.Orchestration;
+import io.dapr.durabletask.implementation.protobuf.OrchestratorService;
+import io.dapr.durabletask.implementation.protobuf.TaskHubSidecarServiceGrpc;
+import io.dapr.durabletask.orchestration.TaskOrchestrationFactories;
+import io.dapr.durabletask.orchestration.TaskOrchestrationFactory;
+import io.dapr.durabletask.runner.ActivityRunner;
+import io.dapr.durabletask.runner.OrchestratorRunner;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.export.CollectionRegistration;
+import io.opentelemetry.sdk.metrics.export.MetricReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the metrics recorded by the orchestrator and activity runners.
+ */
+class WorkerMetricsTest {
+
+  private static final Logger logger = Logger.getLogger(WorkerMetricsTest.class.getName());
+  private static final Timestamp TIMESTAMP = Timestamp.newBuilder()
+      .setSeconds(Instant.parse("2026-06-12T11:53:03Z").getEpochSecond())
+      .build();
+
+  private final CollectingMetricReader reader = new CollectingMetricReader();
+  private SdkMeterProvider meterProvider;
+  private WorkerMetrics metrics;
+  private Server server;
+  private ManagedChannel channel;
+  private TaskHubSidecarServiceGrpc.TaskHubSidecarServiceBlockingStub sidecarClient;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    meterProvider = SdkMeterProvider.builder().registerMetricReader(reader).build();
+    metrics = new WorkerMetrics(meterProvider.get(WorkerMetrics.INSTRUMENTATION_SCOPE));
+
+    String serverName = InProcessServerBuilder.generateName();
+    server = InProcessServerBuilder.forName(serverName)
+        .directExecutor()
+        .addService(new TaskHubSidecarServiceGrpc.TaskHubSidecarServiceImplBase() {
+          @Override
+          public void completeActivityTask(
+              OrchestratorService.ActivityResponse request,
+              StreamObserver<OrchestratorService.CompleteTaskResponse> responseObserver) {
+            responseObserver.onNext(OrchestratorService.CompleteTaskResponse.getDefaultInstance());
+            responseObserver.onCompleted();
+          }
+
+          @Override
+          public void completeOrchestratorTask(
+              OrchestratorService.WorkflowResponse request,
+              StreamObserver<OrchestratorService.CompleteTaskResponse> responseObserver) {
+            responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+          }
+        })
+        .build()
+        .start();
+    channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+    sidecarClient = TaskHubSidecarServiceGrpc.newBlockingStub(channel);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    channel.shutdownNow();
+    server.shutdownNow();
+    meterProvider.close();
+  }
+
+  @Test
+  void activityRunnerRecordsQueueExecutionAndCompletion() {
+    HashMap<String, TaskActivityFactory> activities = new HashMap<>();
+    activities.put("Greet", new TaskActivityFactory() {
+      @Override
+      public String getName() {
+        return "Greet";
+      }
+
+      @Override
+      public TaskActivity create() {
+        return ctx -> "Hello " + ctx.getInput(String.class);
+      }
+    });
+    OrchestratorService.WorkItem workItem = OrchestratorService.WorkItem.newBuilder()
+        .setActivityRequest(OrchestratorService.ActivityRequest.newBuilder()
+            .setName("Greet")
+            .setInput(StringValue.of("\"world\""))
+            .setWorkflowInstance(Orchestration.WorkflowInstance.newBuilder().setInstanceId("instance")))
+        .build();
+
+    new ActivityRunner(workItem, new TaskActivityExecutor(activities, new JacksonDataConverter(), logger),
+        sidecarClient, null, metrics, System.nanoTime()).run();
+
+    Attributes attributes = Attributes.of(WorkerMetrics.WORK_ITEM_TYPE, "activity", WorkerMetrics.NAME, "Greet");
+    assertEquals(1, getHistogramPoint("dapr.workflow.work_item.queue.duration", attributes).getCount());
+    assertEquals(1, getHistogramPoint("dapr.workflow.activity.execution.duration", attributes).getCount());
+    assertEquals(1, getHistogramPoint("dapr.workflow.work_item.completion.duration", attributes).getCount());
+  }
+
+  @Test
+  void orchestratorRunnerRecordsReplayHistorySizeAndFailedCompletion() {
+    TaskOrchestrationFactories factories = new TaskOrchestrationFactories();
+    factories.addOrchestration(new TaskOrchestrationFactory() {
+      @Override
+      public String getName() {
+        return "Hello";
+      }
+
+      @Override
+      public TaskOrchestration create() {
+        return ctx -> ctx.complete("done");
+      }
+
+      @Override
+      public String getVersionName() {
+        return null;
+      }
+
+      @Override
+      public Boolean isLatestVersion() {
+        return false;
+      }
+    });
+    OrchestratorService.WorkItem workItem = OrchestratorService.WorkItem.newBuilder()
+        .setWorkflowRequest(OrchestratorService.WorkflowRequest.newBuilder()
+            .setInstanceId("instance")
+            .addNewEvents(HistoryEvents.HistoryEvent.newBuilder()
+                .setEventId(-1)
+                .setTimestamp(TIMESTAMP)
+                .setWorkflowStarted(HistoryEvents.WorkflowStartedEvent.getDefaultInstance()))
+            .addNewEvents(HistoryEvents.HistoryEvent.newBuilder()
+                .setEventId(-1)
+                .setTimestamp(TIMESTAMP)
+                .setExecutionStarted(HistoryEvents.ExecutionStartedEvent.newBuilder()
+                    .setName("Hello")
+                    .setWorkflowInstance(Orchestration.WorkflowInstance.newBuilder().setInstanceId("instance")))))
+        .build();
+    TaskOrchestrationExecutor executor = new TaskOrchestrationExecutor(
+        factories, new JacksonDataConverter(), Duration.ofDays(3), logger, null);
+
+    new OrchestratorRunner(workItem, executor, sidecarClient, null, metrics, System.nanoTime()).run();
+
+    Attributes attributes = Attributes.of(WorkerMetrics.WORK_ITEM_TYPE, "orchestration", WorkerMetrics.NAME, "Hello");
+    assertEquals(1, getHistogramPoint("dapr.workflow.work_item.queue.duration", attributes).getCount());
+    assertEquals(1, getHistogramPoint("dapr.workflow.orchestration.replay.duration", attributes).getCount());
+    assertEquals(2.0, getHistogramPoint("dapr.workflow.orchestration.history.size", attributes).getSum());
+    Attributes failed = attributes.toBuilder().put(WorkerMetrics.ERROR_TYPE, "UNAVAILABLE").build();
+    assertEquals(1, getHistogramPoint("dapr.workflow.work_item.completion.duration", failed).getCount());
+  }
+
+  private HistogramPointData getHistogramPoint(String metricName, Attributes attributes) {
+    for (MetricData metric : reader.collect()) {
+      if (metric.getName().equals(metricName)) {
+        for (HistogramPointData point : metric.getHistogramData().getPoints()) {
+          if (point.getAttributes().equals(attributes)) {
+            return point;
+          }
+        }
+      }
+    }
+    throw new AssertionError("No " + metricName + " point with attributes " + attributes);
+  }
+
+  private static final class CollectingMetricReader implements MetricReader {
+    private CollectionRegistration registration = CollectionRegistration.noop();
+
+    @Override
+    public void register(CollectionRegistration registration) {
+      this.registration = registration;
+    }
+
+    Collection<MetricData> collect() {
+      return registration.collectAllMetrics();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public AggregationTemporality getAggregationTemporality(InstrumentType instrumentType) {
+      return AggregationTemporality.CUMULATIVE;
+    }
+  }
+}
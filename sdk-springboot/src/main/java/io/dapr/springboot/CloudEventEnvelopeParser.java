@@ -0,0 +1,373 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.springboot;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.protobuf.ByteString;
+import io.dapr.client.domain.BulkSubscribeMessage;
+import io.dapr.client.domain.BulkSubscribeMessageEntry;
+import io.dapr.client.domain.CloudEvent;
+import io.dapr.client.domain.LazyCloudEvent;
+import io.dapr.serializer.DaprObjectSerializer;
+import io.dapr.utils.TypeRef;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Parses CloudEvents pushed by Dapr's sidecar with a streaming JSON parser.
+ *
+ * <p>Only the envelope attributes are materialized. The {@code data} attribute is skipped and kept as raw JSON,
+ * so it is only deserialized if the subscriber calls {@link CloudEvent#getData()}.</p>
+ */
+public final class CloudEventEnvelopeParser {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final DaprObjectSerializer serializer;
+
+  /**
+   * Instantiates a CloudEventEnvelopeParser.
+   *
+   * @param serializer Serializer used to deserialize the data of each event, when accessed.
+   */
+  public CloudEventEnvelopeParser(DaprObjectSerializer serializer) {
+    if (serializer == null) {
+      throw new IllegalArgumentException("Serializer is required");
+    }
+
+    this.serializer = serializer;
+  }
+
+  /**
+   * Parses a single CloudEvent.
+   *
+   * @param payload  Request body sent by Dapr.
+   * @param dataType Type of the event's data.
+   * @param <T>      Type of the event's data.
+   * @return CloudEvent with lazily deserialized data, or null if the payload is empty.
+   * @throws IOException If the envelope cannot be parsed.
+   */
+  public <T> CloudEvent<T> parse(byte[] payload, TypeRef<T> dataType) throws IOException {
+    if (payload == null || payload.length == 0) {
+      return null;
+    }
+
+    try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("CloudEvent must be a JSON object");
+      }
+
+      return readEvent(parser, payload, dataType);
+    }
+  }
+
+  /**
+   * Parses a bulk message whose entries are CloudEvents.
+   *
+   * @param payload  Request body sent by Dapr.
+   * @param dataType Type of the data of each event.
+   * @param <T>      Type of the data of each event.
+   * @return Bulk message with lazily deserialized event data, or null if the payload is empty.
+   * @throws IOException If the bulk message cannot be parsed.
+   */
+  public <T> BulkSubscribeMessage<CloudEvent<T>> parseBulk(byte[] payload, TypeRef<T> dataType) throws IOException {
+    return parseBulk(payload, dataType, null);
+  }
+
+  /**
+   * Parses a bulk message whose entries are CloudEvents, reporting entries with an invalid event instead of failing.
+   *
+   * <p>An entry is invalid if its event is well-formed JSON but one of its attributes cannot be read, e.g. a
+   * {@code time} that is not a timestamp. Invalid entries are kept in the message, without an event, and are
+   * passed to {@code invalidEntryHandler}. The whole message still fails if it is not well-formed JSON.</p>
+   *
+   * @param payload             Request body sent by Dapr.
+   * @param dataType            Type of the data of each event.
+   * @param invalidEntryHandler Handler for invalid entries, null to fail the whole message instead.
+   * @param <T>                 Type of the data of each event.
+   * @return Bulk message with lazily deserialized event data, or null if the payload is empty.
+   * @throws IOException If the bulk message cannot be parsed.
+   */
+  public <T> BulkSubscribeMessage<CloudEvent<T>> parseBulk(
+      byte[] payload,
+      TypeRef<T> dataType,
+      BiConsumer<BulkSubscribeMessageEntry<CloudEvent<T>>, IOException> invalidEntryHandler) throws IOException {
+    if (payload == null || payload.length == 0) {
+      return null;
+    }
+
+    try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("Bulk message must be a JSON object");
+      }
+
+      List<BulkSubscribeMessageEntry<CloudEvent<T>>> entries = new ArrayList<>();
+      String topic = null;
+      Map<String, String> metadata = Collections.emptyMap();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken token = parser.nextToken();
+        switch (field) {
+          case "entries":
+            if (token == JsonToken.START_ARRAY) {
+              while (parser.nextToken() == JsonToken.START_OBJECT) {
+                entries.add(readEntry(parser, payload, dataType, invalidEntryHandler));
+              }
+            } else {
+              parser.skipChildren();
+            }
+            break;
+          case "topic":
+            topic = readString(parser, token);
+            break;
+          case "metadata":
+            metadata = readStringMap(parser, token);
+            break;
+          default:
+            parser.skipChildren();
+        }
+      }
+
+      return new BulkSubscribeMessage<>(entries, topic, metadata);
+    }
+  }
+
+  private <T> BulkSubscribeMessageEntry<CloudEvent<T>> readEntry(
+      JsonParser parser,
+      byte[] payload,
+      TypeRef<T> dataType,
+      BiConsumer<BulkSubscribeMessageEntry<CloudEvent<T>>, IOException> invalidEntryHandler) throws IOException {
+    String entryId = null;
+    String contentType = null;
+    Map<String, String> metadata = null;
+    CloudEvent<T> event = null;
+    InvalidEventException invalidEvent = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken token = parser.nextToken();
+      switch (field) {
+        case "entryId":
+          entryId = readString(parser, token);
+          break;
+        case "contentType":
+          contentType = readString(parser, token);
+          break;
+        case "metadata":
+          metadata = readStringMap(parser, token);
+          break;
+        case "event":
+          if (token == JsonToken.START_OBJECT) {
+            try {
+              event = readEvent(parser, payload, dataType);
+            } catch (InvalidEventException e) {
+              if (invalidEntryHandler == null) {
+                throw e;
+              }
+
+              invalidEvent = e;
+            }
+          } else if (token != JsonToken.VALUE_NULL) {
+            // Raw payloads are not wrapped by the sidecar, so the entry's value is the data itself.
+            event = new LazyCloudEvent<>(readRawValue(parser, payload), decoderFor(dataType));
+          }
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+
+    if (event != null && event.getDatacontenttype() == null) {
+      event.setDatacontenttype(contentType);
+    }
+
+    BulkSubscribeMessageEntry<CloudEvent<T>> entry =
+        new BulkSubscribeMessageEntry<>(entryId, event, contentType, metadata);
+    if (invalidEvent != null) {
+      invalidEntryHandler.accept(entry, invalidEvent);
+    }
+
+    return entry;
+  }
+
+  private <T> CloudEvent<T> readEvent(JsonParser parser, byte[] payload, TypeRef<T> dataType) throws IOException {
+    ByteString rawData = null;
+    byte[] binaryData = null;
+    InvalidEventException invalid = null;
+    CloudEvent<T> event = new CloudEvent<>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      JsonToken token = parser.nextToken();
+      switch (field) {
+        case "id":
+          event.setId(readString(parser, token));
+          break;
+        case "source":
+          event.setSource(readString(parser, token));
+          break;
+        case "type":
+          event.setType(readString(parser, token));
+          break;
+        case "specversion":
+          event.setSpecversion(readString(parser, token));
+          break;
+        case "datacontenttype":
+          event.setDatacontenttype(readString(parser, token));
+          break;
+        case "pubsubname":
+          event.setPubsubName(readString(parser, token));
+          break;
+        case "topic":
+          event.setTopic(readString(parser, token));
+          break;
+        case "time":
+          String time = readString(parser, token);
+          try {
+            event.setTime(time == null ? null : OffsetDateTime.parse(time));
+          } catch (DateTimeParseException e) {
+            invalid = new InvalidEventException("Invalid CloudEvent time: " + time, e);
+          }
+          break;
+        case "traceid":
+          event.setTraceId(readString(parser, token));
+          break;
+        case "traceparent":
+          event.setTraceParent(readString(parser, token));
+          break;
+        case "tracestate":
+          event.setTraceState(readString(parser, token));
+          break;
+        case "data_base64":
+          if (token == JsonToken.VALUE_NULL) {
+            binaryData = null;
+          } else if (token != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            invalid = new InvalidEventException("CloudEvent data_base64 must be a string", null);
+          } else {
+            // Read the whole string first, so the parser can move on if it is not valid base64.
+            parser.finishToken();
+            try {
+              binaryData = parser.getBinaryValue();
+            } catch (JsonParseException e) {
+              invalid = new InvalidEventException("Invalid CloudEvent data_base64", e);
+            }
+          }
+          break;
+        case "data":
+          rawData = token == JsonToken.VALUE_NULL ? null : readRawValue(parser, payload);
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+
+    if (invalid != null) {
+      // The whole event was read, so the caller can carry on with the rest of the payload.
+      throw invalid;
+    }
+
+    event.setBinaryData(binaryData);
+    if (rawData == null) {
+      return event;
+    }
+
+    // The data attribute can appear anywhere in the envelope, so the lazy event is only built at the end.
+    CloudEvent<T> lazyEvent = new LazyCloudEvent<>(rawData, decoderFor(dataType));
+    lazyEvent.setId(event.getId());
+    lazyEvent.setSource(event.getSource());
+    lazyEvent.setType(event.getType());
+    lazyEvent.setSpecversion(event.getSpecversion());
+    lazyEvent.setDatacontenttype(event.getDatacontenttype());
+    lazyEvent.setPubsubName(event.getPubsubName());
+    lazyEvent.setTopic(event.getTopic());
+    lazyEvent.setTime(event.getTime());
+    lazyEvent.setTraceId(event.getTraceId());
+    lazyEvent.setTraceParent(event.getTraceParent());
+    lazyEvent.setTraceState(event.getTraceState());
+    lazyEvent.setBinaryData(event.getBinaryData());
+    return lazyEvent;
+  }
+
+  private <T> LazyCloudEvent.Decoder<T> decoderFor(TypeRef<T> dataType) {
+    if (dataType == null) {
+      return null;
+    }
+
+    return data -> serializer.deserialize(data.toByteArray(), dataType);
+  }
+
+  /**
+   * Captures the JSON value at the current token as raw bytes, skipping over its content.
+   */
+  private static ByteString readRawValue(JsonParser parser, byte[] payload) throws IOException {
+    int start = (int) parser.currentTokenLocation().getByteOffset();
+    if (parser.currentToken() == JsonToken.VALUE_STRING) {
+      // Strings are decoded lazily by the parser, make sure the closing quote was consumed.
+      parser.finishToken();
+    } else {
+      parser.skipChildren();
+    }
+
+    int end = (int) parser.currentLocation().getByteOffset();
+    return ByteString.copyFrom(payload, start, end - start);
+  }
+
+  private static String readString(JsonParser parser, JsonToken token) throws IOException {
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+
+    if (token.isStructStart()) {
+      parser.skipChildren();
+      return null;
+    }
+
+    return parser.getText();
+  }
+
+  private static Map<String, String> readStringMap(JsonParser parser, JsonToken token) throws IOException {
+    if (token != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return new HashMap<>();
+    }
+
+    Map<String, String> result = new HashMap<>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String key = parser.currentName();
+      result.put(key, readString(parser, parser.nextToken()));
+    }
+
+    return result;
+  }
+
+  /**
+   * Thrown once an event was fully read but one of its attributes is invalid.
+   */
+  private static final class InvalidEventException extends IOException {
+
+    private InvalidEventException(String message, Throwable cause) {
+      super(message, cause);
+    }
+  }
+}
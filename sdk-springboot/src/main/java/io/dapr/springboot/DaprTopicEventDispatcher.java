@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.springboot;
+
+import io.dapr.client.domain.BulkSubscribeAppResponse;
+import io.dapr.client.domain.BulkSubscribeAppResponseEntry;
+import io.dapr.client.domain.BulkSubscribeAppResponseStatus;
+import io.dapr.client.domain.BulkSubscribeMessage;
+import io.dapr.client.domain.BulkSubscribeMessageEntry;
+import io.dapr.client.domain.CloudEvent;
+import io.dapr.exceptions.DaprException;
+import io.dapr.serializer.DaprObjectSerializer;
+import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.utils.TypeRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Dispatches events pushed by Dapr's sidecar over HTTP to application handlers.
+ *
+ * <p>This is an alternative to binding the request body to a {@link CloudEvent} in a {@code @Topic} method.
+ * The raw request body is handed to the dispatcher, which parses the envelope with
+ * {@link CloudEventEnvelopeParser} (the data is only deserialized when accessed) and, for bulk subscriptions,
+ * processes entries in parallel with a bounded concurrency. For example:</p>
+ * <pre>{@code
+ * @BulkSubscribe
+ * @Topic(name = "orders", pubsubName = "pubsub")
+ * @PostMapping(path = "/orders")
+ * public Mono<BulkSubscribeAppResponse> orders(@RequestBody byte[] body) {
+ *   return dispatcher.dispatchBulk(body, TypeRef.get(Order.class), entry -> process(entry.getEvent()));
+ * }
+ * }</pre>
+ *
+ * <p>Handlers are subscribed on the caller's thread unless a {@link Scheduler} is provided, which is
+ * recommended for handlers that block (e.g. a scheduler backed by virtual threads).</p>
+ */
+public final class DaprTopicEventDispatcher {
+
+  /**
+   * Default maximum number of bulk entries being handled at the same time.
+   */
+  public static final int DEFAULT_MAX_CONCURRENCY = Runtime.getRuntime().availableProcessors();
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DaprTopicEventDispatcher.class);
+
+  private final CloudEventEnvelopeParser parser;
+
+  private final int maxConcurrency;
+
+  private final Scheduler scheduler;
+
+  /**
+   * Instantiates a DaprTopicEventDispatcher with Dapr's default serializer and concurrency.
+   */
+  public DaprTopicEventDispatcher() {
+    this(new DefaultObjectSerializer(), DEFAULT_MAX_CONCURRENCY, null);
+  }
+
+  /**
+   * Instantiates a DaprTopicEventDispatcher.
+   *
+   * @param serializer     Serializer used to deserialize the data of each event.
+   * @param maxConcurrency Maximum number of bulk entries being handled at the same time.
+   * @param scheduler      Scheduler to run handlers on, null to run them on the caller's thread.
+   */
+  public DaprTopicEventDispatcher(DaprObjectSerializer serializer, int maxConcurrency, Scheduler scheduler) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be greater than 0");
+    }
+
+    this.parser = new CloudEventEnvelopeParser(serializer);
+    this.maxConcurrency = maxConcurrency;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Parses a single event and hands it to the handler.
+   *
+   * <p>The event is reported with {@link BulkSubscribeAppResponseStatus#DROP} if its data cannot be deserialized,
+   * since redelivering it would fail the same way. The controller can return it to Dapr as is, for example:</p>
+   * <pre>{@code
+   * return dispatcher.dispatch(body, TypeRef.get(Order.class), this::process)
+   *     .map(status -> Map.of("status", status.name()));
+   * }</pre>
+   *
+   * @param body     Raw request body sent by Dapr.
+   * @param dataType Type of the event's data.
+   * @param handler  Handler for the event.
+   * @param <T>      Type of the event's data.
+   * @return Status of the event once the handler completes, or the handler's error.
+   */
+  public <T> Mono<BulkSubscribeAppResponseStatus> dispatch(
+      byte[] body, TypeRef<T> dataType, Function<CloudEvent<T>, Mono<Void>> handler) {
+    Mono<BulkSubscribeAppResponseStatus> result = Mono.defer(() -> {
+      CloudEvent<T> event;
+      try {
+        event = parser.parse(body, dataType);
+      } catch (Exception e) {
+        return Mono.error(e);
+      }
+
+      if (event == null) {
+        return Mono.just(BulkSubscribeAppResponseStatus.SUCCESS);
+      }
+
+      return Mono.defer(() -> handler.apply(event))
+          .then(Mono.just(BulkSubscribeAppResponseStatus.SUCCESS))
+          .onErrorResume(DaprTopicEventDispatcher::isMalformedData, e -> {
+            LOGGER.warn("Dropping event {} whose data cannot be deserialized", event.getId(), e);
+            return Mono.just(BulkSubscribeAppResponseStatus.DROP);
+          });
+    });
+
+    return scheduler == null ? result : result.subscribeOn(scheduler);
+  }
+
+  /**
+   * Parses a bulk message and hands its entries to the handler, at most {@code maxConcurrency} at a time.
+   *
+   * <p>Entries whose handler fails are reported with {@link BulkSubscribeAppResponseStatus#RETRY}, entries
+   * whose handler completes empty are reported with {@link BulkSubscribeAppResponseStatus#SUCCESS}. Entries that
+   * would fail the same way on redelivery, because their event or its data cannot be read, are reported with
+   * {@link BulkSubscribeAppResponseStatus#DROP}.</p>
+   *
+   * @param body     Raw request body sent by Dapr.
+   * @param dataType Type of the data of each event.
+   * @param handler  Handler for each entry.
+   * @param <T>      Type of the data of each event.
+   * @return Status for each entry of the bulk message.
+   */
+  public <T> Mono<BulkSubscribeAppResponse> dispatchBulk(
+      byte[] body,
+      TypeRef<T> dataType,
+      Function<BulkSubscribeMessageEntry<CloudEvent<T>>, Mono<BulkSubscribeAppResponseStatus>> handler) {
+    return Mono.defer(() -> {
+      Set<BulkSubscribeMessageEntry<CloudEvent<T>>> invalidEntries =
+          Collections.newSetFromMap(new IdentityHashMap<>());
+      BulkSubscribeMessage<CloudEvent<T>> message;
+      try {
+        message = parser.parseBulk(body, dataType, (entry, e) -> {
+          LOGGER.warn("Dropping bulk entry {} whose event cannot be parsed", entry.getEntryId(), e);
+          invalidEntries.add(entry);
+        });
+      } catch (Exception e) {
+        return Mono.error(e);
+      }
+
+      if (message == null || message.getEntries().isEmpty()) {
+        return Mono.just(new BulkSubscribeAppResponse(Collections.emptyList()));
+      }
+
+      return Flux.fromIterable(message.getEntries())
+          .flatMapSequential(entry -> invalidEntries.contains(entry)
+              ? Mono.just(new BulkSubscribeAppResponseEntry(entry.getEntryId(), BulkSubscribeAppResponseStatus.DROP))
+              : handleEntry(entry, handler), maxConcurrency)
+          .collectList()
+          .map(BulkSubscribeAppResponse::new);
+    });
+  }
+
+  private <T> Mono<BulkSubscribeAppResponseEntry> handleEntry(
+      BulkSubscribeMessageEntry<CloudEvent<T>> entry,
+      Function<BulkSubscribeMessageEntry<CloudEvent<T>>, Mono<BulkSubscribeAppResponseStatus>> handler) {
+    Mono<BulkSubscribeAppResponseStatus> status = Mono.defer(() -> handler.apply(entry))
+        .defaultIfEmpty(BulkSubscribeAppResponseStatus.SUCCESS)
+        .onErrorResume(e -> {
+          if (isMalformedData(e)) {
+            LOGGER.warn("Dropping bulk entry {} whose data cannot be deserialized", entry.getEntryId(), e);
+            return Mono.just(BulkSubscribeAppResponseStatus.DROP);
+          }
+
+          LOGGER.warn("Failed to handle bulk entry {}, requesting retry", entry.getEntryId(), e);
+          return Mono.just(BulkSubscribeAppResponseStatus.RETRY);
+        });
+    if (scheduler != null) {
+      status = status.subscribeOn(scheduler);
+    }
+
+    return status.map(s -> new BulkSubscribeAppResponseEntry(entry.getEntryId(), s));
+  }
+
+  private static boolean isMalformedData(Throwable e) {
+    return e instanceof DaprException && "DESERIALIZATION_ERROR".equals(((DaprException) e).getErrorCode());
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.dapr.springboot;
+
+import io.dapr.client.domain.BulkSubscribeMessage;
+import io.dapr.client.domain.BulkSubscribeMessageEntry;
+import io.dapr.client.domain.CloudEvent;
+import io.dapr.client.domain.LazyCloudEvent;
+import io.dapr.exceptions.DaprException;
+import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.utils.TypeRef;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class CloudEventEnvelopeParserTest {
+
+  private static final CloudEventEnvelopeParser PARSER = new CloudEventEnvelopeParser(new DefaultObjectSerializer());
+
+  private static final TypeRef<Map<String, Object>> MAP_TYPE = new TypeRef<Map<String, Object>>() {};
+
+  @Test
+  public void parsesEnvelopeWithoutDecodingData() throws Exception {
+    String json = "{\"specversion\":\"1.0\",\"type\":\"com.example.order\",\"source\":\"orders\","
+        + "\"data\":{\"id\":1,\"items\":[{\"sku\":\"a\"},{\"sku\":\"b\"}]},"
+        + "\"id\":\"A234\",\"time\":\"2018-04-05T17:31:00Z\",\"datacontenttype\":\"application/json\","
+        + "\"pubsubname\":\"mypubsub\",\"topic\":\"mytopic\",\"traceparent\":\"00-abc\",\"tracestate\":\"\","
+        + "\"unknown\":{\"nested\":[1,2,3]}}";
+
+    CloudEvent<Map<String, Object>> event = PARSER.parse(json.getBytes(StandardCharsets.UTF_8), MAP_TYPE);
+
+    Assertions.assertEquals("A234", event.getId());
+    Assertions.assertEquals("com.example.order", event.getType());
+    Assertions.assertEquals("orders", event.getSource());
+    Assertions.assertEquals("1.0", event.getSpecversion());
+    Assertions.assertEquals("application/json", event.getDatacontenttype());
+    Assertions.assertEquals("mypubsub", event.getPubsubName());
+    Assertions.assertEquals("mytopic", event.getTopic());
+    Assertions.assertEquals("00-abc", event.getTraceParent());
+    Assertions.assertEquals("", event.getTraceState());
+    Assertions.assertTrue(OffsetDateTime.parse("2018-04-05T17:31:00Z").isEqual(event.getTime()));
+    Assertions.assertFalse(((LazyCloudEvent<?>) event).isDataDecoded());
+    Assertions.assertEquals("{\"id\":1,\"items\":[{\"sku\":\"a\"},{\"sku\":\"b\"}]}",
+        ((LazyCloudEvent<?>) event).getRawData().toStringUtf8());
+
+    Assertions.assertEquals(1, event.getData().get("id"));
+  }
+
+  @Test
+  public void parsesStringData() throws Exception {
+    String json = "{\"id\":\"1\",\"data\":\"hello \\\"world\\\"\",\"topic\":\"t\"}";
+
+    CloudEvent<String> event = PARSER.parse(json.getBytes(StandardCharsets.UTF_8), TypeRef.STRING);
+
+    Assertions.assertEquals("t", event.getTopic());
+    Assertions.assertEquals("hello \"world\"", event.getData());
+  }
+
+  @Test
+  public void parsesBinaryData() throws Exception {
+    String json = "{\"id\":\"1\",\"data_base64\":\"AQID\"}";
+
+    CloudEvent<byte[]> event = PARSER.parse(json.getBytes(StandardCharsets.UTF_8), TypeRef.BYTE_ARRAY);
+
+    Assertions.assertArrayEquals(new byte[] {1, 2, 3}, event.getBinaryData());
+    Assertions.assertNull(event.getData());
+  }
+
+  @Test
+  public void malformedDataIsOnlyReportedOnAccess() throws Exception {
+    String json = "{\"id\":\"1\",\"type\":\"skip.me\",\"data\":{\"id\":\"not-a-number\"}}";
+
+    CloudEvent<Map<String, Integer>> event = PARSER.parse(json.getBytes(StandardCharsets.UTF_8),
+        new TypeRef<Map<String, Integer>>() {});
+
+    Assertions.assertEquals("skip.me", event.getType());
+    Assertions.assertThrows(DaprException.class, event::getData);
+  }
+
+  @Test
+  public void emptyPayload() throws Exception {
+    Assertions.assertNull(PARSER.parse(new byte[0], TypeRef.STRING));
+    Assertions.assertNull(PARSER.parseBulk(null, TypeRef.STRING));
+    Assertions.assertThrows(IOException.class, () -> PARSER.parse("[]".getBytes(StandardCharsets.UTF_8), TypeRef.STRING));
+  }
+
+  @Test
+  public void parsesBulkMessage() throws Exception {
+    String json = "{\"id\":\"bulk-1\",\"topic\":\"mytopic\",\"pubsubname\":\"mypubsub\","
+        + "\"metadata\":{\"key\":\"value\"},\"entries\":["
+        + "{\"entryId\":\"1\",\"contentType\":\"application/cloudevents+json\","
+        + "\"event\":{\"id\":\"e1\",\"type\":\"t1\",\"data\":\"first\"},\"metadata\":{\"m\":\"1\"}},"
+        + "{\"entryId\":\"2\",\"contentType\":\"text/plain\",\"event\":\"second\"}"
+        + "]}";
+
+    BulkSubscribeMessage<CloudEvent<String>> message =
+        PARSER.parseBulk(json.getBytes(StandardCharsets.UTF_8), TypeRef.STRING);
+
+    Assertions.assertEquals("mytopic", message.getTopic());
+    Assertions.assertEquals("value", message.getMetadata().get("key"));
+    Assertions.assertEquals(2, message.getEntries().size());
+
+    BulkSubscribeMessageEntry<CloudEvent<String>> first = message.getEntries().get(0);
+    Assertions.assertEquals("1", first.getEntryId());
+    Assertions.assertEquals("application/cloudevents+json", first.getContentType());
+    Assertions.assertEquals("1", first.getMetadata().get("m"));
+    Assertions.assertEquals("e1", first.getEvent().getId());
+    Assertions.assertEquals("first", first.getEvent().getData());
+
+    BulkSubscribeMessageEntry<CloudEvent<String>> second = message.getEntries().get(1);
+    Assertions.assertEquals("2", second.getEntryId());
+    Assertions.assertEquals("text/plain", second.getEvent().getDatacontenttype());
+    Assertions.assertEquals("second", second.getEvent().getData());
+  }
+
+  @Test
+  public void parseBulkReportsInvalidEntries() throws Exception {
+    String json = "{\"entries\":["
+        + "{\"entryId\":\"1\",\"event\":{\"id\":\"e1\",\"time\":\"yesterday\",\"data\":\"first\"}},"
+        + "{\"entryId\":\"2\",\"event\":{\"id\":\"e2\",\"data_base64\":\"not base64!\"}},"
+        + "{\"entryId\":\"3\",\"event\":{\"id\":\"e3\",\"data\":\"third\"}}"
+        + "]}";
+    byte[] payload = json.getBytes(StandardCharsets.UTF_8);
+    List<String> invalid = new ArrayList<>();
+
+    BulkSubscribeMessage<CloudEvent<String>> message =
+        PARSER.parseBulk(payload, TypeRef.STRING, (entry, e) -> invalid.add(entry.getEntryId()));
+
+    Assertions.assertEquals(List.of("1", "2"), invalid);
+    Assertions.assertEquals(3, message.getEntries().size());
+    Assertions.assertNull(message.getEntries().get(0).getEvent());
+    Assertions.assertEquals("third", message.getEntries().get(2).getEvent().getData());
+    Assertions.assertThrows(IOException.class, () -> PARSER.parseBulk(payload, TypeRef.STRING));
+  }
+}
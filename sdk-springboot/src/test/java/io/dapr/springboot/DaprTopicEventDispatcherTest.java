@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.dapr.springboot;
+
+import io.dapr.client.domain.BulkSubscribeAppResponse;
+import io.dapr.client.domain.BulkSubscribeAppResponseEntry;
+import io.dapr.client.domain.BulkSubscribeAppResponseStatus;
+import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.utils.TypeRef;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+public class DaprTopicEventDispatcherTest {
+
+  @Test
+  public void dispatchSingleEvent() {
+    DaprTopicEventDispatcher dispatcher = new DaprTopicEventDispatcher();
+    AtomicReference<String> received = new AtomicReference<>();
+
+    dispatcher.dispatch("{\"id\":\"1\",\"data\":\"hello\"}".getBytes(StandardCharsets.UTF_8), TypeRef.STRING,
+        event -> Mono.fromRunnable(() -> received.set(event.getData()))).block();
+
+    Assertions.assertEquals("hello", received.get());
+  }
+
+  @Test
+  public void dispatchMalformedDataIsDropped() {
+    DaprTopicEventDispatcher dispatcher = new DaprTopicEventDispatcher();
+
+    BulkSubscribeAppResponseStatus status = dispatcher.dispatch(
+        "{\"id\":\"1\",\"data\":{\"not\":\"a number\"}}".getBytes(StandardCharsets.UTF_8), TypeRef.INT,
+        event -> Mono.fromRunnable(event::getData)).block();
+
+    Assertions.assertEquals(BulkSubscribeAppResponseStatus.DROP, status);
+  }
+
+  @Test
+  public void dispatchInvalidEnvelopeFails() {
+    DaprTopicEventDispatcher dispatcher = new DaprTopicEventDispatcher();
+
+    Assertions.assertThrows(Exception.class, () -> dispatcher.dispatch(
+        "not json".getBytes(StandardCharsets.UTF_8), TypeRef.STRING, event -> Mono.empty()).block());
+  }
+
+  @Test
+  public void dispatchBulkKeepsEntryOrderAndBoundsConcurrency() {
+    DaprTopicEventDispatcher dispatcher = new DaprTopicEventDispatcher(
+        new DefaultObjectSerializer(), 2, Schedulers.boundedElastic());
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+
+    BulkSubscribeAppResponse response = dispatcher.dispatchBulk(bulkMessage(8), TypeRef.STRING,
+        entry -> Mono.fromCallable(() -> {
+          int current = inFlight.incrementAndGet();
+          maxInFlight.accumulateAndGet(current, Math::max);
+          Thread.sleep(20);
+          inFlight.decrementAndGet();
+          if (entry.getEvent().getData().equals("data-3")) {
+            throw new IllegalStateException("boom");
+          }
+          if (entry.getEvent().getData().equals("data-5")) {
+            return BulkSubscribeAppResponseStatus.DROP;
+          }
+          return BulkSubscribeAppResponseStatus.SUCCESS;
+        })).block(Duration.ofSeconds(10));
+
+    List<String> ids = response.getStatuses().stream()
+        .map(BulkSubscribeAppResponseEntry::getEntryId)
+        .collect(Collectors.toList());
+    Assertions.assertEquals(List.of("0", "1", "2", "3", "4", "5", "6", "7"), ids);
+    Assertions.assertEquals(BulkSubscribeAppResponseStatus.RETRY, response.getStatuses().get(3).getStatus());
+    Assertions.assertEquals(BulkSubscribeAppResponseStatus.DROP, response.getStatuses().get(5).getStatus());
+    Assertions.assertEquals(BulkSubscribeAppResponseStatus.SUCCESS, response.getStatuses().get(0).getStatus());
+    Assertions.assertTrue(maxInFlight.get() <= 2);
+  }
+
+  @Test
+  public void dispatchBulkDropsMalformedEntries() {
+    DaprTopicEventDispatcher dispatcher = new DaprTopicEventDispatcher();
+    String json = "{\"entries\":["
+        + "{\"entryId\":\"0\",\"event\":{\"id\":\"e0\",\"data\":1}},"
+        + "{\"entryId\":\"1\",\"event\":{\"id\":\"e1\",\"data\":\"one\"}},"
+        + "{\"entryId\":\"2\",\"event\":{\"id\":\"e2\",\"time\":\"yesterday\",\"data\":2}}"
+        + "]}";
+    AtomicInteger handled = new AtomicInteger();
+
+    BulkSubscribeAppResponse response = dispatcher.dispatchBulk(json.getBytes(StandardCharsets.UTF_8), TypeRef.INT,
+        entry -> Mono.fromCallable(() -> {
+          handled.incrementAndGet();
+          return entry.getEvent().getData() > 0
+              ? BulkSubscribeAppResponseStatus.SUCCESS
+              : BulkSubscribeAppResponseStatus.RETRY;
+        })).block();
+
+    List<BulkSubscribeAppResponseStatus> statuses = response.getStatuses().stream()
+        .map(BulkSubscribeAppResponseEntry::getStatus)
+        .collect(Collectors.toList());
+    Assertions.assertEquals(List.of(BulkSubscribeAppResponseStatus.SUCCESS, BulkSubscribeAppResponseStatus.DROP,
+        BulkSubscribeAppResponseStatus.DROP), statuses);
+    Assertions.assertEquals(2, handled.get());
+  }
+
+  @Test
+  public void dispatchBulkEmptyHandlerResultIsSuccess() {
+    DaprTopicEventDispatcher dispatcher = new DaprTopicEventDispatcher();
+
+    BulkSubscribeAppResponse response = dispatcher.dispatchBulk(bulkMessage(1), TypeRef.STRING,
+        entry -> Mono.empty()).block();
+
+    Assertions.assertEquals(BulkSubscribeAppResponseStatus.SUCCESS, response.getStatuses().get(0).getStatus());
+  }
+
+  @Test
+  public void dispatchBulkWithoutEntries() {
+    DaprTopicEventDispatcher dispatcher = new DaprTopicEventDispatcher();
+
+    BulkSubscribeAppResponse response = dispatcher.dispatchBulk("{\"entries\":[]}".getBytes(StandardCharsets.UTF_8),
+        TypeRef.STRING, entry -> Mono.empty()).block();
+
+    Assertions.assertTrue(response.getStatuses().isEmpty());
+  }
+
+  @Test
+  public void invalidConcurrency() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new DaprTopicEventDispatcher(new DefaultObjectSerializer(), 0, null));
+  }
+
+  private static byte[] bulkMessage(int count) {
+    StringBuilder json = new StringBuilder("{\"topic\":\"mytopic\",\"entries\":[");
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("{\"entryId\":\"").append(i).append("\",\"contentType\":\"application/cloudevents+json\",")
+          .append("\"event\":{\"id\":\"event-").append(i).append("\",\"data\":\"data-").append(i).append("\"}}");
+    }
+    return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+  }
+}
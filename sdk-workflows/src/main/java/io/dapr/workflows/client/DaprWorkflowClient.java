@@ -14,8 +14,10 @@ limitations under the License.
 package io.dapr.workflows.client;
 
 import io.dapr.config.Properties;
+import io.dapr.durabletask.DataConverter;
 import io.dapr.durabletask.DurableTaskClient;
 import io.dapr.durabletask.DurableTaskGrpcClientBuilder;
+import io.dapr.durabletask.InstanceIdPage;
 import io.dapr.durabletask.NewOrchestrationInstanceOptions;
 import io.dapr.durabletask.OrchestrationMetadata;
 import io.dapr.durabletask.PurgeResult;
@@ -29,12 +31,17 @@ import io.grpc.ManagedChannel;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.opentelemetry.api.trace.Tracer;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.Nullable;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -42,6 +49,11 @@ import java.util.function.Supplier;
  */
 public class DaprWorkflowClient implements AutoCloseable {
 
+  /**
+   * Default maximum number of schedule requests in flight when scheduling workflows in bulk.
+   */
+  public static final int DEFAULT_BULK_SCHEDULE_CONCURRENCY = 64;
+
   private ClientInterceptor workflowApiTokenInterceptor;
   private DurableTaskClient innerClient;
   private ManagedChannel grpcChannel;
@@ -75,7 +87,24 @@ public class DaprWorkflowClient implements AutoCloseable {
    *                   and this constructor behaves exactly like {@link #DaprWorkflowClient(Properties)}.
    */
   public DaprWorkflowClient(Properties properties, @Nullable Tracer tracer) {
-    this(NetworkUtils.buildGrpcManagedChannel(properties, new ApiTokenClientInterceptor(properties)), tracer);
+    this(properties, tracer, null);
+  }
+
+  /**
+   * Public constructor for DaprWorkflowClient. This layer constructs the GRPC Channel.
+   *
+   * <p>The {@link DataConverter} serializes workflow inputs and events, and deserializes workflow outputs, for
+   * example a {@link io.dapr.durabletask.ClaimCheckDataConverter} that offloads large payloads. It must match the
+   * converter of the workflow runtime.
+   *
+   * @param properties    Properties for the GRPC Channel.
+   * @param tracer        OpenTelemetry Tracer used to emit and propagate trace context when
+   *                      scheduling workflows. May be null, in which case tracing is disabled.
+   * @param dataConverter converter of workflow payloads. May be null, in which case payloads are converted to JSON.
+   */
+  public DaprWorkflowClient(Properties properties, @Nullable Tracer tracer, @Nullable DataConverter dataConverter) {
+    this(NetworkUtils.buildGrpcManagedChannel(properties, new ApiTokenClientInterceptor(properties)), tracer,
+        dataConverter);
   }
 
   /**
@@ -87,17 +116,19 @@ public class DaprWorkflowClient implements AutoCloseable {
    * @param additionalInterceptors extra interceptors appended after the API-token interceptor.
    */
   protected DaprWorkflowClient(Properties properties, ClientInterceptor... additionalInterceptors) {
-    this(buildChannelWithAdditional(properties, additionalInterceptors), null);
+    this(buildChannelWithAdditional(properties, additionalInterceptors), null, null);
   }
 
   /**
    * Private Constructor that passes a created DurableTaskClient and the new GRPC channel.
    *
-   * @param grpcChannel ManagedChannel for GRPC channel.
-   * @param tracer      optional Tracer used to propagate trace context when scheduling workflows.
+   * @param grpcChannel   ManagedChannel for GRPC channel.
+   * @param tracer        optional Tracer used to propagate trace context when scheduling workflows.
+   * @param dataConverter optional converter of workflow payloads.
    */
-  private DaprWorkflowClient(ManagedChannel grpcChannel, @Nullable Tracer tracer) {
-    this(createDurableTaskClient(grpcChannel, tracer), grpcChannel);
+  private DaprWorkflowClient(ManagedChannel grpcChannel, @Nullable Tracer tracer,
+                             @Nullable DataConverter dataConverter) {
+    this(createDurableTaskClient(grpcChannel, tracer, dataConverter), grpcChannel);
   }
 
   /**
@@ -216,6 +247,75 @@ public class DaprWorkflowClient implements AutoCloseable {
         orchestrationInstanceOptions));
   }
 
+  /**
+   * Schedules a new workflow with a specified set of options for execution, without blocking the calling thread.
+   *
+   * @param <T>     any Workflow type
+   * @param clazz   Class extending Workflow to start an instance of.
+   * @param options the options for the new workflow, including input, instance ID, etc.
+   * @return a Mono of the instance ID, which fails with {@link WorkflowInstanceAlreadyExistsException} if an active
+   *     workflow with the requested instance ID already exists.
+   */
+  public <T extends Workflow> Mono<String> scheduleNewWorkflowAsync(Class<T> clazz, NewWorkflowOptions options) {
+    return this.scheduleNewWorkflowAsync(clazz.getCanonicalName(), options);
+  }
+
+  /**
+   * Schedules a new workflow with a specified set of options for execution, without blocking the calling thread.
+   *
+   * @param name    name of the workflow to schedule
+   * @param options the options for the new workflow, including input, instance ID, etc.
+   * @return a Mono of the instance ID, which fails with {@link WorkflowInstanceAlreadyExistsException} if an active
+   *     workflow with the requested instance ID already exists.
+   */
+  public Mono<String> scheduleNewWorkflowAsync(String name, NewWorkflowOptions options) {
+    return Mono.fromFuture(() -> this.innerClient.scheduleNewOrchestrationInstanceAsync(name,
+            fromNewWorkflowOptions(options)))
+        .onErrorMap(StatusRuntimeException.class, e -> isAlreadyExists(e)
+            ? new WorkflowInstanceAlreadyExistsException(options.getInstanceId(), e)
+            : e);
+  }
+
+  /**
+   * Schedules many workflows of the same type, with at most {@value #DEFAULT_BULK_SCHEDULE_CONCURRENCY} schedule
+   * requests in flight.
+   *
+   * @param <T>     any Workflow type
+   * @param clazz   Class extending Workflow to start instances of.
+   * @param options the options of every workflow instance to schedule.
+   * @return a Flux of the outcome of every workflow instance, in completion order.
+   * @see #scheduleNewWorkflows(String, Publisher, int)
+   */
+  public <T extends Workflow> Flux<WorkflowScheduleResult> scheduleNewWorkflows(
+      Class<T> clazz, Publisher<NewWorkflowOptions> options) {
+    return this.scheduleNewWorkflows(clazz.getCanonicalName(), options, DEFAULT_BULK_SCHEDULE_CONCURRENCY);
+  }
+
+  /**
+   * Schedules many workflows of the same type, with a bounded number of schedule requests in flight.
+   *
+   * <p>Inputs are serialized in parallel, and a failure to schedule one workflow instance, such as a
+   * {@link WorkflowInstanceAlreadyExistsException}, is reported in its result instead of ending the Flux.
+   *
+   * @param name           name of the workflow to schedule.
+   * @param options        the options of every workflow instance to schedule.
+   * @param maxConcurrency the maximum number of schedule requests in flight.
+   * @return a Flux of the outcome of every workflow instance, in completion order.
+   */
+  public Flux<WorkflowScheduleResult> scheduleNewWorkflows(
+      String name, Publisher<NewWorkflowOptions> options, int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be at least 1");
+    }
+
+    return Flux.from(options)
+        .flatMap(option -> this.scheduleNewWorkflowAsync(name, option)
+            // Serializing an input may block on a payload store, so it runs on the bounded elastic scheduler.
+            .subscribeOn(Schedulers.boundedElastic())
+            .map(instanceId -> WorkflowScheduleResult.success(option, instanceId))
+            .onErrorResume(e -> Mono.just(WorkflowScheduleResult.failure(option, e))), maxConcurrency);
+  }
+
   /**
    * Suspend the workflow associated with the provided instance id.
    *
@@ -246,6 +346,17 @@ public class DaprWorkflowClient implements AutoCloseable {
     this.innerClient.terminate(workflowInstanceId, output);
   }
 
+  /**
+   * Terminates the workflow associated with the provided instance id, without blocking the calling thread.
+   *
+   * @param workflowInstanceId Workflow instance id to terminate.
+   * @param output             the optional output to set for the terminated orchestration instance.
+   * @return a Mono completed once the termination is requested.
+   */
+  public Mono<Void> terminateWorkflowAsync(String workflowInstanceId, @Nullable Object output) {
+    return Mono.fromFuture(() -> this.innerClient.terminateAsync(workflowInstanceId, output));
+  }
+
   /**
    * Fetches workflow instance metadata from the configured durable store.
    *
@@ -278,6 +389,19 @@ public class DaprWorkflowClient implements AutoCloseable {
     return metadata == null ? null : new DefaultWorkflowState(metadata);
   }
 
+  /**
+   * Fetches workflow instance metadata from the configured durable store, without blocking the calling thread.
+   *
+   * @param instanceId          the unique ID of the workflow instance to fetch
+   * @param getInputsAndOutputs <code>true</code> to fetch the workflow instance's
+   *                            inputs, outputs, and custom status, or <code>false</code> to omit them
+   * @return a Mono of the metadata record that describes the workflow instance and it execution status
+   */
+  public Mono<WorkflowState> getWorkflowStateAsync(String instanceId, boolean getInputsAndOutputs) {
+    return Mono.fromFuture(() -> this.innerClient.getInstanceMetadataAsync(instanceId, getInputsAndOutputs))
+        .map(DefaultWorkflowState::new);
+  }
+
   /**
    * Waits for an workflow to start running and returns an
    * {@link WorkflowInstanceStatus} object that contains metadata about the started
@@ -333,6 +457,23 @@ public class DaprWorkflowClient implements AutoCloseable {
     return metadata == null ? null : new DefaultWorkflowState(metadata);
   }
 
+  /**
+   * Waits for a workflow to start running, without blocking the calling thread.
+   *
+   * @param instanceId          the unique ID of the workflow instance to wait for
+   * @param timeout             the amount of time to wait for the workflow instance to start
+   * @param getInputsAndOutputs true to fetch the workflow instance's
+   *                            inputs, outputs, and custom status, or false to omit them
+   * @return a Mono of the workflow instance metadata, which fails with {@link TimeoutException} when the workflow
+   *     instance is not started within the specified amount of time
+   * @see #waitForWorkflowStart(String, Duration, boolean)
+   */
+  public Mono<WorkflowState> waitForWorkflowStartAsync(String instanceId, Duration timeout,
+                                                      boolean getInputsAndOutputs) {
+    return Mono.fromFuture(() -> this.innerClient.waitForInstanceStartAsync(instanceId, timeout, getInputsAndOutputs))
+        .map(DefaultWorkflowState::new);
+  }
+
   /**
    * Waits for an workflow to complete and returns an {@link WorkflowInstanceStatus} object that contains
    * metadata about the completed instance.
@@ -392,6 +533,24 @@ public class DaprWorkflowClient implements AutoCloseable {
     return metadata == null ? null : new DefaultWorkflowState(metadata);
   }
 
+  /**
+   * Waits for a workflow to complete, without blocking the calling thread, so many waits can be pending at once.
+   *
+   * @param instanceId          the unique ID of the workflow instance to wait for
+   * @param timeout             the amount of time to wait for the workflow instance to complete
+   * @param getInputsAndOutputs true to fetch the workflow instance's inputs, outputs, and custom
+   *                            status, or false to omit them
+   * @return a Mono of the workflow instance metadata, which fails with {@link TimeoutException} when the workflow
+   *     instance is not completed within the specified amount of time
+   * @see #waitForWorkflowCompletion(String, Duration, boolean)
+   */
+  public Mono<WorkflowState> waitForWorkflowCompletionAsync(String instanceId, Duration timeout,
+                                                           boolean getInputsAndOutputs) {
+    return Mono.fromFuture(() -> this.innerClient.waitForInstanceCompletionAsync(instanceId, timeout,
+            getInputsAndOutputs))
+        .map(DefaultWorkflowState::new);
+  }
+
   /**
    * Sends an event notification message to awaiting workflow instance.
    *
@@ -403,6 +562,18 @@ public class DaprWorkflowClient implements AutoCloseable {
     this.innerClient.raiseEvent(workflowInstanceId, eventName, eventPayload);
   }
 
+  /**
+   * Sends an event notification message to awaiting workflow instance, without blocking the calling thread.
+   *
+   * @param workflowInstanceId The ID of the workflow instance that will handle the event.
+   * @param eventName          The name of the event. Event names are case-insensitive.
+   * @param eventPayload       The serializable data payload to include with the event.
+   * @return a Mono completed once the event is sent.
+   */
+  public Mono<Void> raiseEventAsync(String workflowInstanceId, String eventName, Object eventPayload) {
+    return Mono.fromFuture(() -> this.innerClient.raiseEventAsync(workflowInstanceId, eventName, eventPayload));
+  }
+
   /**
    * Purges workflow instance state from the workflow state store.
    *
@@ -437,6 +608,72 @@ public class DaprWorkflowClient implements AutoCloseable {
     return false;
   }
 
+  /**
+   * Purges workflow instance state from the workflow state store, without blocking the calling thread.
+   *
+   * @param workflowInstanceId The unique ID of the workflow instance to purge.
+   * @return a Mono of true if the workflow state was found and purged successfully otherwise false.
+   */
+  public Mono<Boolean> purgeWorkflowAsync(String workflowInstanceId) {
+    return Mono.fromFuture(() -> this.innerClient.purgeInstanceAsync(workflowInstanceId))
+        .map(result -> result.getDeletedInstanceCount() > 0)
+        .defaultIfEmpty(false);
+  }
+
+  /**
+   * Queries the workflow instances in the workflow state store, streaming the states that match the query.
+   *
+   * <p>Instance IDs are listed from the state store one page at a time, and the state of each instance is fetched with
+   * at most {@link WorkflowStateQuery#getMaxConcurrency()} requests in flight and filtered on the client. Pages are
+   * listed as the consumer requests states, at most two pages ahead of it, so the query can cover millions of
+   * instances. Inputs and outputs are not fetched.
+   *
+   * @param query the filters and paging options of the query.
+   * @return a Flux of the matching workflow states, in the order the state store lists them.
+   */
+  public Flux<WorkflowState> queryWorkflows(WorkflowStateQuery query) {
+    int pageSize = query.getPageSize();
+    return Mono.fromFuture(() -> this.innerClient.listInstanceIdsAsync(null, pageSize))
+        .expand(page -> page.hasMore()
+            ? Mono.fromFuture(() -> this.innerClient.listInstanceIdsAsync(page.getContinuationToken(), pageSize))
+            : Mono.empty())
+        .concatMapIterable(InstanceIdPage::getInstanceIds, 1)
+        .flatMapSequential(instanceId -> Mono.fromFuture(
+            () -> this.innerClient.getInstanceMetadataAsync(instanceId, false)), query.getMaxConcurrency())
+        // Instances purged since their ID was listed are skipped.
+        .filter(OrchestrationMetadata::isInstanceFound)
+        .<WorkflowState>map(DefaultWorkflowState::new)
+        .filter(query::matches);
+  }
+
+  /**
+   * Purges the completed workflow instances that match the query from the workflow state store.
+   *
+   * <p>The instances are found with {@link #queryWorkflows(WorkflowStateQuery)}, and only those in a terminal state
+   * are purged, one instance per request with at most {@link WorkflowStateQuery#getMaxConcurrency()} requests in
+   * flight. A failure to purge one instance is counted in the summary instead of ending the purge.
+   *
+   * @param query            the filters and paging options of the instances to purge.
+   * @param progressListener called with the running totals after every processed instance, or null.
+   * @return a Mono of the final totals of the purge.
+   */
+  public Mono<WorkflowPurgeSummary> purgeWorkflows(WorkflowStateQuery query,
+                                                   @Nullable Consumer<WorkflowPurgeSummary> progressListener) {
+    return this.queryWorkflows(query)
+        .filter(WorkflowState::isCompleted)
+        .flatMap(state -> this.purgeWorkflowAsync(state.getWorkflowId())
+            .map(purged -> purged ? WorkflowPurgeSummary.PURGED : WorkflowPurgeSummary.NOT_FOUND)
+            .onErrorReturn(WorkflowPurgeSummary.FAILED), query.getMaxConcurrency())
+        .scan(WorkflowPurgeSummary.EMPTY, WorkflowPurgeSummary::add)
+        .skip(1)
+        .doOnNext(summary -> {
+          if (progressListener != null) {
+            progressListener.accept(summary);
+          }
+        })
+        .last(WorkflowPurgeSummary.EMPTY);
+  }
+
   /**
    * Closes the inner DurableTask client and shutdown the GRPC channel.
    */
@@ -471,11 +708,13 @@ public class DaprWorkflowClient implements AutoCloseable {
   /**
    * Static method to create the DurableTaskClient.
    *
-   * @param grpcChannel ManagedChannel for GRPC.
-   * @param tracer      optional Tracer set on the underlying client; skipped when null.
+   * @param grpcChannel   ManagedChannel for GRPC.
+   * @param tracer        optional Tracer set on the underlying client; skipped when null.
+   * @param dataConverter optional converter set on the underlying client; skipped when null.
    * @return a new instance of a DurableTaskClient with a GRPC channel.
    */
-  private static DurableTaskClient createDurableTaskClient(ManagedChannel grpcChannel, @Nullable Tracer tracer) {
+  private static DurableTaskClient createDurableTaskClient(ManagedChannel grpcChannel, @Nullable Tracer tracer,
+                                                           @Nullable DataConverter dataConverter) {
     DurableTaskGrpcClientBuilder builder = new DurableTaskGrpcClientBuilder()
         .grpcChannel(grpcChannel);
 
@@ -483,6 +722,10 @@ public class DaprWorkflowClient implements AutoCloseable {
       builder.tracer(tracer);
     }
 
+    if (dataConverter != null) {
+      builder.dataConverter(dataConverter);
+    }
+
     return builder.build();
   }
 
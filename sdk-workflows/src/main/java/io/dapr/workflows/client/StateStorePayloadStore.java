@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.client;
+
+import io.dapr.client.DaprClient;
+import io.dapr.client.domain.State;
+import io.dapr.durabletask.PayloadStore;
+
+import javax.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * {@link PayloadStore} that keeps offloaded workflow payloads in a Dapr state store, to be used with a
+ * {@link io.dapr.durabletask.ClaimCheckDataConverter}.
+ *
+ * <p>Payloads are saved as raw bytes, so the {@link DaprClient} must use the default state serializer.</p>
+ */
+public class StateStorePayloadStore implements PayloadStore {
+
+  private final DaprClient daprClient;
+
+  private final String storeName;
+
+  private final String keyPrefix;
+
+  private final Duration ttl;
+
+  private final Map<String, String> metadata;
+
+  /**
+   * Constructor for StateStorePayloadStore.
+   *
+   * @param daprClient the client of the state store.
+   * @param storeName  the name of the state store.
+   */
+  public StateStorePayloadStore(DaprClient daprClient, String storeName) {
+    this(daprClient, storeName, "workflow-payload-", null);
+  }
+
+  /**
+   * Constructor for StateStorePayloadStore.
+   *
+   * @param daprClient the client of the state store.
+   * @param storeName  the name of the state store.
+   * @param keyPrefix  the prefix of the key of every payload.
+   * @param ttl        how long payloads are kept, or null to keep them until deleted. It must outlive the history
+   *                   of the workflows referencing them.
+   */
+  public StateStorePayloadStore(DaprClient daprClient, String storeName, String keyPrefix, @Nullable Duration ttl) {
+    this.daprClient = daprClient;
+    this.storeName = storeName;
+    this.keyPrefix = keyPrefix;
+    this.ttl = ttl;
+    this.metadata = ttl == null
+        ? Collections.emptyMap()
+        : Collections.singletonMap("ttlInSeconds", Long.toString(ttl.toSeconds()));
+  }
+
+  @Override
+  public void save(String key, String payload) {
+    this.daprClient.saveState(this.storeName, this.keyPrefix + key, null,
+        payload.getBytes(StandardCharsets.UTF_8), this.metadata, null).block();
+  }
+
+  @Override
+  public String load(String key) {
+    State<byte[]> state = this.daprClient.getState(this.storeName, this.keyPrefix + key, byte[].class).block();
+    if (state == null || state.getValue() == null) {
+      return null;
+    }
+    return new String(state.getValue(), StandardCharsets.UTF_8);
+  }
+
+  @Nullable
+  @Override
+  public Duration getTtl() {
+    return this.ttl;
+  }
+}
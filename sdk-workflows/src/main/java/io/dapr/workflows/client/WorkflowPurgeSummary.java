@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.client;
+
+/**
+ * Progress of a bulk purge, see {@link DaprWorkflowClient#purgeWorkflows(WorkflowStateQuery,
+ * java.util.function.Consumer)}.
+ */
+public final class WorkflowPurgeSummary {
+
+  static final WorkflowPurgeSummary EMPTY = new WorkflowPurgeSummary(0, 0, 0);
+  static final WorkflowPurgeSummary PURGED = new WorkflowPurgeSummary(1, 1, 0);
+  static final WorkflowPurgeSummary NOT_FOUND = new WorkflowPurgeSummary(1, 0, 0);
+  static final WorkflowPurgeSummary FAILED = new WorkflowPurgeSummary(1, 0, 1);
+
+  private final long matchedCount;
+  private final long purgedCount;
+  private final long failedCount;
+
+  WorkflowPurgeSummary(long matchedCount, long purgedCount, long failedCount) {
+    this.matchedCount = matchedCount;
+    this.purgedCount = purgedCount;
+    this.failedCount = failedCount;
+  }
+
+  WorkflowPurgeSummary add(WorkflowPurgeSummary other) {
+    return new WorkflowPurgeSummary(matchedCount + other.matchedCount, purgedCount + other.purgedCount,
+        failedCount + other.failedCount);
+  }
+
+  /**
+   * Returns the number of completed workflow instances that matched the query and were processed so far.
+   *
+   * @return the number of processed workflow instances.
+   */
+  public long getMatchedCount() {
+    return matchedCount;
+  }
+
+  /**
+   * Returns the number of workflow instances purged so far.
+   *
+   * @return the number of purged workflow instances.
+   */
+  public long getPurgedCount() {
+    return purgedCount;
+  }
+
+  /**
+   * Returns the number of workflow instances that could not be purged so far.
+   *
+   * @return the number of failed purges.
+   */
+  public long getFailedCount() {
+    return failedCount;
+  }
+}
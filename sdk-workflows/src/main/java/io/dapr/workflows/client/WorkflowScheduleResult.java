@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.client;
+
+import javax.annotation.Nullable;
+
+/**
+ * Outcome of scheduling one workflow instance of a bulk schedule, see
+ * {@link DaprWorkflowClient#scheduleNewWorkflows(String, org.reactivestreams.Publisher, int)}.
+ */
+public final class WorkflowScheduleResult {
+
+  private final NewWorkflowOptions options;
+
+  @Nullable
+  private final String instanceId;
+
+  @Nullable
+  private final Throwable error;
+
+  private WorkflowScheduleResult(NewWorkflowOptions options, @Nullable String instanceId, @Nullable Throwable error) {
+    this.options = options;
+    this.instanceId = instanceId;
+    this.error = error;
+  }
+
+  static WorkflowScheduleResult success(NewWorkflowOptions options, String instanceId) {
+    return new WorkflowScheduleResult(options, instanceId, null);
+  }
+
+  static WorkflowScheduleResult failure(NewWorkflowOptions options, Throwable error) {
+    return new WorkflowScheduleResult(options, options.getInstanceId(), error);
+  }
+
+  /**
+   * Returns the options the workflow instance was scheduled with.
+   *
+   * @return the options of the workflow instance.
+   */
+  public NewWorkflowOptions getOptions() {
+    return options;
+  }
+
+  /**
+   * Returns the ID of the workflow instance.
+   *
+   * @return the instance ID, or null when scheduling failed for an instance without a requested ID.
+   */
+  @Nullable
+  public String getInstanceId() {
+    return instanceId;
+  }
+
+  /**
+   * Returns why scheduling the workflow instance failed, for example a
+   * {@link WorkflowInstanceAlreadyExistsException}.
+   *
+   * @return the error, or null when the workflow instance was scheduled.
+   */
+  @Nullable
+  public Throwable getError() {
+    return error;
+  }
+
+  /**
+   * Returns whether the workflow instance was scheduled.
+   *
+   * @return true if the workflow instance was scheduled, otherwise false.
+   */
+  public boolean isSuccessful() {
+    return error == null;
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.client;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filters and paging options for querying workflow instances, see
+ * {@link DaprWorkflowClient#queryWorkflows(WorkflowStateQuery)}.
+ */
+public class WorkflowStateQuery {
+
+  /**
+   * The default number of instance IDs fetched from the state store per page.
+   */
+  public static final int DEFAULT_PAGE_SIZE = 100;
+
+  /**
+   * The default number of workflow states fetched in parallel.
+   */
+  public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+  private List<WorkflowRuntimeStatus> runtimeStatusList = new ArrayList<>();
+  private Instant createdTimeFrom;
+  private Instant createdTimeTo;
+  private String name;
+  private int pageSize = DEFAULT_PAGE_SIZE;
+  private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+  /**
+   * Sets the runtime status values to select. An empty list selects every runtime status.
+   *
+   * @param runtimeStatusList the runtime status values to select
+   * @return this {@link WorkflowStateQuery} object
+   */
+  public WorkflowStateQuery setRuntimeStatusList(List<WorkflowRuntimeStatus> runtimeStatusList) {
+    this.runtimeStatusList = runtimeStatusList;
+    return this;
+  }
+
+  /**
+   * Selects workflow instances created at or after the specified instant.
+   *
+   * @param createdTimeFrom the minimum creation time, or {@code null} to disable this filter
+   * @return this {@link WorkflowStateQuery} object
+   */
+  public WorkflowStateQuery setCreatedTimeFrom(Instant createdTimeFrom) {
+    this.createdTimeFrom = createdTimeFrom;
+    return this;
+  }
+
+  /**
+   * Selects workflow instances created before the specified instant.
+   *
+   * @param createdTimeTo the maximum creation time, or {@code null} to disable this filter
+   * @return this {@link WorkflowStateQuery} object
+   */
+  public WorkflowStateQuery setCreatedTimeTo(Instant createdTimeTo) {
+    this.createdTimeTo = createdTimeTo;
+    return this;
+  }
+
+  /**
+   * Selects workflow instances of the workflow with the specified name.
+   *
+   * @param name the workflow name, or {@code null} to disable this filter
+   * @return this {@link WorkflowStateQuery} object
+   */
+  public WorkflowStateQuery setName(String name) {
+    this.name = name;
+    return this;
+  }
+
+  /**
+   * Sets the number of instance IDs fetched from the state store per page.
+   *
+   * @param pageSize the page size, at least 1
+   * @return this {@link WorkflowStateQuery} object
+   */
+  public WorkflowStateQuery setPageSize(int pageSize) {
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("pageSize must be at least 1");
+    }
+    this.pageSize = pageSize;
+    return this;
+  }
+
+  /**
+   * Sets the number of workflow instances fetched, or purged, in parallel.
+   *
+   * @param maxConcurrency the maximum number of requests in flight, at least 1
+   * @return this {@link WorkflowStateQuery} object
+   */
+  public WorkflowStateQuery setMaxConcurrency(int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be at least 1");
+    }
+    this.maxConcurrency = maxConcurrency;
+    return this;
+  }
+
+  public List<WorkflowRuntimeStatus> getRuntimeStatusList() {
+    return runtimeStatusList;
+  }
+
+  public Instant getCreatedTimeFrom() {
+    return createdTimeFrom;
+  }
+
+  public Instant getCreatedTimeTo() {
+    return createdTimeTo;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  boolean matches(WorkflowState state) {
+    if (runtimeStatusList != null && !runtimeStatusList.isEmpty()
+        && !runtimeStatusList.contains(state.getRuntimeStatus())) {
+      return false;
+    }
+    if (name != null && !name.equals(state.getName())) {
+      return false;
+    }
+    if (createdTimeFrom != null && state.getCreatedAt().isBefore(createdTimeFrom)) {
+      return false;
+    }
+    return createdTimeTo == null || state.getCreatedAt().isBefore(createdTimeTo);
+  }
+}
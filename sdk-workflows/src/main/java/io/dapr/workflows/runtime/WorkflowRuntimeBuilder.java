@@ -14,6 +14,7 @@ limitations under the License.
 package io.dapr.workflows.runtime;
 
 import io.dapr.config.Properties;
+import io.dapr.durabletask.DataConverter;
 import io.dapr.durabletask.DurableTaskGrpcWorkerBuilder;
 import io.dapr.durabletask.TaskActivityFactory;
 import io.dapr.durabletask.orchestration.TaskOrchestrationFactory;
@@ -23,6 +24,7 @@ import io.dapr.workflows.WorkflowActivity;
 import io.dapr.workflows.internal.ApiTokenClientInterceptor;
 import io.grpc.ClientInterceptor;
 import io.grpc.ManagedChannel;
+import io.opentelemetry.api.metrics.Meter;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -108,6 +110,43 @@ public class WorkflowRuntimeBuilder {
     return this;
   }
 
+  /**
+   * Sets the number of concurrent streams the runtime uses to receive work items from the sidecar.
+   *
+   * @param workItemStreams the number of streams, at least 1.
+   * @return {@link WorkflowRuntimeBuilder}.
+   */
+  public WorkflowRuntimeBuilder withWorkItemStreams(int workItemStreams) {
+    this.builder.workItemStreams(workItemStreams);
+    return this;
+  }
+
+  /**
+   * Sets the OpenTelemetry meter used to record workflow worker metrics, such as replay duration, history size, work
+   * item queue time and completion latency per workflow and activity name. If not set, the global OpenTelemetry
+   * meter is used.
+   *
+   * @param meter the meter to record metrics with.
+   * @return {@link WorkflowRuntimeBuilder}.
+   */
+  public WorkflowRuntimeBuilder withMeter(Meter meter) {
+    this.builder.meter(meter);
+    return this;
+  }
+
+  /**
+   * Sets the converter of workflow and activity inputs and outputs, for example a
+   * {@link io.dapr.durabletask.ClaimCheckDataConverter} that offloads large payloads. Clients of the same workflows
+   * must use the same converter.
+   *
+   * @param dataConverter the converter to use.
+   * @return {@link WorkflowRuntimeBuilder}.
+   */
+  public WorkflowRuntimeBuilder withDataConverter(DataConverter dataConverter) {
+    this.builder.dataConverter(dataConverter);
+    return this;
+  }
+
   /**
    * Registers a Workflow object.
    *
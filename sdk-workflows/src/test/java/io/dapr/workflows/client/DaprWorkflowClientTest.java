@@ -16,9 +16,11 @@ package io.dapr.workflows.client;
 import io.dapr.config.Properties;
 import io.dapr.durabletask.DurableTaskClient;
 import io.dapr.durabletask.DurableTaskGrpcClientBuilder;
+import io.dapr.durabletask.InstanceIdPage;
 import io.dapr.durabletask.NewOrchestrationInstanceOptions;
 import io.dapr.durabletask.OrchestrationMetadata;
 import io.dapr.durabletask.OrchestrationRuntimeStatus;
+import io.dapr.durabletask.PurgeResult;
 import io.dapr.workflows.Workflow;
 import io.dapr.workflows.WorkflowContext;
 import io.dapr.workflows.WorkflowStub;
@@ -31,20 +33,35 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.MockedConstruction;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Constructor;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.never;
@@ -266,6 +283,222 @@ public class DaprWorkflowClientTest {
     assertEquals(expectedInput, captor.getValue().getInput());
   }
 
+  @Test
+  public void scheduleNewWorkflowAsyncMapsAlreadyExists() {
+    String expectedName = TestWorkflow.class.getCanonicalName();
+    NewWorkflowOptions options = new NewWorkflowOptions().setInstanceId("duplicateInstance");
+    StatusRuntimeException grpcException = new StatusRuntimeException(Status.ALREADY_EXISTS);
+    when(mockInnerClient.scheduleNewOrchestrationInstanceAsync(eq(expectedName),
+        any(NewOrchestrationInstanceOptions.class)))
+        .thenReturn(CompletableFuture.failedFuture(grpcException));
+
+    WorkflowInstanceAlreadyExistsException exception = assertThrows(WorkflowInstanceAlreadyExistsException.class,
+        () -> client.scheduleNewWorkflowAsync(TestWorkflow.class, options).block());
+
+    assertEquals("duplicateInstance", exception.getInstanceId());
+    assertSame(grpcException, exception.getCause());
+  }
+
+  @Test
+  public void asyncMethodsDoNotCallInnerClientUntilSubscribed() {
+    Mono<WorkflowState> state = client.waitForWorkflowCompletionAsync("TestWorkflowInstanceId",
+        Duration.ofSeconds(10), true);
+
+    verify(mockInnerClient, never()).waitForInstanceCompletionAsync(any(), any(), eq(true));
+    assertNotNull(state);
+  }
+
+  @Test
+  public void waitForWorkflowCompletionAsync() {
+    String instanceId = "TestWorkflowInstanceId";
+    Duration timeout = Duration.ofSeconds(10);
+    OrchestrationMetadata expectedMetadata = mock(OrchestrationMetadata.class);
+    when(expectedMetadata.getInstanceId()).thenReturn(instanceId);
+    when(mockInnerClient.waitForInstanceCompletionAsync(instanceId, timeout, true))
+        .thenReturn(CompletableFuture.completedFuture(expectedMetadata));
+
+    WorkflowState result = client.waitForWorkflowCompletionAsync(instanceId, timeout, true).block();
+
+    assertEquals(instanceId, result.getWorkflowId());
+  }
+
+  @Test
+  public void waitForWorkflowStartAsyncFailsOnTimeout() {
+    String instanceId = "TestWorkflowInstanceId";
+    Duration timeout = Duration.ofSeconds(10);
+    when(mockInnerClient.waitForInstanceStartAsync(instanceId, timeout, false))
+        .thenReturn(CompletableFuture.failedFuture(new TimeoutException("timeout")));
+
+    RuntimeException exception = assertThrows(RuntimeException.class,
+        () -> client.waitForWorkflowStartAsync(instanceId, timeout, false).block());
+
+    assertInstanceOf(TimeoutException.class, exception.getCause());
+  }
+
+  @Test
+  public void purgeWorkflowAsync() {
+    String instanceId = "TestWorkflowInstanceId";
+    PurgeResult purgeResult = mock(PurgeResult.class);
+    when(purgeResult.getDeletedInstanceCount()).thenReturn(1);
+    when(mockInnerClient.purgeInstanceAsync(instanceId)).thenReturn(CompletableFuture.completedFuture(purgeResult));
+
+    assertTrue(client.purgeWorkflowAsync(instanceId).block());
+  }
+
+  @Test
+  public void scheduleNewWorkflowsReportsEveryOutcome() {
+    String expectedName = TestWorkflow.class.getCanonicalName();
+    when(mockInnerClient.scheduleNewOrchestrationInstanceAsync(eq(expectedName),
+        any(NewOrchestrationInstanceOptions.class)))
+        .thenAnswer(invocation -> {
+          String instanceId = invocation.<NewOrchestrationInstanceOptions>getArgument(1).getInstanceId();
+          return instanceId.equals("duplicate")
+              ? CompletableFuture.failedFuture(new StatusRuntimeException(Status.ALREADY_EXISTS))
+              : CompletableFuture.completedFuture(instanceId);
+        });
+
+    List<WorkflowScheduleResult> results = client.scheduleNewWorkflows(TestWorkflow.class, Flux.just(
+            new NewWorkflowOptions().setInstanceId("first"),
+            new NewWorkflowOptions().setInstanceId("duplicate"),
+            new NewWorkflowOptions().setInstanceId("second")))
+        .collectList()
+        .block();
+
+    assertEquals(3, results.size());
+    Map<String, WorkflowScheduleResult> byInstanceId = results.stream()
+        .collect(Collectors.toMap(WorkflowScheduleResult::getInstanceId, Function.identity()));
+    assertTrue(byInstanceId.get("first").isSuccessful());
+    assertTrue(byInstanceId.get("second").isSuccessful());
+    assertInstanceOf(WorkflowInstanceAlreadyExistsException.class, byInstanceId.get("duplicate").getError());
+  }
+
+  @Test
+  public void scheduleNewWorkflowsBoundsRequestsInFlight() throws InterruptedException {
+    List<CompletableFuture<String>> pending = new CopyOnWriteArrayList<>();
+    when(mockInnerClient.scheduleNewOrchestrationInstanceAsync(eq("Workflow"),
+        any(NewOrchestrationInstanceOptions.class)))
+        .thenAnswer(invocation -> {
+          CompletableFuture<String> future = new CompletableFuture<>();
+          pending.add(future);
+          return future;
+        });
+
+    Flux<NewWorkflowOptions> options = Flux.range(0, 10)
+        .map(i -> new NewWorkflowOptions().setInstanceId("instance-" + i));
+    CompletableFuture<List<WorkflowScheduleResult>> results =
+        client.scheduleNewWorkflows("Workflow", options, 3).collectList().toFuture();
+
+    for (int completed = 0; completed < 10; completed++) {
+      int index = completed;
+      awaitUntil(() -> pending.size() > index);
+      assertTrue(pending.size() - completed <= 3);
+      pending.get(completed).complete("instance-" + completed);
+    }
+
+    assertEquals(10, results.join().size());
+  }
+
+  private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+      Thread.sleep(10);
+    }
+  }
+
+  @Test
+  public void queryWorkflowsPagesThroughInstancesAndFilters() {
+    mockInstancePages();
+
+    List<String> all = client.queryWorkflows(new WorkflowStateQuery().setName("Workflow").setPageSize(2))
+        .map(WorkflowState::getWorkflowId)
+        .collectList()
+        .block();
+    List<String> completed = client.queryWorkflows(new WorkflowStateQuery()
+            .setRuntimeStatusList(List.of(WorkflowRuntimeStatus.COMPLETED))
+            .setCreatedTimeFrom(Instant.parse("2026-01-01T00:00:00Z")))
+        .map(WorkflowState::getWorkflowId)
+        .collectList()
+        .block();
+
+    assertEquals(List.of("a", "c", "d"), all);
+    assertEquals(List.of("a", "b"), completed);
+  }
+
+  @Test
+  public void queryWorkflowsListsPagesOnDemand() {
+    InstanceIdPage page = mock(InstanceIdPage.class);
+    when(page.getInstanceIds()).thenReturn(List.of("a", "b"));
+    when(page.hasMore()).thenReturn(true);
+    when(page.getContinuationToken()).thenReturn("next");
+    when(mockInnerClient.listInstanceIdsAsync(any(), any(Integer.class)))
+        .thenReturn(CompletableFuture.completedFuture(page));
+    mockInstance("a", "Workflow", OrchestrationRuntimeStatus.RUNNING);
+    mockInstance("b", "Workflow", OrchestrationRuntimeStatus.RUNNING);
+
+    List<WorkflowState> states = new CopyOnWriteArrayList<>();
+    Disposable query = client.queryWorkflows(new WorkflowStateQuery().setPageSize(2).setMaxConcurrency(1))
+        .subscribe(states::add, e -> { }, () -> { }, subscription -> subscription.request(3));
+
+    // Three states span two pages, and at most two more pages are listed ahead of the consumer.
+    assertEquals(3, states.size());
+    verify(mockInnerClient, atMost(4)).listInstanceIdsAsync(any(), any(Integer.class));
+    query.dispose();
+  }
+
+  @Test
+  public void purgeWorkflowsPurgesCompletedMatchesAndReportsProgress() {
+    mockInstancePages();
+    PurgeResult purged = mock(PurgeResult.class);
+    when(purged.getDeletedInstanceCount()).thenReturn(1);
+    when(mockInnerClient.purgeInstanceAsync("a")).thenReturn(CompletableFuture.completedFuture(purged));
+    when(mockInnerClient.purgeInstanceAsync("d"))
+        .thenReturn(CompletableFuture.failedFuture(Status.UNAVAILABLE.asRuntimeException()));
+    List<WorkflowPurgeSummary> progress = new CopyOnWriteArrayList<>();
+
+    WorkflowPurgeSummary summary = client.purgeWorkflows(new WorkflowStateQuery().setName("Workflow"), progress::add)
+        .block();
+
+    assertEquals(2, summary.getMatchedCount());
+    assertEquals(1, summary.getPurgedCount());
+    assertEquals(1, summary.getFailedCount());
+    assertEquals(2, progress.size());
+    verify(mockInnerClient, never()).purgeInstanceAsync("c");
+  }
+
+  // Pages [a, b] and [c, d, gone]: a completed, b completed with another name, c running, d failed, gone purged.
+  private void mockInstancePages() {
+    InstanceIdPage first = mock(InstanceIdPage.class);
+    when(first.getInstanceIds()).thenReturn(List.of("a", "b"));
+    when(first.hasMore()).thenReturn(true);
+    when(first.getContinuationToken()).thenReturn("page-2");
+    InstanceIdPage last = mock(InstanceIdPage.class);
+    when(last.getInstanceIds()).thenReturn(List.of("c", "d", "gone"));
+    when(mockInnerClient.listInstanceIdsAsync(eq(null), any(Integer.class)))
+        .thenReturn(CompletableFuture.completedFuture(first));
+    when(mockInnerClient.listInstanceIdsAsync(eq("page-2"), any(Integer.class)))
+        .thenReturn(CompletableFuture.completedFuture(last));
+
+    mockInstance("a", "Workflow", OrchestrationRuntimeStatus.COMPLETED);
+    mockInstance("b", "Other", OrchestrationRuntimeStatus.COMPLETED);
+    mockInstance("c", "Workflow", OrchestrationRuntimeStatus.RUNNING);
+    mockInstance("d", "Workflow", OrchestrationRuntimeStatus.FAILED);
+    OrchestrationMetadata gone = mock(OrchestrationMetadata.class);
+    when(mockInnerClient.getInstanceMetadataAsync("gone", false)).thenReturn(CompletableFuture.completedFuture(gone));
+  }
+
+  private void mockInstance(String instanceId, String name, OrchestrationRuntimeStatus status) {
+    OrchestrationMetadata metadata = mock(OrchestrationMetadata.class);
+    when(metadata.isInstanceFound()).thenReturn(true);
+    when(metadata.getInstanceId()).thenReturn(instanceId);
+    when(metadata.getName()).thenReturn(name);
+    when(metadata.getRuntimeStatus()).thenReturn(status);
+    when(metadata.getCreatedAt()).thenReturn(Instant.parse("2026-06-12T11:53:03Z"));
+    when(metadata.isCompleted()).thenReturn(status != OrchestrationRuntimeStatus.RUNNING);
+    when(mockInnerClient.getInstanceMetadataAsync(instanceId, false))
+        .thenReturn(CompletableFuture.completedFuture(metadata));
+  }
+
   @Test
   public void terminateWorkflow() {
     String expectedArgument = "TestWorkflowInstanceId";
@@ -30,6 +30,7 @@ import io.dapr.client.domain.InvokeBindingRequest;
 import io.dapr.client.domain.InvokeMethodRequest;
 import io.dapr.client.domain.LockRequest;
 import io.dapr.client.domain.PublishEventRequest;
+import io.dapr.client.domain.QueryStateItem;
 import io.dapr.client.domain.QueryStateRequest;
 import io.dapr.client.domain.QueryStateResponse;
 import io.dapr.client.domain.SaveStateRequest;
@@ -418,6 +419,14 @@ abstract class AbstractDaprClient implements DaprClient, DaprPreviewClient {
     return this.queryState(request, TypeRef.get(clazz));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Flux<QueryStateItem<T>> queryStateStream(QueryStateRequest request, Class<T> clazz) {
+    return this.queryStateStream(request, TypeRef.get(clazz));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -478,6 +487,14 @@ abstract class AbstractDaprClient implements DaprClient, DaprPreviewClient {
     return this.getBulkState(storeName, keys, TypeRef.get(clazz));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Flux<State<T>> getBulkStateStream(GetBulkStateRequest request, Class<T> clazz) {
+    return this.getBulkStateStream(request, TypeRef.get(clazz));
+  }
+
   /**
    * {@inheritDoc}
    */
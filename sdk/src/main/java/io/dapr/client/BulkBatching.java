@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Encoding and splitting shared by the bulk publish and bulk state requests.
+ */
+final class BulkBatching {
+
+  /**
+   * Minimum number of items for a request to be encoded in parallel.
+   */
+  static final int PARALLEL_THRESHOLD = 1024;
+
+  private static final int CHUNK_SIZE = 256;
+
+  private BulkBatching() {
+  }
+
+  /**
+   * Encodes items, keeping their order. Large requests are encoded in parallel chunks.
+   *
+   * @param items   Items to be encoded.
+   * @param encoder Encodes a single item.
+   * @param <I>     Type of the items.
+   * @param <O>     Type of the encoded items.
+   * @param <X>     Type of the checked exception thrown by the encoder.
+   * @return Encoded items.
+   * @throws X If an item could not be encoded.
+   */
+  @SuppressWarnings("unchecked")
+  static <I, O, X extends Exception> List<O> encode(List<I> items, Encoder<I, O, X> encoder) throws X {
+    int size = items.size();
+    Object[] encoded = new Object[size];
+    if (size < PARALLEL_THRESHOLD) {
+      for (int i = 0; i < size; i++) {
+        encoded[i] = encoder.encode(items.get(i));
+      }
+
+      return (List<O>) Arrays.asList(encoded);
+    }
+
+    // Failures are captured and rethrown on the caller's thread, so they surface exactly as in the serial path.
+    AtomicReference<Exception> failure = new AtomicReference<>();
+    int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    IntStream.range(0, chunks).parallel().forEach(chunk -> {
+      int end = Math.min(size, (chunk + 1) * CHUNK_SIZE);
+      for (int i = chunk * CHUNK_SIZE; i < end && failure.get() == null; i++) {
+        try {
+          encoded[i] = encoder.encode(items.get(i));
+        } catch (Exception e) {
+          failure.compareAndSet(null, e);
+        }
+      }
+    });
+
+    Exception e = failure.get();
+    if (e instanceof RuntimeException) {
+      throw (RuntimeException) e;
+    }
+
+    if (e != null) {
+      throw (X) e;
+    }
+
+    return (List<O>) Arrays.asList(encoded);
+  }
+
+  /**
+   * Splits items into batches bounded in size and number of items, keeping their order. An item that is too large
+   * on its own is sent in a batch of its own and left for Dapr to reject.
+   *
+   * @param items    Items to be split.
+   * @param budget   Maximum size in bytes of the items of a batch.
+   * @param maxItems Maximum number of items in a batch, 0 for no limit.
+   * @param sizeOf   Size in bytes of an item within its request.
+   * @param <E>      Type of the items.
+   * @return Batches of items, a single batch if no limit is exceeded.
+   */
+  static <E> List<List<E>> split(List<E> items, long budget, int maxItems, ToLongFunction<E> sizeOf) {
+    int itemLimit = maxItems > 0 ? maxItems : Integer.MAX_VALUE;
+    List<List<E>> batches = new ArrayList<>();
+    int start = 0;
+    long batchBytes = 0;
+    for (int i = 0; i < items.size(); i++) {
+      long itemBytes = sizeOf.applyAsLong(items.get(i));
+      if (i > start && (batchBytes + itemBytes > budget || i - start >= itemLimit)) {
+        batches.add(items.subList(start, i));
+        start = i;
+        batchBytes = 0;
+      }
+
+      batchBytes += itemBytes;
+    }
+
+    batches.add(items.subList(start, items.size()));
+    return batches;
+  }
+
+  @FunctionalInterface
+  interface Encoder<I, O, X extends Exception> {
+    O encode(I item) throws X;
+  }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.UnsafeByteOperations;
+import io.dapr.client.domain.BulkPublishEntry;
+import io.dapr.config.Properties;
+import io.dapr.exceptions.DaprException;
+import io.dapr.serializer.DaprObjectSerializer;
+import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.utils.DefaultContentTypeConverter;
+import io.dapr.v1.DaprPubsubProtos;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encodes the entries of a bulk publish request into their gRPC representation.
+ *
+ * <p>The content type of an entry decides how its event is converted to bytes. That decision is made once per
+ * distinct content type and the resulting encoder is reused for every entry sharing it. Large batches are
+ * encoded in parallel, see {@link BulkBatching}.</p>
+ *
+ * <p>Encoded entries can then be split into batches bounded in size and number of entries, so each batch fits
+ * into a single gRPC message accepted by Dapr.</p>
+ */
+final class BulkPublishEncoder {
+
+  /**
+   * Content types are chosen by the application, so the cache is bounded in case they are not a small set.
+   */
+  private static final int MAX_CACHED_CONTENT_TYPES = 64;
+
+  private static final DefaultObjectSerializer JSON_SERIALIZER = new DefaultObjectSerializer();
+
+  private final DaprObjectSerializer serializer;
+
+  private final boolean isDefaultSerializer;
+
+  private final EventEncoder serializerEncoder;
+
+  private final Map<String, EventEncoder> encoders = new ConcurrentHashMap<>();
+
+  private final int maxBatchBytes;
+
+  private final int maxBatchEntries;
+
+  private final int maxConcurrentBatches;
+
+  BulkPublishEncoder(DaprObjectSerializer serializer) {
+    this(
+        serializer,
+        Properties.BULK_PUBLISH_MAX_BATCH_BYTES.get(),
+        Properties.BULK_PUBLISH_MAX_BATCH_ENTRIES.get(),
+        Properties.BULK_PUBLISH_MAX_CONCURRENT_BATCHES.get());
+  }
+
+  BulkPublishEncoder(
+      DaprObjectSerializer serializer, int maxBatchBytes, int maxBatchEntries, int maxConcurrentBatches) {
+    if (maxBatchBytes < 1) {
+      throw new IllegalArgumentException("maxBatchBytes must be greater than 0");
+    }
+
+    if (maxConcurrentBatches < 1) {
+      throw new IllegalArgumentException("maxConcurrentBatches must be greater than 0");
+    }
+
+    this.maxBatchBytes = maxBatchBytes;
+    this.maxBatchEntries = maxBatchEntries;
+    this.maxConcurrentBatches = maxConcurrentBatches;
+    this.serializer = serializer;
+    this.isDefaultSerializer = serializer instanceof DefaultObjectSerializer;
+    this.serializerEncoder = new EventEncoder(serializer.getContentType(), this::encodeWithSerializer);
+  }
+
+  /**
+   * Encodes the entries, keeping their order.
+   *
+   * @param entries Entries to be encoded.
+   * @param <T>     Type of the events.
+   * @return Encoded entries.
+   */
+  <T> List<DaprPubsubProtos.BulkPublishRequestEntry> encode(List<BulkPublishEntry<T>> entries) {
+    return BulkBatching.encode(entries, this::encodeEntry);
+  }
+
+  /**
+   * Splits encoded entries into batches that respect the configured size and entry count limits, keeping their
+   * order. An entry that is too large on its own is sent in a batch of its own and left for Dapr to reject.
+   *
+   * @param envelope Bulk publish request without entries, its size counts against every batch.
+   * @param entries  Encoded entries.
+   * @return Batches of entries, a single batch if no limit is exceeded.
+   */
+  List<List<DaprPubsubProtos.BulkPublishRequestEntry>> split(
+      DaprPubsubProtos.BulkPublishRequest envelope, List<DaprPubsubProtos.BulkPublishRequestEntry> entries) {
+    return BulkBatching.split(entries, maxBatchBytes - envelope.getSerializedSize(), maxBatchEntries,
+        entry -> CodedOutputStream.computeMessageSize(DaprPubsubProtos.BulkPublishRequest.ENTRIES_FIELD_NUMBER, entry));
+  }
+
+  /**
+   * Gets the maximum number of batches of a split request to be sent at the same time.
+   *
+   * @return Maximum number of concurrent batches.
+   */
+  int getMaxConcurrentBatches() {
+    return maxConcurrentBatches;
+  }
+
+  /**
+   * Indexes entries by ID, to map the failed entries reported by Dapr back to the request's entries.
+   *
+   * @param entries Entries of the request.
+   * @param <T>     Type of the events.
+   * @return Entries by ID.
+   */
+  static <T> Map<String, BulkPublishEntry<T>> indexById(List<BulkPublishEntry<T>> entries) {
+    Map<String, BulkPublishEntry<T>> index = new HashMap<>((int) (entries.size() / 0.75f) + 1);
+    for (BulkPublishEntry<T> entry : entries) {
+      index.put(entry.getEntryId(), entry);
+    }
+
+    return index;
+  }
+
+  private DaprPubsubProtos.BulkPublishRequestEntry encodeEntry(BulkPublishEntry<?> entry) {
+    EventEncoder encoder = encoderFor(entry.getContentType());
+    ByteString data;
+    try {
+      data = encoder.encoding.encode(entry.getEvent());
+    } catch (IOException ex) {
+      throw DaprException.propagate(ex);
+    }
+
+    DaprPubsubProtos.BulkPublishRequestEntry.Builder builder = DaprPubsubProtos.BulkPublishRequestEntry.newBuilder()
+        .setEntryId(entry.getEntryId())
+        .setEvent(data)
+        .setContentType(encoder.contentType);
+    Map<String, String> metadata = entry.getMetadata();
+    if (metadata != null) {
+      builder.putAllMetadata(metadata);
+    }
+
+    return builder.build();
+  }
+
+  private EventEncoder encoderFor(String contentType) {
+    if (contentType == null || contentType.isEmpty()) {
+      return serializerEncoder;
+    }
+
+    EventEncoder encoder = encoders.get(contentType);
+    if (encoder == null) {
+      // Custom serializers always apply, the content type given by the user is only passed along.
+      encoder = isDefaultSerializer ? resolve(contentType) : new EventEncoder(contentType, serializerEncoder.encoding);
+      if (encoders.size() < MAX_CACHED_CONTENT_TYPES) {
+        encoders.putIfAbsent(contentType, encoder);
+      }
+    }
+
+    return encoder;
+  }
+
+  /**
+   * Mirrors {@link DefaultContentTypeConverter#convertEventToBytesForGrpc(Object, String)}, with the content type
+   * only being inspected once.
+   */
+  private static EventEncoder resolve(String contentType) {
+    if (DefaultContentTypeConverter.isBinaryContentType(contentType)) {
+      return new EventEncoder(contentType, event -> {
+        if (event instanceof byte[]) {
+          return ByteString.copyFrom((byte[]) event);
+        }
+
+        throw new IllegalArgumentException("mismatch between 'application/octect-stream' contentType and event. "
+            + "expected binary data as bytes array");
+      });
+    }
+
+    if (DefaultContentTypeConverter.isStringContentType(contentType)) {
+      return new EventEncoder(contentType, event -> {
+        if (event instanceof String) {
+          return ByteString.copyFromUtf8((String) event);
+        }
+
+        if (event instanceof Boolean || event instanceof Number) {
+          return ByteString.copyFromUtf8(String.valueOf(event));
+        }
+
+        throw new IllegalArgumentException("mismatch between string contentType and event. "
+            + "expected event to be convertible into a string");
+      });
+    }
+
+    if (DefaultContentTypeConverter.isJsonContentType(contentType)
+        || DefaultContentTypeConverter.isCloudEventContentType(contentType)) {
+      return new EventEncoder(contentType, event -> wrap(JSON_SERIALIZER.serialize(event), event));
+    }
+
+    return new EventEncoder(contentType, event -> {
+      throw new IllegalArgumentException("mismatch between contentType and event");
+    });
+  }
+
+  private ByteString encodeWithSerializer(Object event) throws IOException {
+    byte[] data = serializer.serialize(event);
+    if (!isDefaultSerializer) {
+      return data == null ? ByteString.EMPTY : ByteString.copyFrom(data);
+    }
+
+    return wrap(data, event);
+  }
+
+  /**
+   * Wraps bytes produced by the default serializer without copying them, unless they belong to the caller.
+   */
+  private static ByteString wrap(byte[] data, Object event) {
+    if (data == null) {
+      return ByteString.EMPTY;
+    }
+
+    if (data == event) {
+      return ByteString.copyFrom(data);
+    }
+
+    return UnsafeByteOperations.unsafeWrap(data);
+  }
+
+  private static final class EventEncoder {
+
+    private final String contentType;
+
+    private final Encoding encoding;
+
+    private EventEncoder(String contentType, Encoding encoding) {
+      this.contentType = contentType;
+      this.encoding = encoding;
+    }
+  }
+
+  @FunctionalInterface
+  private interface Encoding {
+    ByteString encode(Object event) throws IOException;
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import com.google.protobuf.CodedOutputStream;
+import io.dapr.client.domain.State;
+import io.dapr.config.Properties;
+import io.dapr.v1.CommonProtos;
+import io.dapr.v1.DaprStateProtos;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Splits bulk state requests into batches bounded in number of keys and size, so each batch fits into a single
+ * gRPC message accepted by Dapr, and encodes the states of large saves in parallel.
+ */
+final class BulkStateBatcher {
+
+  private final int maxBatchKeys;
+
+  private final int maxBatchBytes;
+
+  private final int maxConcurrentBatches;
+
+  BulkStateBatcher() {
+    this(
+        Properties.BULK_STATE_MAX_BATCH_KEYS.get(),
+        Properties.BULK_STATE_MAX_BATCH_BYTES.get(),
+        Properties.BULK_STATE_MAX_CONCURRENT_BATCHES.get());
+  }
+
+  BulkStateBatcher(int maxBatchKeys, int maxBatchBytes, int maxConcurrentBatches) {
+    if (maxBatchBytes < 1) {
+      throw new IllegalArgumentException("maxBatchBytes must be greater than 0");
+    }
+
+    if (maxConcurrentBatches < 1) {
+      throw new IllegalArgumentException("maxConcurrentBatches must be greater than 0");
+    }
+
+    this.maxBatchKeys = maxBatchKeys;
+    this.maxBatchBytes = maxBatchBytes;
+    this.maxConcurrentBatches = maxConcurrentBatches;
+  }
+
+  /**
+   * Splits the keys of a bulk get, keeping their order.
+   *
+   * @param envelope Bulk get request without keys, its size counts against every batch.
+   * @param keys     Keys to be retrieved.
+   * @return Batches of keys, a single batch if no limit is exceeded.
+   */
+  List<List<String>> splitKeys(DaprStateProtos.GetBulkStateRequest envelope, List<String> keys) {
+    return split(envelope.getSerializedSize(), keys,
+        key -> CodedOutputStream.computeStringSize(DaprStateProtos.GetBulkStateRequest.KEYS_FIELD_NUMBER, key));
+  }
+
+  /**
+   * Splits the encoded states of a bulk save, keeping their order. A state that is too large on its own is sent
+   * in a batch of its own and left for Dapr to reject.
+   *
+   * @param envelope Bulk save request without states, its size counts against every batch.
+   * @param states   Encoded states.
+   * @return Batches of states, a single batch if no limit is exceeded.
+   */
+  List<List<CommonProtos.StateItem>> splitStates(
+      DaprStateProtos.SaveStateRequest envelope, List<CommonProtos.StateItem> states) {
+    return split(envelope.getSerializedSize(), states,
+        state -> CodedOutputStream.computeMessageSize(DaprStateProtos.SaveStateRequest.STATES_FIELD_NUMBER, state));
+  }
+
+  /**
+   * Encodes the states of a bulk save, keeping their order.
+   *
+   * @param states  States to be saved.
+   * @param encoder Encodes a single state.
+   * @return Encoded states.
+   * @throws IOException If a state could not be serialized.
+   */
+  List<CommonProtos.StateItem> encode(List<State<?>> states, StateEncoder encoder) throws IOException {
+    return BulkBatching.encode(states, encoder::encode);
+  }
+
+  /**
+   * Gets the maximum number of batches of a split request to be sent at the same time.
+   *
+   * @return Maximum number of concurrent batches.
+   */
+  int getMaxConcurrentBatches() {
+    return maxConcurrentBatches;
+  }
+
+  private <E> List<List<E>> split(int envelopeBytes, List<E> items, ToLongFunction<E> sizeOf) {
+    return BulkBatching.split(items, maxBatchBytes - envelopeBytes, maxBatchKeys, sizeOf);
+  }
+
+  @FunctionalInterface
+  interface StateEncoder {
+    CommonProtos.StateItem encode(State<?> state) throws IOException;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.ByteBuffer;
+
+/**
+ * Convenience {@link BodyHandler} factories for use with {@link DaprInvokeHttpClient}
+ * and the standard {@link java.net.http.HttpClient}.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * invoker.sendStreaming(invoker.newRequestBuilder("files/report").GET().build())
+ *     .flatMapMany(HttpResponse::body)
+ *     .concatMap(buffer -> writeToFile(buffer));
+ * }</pre>
+ */
+public final class DaprBodyHandlers {
+
+  private DaprBodyHandlers() {
+  }
+
+  /**
+   * Returns the response body as a {@link Flux} of byte buffers, so large responses are consumed without
+   * being buffered in heap. The body is read from the connection as buffers are requested, honoring
+   * backpressure.
+   *
+   * <p>The body must be subscribed to, or the connection is not released; cancelling the subscription
+   * closes it. Buffers are read-only. For an {@link java.io.InputStream}, use
+   * {@link java.net.http.HttpResponse.BodyHandlers#ofInputStream()}.
+   *
+   * @return a body handler streaming the response body.
+   */
+  public static BodyHandler<Flux<ByteBuffer>> ofFlux() {
+    return responseInfo -> BodySubscribers.mapping(BodySubscribers.ofPublisher(),
+        publisher -> JdkFlowAdapter.flowPublisherToFlux(publisher).concatMapIterable(buffers -> buffers, 1));
+  }
+}
@@ -14,11 +14,15 @@ limitations under the License.
 package io.dapr.client;
 
 import io.dapr.serializer.DefaultObjectSerializer;
+import org.reactivestreams.Publisher;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
 
 /**
  * Convenience {@link BodyPublisher} factories for use with {@link DaprInvokeHttpClient}
@@ -83,4 +87,33 @@ public final class DaprBodyPublishers {
       throw new UncheckedIOException("Failed to JSON-serialize request body", e);
     }
   }
+
+  /**
+   * Streams the request body from a publisher of byte buffers, so large payloads are sent without being
+   * buffered in heap. Buffers are only requested from {@code body} as the HTTP client is ready to write
+   * them, honoring backpressure; cancelling the request cancels the publisher.
+   *
+   * <p>The body is sent with {@code Transfer-Encoding: chunked}; use
+   * {@link #ofFlux(Publisher, long)} when the length is known. For an {@link java.io.InputStream}, use
+   * {@link BodyPublishers#ofInputStream(java.util.function.Supplier)}.
+   *
+   * @param body publisher of the body, e.g. a {@link Flux}.
+   * @return a body publisher streaming {@code body}.
+   */
+  public static BodyPublisher ofFlux(Publisher<ByteBuffer> body) {
+    return BodyPublishers.fromPublisher(JdkFlowAdapter.publisherToFlowPublisher(Flux.from(body)));
+  }
+
+  /**
+   * Streams the request body from a publisher of byte buffers with a known length, which is sent as
+   * {@code Content-Length}.
+   *
+   * @param body          publisher of the body, e.g. a {@link Flux}.
+   * @param contentLength number of bytes published by {@code body}.
+   * @return a body publisher streaming {@code body}.
+   * @see #ofFlux(Publisher)
+   */
+  public static BodyPublisher ofFlux(Publisher<ByteBuffer> body, long contentLength) {
+    return BodyPublishers.fromPublisher(JdkFlowAdapter.publisherToFlowPublisher(Flux.from(body)), contentLength);
+  }
 }
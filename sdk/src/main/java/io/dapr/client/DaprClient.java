@@ -575,6 +575,32 @@ public interface DaprClient extends AutoCloseable {
    */
   <T> Mono<List<State<T>>> getBulkState(GetBulkStateRequest request, TypeRef<T> type);
 
+  /**
+   * Retrieve bulk States based on their keys, as they are received.
+   *
+   * <p>Large requests are split into batches that are retrieved concurrently. States are emitted in the order of
+   * the requested keys.</p>
+   *
+   * @param request The request to get state.
+   * @param type    The Type of State needed as return.
+   * @param <T>     The Type of the return.
+   * @return A Flux of the requested States.
+   */
+  <T> Flux<State<T>> getBulkStateStream(GetBulkStateRequest request, TypeRef<T> type);
+
+  /**
+   * Retrieve bulk States based on their keys, as they are received.
+   *
+   * <p>Large requests are split into batches that are retrieved concurrently. States are emitted in the order of
+   * the requested keys.</p>
+   *
+   * @param request The request to get state.
+   * @param clazz   The type of State needed as return.
+   * @param <T>     The Type of the return.
+   * @return A Flux of the requested States.
+   */
+  <T> Flux<State<T>> getBulkStateStream(GetBulkStateRequest request, Class<T> clazz);
+
   /** Execute a transaction.
    *
    * @param storeName        The name of the state store.
@@ -13,6 +13,7 @@ limitations under the License.
 
 package io.dapr.client;
 
+import io.dapr.client.instrumentation.DaprClientListener;
 import io.dapr.client.resiliency.ResiliencyOptions;
 import io.dapr.config.Properties;
 import io.dapr.config.Property;
@@ -24,6 +25,7 @@ import io.grpc.ManagedChannel;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * A builder for the DaprClient,
@@ -53,6 +55,16 @@ public class DaprClientBuilder {
    */
   private ResiliencyOptions resiliencyOptions;
 
+  /**
+   * Near cache for state reads, disabled by default.
+   */
+  private DaprStateCache stateCache;
+
+  /**
+   * Listener for the client's measurements, none by default.
+   */
+  private DaprClientListener clientListener;
+
   /**
    * Creates a constructor for DaprClient.
    *
@@ -112,6 +124,41 @@ public class DaprClientBuilder {
     return this;
   }
 
+  /**
+   * Sets the executor used by the HTTP client to send requests to Dapr and handle the responses, for example a
+   * virtual thread per task executor. By default, clients configured the same way share a fixed thread pool.
+   *
+   * @param executor Executor for the HTTP client, null to use the shared thread pool.
+   * @return This instance.
+   */
+  public DaprClientBuilder withHttpExecutor(Executor executor) {
+    this.daprHttpBuilder.withExecutor(executor);
+    return this;
+  }
+
+  /**
+   * Sets the cache for state reads, which is disabled by default.
+   *
+   * @param stateCache Cache for state reads, null to disable it.
+   * @return This instance.
+   */
+  public DaprClientBuilder withStateCache(DaprStateCache stateCache) {
+    this.stateCache = stateCache;
+    return this;
+  }
+
+  /**
+   * Sets the listener receiving measurements of the calls made to Dapr, e.g. to record them as metrics. No
+   * measurements are taken without a listener.
+   *
+   * @param clientListener Listener for the client's measurements, null to not take any.
+   * @return This instance.
+   */
+  public DaprClientBuilder withClientListener(DaprClientListener clientListener) {
+    this.clientListener = clientListener;
+    return this;
+  }
+
   /**
    * Allow to set up properties override for static properties.
    * @param property that we want to override
@@ -175,6 +222,8 @@ public class DaprClientBuilder {
         this.objectSerializer,
         this.stateSerializer,
         this.resiliencyOptions,
-        properties.getValue(Properties.API_TOKEN));
+        properties.getValue(Properties.API_TOKEN),
+        this.stateCache,
+        this.clientListener);
   }
 }
@@ -13,6 +13,8 @@ limitations under the License.
 
 package io.dapr.client;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Strings;
 import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
@@ -70,6 +72,7 @@ import io.dapr.client.domain.HttpExtension;
 import io.dapr.client.domain.InvokeBindingRequest;
 import io.dapr.client.domain.InvokeMethodRequest;
 import io.dapr.client.domain.JobSchedule;
+import io.dapr.client.domain.LazyCloudEvent;
 import io.dapr.client.domain.LockRequest;
 import io.dapr.client.domain.PublishEventRequest;
 import io.dapr.client.domain.QueryStateItem;
@@ -89,16 +92,18 @@ import io.dapr.client.domain.UnlockRequest;
 import io.dapr.client.domain.UnlockResponseStatus;
 import io.dapr.client.domain.UnsubscribeConfigurationRequest;
 import io.dapr.client.domain.UnsubscribeConfigurationResponse;
+import io.dapr.client.instrumentation.DaprClientListener;
+import io.dapr.client.resiliency.OperationType;
 import io.dapr.client.resiliency.ResiliencyOptions;
 import io.dapr.exceptions.DaprException;
 import io.dapr.internal.exceptions.DaprHttpException;
 import io.dapr.internal.grpc.DaprClientGrpcInterceptors;
-import io.dapr.internal.resiliency.RetryPolicy;
+import io.dapr.internal.grpc.interceptors.DaprClientListenerInterceptor;
+import io.dapr.internal.resiliency.ResiliencyPolicy;
 import io.dapr.internal.resiliency.TimeoutPolicy;
 import io.dapr.internal.subscription.EventSubscriberStreamObserver;
 import io.dapr.serializer.DaprObjectSerializer;
 import io.dapr.serializer.DefaultObjectSerializer;
-import io.dapr.utils.DefaultContentTypeConverter;
 import io.dapr.utils.FailurePolicyUtils;
 import io.dapr.utils.TypeRef;
 import io.dapr.v1.CommonProtos;
@@ -140,9 +145,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -167,9 +175,9 @@ public class DaprClientImpl extends AbstractDaprClient {
   private final GrpcChannelFacade channel;
 
   /**
-   * The retry policy.
+   * The resiliency policy for every kind of operation.
    */
-  private final RetryPolicy retryPolicy;
+  private final Map<OperationType, ResiliencyPolicy> resiliencyPolicies;
 
   /**
    * The async gRPC stub.
@@ -185,6 +193,21 @@ public class DaprClientImpl extends AbstractDaprClient {
 
   private final DaprClientGrpcInterceptors grpcInterceptors;
 
+  /**
+   * Encoder for the entries of bulk publish requests, reusing encoders per content type.
+   */
+  private final BulkPublishEncoder bulkPublishEncoder;
+
+  /**
+   * Splits bulk state requests into batches that fit into a gRPC message.
+   */
+  private final BulkStateBatcher bulkStateBatcher;
+
+  /**
+   * Near cache for state reads, null if not enabled.
+   */
+  private final DaprStateCache stateCache;
+
   /**
    * Default access level constructor, in order to create an instance of this class use io.dapr.client.DaprClientBuilder
    *
@@ -243,6 +266,59 @@ public class DaprClientImpl extends AbstractDaprClient {
       DaprObjectSerializer stateSerializer,
       ResiliencyOptions resiliencyOptions,
       String daprApiToken) {
+    this(channel, asyncStub, httpClient, objectSerializer, stateSerializer, resiliencyOptions, daprApiToken, null);
+  }
+
+  /**
+   * Default access level constructor, in order to create an instance of this class use io.dapr.client.DaprClientBuilder
+   *
+   * @param channel           Facade for the managed GRPC channel
+   * @param asyncStub         async gRPC stub
+   * @param httpClient        client for http service invocation
+   * @param objectSerializer  Serializer for transient request/response objects.
+   * @param stateSerializer   Serializer for state objects.
+   * @param resiliencyOptions Client-level override for resiliency options.
+   * @param daprApiToken      Dapr API Token.
+   * @param stateCache        Near cache for state reads, null to disable it.
+   * @see DaprClientBuilder
+   */
+  DaprClientImpl(
+      GrpcChannelFacade channel,
+      DaprGrpc.DaprStub asyncStub,
+      DaprHttp httpClient,
+      DaprObjectSerializer objectSerializer,
+      DaprObjectSerializer stateSerializer,
+      ResiliencyOptions resiliencyOptions,
+      String daprApiToken,
+      DaprStateCache stateCache) {
+    this(channel, asyncStub, httpClient, objectSerializer, stateSerializer, resiliencyOptions, daprApiToken,
+        stateCache, null);
+  }
+
+  /**
+   * Default access level constructor, in order to create an instance of this class use io.dapr.client.DaprClientBuilder
+   *
+   * @param channel           Facade for the managed GRPC channel
+   * @param asyncStub         async gRPC stub
+   * @param httpClient        client for http service invocation
+   * @param objectSerializer  Serializer for transient request/response objects.
+   * @param stateSerializer   Serializer for state objects.
+   * @param resiliencyOptions Client-level override for resiliency options.
+   * @param daprApiToken      Dapr API Token.
+   * @param stateCache        Near cache for state reads, null to disable it.
+   * @param listener          Listener for the client's measurements, null to not take any.
+   * @see DaprClientBuilder
+   */
+  DaprClientImpl(
+      GrpcChannelFacade channel,
+      DaprGrpc.DaprStub asyncStub,
+      DaprHttp httpClient,
+      DaprObjectSerializer objectSerializer,
+      DaprObjectSerializer stateSerializer,
+      ResiliencyOptions resiliencyOptions,
+      String daprApiToken,
+      DaprStateCache stateCache,
+      DaprClientListener listener) {
     this(
         channel,
         asyncStub,
@@ -250,8 +326,10 @@ public class DaprClientImpl extends AbstractDaprClient {
         objectSerializer,
         stateSerializer,
         new TimeoutPolicy(resiliencyOptions == null ? null : resiliencyOptions.getTimeout()),
-        new RetryPolicy(resiliencyOptions == null ? null : resiliencyOptions.getMaxRetries()),
-        daprApiToken);
+        ResiliencyPolicy.forOperations(resiliencyOptions, listener),
+        daprApiToken,
+        stateCache,
+        listener);
   }
 
   /**
@@ -263,8 +341,10 @@ public class DaprClientImpl extends AbstractDaprClient {
    * @param objectSerializer  Serializer for transient request/response objects.
    * @param stateSerializer   Serializer for state objects.
    * @param timeoutPolicy     Client-level timeout policy.
-   * @param retryPolicy       Client-level retry policy.
+   * @param resiliencyPolicies Resiliency policy for every kind of operation.
    * @param daprApiToken      Dapr API Token.
+   * @param stateCache        Near cache for state reads, null to disable it.
+   * @param listener          Listener for the client's measurements, null to not take any.
    * @see DaprClientBuilder
    */
   private DaprClientImpl(
@@ -274,14 +354,23 @@ public class DaprClientImpl extends AbstractDaprClient {
       DaprObjectSerializer objectSerializer,
       DaprObjectSerializer stateSerializer,
       TimeoutPolicy timeoutPolicy,
-      RetryPolicy retryPolicy,
-      String daprApiToken) {
-    super(objectSerializer, stateSerializer);
+      Map<OperationType, ResiliencyPolicy> resiliencyPolicies,
+      String daprApiToken,
+      DaprStateCache stateCache,
+      DaprClientListener listener) {
+    super(
+        InstrumentedObjectSerializer.wrap(objectSerializer, "object", listener),
+        InstrumentedObjectSerializer.wrap(stateSerializer, "state", listener));
     this.channel = channel;
-    this.asyncStub = asyncStub;
+    this.asyncStub = listener == null || asyncStub == null
+        ? asyncStub
+        : asyncStub.withInterceptors(new DaprClientListenerInterceptor(listener));
     this.httpClient = httpClient;
-    this.retryPolicy = retryPolicy;
+    this.resiliencyPolicies = resiliencyPolicies;
     this.grpcInterceptors = new DaprClientGrpcInterceptors(daprApiToken, timeoutPolicy);
+    this.bulkPublishEncoder = new BulkPublishEncoder(objectSerializer);
+    this.bulkStateBatcher = new BulkStateBatcher();
+    this.stateCache = stateCache;
     this.logger = LoggerFactory.getLogger(DaprClientImpl.class);
   }
 
@@ -372,7 +461,7 @@ public class DaprClientImpl extends AbstractDaprClient {
 
       return Mono.deferContextual(
           context ->
-              this.<Empty>createMono(
+              this.<Empty>createMono(OperationType.PUBLISH,
                   it -> intercept(context, asyncStub).publishEvent(envelopeBuilder.build(), it)
               )
       ).then();
@@ -397,94 +486,105 @@ public class DaprClientImpl extends AbstractDaprClient {
         throw new IllegalArgumentException("pubsubName and topic name cannot be null or empty");
       }
 
-      for (BulkPublishEntry<?> entry : request.getEntries()) {
-        Object event = entry.getEvent();
-        byte[] data;
-        String contentType = entry.getContentType();
-        try {
-          // Serialize event into bytes
-          if (!Strings.isNullOrEmpty(contentType) && objectSerializer instanceof DefaultObjectSerializer) {
-            // If content type is given by user and default object serializer is used
-            data = DefaultContentTypeConverter.convertEventToBytesForGrpc(event, contentType);
-          } else {
-            // perform the serialization as per user given input of serializer
-            // this is also the case when content type is empty
-
-            data = objectSerializer.serialize(event);
-
-            if (Strings.isNullOrEmpty(contentType)) {
-              // Only override content type if not given in input by user
-              contentType = objectSerializer.getContentType();
-            }
-          }
-        } catch (IOException ex) {
-          throw DaprException.propagate(ex);
-        }
-
-        DaprPubsubProtos.BulkPublishRequestEntry.Builder reqEntryBuilder = DaprPubsubProtos.BulkPublishRequestEntry
-            .newBuilder()
-            .setEntryId(entry.getEntryId())
-            .setEvent(ByteString.copyFrom(data))
-            .setContentType(contentType);
-        Map<String, String> metadata = entry.getMetadata();
-        if (metadata != null) {
-          reqEntryBuilder.putAllMetadata(metadata);
-        }
-        envelopeBuilder.addEntries(reqEntryBuilder.build());
-      }
-
       // Set metadata if available
       Map<String, String> metadata = request.getMetadata();
       if (metadata != null) {
         envelopeBuilder.putAllMetadata(metadata);
       }
 
-      Map<String, BulkPublishEntry<T>> entryMap = new HashMap<>();
-      for (BulkPublishEntry<T> entry : request.getEntries()) {
-        entryMap.put(entry.getEntryId(), entry);
-      }
-      return Mono.deferContextual(
-          context ->
-              this.<DaprPubsubProtos.BulkPublishResponse>createMono(
-                  it -> intercept(context, asyncStub).bulkPublishEvent(envelopeBuilder.build(), it)
-              ).onErrorResume(throwable -> {
-                // Check if the error is UNIMPLEMENTED, and try the alpha API just in case
-                // The exception might be wrapped in DaprException, so check both
-                Throwable cause = throwable;
-                if (throwable instanceof DaprException && throwable.getCause() != null) {
-                  cause = throwable.getCause();
-                }
-                
-                if (cause instanceof io.grpc.StatusRuntimeException) {
-                  io.grpc.StatusRuntimeException statusException = (io.grpc.StatusRuntimeException) cause;
-                  if (statusException.getStatus().getCode() == io.grpc.Status.Code.UNIMPLEMENTED) {
-                    return this.<DaprPubsubProtos.BulkPublishResponse>createMono(
-                        it -> intercept(context, asyncStub).bulkPublishEventAlpha1(envelopeBuilder.build(), it)
-                    );
-                  }
-                }
-                return Mono.error(throwable);
-              })
-      ).map(
-          it -> {
-            List<BulkPublishResponseFailedEntry<T>> entries = new ArrayList<>();
-            for (DaprPubsubProtos.BulkPublishResponseFailedEntry entry : it.getFailedEntriesList()) {
-              BulkPublishResponseFailedEntry<T> domainEntry = new BulkPublishResponseFailedEntry<T>(
-                  entryMap.get(entry.getEntryId()),
-                  entry.getError());
-              entries.add(domainEntry);
-            }
-            if (entries.size() > 0) {
-              return new BulkPublishResponse<>(entries);
-            }
-            return new BulkPublishResponse<>();
-          }
-      );
+      DaprPubsubProtos.BulkPublishRequest envelope = envelopeBuilder.build();
+      List<DaprPubsubProtos.BulkPublishRequestEntry> entries = bulkPublishEncoder.encode(request.getEntries());
+      List<List<DaprPubsubProtos.BulkPublishRequestEntry>> batches = bulkPublishEncoder.split(envelope, entries);
+      if (batches.size() == 1) {
+        return bulkPublish(envelope.toBuilder().addAllEntries(entries).build())
+            .map(it -> buildBulkPublishResponse(request, it.getFailedEntriesList()));
+      }
+
+      return Mono.defer(() -> {
+        // Batches are independent: a batch that cannot be sent is reported as failed entries, unless all failed.
+        AtomicInteger failedBatches = new AtomicInteger();
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        return Flux.fromIterable(batches)
+            .flatMap(batch -> bulkPublish(envelope.toBuilder().addAllEntries(batch).build())
+                .map(DaprPubsubProtos.BulkPublishResponse::getFailedEntriesList)
+                .onErrorResume(throwable -> {
+                  failedBatches.incrementAndGet();
+                  firstError.compareAndSet(null, throwable);
+                  return Mono.just(toFailedEntries(batch, throwable));
+                }), bulkPublishEncoder.getMaxConcurrentBatches())
+            .collectList()
+            .flatMap(results -> {
+              if (failedBatches.get() == batches.size()) {
+                return Mono.error(firstError.get());
+              }
+
+              List<DaprPubsubProtos.BulkPublishResponseFailedEntry> failedEntries = new ArrayList<>();
+              results.forEach(failedEntries::addAll);
+              return Mono.just(buildBulkPublishResponse(request, failedEntries));
+            });
+      });
     } catch (RuntimeException ex) {
       return DaprException.wrapMono(ex);
     }
   }
 
+  private Mono<DaprPubsubProtos.BulkPublishResponse> bulkPublish(DaprPubsubProtos.BulkPublishRequest envelope) {
+    return Mono.deferContextual(
+        context ->
+            this.<DaprPubsubProtos.BulkPublishResponse>createMono(OperationType.PUBLISH,
+                it -> intercept(context, asyncStub).bulkPublishEvent(envelope, it)
+            ).onErrorResume(throwable -> {
+              // Check if the error is UNIMPLEMENTED, and try the alpha API just in case
+              // The exception might be wrapped in DaprException, so check both
+              Throwable cause = throwable;
+              if (throwable instanceof DaprException && throwable.getCause() != null) {
+                cause = throwable.getCause();
+              }
+
+              if (cause instanceof io.grpc.StatusRuntimeException) {
+                io.grpc.StatusRuntimeException statusException = (io.grpc.StatusRuntimeException) cause;
+                if (statusException.getStatus().getCode() == io.grpc.Status.Code.UNIMPLEMENTED) {
+                  return this.<DaprPubsubProtos.BulkPublishResponse>createMono(OperationType.PUBLISH,
+                      it -> intercept(context, asyncStub).bulkPublishEventAlpha1(envelope, it)
+                  );
+                }
+              }
+              return Mono.error(throwable);
+            })
+    );
+  }
+
+  private static List<DaprPubsubProtos.BulkPublishResponseFailedEntry> toFailedEntries(
+      List<DaprPubsubProtos.BulkPublishRequestEntry> batch, Throwable throwable) {
+    String error = throwable.getMessage() == null ? throwable.toString() : throwable.getMessage();
+    List<DaprPubsubProtos.BulkPublishResponseFailedEntry> failedEntries = new ArrayList<>(batch.size());
+    for (DaprPubsubProtos.BulkPublishRequestEntry entry : batch) {
+      failedEntries.add(DaprPubsubProtos.BulkPublishResponseFailedEntry.newBuilder()
+          .setEntryId(entry.getEntryId())
+          .setError(error)
+          .build());
+    }
+    return failedEntries;
+  }
+
+  private static <T> BulkPublishResponse<T> buildBulkPublishResponse(
+      BulkPublishRequest<T> request, List<DaprPubsubProtos.BulkPublishResponseFailedEntry> failedEntries) {
+    if (failedEntries.isEmpty()) {
+      return new BulkPublishResponse<>();
+    }
+
+    // Entries are only indexed when Dapr reports failures, successful publishes skip this.
+    Map<String, BulkPublishEntry<T>> entryMap = BulkPublishEncoder.indexById(request.getEntries());
+    List<BulkPublishResponseFailedEntry<T>> entries = new ArrayList<>();
+    for (DaprPubsubProtos.BulkPublishResponseFailedEntry entry : failedEntries) {
+      BulkPublishResponseFailedEntry<T> domainEntry = new BulkPublishResponseFailedEntry<T>(
+          entryMap.get(entry.getEntryId()),
+          entry.getError());
+      entries.add(domainEntry);
+    }
+    return new BulkPublishResponse<>(entries);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -625,23 +725,17 @@ public class DaprClientImpl extends AbstractDaprClient {
         return null;
       }
 
-      try {
-        CloudEvent<T> cloudEvent = new CloudEvent<>();
-        T object = null;
-        if (type != null) {
-          object = DaprClientImpl.this.objectSerializer.deserialize(message.getData().toByteArray(), type);
-        }
-        cloudEvent.setData(object);
-        cloudEvent.setDatacontenttype(message.getDataContentType());
-        cloudEvent.setId(message.getId());
-        cloudEvent.setTopic(message.getTopic());
-        cloudEvent.setSpecversion(message.getSpecVersion());
-        cloudEvent.setType(message.getType());
-        cloudEvent.setPubsubName(message.getPubsubName());
-        return cloudEvent;
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
+      // The listener decodes the data when it reads it, a malformed payload is then acked DROP by the subscription.
+      CloudEvent<T> cloudEvent = new LazyCloudEvent<>(message.getData(), type == null
+          ? null
+          : data -> DaprClientImpl.this.objectSerializer.deserialize(data.toByteArray(), type));
+      cloudEvent.setDatacontenttype(message.getDataContentType());
+      cloudEvent.setId(message.getId());
+      cloudEvent.setTopic(message.getTopic());
+      cloudEvent.setSpecversion(message.getSpecVersion());
+      cloudEvent.setType(message.getType());
+      cloudEvent.setPubsubName(message.getPubsubName());
+      return cloudEvent;
     });
     subscription.start();
     return subscription;
@@ -817,12 +911,26 @@ public class DaprClientImpl extends AbstractDaprClient {
 
       DaprStateProtos.GetStateRequest envelope = builder.build();
 
-      return Mono.deferContextual(
+      Mono<DaprStateProtos.GetStateResponse> response = Mono.deferContextual(
           context ->
-              this.<DaprStateProtos.GetStateResponse>createMono(
+              this.<DaprStateProtos.GetStateResponse>createMono(OperationType.STATE_READ,
                   it -> intercept(context, asyncStub).getState(envelope, it)
               )
-      ).map(
+      );
+      if (stateCache != null && DaprStateCache.isCacheable(options, metadata)) {
+        Mono<DaprStateProtos.GetStateResponse> load = response;
+        response = Mono.defer(() -> {
+          DaprStateProtos.GetStateResponse cached = stateCache.get(stateStoreName, key);
+          if (cached != null) {
+            return Mono.just(cached);
+          }
+
+          long loadToken = stateCache.startLoad();
+          return load.doOnNext(it -> stateCache.put(loadToken, stateStoreName, key, it));
+        });
+      }
+
+      return response.map(
           it -> {
             try {
               return buildStateKeyValue(it, key, options, type);
@@ -841,6 +949,14 @@ public class DaprClientImpl extends AbstractDaprClient {
    */
   @Override
   public <T> Mono<List<State<T>>> getBulkState(GetBulkStateRequest request, TypeRef<T> type) {
+    return getBulkStateStream(request, type).collectList();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Flux<State<T>> getBulkStateStream(GetBulkStateRequest request, TypeRef<T> type) {
     try {
       final String stateStoreName = request.getStoreName();
       final List<String> keys = request.getKeys();
@@ -858,35 +974,127 @@ public class DaprClientImpl extends AbstractDaprClient {
       }
       DaprStateProtos.GetBulkStateRequest.Builder builder = DaprStateProtos.GetBulkStateRequest.newBuilder()
           .setStoreName(stateStoreName)
-          .addAllKeys(keys)
           .setParallelism(parallelism);
       if (metadata != null) {
         builder.putAllMetadata(metadata);
       }
 
       DaprStateProtos.GetBulkStateRequest envelope = builder.build();
+      boolean cacheable = stateCache != null && DaprStateCache.isCacheable(null, metadata);
+      List<List<String>> batches = bulkStateBatcher.splitKeys(envelope, keys);
+
+      Flux<DaprStateProtos.BulkStateItem> items;
+      if (batches.size() == 1) {
+        items = getBulkStateBatch(envelope.toBuilder().addAllKeys(keys).build(), cacheable)
+            .flatMapIterable(it -> it);
+      } else {
+        // Batches are retrieved concurrently but emitted in order, so states follow the order of the keys.
+        items = Flux.fromIterable(batches)
+            .flatMapSequential(
+                batch -> getBulkStateBatch(envelope.toBuilder().addAllKeys(batch).build(), cacheable),
+                bulkStateBatcher.getMaxConcurrentBatches())
+            .flatMapIterable(it -> it);
+      }
+
+      return items.map(b -> {
+        try {
+          return buildStateKeyValue(b, type);
+        } catch (Exception e) {
+          throw DaprException.propagate(e);
+        }
+      });
+    } catch (Exception ex) {
+      return DaprException.wrapFlux(ex);
+    }
+  }
 
+  private Mono<List<DaprStateProtos.BulkStateItem>> getBulkStateBatch(
+      DaprStateProtos.GetBulkStateRequest envelope, boolean cacheable) {
+    if (cacheable) {
+      return getCachedBulkState(envelope);
+    }
+
+    return Mono.deferContextual(
+        context -> this.<DaprStateProtos.GetBulkStateResponse>createMono(OperationType.STATE_READ,
+            it -> intercept(context, asyncStub).getBulkState(envelope, it)
+        )
+    ).map(DaprStateProtos.GetBulkStateResponse::getItemsList);
+  }
+
+  /**
+   * Serves the keys found in the state cache and only requests the remaining ones from Dapr.
+   */
+  private Mono<List<DaprStateProtos.BulkStateItem>> getCachedBulkState(DaprStateProtos.GetBulkStateRequest envelope) {
+    return Mono.defer(() -> {
+      String storeName = envelope.getStoreName();
+      List<String> keys = envelope.getKeysList();
+      DaprStateProtos.BulkStateItem[] items = new DaprStateProtos.BulkStateItem[keys.size()];
+      List<String> missingKeys = new ArrayList<>();
+      for (int i = 0; i < items.length; i++) {
+        DaprStateProtos.GetStateResponse cached = stateCache.get(storeName, keys.get(i));
+        if (cached == null) {
+          missingKeys.add(keys.get(i));
+        } else {
+          items[i] = DaprStateProtos.BulkStateItem.newBuilder()
+              .setKey(keys.get(i))
+              .setData(cached.getData())
+              .setEtag(cached.getEtag())
+              .putAllMetadata(cached.getMetadataMap())
+              .build();
+        }
+      }
+
+      if (missingKeys.isEmpty()) {
+        return Mono.just(Arrays.asList(items));
+      }
+
+      long loadToken = stateCache.startLoad();
+      DaprStateProtos.GetBulkStateRequest missingEnvelope = envelope.toBuilder()
+          .clearKeys()
+          .addAllKeys(missingKeys)
+          .build();
       return Mono.deferContextual(
-          context -> this.<DaprStateProtos.GetBulkStateResponse>createMono(it -> intercept(context, asyncStub)
-              .getBulkState(envelope, it)
+          context -> this.<DaprStateProtos.GetBulkStateResponse>createMono(OperationType.STATE_READ,
+              it -> intercept(context, asyncStub).getBulkState(missingEnvelope, it)
           )
-      ).map(
-          it ->
-              it
-                  .getItemsList()
-                  .stream()
-                  .map(b -> {
-                    try {
-                      return buildStateKeyValue(b, type);
-                    } catch (Exception e) {
-                      throw DaprException.propagate(e);
-                    }
-                  })
-                  .collect(Collectors.toList())
-      );
-    } catch (Exception ex) {
-      return DaprException.wrapMono(ex);
+      ).map(response -> {
+        Map<String, DaprStateProtos.BulkStateItem> loaded = new HashMap<>();
+        for (DaprStateProtos.BulkStateItem item : response.getItemsList()) {
+          loaded.put(item.getKey(), item);
+          if (Strings.isNullOrEmpty(item.getError())) {
+            stateCache.put(loadToken, storeName, item.getKey(), DaprStateProtos.GetStateResponse.newBuilder()
+                .setData(item.getData())
+                .setEtag(item.getEtag())
+                .putAllMetadata(item.getMetadataMap())
+                .build());
+          }
+        }
+
+        List<DaprStateProtos.BulkStateItem> result = new ArrayList<>(items.length);
+        for (int i = 0; i < items.length; i++) {
+          DaprStateProtos.BulkStateItem item = items[i] != null ? items[i] : loaded.get(keys.get(i));
+          if (item != null) {
+            result.add(item);
+          }
+        }
+        return result;
+      });
+    });
+  }
+
+  /**
+   * Invalidates the cached states written by a request, both before and after the write so that concurrent reads
+   * cannot cache the value being replaced.
+   */
+  private Mono<Void> invalidateStateOnWrite(String storeName, List<String> keys, Mono<Void> write) {
+    if (stateCache == null || keys.isEmpty()) {
+      return write;
     }
+
+    return Mono.defer(() -> {
+      stateCache.invalidate(storeName, keys);
+      return write;
+    }).doFinally(signal -> stateCache.invalidate(storeName, keys));
   }
 
   private <T> State<T> buildStateKeyValue(
@@ -960,10 +1168,14 @@ public class DaprClientImpl extends AbstractDaprClient {
       }
       DaprStateProtos.ExecuteStateTransactionRequest req = builder.build();
 
-      return Mono.deferContextual(
-          context -> this.<Empty>createMono(it -> intercept(context, asyncStub)
-              .executeStateTransaction(req, it))
-      ).then();
+      List<String> keys = new ArrayList<>(req.getOperationsCount());
+      for (DaprStateProtos.TransactionalStateOperation operation : req.getOperationsList()) {
+        keys.add(operation.getRequest().getKey());
+      }
+      return invalidateStateOnWrite(stateStoreName, keys, Mono.deferContextual(
+          context -> this.<Empty>createMono(OperationType.STATE_WRITE,
+              it -> intercept(context, asyncStub).executeStateTransaction(req, it))
+      ).then());
     } catch (Exception e) {
       return DaprException.wrapMono(e);
     }
@@ -980,21 +1192,47 @@ public class DaprClientImpl extends AbstractDaprClient {
       if ((stateStoreName == null) || (stateStoreName.trim().isEmpty())) {
         throw new IllegalArgumentException("State store name cannot be null or empty.");
       }
-      DaprStateProtos.SaveStateRequest.Builder builder = DaprStateProtos.SaveStateRequest.newBuilder();
-      builder.setStoreName(stateStoreName);
-      for (State<?> state : states) {
-        builder.addStates(buildStateRequest(state).build());
+      DaprStateProtos.SaveStateRequest envelope = DaprStateProtos.SaveStateRequest.newBuilder()
+          .setStoreName(stateStoreName)
+          .build();
+      List<CommonProtos.StateItem> items = bulkStateBatcher.encode(states, state -> buildStateRequest(state).build());
+      List<List<CommonProtos.StateItem>> batches = bulkStateBatcher.splitStates(envelope, items);
+
+      List<String> keys = new ArrayList<>(items.size());
+      for (CommonProtos.StateItem state : items) {
+        keys.add(state.getKey());
+      }
+
+      Mono<Void> save;
+      if (batches.size() == 1) {
+        save = saveStateBatch(envelope.toBuilder().addAllStates(items).build());
+      } else if (new HashSet<>(keys).size() < keys.size()) {
+        // A key saved more than once may span batches, which are then sent in order so the last value still wins.
+        save = Flux.fromIterable(batches)
+            .concatMap(batch -> saveStateBatch(envelope.toBuilder().addAllStates(batch).build()))
+            .then();
+      } else {
+        // Bulk saves are not transactional, a failed batch fails the request without undoing the other batches.
+        save = Flux.fromIterable(batches)
+            .flatMap(
+                batch -> saveStateBatch(envelope.toBuilder().addAllStates(batch).build()),
+                bulkStateBatcher.getMaxConcurrentBatches())
+            .then();
       }
-      DaprStateProtos.SaveStateRequest req = builder.build();
 
-      return Mono.deferContextual(
-          context -> this.<Empty>createMono(it -> intercept(context, asyncStub).saveState(req, it))
-      ).then();
+      return invalidateStateOnWrite(stateStoreName, keys, save);
     } catch (Exception ex) {
       return DaprException.wrapMono(ex);
     }
   }
 
+  private Mono<Void> saveStateBatch(DaprStateProtos.SaveStateRequest req) {
+    return Mono.deferContextual(
+        context -> this.<Empty>createMono(OperationType.STATE_WRITE,
+            it -> intercept(context, asyncStub).saveState(req, it))
+    ).then();
+  }
+
   private <T> CommonProtos.StateItem.Builder buildStateRequest(State<T> state) throws IOException {
     byte[] bytes = stateSerializer.serialize(state.getValue());
 
@@ -1071,9 +1309,10 @@ public class DaprClientImpl extends AbstractDaprClient {
 
       DaprStateProtos.DeleteStateRequest req = builder.build();
 
-      return Mono.deferContextual(
-          context -> this.<Empty>createMono(it -> intercept(context, asyncStub).deleteState(req, it))
-      ).then();
+      return invalidateStateOnWrite(stateStoreName, Collections.singletonList(key), Mono.deferContextual(
+          context -> this.<Empty>createMono(OperationType.STATE_WRITE,
+              it -> intercept(context, asyncStub).deleteState(req, it))
+      ).then());
     } catch (Exception ex) {
       return DaprException.wrapMono(ex);
     }
@@ -1278,7 +1517,7 @@ public class DaprClientImpl extends AbstractDaprClient {
       DaprStateProtos.QueryStateRequest envelope = builder.build();
 
       return Mono.deferContextual(
-          context -> this.<DaprStateProtos.QueryStateResponse>createMono(
+          context -> this.<DaprStateProtos.QueryStateResponse>createMono(OperationType.STATE_READ,
               it -> intercept(context, asyncStub).queryStateAlpha1(envelope, it)
           )
       ).map(
@@ -1302,6 +1541,86 @@ public class DaprClientImpl extends AbstractDaprClient {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Flux<QueryStateItem<T>> queryStateStream(QueryStateRequest request, TypeRef<T> type) {
+    try {
+      if (request == null) {
+        throw new IllegalArgumentException("Query state request cannot be null.");
+      }
+      final String storeName = request.getStoreName();
+      final Map<String, String> metadata = request.getMetadata();
+      if ((storeName == null) || (storeName.trim().isEmpty())) {
+        throw new IllegalArgumentException("State store name cannot be null or empty.");
+      }
+
+      JsonNode query;
+      if (request.getQuery() != null) {
+        query = JSON_REQUEST_MAPPER.valueToTree(request.getQuery());
+      } else if (request.getQueryString() != null) {
+        query = JSON_REQUEST_MAPPER.readTree(request.getQueryString());
+      } else {
+        throw new IllegalArgumentException("Both query and queryString fields are not set.");
+      }
+      if (!(query instanceof ObjectNode)) {
+        throw new IllegalArgumentException("Query must be a JSON object to be paginated.");
+      }
+
+      DaprStateProtos.QueryStateRequest.Builder builder = DaprStateProtos.QueryStateRequest.newBuilder()
+          .setStoreName(storeName);
+      if (metadata != null) {
+        builder.putAllMetadata(metadata);
+      }
+
+      DaprStateProtos.QueryStateRequest envelope = builder.build();
+      ObjectNode queryObject = (ObjectNode) query;
+      String initialToken = queryObject.path("page").path("token").asText("");
+
+      // Expanding a page subscribes to the next one as soon as it arrives, regardless of downstream demand, which
+      // bounds the lookahead to a single page.
+      return queryStatePage(envelope, queryObject, initialToken)
+          .expand(page -> Strings.isNullOrEmpty(page.getToken()) || page.getResultsCount() == 0
+              ? Mono.empty()
+              : queryStatePage(envelope, queryObject, page.getToken()))
+          .concatMapIterable(page -> () -> page.getResultsList()
+              .stream()
+              .map(v -> {
+                try {
+                  return buildQueryStateKeyValue(v, type);
+                } catch (Exception e) {
+                  throw DaprException.propagate(e);
+                }
+              })
+              .iterator(), 1);
+    } catch (Exception ex) {
+      return DaprException.wrapFlux(ex);
+    }
+  }
+
+  private Mono<DaprStateProtos.QueryStateResponse> queryStatePage(
+      DaprStateProtos.QueryStateRequest envelope, ObjectNode query, String token) {
+    try {
+      ObjectNode page = query.deepCopy();
+      if (!token.isEmpty()) {
+        JsonNode pagination = page.get("page");
+        (pagination instanceof ObjectNode ? (ObjectNode) pagination : page.putObject("page")).put("token", token);
+      }
+
+      DaprStateProtos.QueryStateRequest pageEnvelope = envelope.toBuilder()
+          .setQuery(JSON_REQUEST_MAPPER.writeValueAsString(page))
+          .build();
+      return Mono.deferContextual(
+          context -> this.<DaprStateProtos.QueryStateResponse>createMono(OperationType.STATE_READ,
+              it -> intercept(context, asyncStub).queryStateAlpha1(pageEnvelope, it)
+          )
+      );
+    } catch (Exception ex) {
+      return DaprException.wrapMono(ex);
+    }
+  }
+
   private <T> QueryStateItem<T> buildQueryStateKeyValue(
       DaprStateProtos.QueryStateItem item,
       TypeRef<T> type) throws IOException {
@@ -1730,11 +2049,20 @@ public class DaprClientImpl extends AbstractDaprClient {
   }
 
   private <T> Mono<T> createMono(Consumer<StreamObserver<T>> consumer) {
-    return this.createMono(null, consumer);
+    return this.createMono(OperationType.OTHER, null, consumer);
+  }
+
+  private <T> Mono<T> createMono(OperationType operationType, Consumer<StreamObserver<T>> consumer) {
+    return this.createMono(operationType, null, consumer);
   }
 
   private <T> Mono<T> createMono(Metadata metadata, Consumer<StreamObserver<T>> consumer) {
-    return retryPolicy.apply(
+    return this.createMono(OperationType.OTHER, metadata, consumer);
+  }
+
+  private <T> Mono<T> createMono(
+      OperationType operationType, Metadata metadata, Consumer<StreamObserver<T>> consumer) {
+    return resiliencyPolicies.get(operationType).apply(
         Mono.create(sink -> DaprException.wrap(() -> consumer.accept(
             createStreamObserver(sink, metadata))).run()));
   }
@@ -1744,7 +2072,7 @@ public class DaprClientImpl extends AbstractDaprClient {
   }
 
   private <T> Flux<T> createFlux(Metadata metadata, Consumer<StreamObserver<T>> consumer) {
-    return retryPolicy.apply(
+    return resiliencyPolicies.get(OperationType.OTHER).apply(
         Flux.create(sink -> DaprException.wrap(() -> consumer.accept(createStreamObserver(sink, metadata))).run()));
   }
 
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.PublishEventRequest;
+import io.dapr.client.domain.PublishEventResult;
+import io.dapr.exceptions.DaprException;
+import io.dapr.utils.Histogram;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publishes events through a {@link DaprClient} with a bounded number of in-flight requests.
+ *
+ * <p>Calling {@link DaprClient#publishEvent(PublishEventRequest)} for a large number of events at once opens as
+ * many concurrent requests to Dapr. This publisher queues the events instead and keeps at most
+ * {@code maxInFlight} of them being published at any time. Queued events are dispatched round-robin across
+ * topics, so a burst on one topic does not delay the events published to other topics.</p>
+ *
+ * <p>The queue is bounded: events submitted while it is full are not published and fail with the
+ * {@code PUBLISH_QUEUE_FULL} error code. {@link #publish(Flux)} only requests as many events from its source as
+ * the queue can hold, so streaming sources are slowed down instead. For example:</p>
+ * <pre>{@code
+ * DaprEventPublisher publisher = new DaprEventPublisher(client, 128, 4096);
+ * publisher.publish(Flux.fromIterable(orders)
+ *         .map(order -> new PublishEventRequest("pubsub", "orders", order)))
+ *     .filter(result -> !result.isSuccess())
+ *     .subscribe(result -> log.warn("Failed to publish", result.getError()));
+ * }</pre>
+ */
+public final class DaprEventPublisher {
+
+  /**
+   * Default maximum number of events being published at the same time.
+   */
+  public static final int DEFAULT_MAX_IN_FLIGHT = 64;
+
+  /**
+   * Default maximum number of events waiting to be published.
+   */
+  public static final int DEFAULT_MAX_QUEUE_SIZE = 1024;
+
+  private static final String QUEUE_FULL_ERROR_CODE = "PUBLISH_QUEUE_FULL";
+
+  private final DaprClient client;
+
+  private final int maxInFlight;
+
+  private final int maxQueueSize;
+
+  /**
+   * Pending events per pubsub and topic, only guarded by {@link #lock}.
+   */
+  private final Map<String, ArrayDeque<PendingPublish>> queues = new HashMap<>();
+
+  /**
+   * Topics with pending events, in round-robin order, only guarded by {@link #lock}.
+   */
+  private final ArrayDeque<String> topics = new ArrayDeque<>();
+
+  private final Object lock = new Object();
+
+  private final AtomicInteger drainWip = new AtomicInteger();
+
+  private final Histogram queueDepthHistogram = Histogram.exponential(1, 2, 20);
+
+  private final Histogram latencyHistogram = Histogram.exponential(100, 2, 20);
+
+  private int queueDepth;
+
+  private int inFlight;
+
+  /**
+   * Instantiates a DaprEventPublisher with the default limits.
+   *
+   * @param client Client used to publish events.
+   */
+  public DaprEventPublisher(DaprClient client) {
+    this(client, DEFAULT_MAX_IN_FLIGHT, DEFAULT_MAX_QUEUE_SIZE);
+  }
+
+  /**
+   * Instantiates a DaprEventPublisher.
+   *
+   * @param client       Client used to publish events.
+   * @param maxInFlight  Maximum number of events being published at the same time.
+   * @param maxQueueSize Maximum number of events waiting to be published.
+   */
+  public DaprEventPublisher(DaprClient client, int maxInFlight, int maxQueueSize) {
+    if (client == null) {
+      throw new IllegalArgumentException("Client is required");
+    }
+
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("maxInFlight must be greater than 0");
+    }
+
+    if (maxQueueSize < 1) {
+      throw new IllegalArgumentException("maxQueueSize must be greater than 0");
+    }
+
+    this.client = client;
+    this.maxInFlight = maxInFlight;
+    this.maxQueueSize = maxQueueSize;
+  }
+
+  /**
+   * Publishes a single event once an in-flight slot is available.
+   *
+   * @param request Request to publish the event.
+   * @return Mono completing once Dapr accepted the event, or with the publish error.
+   */
+  public Mono<Void> publish(PublishEventRequest request) {
+    return submit(request).flatMap(result -> result.isSuccess() ? Mono.empty() : Mono.error(result.getError()));
+  }
+
+  /**
+   * Publishes a stream of events, requesting from the source no more events than the queue can hold.
+   *
+   * <p>Failures do not terminate the returned stream, they are reported in the corresponding result.
+   * Results are emitted in completion order.</p>
+   *
+   * @param requests Requests to publish the events.
+   * @return Outcome of each publish.
+   */
+  public Flux<PublishEventResult> publish(Flux<PublishEventRequest> requests) {
+    return requests.flatMap(this::submit, maxQueueSize);
+  }
+
+  /**
+   * Gets the number of events waiting to be published.
+   *
+   * @return Number of queued events.
+   */
+  public int getQueueDepth() {
+    synchronized (lock) {
+      return queueDepth;
+    }
+  }
+
+  /**
+   * Gets the number of events being published.
+   *
+   * @return Number of in-flight events.
+   */
+  public int getInFlight() {
+    synchronized (lock) {
+      return inFlight;
+    }
+  }
+
+  /**
+   * Gets the histogram of queue depths, sampled every time an event is queued.
+   *
+   * @return Queue depth histogram.
+   */
+  public Histogram getQueueDepthHistogram() {
+    return queueDepthHistogram;
+  }
+
+  /**
+   * Gets the histogram of publish latencies in microseconds, from dispatch to Dapr's response.
+   *
+   * @return Publish latency histogram.
+   */
+  public Histogram getLatencyHistogram() {
+    return latencyHistogram;
+  }
+
+  private Mono<PublishEventResult> submit(PublishEventRequest request) {
+    return Mono.create(sink -> {
+      PendingPublish pending = new PendingPublish(request, sink);
+      sink.onCancel(() -> cancel(pending));
+      if (!enqueue(pending)) {
+        sink.success(new PublishEventResult(request, new DaprException(QUEUE_FULL_ERROR_CODE,
+            "Publish queue is full, " + maxQueueSize + " events are waiting to be published", null),
+            Duration.ZERO));
+        return;
+      }
+
+      drain();
+    });
+  }
+
+  private boolean enqueue(PendingPublish pending) {
+    int depth;
+    synchronized (lock) {
+      if (queueDepth >= maxQueueSize) {
+        return false;
+      }
+
+      String key = pending.request.getPubsubName() + "/" + pending.request.getTopic();
+      ArrayDeque<PendingPublish> queue = queues.get(key);
+      if (queue == null) {
+        queue = new ArrayDeque<>();
+        queues.put(key, queue);
+        topics.addLast(key);
+      }
+
+      queue.addLast(pending);
+      depth = ++queueDepth;
+    }
+
+    queueDepthHistogram.record(depth);
+    return true;
+  }
+
+  private void cancel(PendingPublish pending) {
+    synchronized (lock) {
+      if (!pending.dispatched && !pending.cancelled) {
+        // The entry is skipped when polled, it no longer counts against the queue size.
+        pending.cancelled = true;
+        queueDepth--;
+      }
+    }
+  }
+
+  /**
+   * Dispatches queued events while in-flight slots are available. Publishes completing synchronously call back
+   * into this method, so the loop is only run by one thread at a time to avoid unbounded recursion.
+   */
+  private void drain() {
+    if (drainWip.getAndIncrement() != 0) {
+      return;
+    }
+
+    do {
+      while (true) {
+        PendingPublish next;
+        synchronized (lock) {
+          if (inFlight >= maxInFlight) {
+            break;
+          }
+
+          next = pollNext();
+          if (next == null) {
+            break;
+          }
+
+          next.dispatched = true;
+          queueDepth--;
+          inFlight++;
+        }
+
+        dispatch(next);
+      }
+    } while (drainWip.decrementAndGet() != 0);
+  }
+
+  private PendingPublish pollNext() {
+    while (!topics.isEmpty()) {
+      String key = topics.pollFirst();
+      ArrayDeque<PendingPublish> queue = queues.get(key);
+      PendingPublish next = queue.pollFirst();
+      while (next != null && next.cancelled) {
+        next = queue.pollFirst();
+      }
+
+      if (queue.isEmpty()) {
+        queues.remove(key);
+      } else {
+        topics.addLast(key);
+      }
+
+      if (next != null) {
+        return next;
+      }
+    }
+
+    return null;
+  }
+
+  private void dispatch(PendingPublish pending) {
+    long start = System.nanoTime();
+    Mono<Void> publish;
+    try {
+      publish = client.publishEvent(pending.request);
+    } catch (RuntimeException e) {
+      complete(pending, e, start);
+      return;
+    }
+
+    publish
+        .contextWrite(pending.sink.contextView())
+        .subscribe(
+            ignored -> { },
+            error -> complete(pending, error, start),
+            () -> complete(pending, null, start));
+  }
+
+  private void complete(PendingPublish pending, Throwable error, long start) {
+    long elapsed = System.nanoTime() - start;
+    latencyHistogram.record(TimeUnit.NANOSECONDS.toMicros(elapsed));
+    synchronized (lock) {
+      inFlight--;
+    }
+
+    pending.sink.success(new PublishEventResult(pending.request, error, Duration.ofNanos(elapsed)));
+    drain();
+  }
+
+  private static final class PendingPublish {
+
+    private final PublishEventRequest request;
+
+    private final MonoSink<PublishEventResult> sink;
+
+    /**
+     * Whether the event was handed to the client, only guarded by the publisher's lock.
+     */
+    private boolean dispatched;
+
+    /**
+     * Whether the subscriber cancelled before the event was dispatched, only guarded by the publisher's lock.
+     */
+    private boolean cancelled;
+
+    private PendingPublish(PublishEventRequest request, MonoSink<PublishEventResult> sink) {
+      this.request = request;
+      this.sink = sink;
+    }
+  }
+}
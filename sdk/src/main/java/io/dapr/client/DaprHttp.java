@@ -37,9 +37,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class DaprHttp implements AutoCloseable {
 
@@ -66,8 +66,8 @@ public class DaprHttp implements AutoCloseable {
   /**
    * Context entries allowed to be in HTTP Headers.
    */
-  private static final Set<String> ALLOWED_CONTEXT_IN_HEADERS =
-      Set.of("grpc-trace-bin", "traceparent", "tracestate", "baggage");
+  private static final String[] ALLOWED_CONTEXT_IN_HEADERS =
+      { "grpc-trace-bin", "traceparent", "tracestate", "baggage" };
 
   /**
    * Object mapper to parse DaprError with or without details.
@@ -141,6 +141,11 @@ public class DaprHttp implements AutoCloseable {
    */
   private final URI uri;
 
+  /**
+   * Scheme, authority and base path of {@link #uri}, the fixed prefix of every request URI.
+   */
+  private final String uriPrefix;
+
   /**
    * Dapr API Token required to interact with DAPR APIs.
    */
@@ -156,6 +161,11 @@ public class DaprHttp implements AutoCloseable {
    */
   private final HttpClient httpClient;
 
+  /**
+   * Bounds the requests in flight, null for no limit.
+   */
+  private final HttpRequestLimiter requestLimiter;
+
   /**
    * Creates a new instance of {@link DaprHttp}.
    *
@@ -165,10 +175,21 @@ public class DaprHttp implements AutoCloseable {
    * @param httpClient RestClient used for all API calls in this new instance.
    */
   DaprHttp(String hostname, int port, String daprApiToken, Duration readTimeout, HttpClient httpClient) {
-    this.uri = URI.create(DEFAULT_HTTP_SCHEME + "://" + hostname + ":" + port);
-    this.daprApiToken = daprApiToken;
-    this.readTimeout = readTimeout;
-    this.httpClient = httpClient;
+    this(hostname, port, daprApiToken, readTimeout, httpClient, null);
+  }
+
+  /**
+   * Creates a new instance of {@link DaprHttp}.
+   *
+   * @param hostname       Hostname for calling Dapr. (e.g. "127.0.0.1")
+   * @param port           Port for calling Dapr. (e.g. 3500)
+   * @param readTimeout    HTTP request read timeout
+   * @param httpClient     RestClient used for all API calls in this new instance.
+   * @param requestLimiter Bounds the requests in flight, null for no limit.
+   */
+  DaprHttp(String hostname, int port, String daprApiToken, Duration readTimeout, HttpClient httpClient,
+      HttpRequestLimiter requestLimiter) {
+    this(DEFAULT_HTTP_SCHEME + "://" + hostname + ":" + port, daprApiToken, readTimeout, httpClient, requestLimiter);
   }
 
   /**
@@ -179,10 +200,25 @@ public class DaprHttp implements AutoCloseable {
    * @param httpClient RestClient used for all API calls in this new instance.
    */
   DaprHttp(String uri, String daprApiToken, Duration readTimeout, HttpClient httpClient) {
+    this(uri, daprApiToken, readTimeout, httpClient, null);
+  }
+
+  /**
+   * Creates a new instance of {@link DaprHttp}.
+   *
+   * @param uri            Endpoint for calling Dapr.
+   * @param readTimeout    HTTP request read timeout
+   * @param httpClient     RestClient used for all API calls in this new instance.
+   * @param requestLimiter Bounds the requests in flight, null for no limit.
+   */
+  DaprHttp(String uri, String daprApiToken, Duration readTimeout, HttpClient httpClient,
+      HttpRequestLimiter requestLimiter) {
     this.uri = URI.create(uri);
+    this.uriPrefix = this.uri.getScheme() + "://" + this.uri.getAuthority() + this.uri.getPath();
     this.daprApiToken = daprApiToken;
     this.readTimeout = readTimeout;
     this.httpClient = httpClient;
+    this.requestLimiter = requestLimiter;
   }
 
   URI getBaseUri() {
@@ -297,9 +333,9 @@ public class DaprHttp implements AutoCloseable {
       ContextView context) {
     HttpRequest.Builder requestBuilder = HttpRequest.newBuilder();
 
-    requestBuilder.uri(createUri(uri, pathSegments, urlParameters));
+    requestBuilder.uri(createUri(uriPrefix, pathSegments, urlParameters));
     addHeader(requestBuilder, Headers.DAPR_USER_AGENT, Version.getSdkVersion());
-    addHeader(requestBuilder, HEADER_DAPR_REQUEST_ID, UUID.randomUUID().toString());
+    addHeader(requestBuilder, HEADER_DAPR_REQUEST_ID, createRequestId());
     addHeader(requestBuilder, "Content-Type", getContentType(headers));
     addHeaders(requestBuilder, headers);
 
@@ -307,27 +343,33 @@ public class DaprHttp implements AutoCloseable {
       addHeader(requestBuilder, Headers.DAPR_API_TOKEN, daprApiToken);
     }
 
-    if (context != null) {
-      context.stream()
-          .filter(entry -> ALLOWED_CONTEXT_IN_HEADERS.contains(entry.getKey().toString().toLowerCase()))
-          .forEach(entry -> addHeader(requestBuilder, entry.getKey().toString(), entry.getValue().toString()));
+    if (context != null && !context.isEmpty()) {
+      addContextHeaders(requestBuilder, context);
     }
 
-    HttpRequest.BodyPublisher body = getBodyPublisher(content);
-
-    if (HttpMethods.GET.name().equals(method)) {
-      requestBuilder.GET();
-    } else if (HttpMethods.DELETE.name().equals(method)) {
-      requestBuilder.DELETE();
-    } else if (HttpMethods.HEAD.name().equals(method)) {
-      // HTTP HEAD is not exposed as a normal method
-      requestBuilder.method(HttpMethods.HEAD.name(), EMPTY_BODY_PUBLISHER);
-    } else {
-      requestBuilder.method(method, body);
+    switch (method) {
+      case "GET":
+        requestBuilder.GET();
+        break;
+      case "DELETE":
+        requestBuilder.DELETE();
+        break;
+      case "HEAD":
+        // HTTP HEAD is not exposed as a normal method
+        requestBuilder.method(HttpMethods.HEAD.name(), EMPTY_BODY_PUBLISHER);
+        break;
+      default:
+        requestBuilder.method(method, getBodyPublisher(content));
+        break;
     }
 
     HttpRequest request = requestBuilder.timeout(readTimeout).build();
 
+    if (requestLimiter != null) {
+      return requestLimiter.submit(() -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+          .thenApply(this::createResponse));
+    }
+
     return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
         .thenApply(this::createResponse);
   }
@@ -338,16 +380,11 @@ public class DaprHttp implements AutoCloseable {
     return result == null ? MEDIA_TYPE_APPLICATION_JSON : result;
   }
 
-  private static URI createUri(URI uri, String[] pathSegments, Map<String, List<String>> urlParameters) {
-    String path = createPath(uri, pathSegments);
-    String query = createQuery(urlParameters);
-    StringBuilder result = new StringBuilder();
-
-    result.append(uri.getScheme()).append("://").append(uri.getAuthority()).append(path);
+  private static URI createUri(String uriPrefix, String[] pathSegments, Map<String, List<String>> urlParameters) {
+    StringBuilder result = new StringBuilder(uriPrefix.length() + 64).append(uriPrefix);
 
-    if (query != null) {
-      result.append("?").append(query);
-    }
+    appendPath(result, uriPrefix, pathSegments);
+    appendQuery(result, urlParameters);
 
     try {
       return URI.create(result.toString());
@@ -356,17 +393,13 @@ public class DaprHttp implements AutoCloseable {
     }
   }
 
-  private static String createPath(URI uri, String[] pathSegments) {
-    String basePath = uri.getPath();
-
+  private static void appendPath(StringBuilder result, String uriPrefix, String[] pathSegments) {
     if (pathSegments == null || pathSegments.length == 0) {
-      return basePath;
+      return;
     }
 
-    StringBuilder pathBuilder = new StringBuilder(basePath);
-
-    if (!basePath.endsWith("/")) { // Add a "/" if needed
-      pathBuilder.append("/");
+    if (!uriPrefix.endsWith("/")) { // Add a "/" if needed
+      result.append('/');
     }
 
     for (String segment : pathSegments) {
@@ -374,20 +407,18 @@ public class DaprHttp implements AutoCloseable {
         continue; // Skip empty segments
       }
 
-      pathBuilder.append(encodePathSegment(segment)).append("/"); // Encode each segment
+      appendEncoded(result, segment, true).append('/'); // Encode each segment
     }
 
-    pathBuilder.deleteCharAt(pathBuilder.length() - 1); // Remove the trailing "/"
-
-    return pathBuilder.toString();
+    result.setLength(result.length() - 1); // Remove the trailing "/"
   }
 
-  private static String createQuery(Map<String, List<String>> urlParameters) {
+  private static void appendQuery(StringBuilder result, Map<String, List<String>> urlParameters) {
     if (urlParameters == null || urlParameters.isEmpty()) {
-      return null;
+      return;
     }
 
-    StringBuilder queryBuilder = new StringBuilder();
+    char separator = '?';
 
     for (Map.Entry<String, List<String>> entry : urlParameters.entrySet()) {
       String key = entry.getKey();
@@ -396,26 +427,88 @@ public class DaprHttp implements AutoCloseable {
         continue; // Skip empty keys
       }
 
-      List<String> values = entry.getValue();
+      for (String value : entry.getValue()) {
+        result.append(separator);
+        appendEncoded(result, key, false).append('=');
+        appendEncoded(result, value, false);
+        separator = '&';
+      }
+    }
 
-      for (String value : values) {
-        if (queryBuilder.length() > 0) {
-          queryBuilder.append("&");
-        }
+    if (separator == '?') {
+      result.append(separator);
+    }
+  }
 
-        queryBuilder.append(encodeQueryParam(key, value)); // Encode key and value
+  /**
+   * Appends a URL encoded path segment or query parameter. Most of them are plain identifiers, which are
+   * appended as they are instead of going through {@link URLEncoder}.
+   */
+  private static StringBuilder appendEncoded(StringBuilder result, String value, boolean pathSegment) {
+    if (!needsEncoding(value)) {
+      return result.append(value);
+    }
+
+    String encoded = URLEncoder.encode(value, StandardCharsets.UTF_8);
+    return result.append(pathSegment ? encoded.replace("+", "%20") : encoded); // Handle spaces in paths
+  }
+
+  /**
+   * Checks whether {@link URLEncoder} would change a value, which is the case unless it only has
+   * alphanumeric characters and '.', '-', '*' or '_'.
+   */
+  private static boolean needsEncoding(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      boolean safe = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+          || c == '.' || c == '-' || c == '*' || c == '_';
+      if (!safe) {
+        return true;
       }
     }
 
-    return queryBuilder.toString();
+    return false;
   }
 
-  private static String encodePathSegment(String segment) {
-    return URLEncoder.encode(segment, StandardCharsets.UTF_8).replace("+", "%20"); // Encode and handle spaces
+  /**
+   * Creates a random request ID in UUID format. Unlike {@link UUID#randomUUID()}, it does not draw from the
+   * shared {@link java.security.SecureRandom}, since the ID only needs to be unique, not unpredictable.
+   */
+  private static String createRequestId() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L; // Version 4
+    long leastSigBits = (random.nextLong() & ~(0xC000L << 48)) | (0x8000L << 48); // IETF variant
+
+    return new UUID(mostSigBits, leastSigBits).toString();
   }
 
-  private static String encodeQueryParam(String key, String value) {
-    return URLEncoder.encode(key, StandardCharsets.UTF_8) + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8);
+  /**
+   * Propagates the allowed context entries as headers. Entries are looked up by name, so the whole context
+   * is only scanned when it has other entries that might differ from the allowed names in case only.
+   */
+  private static void addContextHeaders(HttpRequest.Builder requestBuilder, ContextView context) {
+    int found = 0;
+
+    for (String name : ALLOWED_CONTEXT_IN_HEADERS) {
+      Object value = context.getOrDefault(name, null);
+      if (value != null) {
+        addHeader(requestBuilder, name, value.toString());
+        found++;
+      }
+    }
+
+    if (found == context.size()) {
+      return;
+    }
+
+    context.stream().forEach(entry -> {
+      String key = entry.getKey().toString();
+      for (String name : ALLOWED_CONTEXT_IN_HEADERS) {
+        if (!name.equals(key) && name.equalsIgnoreCase(key)) {
+          addHeader(requestBuilder, key, entry.getValue().toString());
+        }
+      }
+    });
   }
 
   private static void addHeader(HttpRequest.Builder requestBuilder, String name, String value) {
@@ -17,10 +17,14 @@ import io.dapr.config.Properties;
 
 import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 
 import static io.dapr.config.Properties.API_TOKEN;
+import static io.dapr.config.Properties.HTTP_CLIENT_HTTP2_ENABLED;
 import static io.dapr.config.Properties.HTTP_CLIENT_MAX_REQUESTS;
 import static io.dapr.config.Properties.HTTP_CLIENT_READ_TIMEOUT_SECONDS;
 import static io.dapr.config.Properties.HTTP_ENDPOINT;
@@ -32,12 +36,28 @@ import static io.dapr.config.Properties.SIDECAR_IP;
  */
 public class DaprHttpBuilder {
 
-  private static volatile HttpClient HTTP_CLIENT;
+  /**
+   * HTTP transports shared by all instances built with the same settings and without an executor of their own.
+   */
+  private static final Map<TransportSettings, Transport> SHARED_TRANSPORTS = new ConcurrentHashMap<>();
+
+  /**
+   * Executor for the HTTP client, null to share a fixed thread pool with the other instances.
+   */
+  private Executor executor;
 
   /**
-   * Static lock object.
+   * Sets the executor used by the HTTP client to send requests and handle responses, for example a virtual
+   * thread per task executor. The built instance then has an HTTP client of its own instead of sharing one with
+   * other instances configured the same way.
+   *
+   * @param executor Executor for the HTTP client, null to use the shared fixed thread pool.
+   * @return This instance.
    */
-  private static final Object LOCK = new Object();
+  public DaprHttpBuilder withExecutor(Executor executor) {
+    this.executor = executor;
+    return this;
+  }
 
   /**
    * Build an instance of the Http client based on the provided setup.
@@ -55,30 +75,74 @@ public class DaprHttpBuilder {
    * @return Instance of {@link DaprHttp}
    */
   private DaprHttp buildDaprHttp(Properties properties) {
-    if (HTTP_CLIENT == null) {
-      synchronized (LOCK) {
-        if (HTTP_CLIENT == null) {
-          int maxRequests = properties.getValue(HTTP_CLIENT_MAX_REQUESTS);
-          Executor executor = Executors.newFixedThreadPool(maxRequests);
-          HTTP_CLIENT = HttpClient.newBuilder()
-              .executor(executor)
-              .version(HttpClient.Version.HTTP_1_1)
-              .build();
-        }
-      }
-    }
+    TransportSettings settings = new TransportSettings(
+        properties.getValue(HTTP_CLIENT_HTTP2_ENABLED),
+        properties.getValue(HTTP_CLIENT_MAX_REQUESTS));
+    Transport transport = this.executor != null
+        ? new Transport(settings, this.executor)
+        : SHARED_TRANSPORTS.computeIfAbsent(
+            settings, it -> new Transport(it, Executors.newFixedThreadPool(it.maxRequests)));
 
     String endpoint = properties.getValue(HTTP_ENDPOINT);
     String apiToken = properties.getValue(API_TOKEN);
     Duration readTimeout = Duration.ofSeconds(properties.getValue(HTTP_CLIENT_READ_TIMEOUT_SECONDS));
 
     if ((endpoint != null) && !endpoint.isEmpty()) {
-      return new DaprHttp(endpoint, apiToken, readTimeout, HTTP_CLIENT);
+      return new DaprHttp(endpoint, apiToken, readTimeout, transport.httpClient, transport.requestLimiter);
     }
 
     String sidecarIp = properties.getValue(SIDECAR_IP);
     int port = properties.getValue(HTTP_PORT);
 
-    return new DaprHttp(sidecarIp, port, apiToken, readTimeout, HTTP_CLIENT);
+    return new DaprHttp(sidecarIp, port, apiToken, readTimeout, transport.httpClient, transport.requestLimiter);
+  }
+
+  /**
+   * Settings deciding whether two instances can share an HTTP client.
+   */
+  private static final class TransportSettings {
+
+    private final boolean http2;
+
+    private final int maxRequests;
+
+    private TransportSettings(boolean http2, int maxRequests) {
+      this.http2 = http2;
+      this.maxRequests = maxRequests;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+
+      if (!(o instanceof TransportSettings)) {
+        return false;
+      }
+
+      TransportSettings that = (TransportSettings) o;
+      return http2 == that.http2 && maxRequests == that.maxRequests;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(http2, maxRequests);
+    }
+  }
+
+  private static final class Transport {
+
+    private final HttpClient httpClient;
+
+    private final HttpRequestLimiter requestLimiter;
+
+    private Transport(TransportSettings settings, Executor executor) {
+      this.httpClient = HttpClient.newBuilder()
+          .executor(executor)
+          .version(settings.http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+          .build();
+      this.requestLimiter = new HttpRequestLimiter(settings.maxRequests);
+    }
   }
 }
@@ -15,6 +15,8 @@ package io.dapr.client;
 
 import io.dapr.utils.UriUtils;
 import io.dapr.utils.Version;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.net.URI;
@@ -22,6 +24,7 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandler;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -164,4 +167,19 @@ public class DaprInvokeHttpClient {
   public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, BodyHandler<T> bodyHandler) {
     return httpClient.sendAsync(request, bodyHandler);
   }
+
+  /**
+   * Sends a request with a streamed response body, for payloads too large to buffer in heap. Pair it with
+   * {@link DaprBodyPublishers#ofFlux(org.reactivestreams.Publisher)} to stream the request body as well.
+   *
+   * <p>The request is sent on subscription, and the response is emitted once its headers are received.
+   * Its body must then be subscribed to, or the connection is not released.
+   *
+   * @param request the request to send.
+   * @return a Mono emitting the HTTP response, with the body read as it is requested.
+   * @see DaprBodyHandlers#ofFlux()
+   */
+  public Mono<HttpResponse<Flux<ByteBuffer>>> sendStreaming(HttpRequest request) {
+    return Mono.fromFuture(() -> httpClient.sendAsync(request, DaprBodyHandlers.ofFlux()));
+  }
 }
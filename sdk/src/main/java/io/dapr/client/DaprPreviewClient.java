@@ -24,6 +24,7 @@ import io.dapr.client.domain.ConversationResponseAlpha2;
 import io.dapr.client.domain.DecryptRequestAlpha1;
 import io.dapr.client.domain.EncryptRequestAlpha1;
 import io.dapr.client.domain.LockRequest;
+import io.dapr.client.domain.QueryStateItem;
 import io.dapr.client.domain.QueryStateRequest;
 import io.dapr.client.domain.QueryStateResponse;
 import io.dapr.client.domain.UnlockRequest;
@@ -159,6 +160,32 @@ public interface DaprPreviewClient extends AutoCloseable {
    */
   <T> Mono<QueryStateResponse<T>> queryState(QueryStateRequest request, TypeRef<T> type);
 
+  /**
+   * Query for states, following the pagination token until the last page.
+   *
+   * <p>The next page is requested while the current one is consumed, at most one page ahead, and items are only
+   * deserialized as they are emitted. The page size is the limit set in the query, if any.</p>
+   *
+   * @param request Query request object, its query string must be a JSON object.
+   * @param clazz The type needed as return for the call.
+   * @param <T> The Type of the return, use byte[] to skip serialization.
+   * @return A Flux of the items of every page.
+   */
+  <T> Flux<QueryStateItem<T>> queryStateStream(QueryStateRequest request, Class<T> clazz);
+
+  /**
+   * Query for states, following the pagination token until the last page.
+   *
+   * <p>The next page is requested while the current one is consumed, at most one page ahead, and items are only
+   * deserialized as they are emitted. The page size is the limit set in the query, if any.</p>
+   *
+   * @param request Query request object, its query string must be a JSON object.
+   * @param type The type needed as return for the call.
+   * @param <T> The Type of the return, use byte[] to skip serialization.
+   * @return A Flux of the items of every page.
+   */
+  <T> Flux<QueryStateItem<T>> queryStateStream(QueryStateRequest request, TypeRef<T> type);
+
   /**
    * Publish multiple events to Dapr in a single request.
    *
@@ -345,6 +372,9 @@ public interface DaprPreviewClient extends AutoCloseable {
    * <ul>
    *   <li>Use {@code TypeRef.STRING} or similar for raw payload data</li>
    *   <li>Use {@code new TypeRef<CloudEvent<String>>(){}} to receive CloudEvent with metadata</li>
+   *   <li>Use {@code new TypeRef<LazyCloudEvent<Order>>(){}} to receive CloudEvent whose data is only
+   *   deserialized when read. The event is then acknowledged before its data is deserialized, so a malformed
+   *   payload is acknowledged SUCCESS instead of DROP and fails when the data is read.</li>
    * </ul>
    *
    * @param pubsubName Name of the pubsub component.
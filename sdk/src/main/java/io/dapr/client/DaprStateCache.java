@@ -0,0 +1,404 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.StateOptions;
+import io.dapr.utils.Histogram;
+import io.dapr.v1.DaprStateProtos;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Near cache for state read through a {@link DaprClient}, opted into with
+ * {@link DaprClientBuilder#withStateCache(DaprStateCache)}.
+ *
+ * <p>Values returned by {@code getState} and {@code getBulkState} are cached per state store and key, as received
+ * from Dapr, and deserialized on every read. Entries are evicted once they are older than the configured TTL or,
+ * least recently used first, when the cache is full. Reads with strong consistency or with request metadata
+ * always go to Dapr.</p>
+ *
+ * <p>Writes made through the same client ({@code saveState}, {@code saveBulkState}, {@code deleteState} and
+ * {@code executeStateTransaction}) invalidate the keys they touch, and reads that overlap a write are not cached.
+ * Writes made by other processes are only seen once the entry expires, unless they are signalled through
+ * {@link #invalidateOn(String, Flux)}. Cached states keep their etag, so an update based on a stale read fails
+ * Dapr's concurrency check instead of overwriting the newer value, and also invalidates the entry.</p>
+ *
+ * <p>For example, to invalidate keys announced on a pub/sub topic:</p>
+ * <pre>{@code
+ * DaprStateCache cache = new DaprStateCache(10_000, Duration.ofMinutes(5));
+ * DaprClient client = new DaprClientBuilder().withStateCache(cache).build();
+ * cache.invalidateOn("statestore", previewClient.subscribeToTopic("pubsub", "invalidations", TypeRef.STRING));
+ * }</pre>
+ */
+public final class DaprStateCache {
+
+  /**
+   * Default maximum number of cached states.
+   */
+  public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+  /**
+   * Default time after which a cached state is no longer used.
+   */
+  public static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DaprStateCache.class);
+
+  private final int maxEntries;
+
+  private final long ttlNanos;
+
+  private final LongSupplier clock;
+
+  /**
+   * Cached states in access order, only guarded by {@link #lock}.
+   */
+  private final LinkedHashMap<CacheKey, CachedState> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  private final Object lock = new Object();
+
+  /**
+   * Incremented on every invalidation; loads remember its value when they start.
+   */
+  private long sequence;
+
+  /**
+   * Sequence of the last invalidation of each key, so a load is only discarded when its own key was invalidated
+   * while it was in flight. Holds at most {@link #maxEntries} keys; when full it is cleared and
+   * {@link #invalidatedAllAt} is raised instead, which conservatively discards every load in flight.
+   */
+  private final Map<CacheKey, Long> invalidatedAt = new HashMap<>();
+
+  /**
+   * Sequence of the last invalidation that applies to every key.
+   */
+  private long invalidatedAllAt;
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  private final LongAdder evictions = new LongAdder();
+
+  private final LongAdder expirations = new LongAdder();
+
+  private final LongAdder invalidations = new LongAdder();
+
+  private final Histogram hitAgeHistogram = Histogram.exponential(1, 2, 24);
+
+  /**
+   * Instantiates a DaprStateCache with the default size and TTL.
+   */
+  public DaprStateCache() {
+    this(DEFAULT_MAX_ENTRIES, DEFAULT_TTL);
+  }
+
+  /**
+   * Instantiates a DaprStateCache.
+   *
+   * @param maxEntries Maximum number of cached states.
+   * @param ttl        Time after which a cached state is no longer used.
+   */
+  public DaprStateCache(int maxEntries, Duration ttl) {
+    this(maxEntries, ttl, System::nanoTime);
+  }
+
+  DaprStateCache(int maxEntries, Duration ttl, LongSupplier clock) {
+    if (maxEntries < 1) {
+      throw new IllegalArgumentException("maxEntries must be greater than 0");
+    }
+
+    if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException("TTL must be positive");
+    }
+
+    this.maxEntries = maxEntries;
+    this.ttlNanos = ttl.toNanos();
+    this.clock = clock;
+  }
+
+  /**
+   * Removes a state from the cache.
+   *
+   * @param storeName Name of the state store.
+   * @param key       Key of the state.
+   */
+  public void invalidate(String storeName, String key) {
+    synchronized (lock) {
+      sequence++;
+      remove(new CacheKey(storeName, key));
+    }
+  }
+
+  /**
+   * Removes the states written by a request.
+   *
+   * @param storeName Name of the state store.
+   * @param keys      Keys of the states.
+   */
+  void invalidate(String storeName, Collection<String> keys) {
+    synchronized (lock) {
+      sequence++;
+      for (String key : keys) {
+        remove(new CacheKey(storeName, key));
+      }
+    }
+  }
+
+  /**
+   * Removes all states from the cache.
+   */
+  public void invalidateAll() {
+    synchronized (lock) {
+      sequence++;
+      invalidatedAllAt = sequence;
+      invalidatedAt.clear();
+      invalidations.add(entries.size());
+      entries.clear();
+    }
+  }
+
+  /**
+   * Removes a state and records its invalidation, only called with {@link #lock} held.
+   */
+  private void remove(CacheKey cacheKey) {
+    if (entries.remove(cacheKey) != null) {
+      invalidations.increment();
+    }
+
+    invalidatedAt.put(cacheKey, sequence);
+    if (invalidatedAt.size() > maxEntries) {
+      invalidatedAt.clear();
+      invalidatedAllAt = sequence;
+    }
+  }
+
+  /**
+   * Removes states from the cache as their keys are emitted, for example by a pub/sub subscription or a
+   * configuration subscription announcing changes made by other processes.
+   *
+   * @param storeName Name of the state store the keys belong to.
+   * @param keys      Keys of the states that changed.
+   * @return Handle to stop listening for invalidations.
+   */
+  public Disposable invalidateOn(String storeName, Flux<String> keys) {
+    return keys.subscribe(
+        key -> invalidate(storeName, key),
+        error -> LOGGER.warn("State cache invalidation stream for store {} failed", storeName, error));
+  }
+
+  /**
+   * Gets the number of cached states.
+   *
+   * @return Number of cached states.
+   */
+  public int size() {
+    synchronized (lock) {
+      return entries.size();
+    }
+  }
+
+  /**
+   * Gets the number of reads served from the cache.
+   *
+   * @return Number of hits.
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Gets the number of cacheable reads that went to Dapr.
+   *
+   * @return Number of misses.
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Gets the ratio of cacheable reads served from the cache.
+   *
+   * @return Hit rate between 0 and 1, or 0 if nothing was read.
+   */
+  public double getHitRate() {
+    long hitCount = hits.sum();
+    long total = hitCount + misses.sum();
+    return total == 0 ? 0 : (double) hitCount / total;
+  }
+
+  /**
+   * Gets the number of states evicted because the cache was full.
+   *
+   * @return Number of evictions.
+   */
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  /**
+   * Gets the number of states dropped because they outlived the TTL.
+   *
+   * @return Number of expirations.
+   */
+  public long getExpirationCount() {
+    return expirations.sum();
+  }
+
+  /**
+   * Gets the number of states removed by writes or explicit invalidations.
+   *
+   * @return Number of invalidations.
+   */
+  public long getInvalidationCount() {
+    return invalidations.sum();
+  }
+
+  /**
+   * Gets the histogram of the age in milliseconds of the states served from the cache, which bounds how stale
+   * they could be.
+   *
+   * @return Age at hit histogram.
+   */
+  public Histogram getHitAgeHistogram() {
+    return hitAgeHistogram;
+  }
+
+  /**
+   * Looks up a state, recording a hit or a miss.
+   *
+   * @return Cached response, or null on a miss.
+   */
+  DaprStateProtos.GetStateResponse get(String storeName, String key) {
+    long now = clock.getAsLong();
+    CacheKey cacheKey = new CacheKey(storeName, key);
+    CachedState cached;
+    synchronized (lock) {
+      cached = entries.get(cacheKey);
+      if (cached != null && now - cached.loadedAt >= ttlNanos) {
+        entries.remove(cacheKey);
+        expirations.increment();
+        cached = null;
+      }
+    }
+
+    if (cached == null) {
+      misses.increment();
+      return null;
+    }
+
+    hits.increment();
+    hitAgeHistogram.record(TimeUnit.NANOSECONDS.toMillis(now - cached.loadedAt));
+    return cached.response;
+  }
+
+  /**
+   * Marks the start of a load from Dapr.
+   *
+   * @return Token to be passed to {@link #put(long, String, String, DaprStateProtos.GetStateResponse)}.
+   */
+  long startLoad() {
+    synchronized (lock) {
+      return sequence;
+    }
+  }
+
+  /**
+   * Caches a state loaded from Dapr, unless its key was invalidated since the load started.
+   */
+  void put(long loadToken, String storeName, String key, DaprStateProtos.GetStateResponse response) {
+    long now = clock.getAsLong();
+    CacheKey cacheKey = new CacheKey(storeName, key);
+    synchronized (lock) {
+      if (invalidatedAllAt > loadToken || invalidatedAt.getOrDefault(cacheKey, 0L) > loadToken) {
+        return;
+      }
+
+      entries.put(cacheKey, new CachedState(response, now));
+      if (entries.size() > maxEntries) {
+        Iterator<CachedState> eldest = entries.values().iterator();
+        eldest.next();
+        eldest.remove();
+        evictions.increment();
+      }
+    }
+  }
+
+  /**
+   * Checks whether a read may be served from the cache.
+   */
+  static boolean isCacheable(StateOptions options, Map<String, String> metadata) {
+    if (metadata != null && !metadata.isEmpty()) {
+      return false;
+    }
+
+    return options == null || options.getConsistency() != StateOptions.Consistency.STRONG;
+  }
+
+  private static final class CacheKey {
+
+    private final String storeName;
+
+    private final String key;
+
+    private CacheKey(String storeName, String key) {
+      this.storeName = storeName;
+      this.key = key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+
+      if (!(o instanceof CacheKey)) {
+        return false;
+      }
+
+      CacheKey that = (CacheKey) o;
+      return storeName.equals(that.storeName) && key.equals(that.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(storeName, key);
+    }
+  }
+
+  private static final class CachedState {
+
+    private final DaprStateProtos.GetStateResponse response;
+
+    private final long loadedAt;
+
+    private CachedState(DaprStateProtos.GetStateResponse response, long loadedAt) {
+      this.response = response;
+      this.loadedAt = loadedAt;
+    }
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the number of HTTP requests in flight to Dapr, queueing the others without blocking the caller.
+ *
+ * <p>Over HTTP/1.1 every concurrent request uses its own connection, so this also bounds the number of
+ * connections opened to Dapr.</p>
+ */
+final class HttpRequestLimiter {
+
+  private final int maxRequests;
+
+  /**
+   * Requests waiting for a slot, only guarded by {@link #lock}.
+   */
+  private final ArrayDeque<PendingRequest<?>> waiting = new ArrayDeque<>();
+
+  private final Object lock = new Object();
+
+  private final AtomicInteger drainWip = new AtomicInteger();
+
+  private int active;
+
+  HttpRequestLimiter(int maxRequests) {
+    if (maxRequests < 1) {
+      throw new IllegalArgumentException("maxRequests must be greater than 0");
+    }
+
+    this.maxRequests = maxRequests;
+  }
+
+  /**
+   * Sends a request once a slot is available.
+   *
+   * @param request Sends the request.
+   * @param <T>     Type of the response.
+   * @return Response, completed once the request completes. Cancelling it before the request is sent skips it.
+   */
+  <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> request) {
+    PendingRequest<T> pending = new PendingRequest<>(request);
+    synchronized (lock) {
+      waiting.addLast(pending);
+    }
+
+    drain();
+    return pending.result;
+  }
+
+  /**
+   * Gets the number of requests in flight.
+   *
+   * @return Number of requests in flight.
+   */
+  int getActive() {
+    synchronized (lock) {
+      return active;
+    }
+  }
+
+  /**
+   * Gets the number of requests waiting for a slot.
+   *
+   * @return Number of queued requests.
+   */
+  int getQueued() {
+    synchronized (lock) {
+      return waiting.size();
+    }
+  }
+
+  /**
+   * Sends queued requests while slots are available. Requests completing synchronously call back into this
+   * method, so the loop is only run by one thread at a time to avoid unbounded recursion.
+   */
+  private void drain() {
+    if (drainWip.getAndIncrement() != 0) {
+      return;
+    }
+
+    do {
+      while (true) {
+        PendingRequest<?> next;
+        synchronized (lock) {
+          if (active >= maxRequests) {
+            break;
+          }
+
+          next = waiting.pollFirst();
+          if (next == null) {
+            break;
+          }
+
+          if (next.result.isDone()) {
+            continue;
+          }
+
+          active++;
+        }
+
+        send(next);
+      }
+    } while (drainWip.decrementAndGet() != 0);
+  }
+
+  private <T> void send(PendingRequest<T> pending) {
+    CompletableFuture<T> response;
+    try {
+      response = pending.request.get();
+    } catch (RuntimeException e) {
+      release();
+      pending.result.completeExceptionally(e);
+      return;
+    }
+
+    response.whenComplete((value, error) -> {
+      release();
+      if (error != null) {
+        pending.result.completeExceptionally(error);
+      } else {
+        pending.result.complete(value);
+      }
+    });
+  }
+
+  private void release() {
+    synchronized (lock) {
+      active--;
+    }
+
+    drain();
+  }
+
+  private static final class PendingRequest<T> {
+
+    private final Supplier<CompletableFuture<T>> request;
+
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+
+    private PendingRequest(Supplier<CompletableFuture<T>> request) {
+      this.request = request;
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.instrumentation.DaprClientListener;
+import io.dapr.serializer.DaprObjectSerializer;
+import io.dapr.utils.TypeRef;
+
+import java.io.IOException;
+
+/**
+ * Reports the time spent serializing and deserializing to a {@link DaprClientListener}.
+ */
+final class InstrumentedObjectSerializer implements DaprObjectSerializer {
+
+  private final DaprObjectSerializer serializer;
+
+  private final String name;
+
+  private final DaprClientListener listener;
+
+  InstrumentedObjectSerializer(DaprObjectSerializer serializer, String name, DaprClientListener listener) {
+    this.serializer = serializer;
+    this.name = name;
+    this.listener = listener;
+  }
+
+  /**
+   * Decorates a serializer if there is a listener.
+   *
+   * @param serializer Serializer to decorate.
+   * @param name       Name of the serializer reported to the listener.
+   * @param listener   Listener, null to not decorate the serializer.
+   * @return Serializer to use.
+   */
+  static DaprObjectSerializer wrap(DaprObjectSerializer serializer, String name, DaprClientListener listener) {
+    if (listener == null || serializer == null) {
+      return serializer;
+    }
+
+    return new InstrumentedObjectSerializer(serializer, name, listener);
+  }
+
+  @Override
+  public byte[] serialize(Object o) throws IOException {
+    long start = System.nanoTime();
+    byte[] data = serializer.serialize(o);
+    listener.onSerialized(name, System.nanoTime() - start, data == null ? 0 : data.length);
+    return data;
+  }
+
+  @Override
+  public <T> T deserialize(byte[] data, TypeRef<T> type) throws IOException {
+    long start = System.nanoTime();
+    T value = serializer.deserialize(data, type);
+    listener.onDeserialized(name, System.nanoTime() - start, data == null ? 0 : data.length);
+    return value;
+  }
+
+  @Override
+  public String getContentType() {
+    return serializer.getContentType();
+  }
+}
@@ -166,11 +166,14 @@ public class Subscription<T> implements Closeable {
 
   private static <T> Mono<SubscriptionListener.Status> onEvent(
       SubscriptionListener<T> listener, CloudEvent<T> cloudEvent) {
-    return listener.onEvent(cloudEvent).onErrorMap(t -> {
+    return Mono.defer(() -> listener.onEvent(cloudEvent)).onErrorResume(t -> {
       var exception = DaprException.propagate(t);
       listener.onError(exception);
-      return exception;
-    }).onErrorReturn(SubscriptionListener.Status.RETRY);
+      // Data that cannot be deserialized will never be processed, so it goes to the dead-letter topic.
+      boolean malformed = exception instanceof DaprException
+          && "DESERIALIZATION_ERROR".equals(((DaprException) exception).getErrorCode());
+      return Mono.just(malformed ? SubscriptionListener.Status.DROP : SubscriptionListener.Status.RETRY);
+    });
   }
 
   @Nonnull
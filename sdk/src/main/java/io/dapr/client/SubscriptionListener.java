@@ -34,6 +34,11 @@ public interface SubscriptionListener<T> {
 
   /**
    * Processes an event from streaming subscription.
+   *
+   * <p>The event data is deserialized when {@link CloudEvent#getData()} is first called. If it cannot be, a
+   * {@link io.dapr.exceptions.DaprException} with the {@code DESERIALIZATION_ERROR} error code is thrown, and the
+   * event is acknowledged with {@link Status#DROP} if that error is not handled.</p>
+   *
    * @param event Event received.
    * @return Acknowledgement status.
    */
@@ -408,16 +408,19 @@ public class CloudEvent<T> {
     if (this == o) {
       return true;
     }
-    if (o == null || getClass() != o.getClass()) {
+    if (!(o instanceof CloudEvent)) {
       return false;
     }
     CloudEvent<?> that = (CloudEvent<?>) o;
+    if (equalityClass() != that.equalityClass()) {
+      return false;
+    }
     return Objects.equals(id, that.id)
         && Objects.equals(source, that.source)
         && Objects.equals(type, that.type)
         && Objects.equals(specversion, that.specversion)
         && Objects.equals(datacontenttype, that.datacontenttype)
-        && Objects.equals(data, that.data)
+        && dataEquals(that)
         && Arrays.equals(binaryData, that.binaryData)
         && Objects.equals(pubsubName, that.pubsubName)
         && Objects.equals(topic, that.topic)
@@ -432,8 +435,40 @@ public class CloudEvent<T> {
    */
   @Override
   public int hashCode() {
-    return Objects.hash(id, source, type, specversion, datacontenttype, data, binaryData, pubsubName, topic, time,
-            traceId, traceParent, traceState);
+    return Objects.hash(id, source, type, specversion, datacontenttype, dataForHashCode(), binaryData, pubsubName,
+            topic, time, traceId, traceParent, traceState);
+  }
+
+  /**
+   * Gets the value that stands for the data in {@link #hashCode()}.
+   *
+   * @return The data.
+   */
+  Object dataForHashCode() {
+    return data;
+  }
+
+  /**
+   * Gets the class another event must have to be equal to this one.
+   *
+   * @return The class of this event.
+   */
+  Class<?> equalityClass() {
+    return getClass();
+  }
+
+  /**
+   * Compares the data of this event with the data of another event.
+   *
+   * @param other Event to compare with.
+   * @return True if both events have equal data.
+   */
+  boolean dataEquals(CloudEvent<?> other) {
+    if (other instanceof LazyCloudEvent) {
+      return other.dataEquals(this);
+    }
+
+    return Objects.equals(data, other.data);
   }
 
   private static class OffsetDateTimeSerializer extends JsonSerializer<OffsetDateTime> {
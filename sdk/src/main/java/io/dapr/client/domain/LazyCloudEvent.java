@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.google.protobuf.ByteString;
+import io.dapr.exceptions.DaprException;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A cloud event whose data is only deserialized the first time {@link #getData()} is called.
+ *
+ * <p>Consumers that route or filter on envelope fields such as {@link #getType()} or {@link #getTopic()}
+ * never pay for deserializing the payload of the events they discard. The decoded value is memoized, so
+ * subsequent calls return the same instance.</p>
+ *
+ * <p>Since deserialization is deferred, a malformed payload is only reported when the data is accessed,
+ * as a {@link DaprException} with the {@code DESERIALIZATION_ERROR} error code.</p>
+ *
+ * <p>A lazy event is equal to a {@link CloudEvent} with the same fields and data. Comparing two lazy events with
+ * identical payloads does not deserialize them; any other comparison, and hashing, deserializes the data.</p>
+ *
+ * @param <T> The type of the payload.
+ */
+public class LazyCloudEvent<T> extends CloudEvent<T> {
+
+  private final ByteString rawData;
+
+  private final Decoder<T> decoder;
+
+  private volatile boolean decoded;
+
+  private volatile boolean dataReplaced;
+
+  /**
+   * Instantiates a LazyCloudEvent.
+   *
+   * @param rawData Serialized payload, as received from Dapr.
+   * @param decoder Decoder used to deserialize the payload on first access, null means the data is always null.
+   */
+  public LazyCloudEvent(ByteString rawData, Decoder<T> decoder) {
+    this.rawData = rawData == null ? ByteString.EMPTY : rawData;
+    this.decoder = decoder;
+    this.decoded = decoder == null;
+  }
+
+  /**
+   * Gets the serialized payload, without deserializing it.
+   *
+   * @return Serialized payload.
+   */
+  @JsonIgnore
+  public ByteString getRawData() {
+    return rawData;
+  }
+
+  /**
+   * Checks whether the payload was already deserialized (or explicitly set).
+   *
+   * @return True if the payload was already deserialized.
+   */
+  @JsonIgnore
+  public boolean isDataDecoded() {
+    return decoded;
+  }
+
+  /**
+   * Gets the cloud event data, deserializing it on first access.
+   *
+   * @return Cloud event's data.
+   * @throws DaprException If the payload cannot be deserialized.
+   */
+  @Override
+  public T getData() {
+    if (!decoded) {
+      synchronized (this) {
+        if (!decoded) {
+          try {
+            super.setData(decoder.decode(rawData));
+          } catch (IOException e) {
+            throw new DaprException("DESERIALIZATION_ERROR",
+                "Failed to deserialize data of event with ID: " + getId(), e);
+          }
+          decoded = true;
+        }
+      }
+    }
+
+    return super.getData();
+  }
+
+  /**
+   * Sets the cloud event data, discarding the serialized payload.
+   *
+   * @param data Cloud event's data.
+   */
+  @Override
+  public void setData(T data) {
+    synchronized (this) {
+      super.setData(data);
+      decoded = true;
+      dataReplaced = true;
+    }
+  }
+
+  @Override
+  Class<?> equalityClass() {
+    return CloudEvent.class;
+  }
+
+  @Override
+  Object dataForHashCode() {
+    try {
+      return getData();
+    } catch (DaprException e) {
+      // Only equal to events with an identical payload, see dataEquals.
+      return rawData;
+    }
+  }
+
+  @Override
+  boolean dataEquals(CloudEvent<?> other) {
+    if (other instanceof LazyCloudEvent) {
+      LazyCloudEvent<?> that = (LazyCloudEvent<?>) other;
+      if (!this.dataReplaced && !that.dataReplaced && this.rawData.equals(that.rawData)) {
+        return true;
+      }
+    }
+
+    try {
+      return Objects.equals(getData(), other.getData());
+    } catch (DaprException e) {
+      // A payload that cannot be deserialized is only equal to an identical payload.
+      return false;
+    }
+  }
+
+  /**
+   * Deserializes the payload of a {@link LazyCloudEvent}.
+   *
+   * @param <T> The type of the payload.
+   */
+  @FunctionalInterface
+  public interface Decoder<T> {
+
+    /**
+     * Deserializes the payload.
+     *
+     * @param data Serialized payload.
+     * @return Deserialized payload.
+     * @throws IOException If the payload cannot be deserialized.
+     */
+    T decode(ByteString data) throws IOException;
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.domain;
+
+import java.time.Duration;
+
+/**
+ * Outcome of publishing a single event through {@link io.dapr.client.DaprEventPublisher}.
+ */
+public final class PublishEventResult {
+
+  /**
+   * The request that was published.
+   */
+  private final PublishEventRequest request;
+
+  /**
+   * Error that made the publish fail, null if it succeeded.
+   */
+  private final Throwable error;
+
+  /**
+   * Time between the request being dispatched to Dapr and Dapr's response.
+   */
+  private final Duration latency;
+
+  /**
+   * Constructor for PublishEventResult.
+   *
+   * @param request The request that was published.
+   * @param error   Error that made the publish fail, null if it succeeded.
+   * @param latency Time between the request being dispatched to Dapr and Dapr's response.
+   */
+  public PublishEventResult(PublishEventRequest request, Throwable error, Duration latency) {
+    this.request = request;
+    this.error = error;
+    this.latency = latency;
+  }
+
+  public PublishEventRequest getRequest() {
+    return request;
+  }
+
+  public Throwable getError() {
+    return error;
+  }
+
+  public Duration getLatency() {
+    return latency;
+  }
+
+  public boolean isSuccess() {
+    return error == null;
+  }
+}
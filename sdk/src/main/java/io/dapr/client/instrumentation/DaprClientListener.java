@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.instrumentation;
+
+import io.dapr.client.resiliency.OperationType;
+
+/**
+ * Receives measurements of the calls made by a {@link io.dapr.client.DaprClient} to Dapr, to record them as
+ * metrics. Register it with {@link io.dapr.client.DaprClientBuilder#withClientListener(DaprClientListener)};
+ * clients without a listener take no measurements at all.
+ *
+ * <p>Methods are called on the threads making and completing the calls, so they must be thread-safe and must
+ * not block. All methods do nothing by default.</p>
+ */
+public interface DaprClientListener {
+
+  /**
+   * Called when a gRPC call to Dapr starts. Every attempt of a retried call is a call of its own.
+   *
+   * @param method Name of the Dapr gRPC method, e.g. {@code GetState}.
+   */
+  default void onCallStarted(String method) {
+  }
+
+  /**
+   * Called when a gRPC call to Dapr completes, successfully or not.
+   *
+   * @param method        Name of the Dapr gRPC method, e.g. {@code GetState}.
+   * @param status        gRPC status code of the call, e.g. {@code OK} or {@code UNAVAILABLE}.
+   * @param durationNanos Time from the start of the call until it completed, in nanoseconds.
+   * @param requestBytes  Size of the request messages sent, in bytes.
+   * @param responseBytes Size of the response messages received, in bytes.
+   */
+  default void onCallCompleted(
+      String method, String status, long durationNanos, long requestBytes, long responseBytes) {
+  }
+
+  /**
+   * Called before a call that failed is retried.
+   *
+   * @param operationType Kind of operation retried.
+   * @param error         Error the call failed with.
+   */
+  default void onRetry(OperationType operationType, Throwable error) {
+  }
+
+  /**
+   * Called after an application object is serialized.
+   *
+   * @param serializer    {@code object} for the object serializer, {@code state} for the state serializer.
+   * @param durationNanos Time spent serializing, in nanoseconds.
+   * @param bytes         Size of the serialized object, in bytes.
+   */
+  default void onSerialized(String serializer, long durationNanos, int bytes) {
+  }
+
+  /**
+   * Called after an application object is deserialized.
+   *
+   * @param serializer    {@code object} for the object serializer, {@code state} for the state serializer.
+   * @param durationNanos Time spent deserializing, in nanoseconds.
+   * @param bytes         Size of the serialized object, in bytes.
+   */
+  default void onDeserialized(String serializer, long durationNanos, int bytes) {
+  }
+}
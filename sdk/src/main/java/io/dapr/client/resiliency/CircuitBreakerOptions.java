@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.resiliency;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker for SDK communication to Dapr API. After a number of consecutive calls fail because Dapr is
+ * unavailable or does not respond in time, calls fail fast for a while instead of adding load to Dapr. Once that
+ * time has passed, a single call is let through: the circuit closes again if it succeeds.
+ */
+public final class CircuitBreakerOptions {
+
+  private int failureThreshold = 5;
+
+  private Duration openDuration = Duration.ofSeconds(10);
+
+  public int getFailureThreshold() {
+    return failureThreshold;
+  }
+
+  /**
+   * Sets the number of consecutive failures opening the circuit.
+   * @param failureThreshold Number of consecutive failures, 5 by default.
+   * @return This instance.
+   */
+  public CircuitBreakerOptions setFailureThreshold(int failureThreshold) {
+    if (failureThreshold < 1) {
+      throw new IllegalArgumentException("failureThreshold must be greater than 0");
+    }
+
+    this.failureThreshold = failureThreshold;
+    return this;
+  }
+
+  public Duration getOpenDuration() {
+    return openDuration;
+  }
+
+  /**
+   * Sets how long calls fail fast once the circuit is open.
+   * @param openDuration Time calls fail fast for, 10 seconds by default.
+   * @return This instance.
+   */
+  public CircuitBreakerOptions setOpenDuration(Duration openDuration) {
+    if (openDuration == null || openDuration.isNegative() || openDuration.isZero()) {
+      throw new IllegalArgumentException("openDuration must be positive");
+    }
+
+    this.openDuration = openDuration;
+    return this;
+  }
+}
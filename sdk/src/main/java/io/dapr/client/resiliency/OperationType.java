@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.resiliency;
+
+/**
+ * Kinds of Dapr API operations that can have their own resiliency options.
+ */
+public enum OperationType {
+
+  /**
+   * Reading state: get, bulk get and query. These are idempotent, so they can also be hedged.
+   */
+  STATE_READ,
+
+  /**
+   * Saving and deleting state, and state transactions.
+   */
+  STATE_WRITE,
+
+  /**
+   * Publishing events, single and bulk.
+   */
+  PUBLISH,
+
+  /**
+   * Every other operation.
+   */
+  OTHER
+}
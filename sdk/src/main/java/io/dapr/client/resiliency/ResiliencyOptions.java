@@ -14,9 +14,15 @@ limitations under the License.
 package io.dapr.client.resiliency;
 
 import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * Resiliency policy for SDK communication to Dapr API.
+ *
+ * <p>Calls are retried when Dapr is unavailable or does not respond in time, with exponential backoff and
+ * jitter. Options set for an {@link OperationType} override the ones set here for that kind of operation, e.g.
+ * to hedge state reads without retrying publishes.</p>
  */
 public final class ResiliencyOptions {
 
@@ -24,6 +30,20 @@ public final class ResiliencyOptions {
 
   private Integer maxRetries;
 
+  private Duration initialBackoff;
+
+  private Duration maxBackoff;
+
+  private Double jitter;
+
+  private Duration hedgingDelay;
+
+  private CircuitBreakerOptions circuitBreaker;
+
+  private RetryBudgetOptions retryBudget;
+
+  private final Map<OperationType, ResiliencyOptions> operationOptions = new EnumMap<>(OperationType.class);
+
   public Duration getTimeout() {
     return timeout;
   }
@@ -41,4 +61,116 @@ public final class ResiliencyOptions {
     this.maxRetries = maxRetries;
     return this;
   }
+
+  public Duration getInitialBackoff() {
+    return initialBackoff;
+  }
+
+  /**
+   * Sets the backoff before the first retry, doubled for every following one.
+   * @param initialBackoff Backoff before the first retry, 500 milliseconds by default.
+   * @return This instance.
+   */
+  public ResiliencyOptions setInitialBackoff(Duration initialBackoff) {
+    this.initialBackoff = initialBackoff;
+    return this;
+  }
+
+  public Duration getMaxBackoff() {
+    return maxBackoff;
+  }
+
+  /**
+   * Sets the maximum backoff between retries.
+   * @param maxBackoff Maximum backoff, 5 seconds by default.
+   * @return This instance.
+   */
+  public ResiliencyOptions setMaxBackoff(Duration maxBackoff) {
+    this.maxBackoff = maxBackoff;
+    return this;
+  }
+
+  public Double getJitter() {
+    return jitter;
+  }
+
+  /**
+   * Sets the jitter applied to every backoff, so clients failing at the same time do not retry at the same time.
+   * @param jitter Fraction of the backoff, between 0 and 1, a backoff can be randomly shortened or lengthened
+   *               by. 0.5 by default.
+   * @return This instance.
+   */
+  public ResiliencyOptions setJitter(Double jitter) {
+    if (jitter != null && !(jitter >= 0 && jitter <= 1)) {
+      throw new IllegalArgumentException("jitter must be between 0 and 1");
+    }
+
+    this.jitter = jitter;
+    return this;
+  }
+
+  public Duration getHedgingDelay() {
+    return hedgingDelay;
+  }
+
+  /**
+   * Sets the delay after which a second, hedged, call is made if the first one has not completed yet; the
+   * first one to complete is used. Only applies to {@link OperationType#STATE_READ}, which is idempotent. A first
+   * call failing with an error that would not be retried fails right away.
+   * @param hedgingDelay Delay before hedging, null to not hedge calls.
+   * @return This instance.
+   */
+  public ResiliencyOptions setHedgingDelay(Duration hedgingDelay) {
+    this.hedgingDelay = hedgingDelay;
+    return this;
+  }
+
+  public CircuitBreakerOptions getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  /**
+   * Sets the circuit breaker. Every {@link OperationType} has its own circuit.
+   * @param circuitBreaker Circuit breaker options, null to not use a circuit breaker.
+   * @return This instance.
+   */
+  public ResiliencyOptions setCircuitBreaker(CircuitBreakerOptions circuitBreaker) {
+    this.circuitBreaker = circuitBreaker;
+    return this;
+  }
+
+  public RetryBudgetOptions getRetryBudget() {
+    return retryBudget;
+  }
+
+  /**
+   * Sets the retry budget shared by all the calls of the client. Ignored on options for an
+   * {@link OperationType}.
+   * @param retryBudget Retry budget options, null to not limit retries beyond {@link #setMaxRetries(Integer)}.
+   * @return This instance.
+   */
+  public ResiliencyOptions setRetryBudget(RetryBudgetOptions retryBudget) {
+    this.retryBudget = retryBudget;
+    return this;
+  }
+
+  public ResiliencyOptions getOperationOptions(OperationType operationType) {
+    return operationOptions.get(operationType);
+  }
+
+  /**
+   * Sets options for a kind of operation. Options not set on them are taken from this instance, except for the
+   * timeout which is the same for all operations.
+   * @param operationType Kind of operation.
+   * @param options Options for the operation, null to use the options of this instance.
+   * @return This instance.
+   */
+  public ResiliencyOptions setOperationOptions(OperationType operationType, ResiliencyOptions options) {
+    if (options == null) {
+      operationOptions.remove(operationType);
+    } else {
+      operationOptions.put(operationType, options);
+    }
+    return this;
+  }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.resiliency;
+
+/**
+ * Retry budget for SDK communication to Dapr API, shared by all the calls of a client. It is a token bucket
+ * with the same semantics as gRPC's retry throttling: every failed call takes a token, every successful call
+ * gives back a fraction of one, and calls are only retried while more than half of the tokens are left. This
+ * stops retries from piling up on an overloaded Dapr sidecar.
+ */
+public final class RetryBudgetOptions {
+
+  private int maxTokens = 10;
+
+  private double tokenRatio = 0.1;
+
+  public int getMaxTokens() {
+    return maxTokens;
+  }
+
+  /**
+   * Sets the size of the bucket.
+   * @param maxTokens Number of tokens, 10 by default.
+   * @return This instance.
+   */
+  public RetryBudgetOptions setMaxTokens(int maxTokens) {
+    if (maxTokens < 1) {
+      throw new IllegalArgumentException("maxTokens must be greater than 0");
+    }
+
+    this.maxTokens = maxTokens;
+    return this;
+  }
+
+  public double getTokenRatio() {
+    return tokenRatio;
+  }
+
+  /**
+   * Sets the fraction of a token given back by every successful call.
+   * @param tokenRatio Fraction of a token, 0.1 by default.
+   * @return This instance.
+   */
+  public RetryBudgetOptions setTokenRatio(double tokenRatio) {
+    if (!(tokenRatio > 0)) {
+      throw new IllegalArgumentException("tokenRatio must be positive");
+    }
+
+    this.tokenRatio = tokenRatio;
+    return this;
+  }
+}
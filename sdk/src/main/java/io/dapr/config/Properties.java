@@ -248,12 +248,25 @@ public class Properties {
 
   /**
    * Dapr's default maximum number of idle connections for HTTP connection pool.
+   * The JDK HTTP client used by the SDK has no per-client pool size, so this value is not applied. Set the JVM-wide
+   * {@code jdk.httpclient.connectionPoolSize} system property on the command line to bound the idle connections.
    */
   public static final Property<Integer> HTTP_CLIENT_MAX_IDLE_CONNECTIONS = new IntegerProperty(
           "dapr.http.client.maxIdleConnections",
           "DAPR_HTTP_CLIENT_MAX_IDLE_CONNECTIONS",
           DEFAULT_HTTP_CLIENT_MAX_IDLE_CONNECTIONS);
 
+  /**
+   * Whether the HTTP client negotiates HTTP/2 with Dapr, multiplexing requests over fewer connections.
+   * Over plain text this is done with an h2c upgrade, falling back to HTTP/1.1 if Dapr does not accept it.
+   * System property: dapr.http.client.http2.enabled
+   * Default: false
+   */
+  public static final Property<Boolean> HTTP_CLIENT_HTTP2_ENABLED = new BooleanProperty(
+      "dapr.http.client.http2.enabled",
+      "DAPR_HTTP_CLIENT_HTTP2_ENABLED",
+      false);
+
   /**
    * Dapr's default maximum inbound message size for GRPC in bytes.
    */
@@ -270,6 +283,87 @@ public class Properties {
         "DAPR_GRPC_MAX_INBOUND_METADATA_SIZE_BYTES",
         8192);
     
+  /**
+   * Maximum size in bytes of each gRPC message sent when bulk publishing, larger requests are split.
+   */
+  public static final Property<Integer> BULK_PUBLISH_MAX_BATCH_BYTES = new IntegerProperty(
+      "dapr.bulk.publish.max.batch.bytes",
+      "DAPR_BULK_PUBLISH_MAX_BATCH_BYTES",
+      4194304);
+
+  /**
+   * Maximum number of entries in each gRPC message sent when bulk publishing, 0 for no limit.
+   */
+  public static final Property<Integer> BULK_PUBLISH_MAX_BATCH_ENTRIES = new IntegerProperty(
+      "dapr.bulk.publish.max.batch.entries",
+      "DAPR_BULK_PUBLISH_MAX_BATCH_ENTRIES",
+      0);
+
+  /**
+   * Maximum number of gRPC messages sent concurrently when a bulk publish request is split.
+   */
+  public static final Property<Integer> BULK_PUBLISH_MAX_CONCURRENT_BATCHES = new IntegerProperty(
+      "dapr.bulk.publish.max.concurrent.batches",
+      "DAPR_BULK_PUBLISH_MAX_CONCURRENT_BATCHES",
+      4);
+
+  /**
+   * Maximum number of keys in each gRPC message sent when getting or saving bulk state, 0 for no limit.
+   */
+  public static final Property<Integer> BULK_STATE_MAX_BATCH_KEYS = new IntegerProperty(
+      "dapr.bulk.state.max.batch.keys",
+      "DAPR_BULK_STATE_MAX_BATCH_KEYS",
+      1000);
+
+  /**
+   * Maximum size in bytes of each gRPC message sent when getting or saving bulk state, larger requests are split.
+   */
+  public static final Property<Integer> BULK_STATE_MAX_BATCH_BYTES = new IntegerProperty(
+      "dapr.bulk.state.max.batch.bytes",
+      "DAPR_BULK_STATE_MAX_BATCH_BYTES",
+      4194304);
+
+  /**
+   * Maximum number of gRPC messages sent concurrently when a bulk state request is split.
+   */
+  public static final Property<Integer> BULK_STATE_MAX_CONCURRENT_BATCHES = new IntegerProperty(
+      "dapr.bulk.state.max.concurrent.batches",
+      "DAPR_BULK_STATE_MAX_CONCURRENT_BATCHES",
+      4);
+
+  /**
+   * Number of gRPC channels, each with its own connection, that calls to Dapr are spread over.
+   * Environment variable: DAPR_GRPC_CHANNEL_POOL_SIZE
+   * System property: dapr.grpc.channel.pool.size
+   * Default: 1, a single channel without pool.
+   */
+  public static final Property<Integer> GRPC_CHANNEL_POOL_SIZE = new IntegerProperty(
+      "dapr.grpc.channel.pool.size",
+      "DAPR_GRPC_CHANNEL_POOL_SIZE",
+      1);
+
+  /**
+   * How the channel of a unary call is selected in a gRPC channel pool: round_robin or least_in_flight.
+   * Environment variable: DAPR_GRPC_CHANNEL_POOL_SELECTION
+   * System property: dapr.grpc.channel.pool.selection
+   * Default: round_robin
+   */
+  public static final Property<String> GRPC_CHANNEL_POOL_SELECTION = new StringProperty(
+      "dapr.grpc.channel.pool.selection",
+      "DAPR_GRPC_CHANNEL_POOL_SELECTION",
+      "round_robin");
+
+  /**
+   * Whether a gRPC channel pool carries streaming calls on a channel of its own, apart from unary calls.
+   * Environment variable: DAPR_GRPC_CHANNEL_POOL_ISOLATE_STREAMS
+   * System property: dapr.grpc.channel.pool.isolate.streams
+   * Default: true
+   */
+  public static final Property<Boolean> GRPC_CHANNEL_POOL_ISOLATE_STREAMS = new BooleanProperty(
+      "dapr.grpc.channel.pool.isolate.streams",
+      "DAPR_GRPC_CHANNEL_POOL_ISOLATE_STREAMS",
+      true);
+
   /**
    * Mechanism to override properties set in a static context.
    */
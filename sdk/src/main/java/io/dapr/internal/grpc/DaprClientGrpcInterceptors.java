@@ -13,12 +13,7 @@ limitations under the License.
 
 package io.dapr.internal.grpc;
 
-import io.dapr.internal.grpc.interceptors.DaprApiTokenInterceptor;
-import io.dapr.internal.grpc.interceptors.DaprAppIdInterceptor;
-import io.dapr.internal.grpc.interceptors.DaprBaggageInterceptor;
-import io.dapr.internal.grpc.interceptors.DaprMetadataReceiverInterceptor;
-import io.dapr.internal.grpc.interceptors.DaprTimeoutInterceptor;
-import io.dapr.internal.grpc.interceptors.DaprTracingInterceptor;
+import io.dapr.internal.grpc.interceptors.DaprClientCallInterceptor;
 import io.dapr.internal.resiliency.TimeoutPolicy;
 import io.grpc.Metadata;
 import io.grpc.stub.AbstractStub;
@@ -32,9 +27,15 @@ import java.util.function.Consumer;
  */
 public class DaprClientGrpcInterceptors {
 
-  private final String daprApiToken;
+  /**
+   * Interceptor shared by all calls without settings of their own.
+   */
+  private final DaprClientCallInterceptor interceptor;
 
-  private final TimeoutPolicy timeoutPolicy;
+  /**
+   * Last stub intercepted without per-call settings, reused while the same stub is passed in.
+   */
+  private volatile InterceptedStub<?> lastIntercepted;
 
   /**
    * Instantiates a holder of all gRPC interceptors.
@@ -49,8 +50,7 @@ public class DaprClientGrpcInterceptors {
    * @param timeoutPolicy Timeout Policy.
    */
   public DaprClientGrpcInterceptors(String daprApiToken, TimeoutPolicy timeoutPolicy) {
-    this.daprApiToken = daprApiToken;
-    this.timeoutPolicy = timeoutPolicy;
+    this.interceptor = new DaprClientCallInterceptor(daprApiToken, timeoutPolicy);
   }
 
   /**
@@ -122,13 +122,32 @@ public class DaprClientGrpcInterceptors {
       throw new IllegalArgumentException("client cannot be null");
     }
 
-    return client.withInterceptors(
-        new DaprAppIdInterceptor(appId),
-        new DaprApiTokenInterceptor(this.daprApiToken),
-        new DaprTimeoutInterceptor(this.timeoutPolicy),
-        new DaprTracingInterceptor(context),
-        new DaprBaggageInterceptor(context),
-        new DaprMetadataReceiverInterceptor(metadataConsumer));
+    if (DaprClientCallInterceptor.hasCallSettings(appId, context, metadataConsumer)) {
+      return client.withInterceptors(this.interceptor.forCall(appId, context, metadataConsumer));
+    }
+
+    InterceptedStub<?> last = this.lastIntercepted;
+    if (last != null && last.client == client) {
+      @SuppressWarnings("unchecked")
+      T intercepted = (T) last.intercepted;
+      return intercepted;
+    }
+
+    T intercepted = client.withInterceptors(this.interceptor);
+    this.lastIntercepted = new InterceptedStub<>(client, intercepted);
+    return intercepted;
+  }
+
+  private static final class InterceptedStub<T extends AbstractStub<T>> {
+
+    private final T client;
+
+    private final T intercepted;
+
+    private InterceptedStub(T client, T intercepted) {
+      this.client = client;
+      this.intercepted = intercepted;
+    }
   }
 
 }
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.grpc;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Spreads calls over several channels to Dapr, each with its own HTTP/2 connection, so a single connection's
+ * limit on concurrent streams and large messages do not hold back every call. Streaming calls, which are
+ * usually long-lived, can be isolated on a channel of their own.
+ */
+public final class ManagedChannelPool extends ManagedChannel {
+
+  /**
+   * How the channel of a unary call is selected.
+   */
+  public enum Selection {
+
+    /**
+     * Channels are used in turn.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * The channel with the fewest calls in flight is used.
+     */
+    LEAST_IN_FLIGHT;
+
+    /**
+     * Parses a selection from its name, case-insensitive.
+     * @param value Name of the selection, e.g. {@code round_robin}.
+     * @return Selection.
+     * @throws IllegalArgumentException If there is no selection with this name.
+     */
+    public static Selection parse(String value) {
+      return Selection.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+  }
+
+  private final List<ManagedChannel> channels;
+
+  private final ManagedChannel[] unaryChannels;
+
+  private final ManagedChannel streamChannel;
+
+  private final AtomicInteger[] inFlight;
+
+  private final Selection selection;
+
+  private final AtomicInteger next = new AtomicInteger();
+
+  /**
+   * Instantiates a new channel pool.
+   * @param channels Channels of the pool, it takes ownership of them.
+   * @param selection How the channel of a unary call is selected.
+   * @param isolateStreams Whether streaming calls use the first channel, and unary calls the others.
+   */
+  public ManagedChannelPool(List<ManagedChannel> channels, Selection selection, boolean isolateStreams) {
+    if (channels.size() < (isolateStreams ? 2 : 1)) {
+      throw new IllegalArgumentException("Not enough channels in the pool");
+    }
+
+    this.channels = List.copyOf(channels);
+    this.streamChannel = isolateStreams ? channels.get(0) : null;
+    this.unaryChannels = channels.subList(isolateStreams ? 1 : 0, channels.size()).toArray(new ManagedChannel[0]);
+    this.inFlight = new AtomicInteger[this.unaryChannels.length];
+    for (int i = 0; i < this.inFlight.length; i++) {
+      this.inFlight[i] = new AtomicInteger();
+    }
+    this.selection = selection;
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(
+      MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions) {
+    if (streamChannel != null && methodDescriptor.getType() != MethodDescriptor.MethodType.UNARY) {
+      return streamChannel.newCall(methodDescriptor, callOptions);
+    }
+
+    int index = select();
+    ClientCall<ReqT, RespT> call = unaryChannels[index].newCall(methodDescriptor, callOptions);
+    if (selection != Selection.LEAST_IN_FLIGHT) {
+      return call;
+    }
+
+    return new InFlightCall<>(call, inFlight[index]);
+  }
+
+  /**
+   * Gets the number of unary calls in flight on every channel, which is only tracked when selecting the channel
+   * with the fewest.
+   * @return Calls in flight, by channel.
+   */
+  int[] getInFlight() {
+    int[] result = new int[inFlight.length];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = inFlight[i].get();
+    }
+    return result;
+  }
+
+  private int select() {
+    int start = Math.floorMod(next.getAndIncrement(), unaryChannels.length);
+    if (selection != Selection.LEAST_IN_FLIGHT) {
+      return start;
+    }
+
+    // Scan from the round-robin position, so ties are spread over the channels.
+    int selected = start;
+    int fewest = inFlight[start].get();
+    for (int i = 1; i < unaryChannels.length && fewest > 0; i++) {
+      int index = (start + i) % unaryChannels.length;
+      int count = inFlight[index].get();
+      if (count < fewest) {
+        selected = index;
+        fewest = count;
+      }
+    }
+
+    return selected;
+  }
+
+  @Override
+  public String authority() {
+    return channels.get(0).authority();
+  }
+
+  @Override
+  public ManagedChannel shutdown() {
+    for (ManagedChannel channel : channels) {
+      channel.shutdown();
+    }
+    return this;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    for (ManagedChannel channel : channels) {
+      if (!channel.isShutdown()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    for (ManagedChannel channel : channels) {
+      if (!channel.isTerminated()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public ManagedChannel shutdownNow() {
+    for (ManagedChannel channel : channels) {
+      channel.shutdownNow();
+    }
+    return this;
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    for (ManagedChannel channel : channels) {
+      if (!channel.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Gets the state of the pool: ready if any unary channel is ready, else the state of the first one.
+   */
+  @Override
+  public ConnectivityState getState(boolean requestConnection) {
+    ConnectivityState first = null;
+    for (ManagedChannel channel : unaryChannels) {
+      ConnectivityState state = channel.getState(requestConnection);
+      if (state == ConnectivityState.READY) {
+        return state;
+      }
+      if (first == null) {
+        first = state;
+      }
+    }
+    return first;
+  }
+
+  @Override
+  public void resetConnectBackoff() {
+    for (ManagedChannel channel : channels) {
+      channel.resetConnectBackoff();
+    }
+  }
+
+  @Override
+  public void enterIdle() {
+    for (ManagedChannel channel : channels) {
+      channel.enterIdle();
+    }
+  }
+
+  /**
+   * Counts a call as in flight from its start until it closes.
+   */
+  private static final class InFlightCall<ReqT, RespT>
+      extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+
+    private final AtomicInteger inFlight;
+
+    private InFlightCall(ClientCall<ReqT, RespT> call, AtomicInteger inFlight) {
+      super(call);
+      this.inFlight = inFlight;
+    }
+
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+      inFlight.incrementAndGet();
+      try {
+        super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+          @Override
+          public void onClose(Status status, Metadata trailers) {
+            inFlight.decrementAndGet();
+            super.onClose(status, trailers);
+          }
+        }, headers);
+      } catch (RuntimeException e) {
+        inFlight.decrementAndGet();
+        throw e;
+      }
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.grpc.interceptors;
+
+import io.dapr.client.Headers;
+import io.dapr.internal.opencensus.GrpcHelper;
+import io.dapr.internal.resiliency.TimeoutPolicy;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import reactor.util.context.ContextView;
+
+import java.util.function.Consumer;
+
+/**
+ * Applies everything done by the individual Dapr interceptors in a single interceptor: app ID, API token,
+ * timeout, tracing and baggage headers, and consumption of the response headers. Steps that do not apply to a
+ * call are skipped instead of adding a pass-through layer to it.
+ */
+public class DaprClientCallInterceptor implements ClientInterceptor {
+
+  private static final Metadata.Key<String> APP_ID_KEY =
+      Metadata.Key.of("dapr-app-id", Metadata.ASCII_STRING_MARSHALLER);
+
+  private static final Metadata.Key<String> API_TOKEN_KEY =
+      Metadata.Key.of(Headers.DAPR_API_TOKEN, Metadata.ASCII_STRING_MARSHALLER);
+
+  private static final Metadata.Key<String> BAGGAGE_KEY =
+      Metadata.Key.of(Headers.BAGGAGE, Metadata.ASCII_STRING_MARSHALLER);
+
+  private final String daprApiToken;
+
+  private final TimeoutPolicy timeoutPolicy;
+
+  private final String appId;
+
+  private final ContextView context;
+
+  private final Consumer<Metadata> metadataConsumer;
+
+  /**
+   * Instantiates an interceptor for calls without per-call settings.
+   * @param daprApiToken Dapr API token, null if not set.
+   * @param timeoutPolicy Timeout policy, null if not set.
+   */
+  public DaprClientCallInterceptor(String daprApiToken, TimeoutPolicy timeoutPolicy) {
+    this(daprApiToken, timeoutPolicy, null, null, null);
+  }
+
+  /**
+   * Instantiates an interceptor.
+   * @param daprApiToken Dapr API token, null if not set.
+   * @param timeoutPolicy Timeout policy, null if not set.
+   * @param appId Application ID to invoke, null if not set.
+   * @param context Reactor context for tracing and baggage, null if not set.
+   * @param metadataConsumer Consumer of the response headers, null if not set.
+   */
+  public DaprClientCallInterceptor(
+      String daprApiToken,
+      TimeoutPolicy timeoutPolicy,
+      String appId,
+      ContextView context,
+      Consumer<Metadata> metadataConsumer) {
+    this.daprApiToken = daprApiToken;
+    this.timeoutPolicy = timeoutPolicy;
+    this.appId = appId;
+    this.context = context == null || context.isEmpty() ? null : context;
+    this.metadataConsumer = metadataConsumer;
+  }
+
+  /**
+   * Creates an interceptor with the same API token and timeout policy as this one, for a single call.
+   * @param appId Application ID to invoke, null if not set.
+   * @param context Reactor context for tracing and baggage, null if not set.
+   * @param metadataConsumer Consumer of the response headers, null if not set.
+   * @return Interceptor for the call.
+   */
+  public DaprClientCallInterceptor forCall(String appId, ContextView context, Consumer<Metadata> metadataConsumer) {
+    return new DaprClientCallInterceptor(this.daprApiToken, this.timeoutPolicy, appId, context, metadataConsumer);
+  }
+
+  /**
+   * Checks whether calls with these settings need their own interceptor, or can share one without per-call
+   * settings.
+   * @param appId Application ID to invoke, null if not set.
+   * @param context Reactor context for tracing and baggage, null if not set.
+   * @param metadataConsumer Consumer of the response headers, null if not set.
+   * @return True if the call has settings of its own.
+   */
+  public static boolean hasCallSettings(String appId, ContextView context, Consumer<Metadata> metadataConsumer) {
+    return appId != null || metadataConsumer != null || (context != null && !context.isEmpty());
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      MethodDescriptor<ReqT, RespT> methodDescriptor,
+      CallOptions options,
+      Channel channel) {
+    CallOptions callOptions = this.timeoutPolicy == null ? options : this.timeoutPolicy.apply(options);
+    ClientCall<ReqT, RespT> clientCall = channel.newCall(methodDescriptor, callOptions);
+    if (this.appId == null && this.daprApiToken == null && this.context == null && this.metadataConsumer == null) {
+      return clientCall;
+    }
+
+    return new ForwardingClientCall.SimpleForwardingClientCall<>(clientCall) {
+      @Override
+      public void start(final Listener<RespT> responseListener, final Metadata metadata) {
+        if (appId != null) {
+          metadata.put(APP_ID_KEY, appId);
+        }
+        if (daprApiToken != null) {
+          metadata.put(API_TOKEN_KEY, daprApiToken);
+        }
+        if (context != null) {
+          GrpcHelper.populateMetadata(context, metadata);
+          if (context.hasKey(Headers.BAGGAGE)) {
+            String baggageValue = context.get(Headers.BAGGAGE).toString();
+            if (!baggageValue.isEmpty()) {
+              metadata.put(BAGGAGE_KEY, baggageValue);
+            }
+          }
+        }
+
+        if (metadataConsumer == null) {
+          super.start(responseListener, metadata);
+          return;
+        }
+
+        super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+          @Override
+          public void onHeaders(Metadata headers) {
+            responseListener.onHeaders(headers);
+            metadataConsumer.accept(headers);
+          }
+        }, metadata);
+      }
+    };
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.grpc.interceptors;
+
+import com.google.protobuf.MessageLite;
+import io.dapr.client.instrumentation.DaprClientListener;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * Reports the latency, status and message sizes of every gRPC call to a {@link DaprClientListener}.
+ */
+public class DaprClientListenerInterceptor implements ClientInterceptor {
+
+  private final DaprClientListener listener;
+
+  public DaprClientListenerInterceptor(DaprClientListener listener) {
+    this.listener = listener;
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      MethodDescriptor<ReqT, RespT> methodDescriptor,
+      CallOptions options,
+      Channel channel) {
+    String method = methodDescriptor.getBareMethodName();
+
+    return new ForwardingClientCall.SimpleForwardingClientCall<>(channel.newCall(methodDescriptor, options)) {
+
+      private volatile long requestBytes;
+
+      private volatile long responseBytes;
+
+      @Override
+      public void start(Listener<RespT> responseListener, Metadata headers) {
+        long start = System.nanoTime();
+        listener.onCallStarted(method);
+        super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+          @Override
+          public void onMessage(RespT message) {
+            responseBytes += sizeOf(message);
+            super.onMessage(message);
+          }
+
+          @Override
+          public void onClose(Status status, Metadata trailers) {
+            listener.onCallCompleted(
+                method, status.getCode().name(), System.nanoTime() - start, requestBytes, responseBytes);
+            super.onClose(status, trailers);
+          }
+        }, headers);
+      }
+
+      @Override
+      public void sendMessage(ReqT message) {
+        requestBytes += sizeOf(message);
+        super.sendMessage(message);
+      }
+    };
+  }
+
+  /**
+   * Gets the size of a message, which protobuf computes once and caches on the message.
+   */
+  private static int sizeOf(Object message) {
+    return message instanceof MessageLite ? ((MessageLite) message).getSerializedSize() : 0;
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+import io.dapr.client.resiliency.CircuitBreakerOptions;
+import io.dapr.exceptions.DaprException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker failing calls fast while Dapr is unavailable.
+ */
+final class CircuitBreaker {
+
+  private final int failureThreshold;
+
+  private final long openNanos;
+
+  private final LongSupplier nanoClock;
+
+  private final String name;
+
+  private int failures;
+
+  private boolean open;
+
+  private long openedAt;
+
+  private boolean trialInFlight;
+
+  CircuitBreaker(CircuitBreakerOptions options, String name) {
+    this(options, name, System::nanoTime);
+  }
+
+  CircuitBreaker(CircuitBreakerOptions options, String name, LongSupplier nanoClock) {
+    this.failureThreshold = options.getFailureThreshold();
+    this.openNanos = options.getOpenDuration().toNanos();
+    this.nanoClock = nanoClock;
+    this.name = name;
+  }
+
+  <T> Mono<T> apply(Mono<T> call) {
+    return Mono.defer(() -> {
+      if (!tryAcquire()) {
+        return Mono.error(openException());
+      }
+
+      AtomicBoolean done = new AtomicBoolean();
+      return call
+          .doOnSuccess(value -> record(done, null))
+          .doOnError(error -> record(done, error))
+          .doOnCancel(() -> release(done));
+    });
+  }
+
+  <T> Flux<T> apply(Flux<T> call) {
+    return Flux.defer(() -> {
+      if (!tryAcquire()) {
+        return Flux.error(openException());
+      }
+
+      // The first signal tells whether Dapr is available, the rest of a stream does not matter.
+      AtomicBoolean done = new AtomicBoolean();
+      return call
+          .doOnNext(value -> record(done, null))
+          .doOnComplete(() -> record(done, null))
+          .doOnError(error -> record(done, error))
+          .doOnCancel(() -> release(done));
+    });
+  }
+
+  synchronized boolean isOpen() {
+    return open;
+  }
+
+  private void record(AtomicBoolean done, Throwable error) {
+    if (!done.compareAndSet(false, true)) {
+      return;
+    }
+
+    if (error != null && RetryPolicy.isRetryableGrpcError(error)) {
+      onFailure();
+    } else {
+      // Any other outcome, including an error returned by Dapr, means Dapr is available.
+      onSuccess();
+    }
+  }
+
+  private void release(AtomicBoolean done) {
+    if (done.compareAndSet(false, true)) {
+      synchronized (this) {
+        trialInFlight = false;
+      }
+    }
+  }
+
+  private synchronized boolean tryAcquire() {
+    if (!open) {
+      return true;
+    }
+
+    if (trialInFlight || nanoClock.getAsLong() - openedAt < openNanos) {
+      return false;
+    }
+
+    // Half-open: let a single call through to find out whether Dapr is available again.
+    trialInFlight = true;
+    return true;
+  }
+
+  private synchronized void onSuccess() {
+    failures = 0;
+    open = false;
+    trialInFlight = false;
+  }
+
+  private synchronized void onFailure() {
+    trialInFlight = false;
+    if (open || ++failures >= failureThreshold) {
+      open = true;
+      openedAt = nanoClock.getAsLong();
+    }
+  }
+
+  private DaprException openException() {
+    return new DaprException(
+        "CIRCUIT_BREAKER_OPEN",
+        "Dapr is unavailable, failing " + name + " calls fast until the circuit breaker closes",
+        (Throwable) null);
+  }
+}
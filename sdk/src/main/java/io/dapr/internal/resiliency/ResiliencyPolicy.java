@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+import io.dapr.client.instrumentation.DaprClientListener;
+import io.dapr.client.resiliency.CircuitBreakerOptions;
+import io.dapr.client.resiliency.OperationType;
+import io.dapr.client.resiliency.ResiliencyOptions;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Resiliency policy for a kind of operation: retries, hedging and circuit breaking.
+ */
+public final class ResiliencyPolicy {
+
+  private final RetryPolicy retryPolicy;
+
+  private final CircuitBreaker circuitBreaker;
+
+  private final Duration hedgingDelay;
+
+  /**
+   * Instantiates a policy only retrying calls.
+   * @param retryPolicy Retry policy.
+   */
+  public ResiliencyPolicy(RetryPolicy retryPolicy) {
+    this(retryPolicy, null, null);
+  }
+
+  ResiliencyPolicy(RetryPolicy retryPolicy, CircuitBreaker circuitBreaker, Duration hedgingDelay) {
+    this.retryPolicy = retryPolicy;
+    this.circuitBreaker = circuitBreaker;
+    this.hedgingDelay = hedgingDelay;
+  }
+
+  /**
+   * Creates the policies for every kind of operation, sharing a retry budget.
+   * @param options Client-level resiliency options, null for the defaults.
+   * @return Policy for every kind of operation.
+   */
+  public static Map<OperationType, ResiliencyPolicy> forOperations(ResiliencyOptions options) {
+    return forOperations(options, null);
+  }
+
+  /**
+   * Creates the policies for every kind of operation, sharing a retry budget.
+   * @param options Client-level resiliency options, null for the defaults.
+   * @param listener Listener notified of retries, null if not needed.
+   * @return Policy for every kind of operation.
+   */
+  public static Map<OperationType, ResiliencyPolicy> forOperations(
+      ResiliencyOptions options, DaprClientListener listener) {
+    ResiliencyOptions clientOptions = options == null ? new ResiliencyOptions() : options;
+    RetryBudget retryBudget = clientOptions.getRetryBudget() == null
+        ? null : new RetryBudget(clientOptions.getRetryBudget());
+    Map<OperationType, ResiliencyPolicy> policies = new EnumMap<>(OperationType.class);
+    for (OperationType operationType : OperationType.values()) {
+      policies.put(operationType, create(clientOptions, operationType, retryBudget, listener));
+    }
+
+    return policies;
+  }
+
+  private static ResiliencyPolicy create(
+      ResiliencyOptions clientOptions,
+      OperationType operationType,
+      RetryBudget retryBudget,
+      DaprClientListener listener) {
+    ResiliencyOptions operationOptions = clientOptions.getOperationOptions(operationType);
+    RetryPolicy retryPolicy = new RetryPolicy(
+        option(clientOptions, operationOptions, ResiliencyOptions::getMaxRetries),
+        option(clientOptions, operationOptions, ResiliencyOptions::getInitialBackoff),
+        option(clientOptions, operationOptions, ResiliencyOptions::getMaxBackoff),
+        option(clientOptions, operationOptions, ResiliencyOptions::getJitter),
+        retryBudget,
+        listener == null ? null : error -> listener.onRetry(operationType, error));
+    CircuitBreakerOptions circuitBreakerOptions =
+        option(clientOptions, operationOptions, ResiliencyOptions::getCircuitBreaker);
+    Duration hedgingDelay = operationType == OperationType.STATE_READ
+        ? option(clientOptions, operationOptions, ResiliencyOptions::getHedgingDelay)
+        : null;
+
+    return new ResiliencyPolicy(
+        retryPolicy,
+        circuitBreakerOptions == null ? null : new CircuitBreaker(circuitBreakerOptions, operationType.name()),
+        hedgingDelay);
+  }
+
+  private static <T> T option(
+      ResiliencyOptions clientOptions, ResiliencyOptions operationOptions, Function<ResiliencyOptions, T> getter) {
+    T value = operationOptions == null ? null : getter.apply(operationOptions);
+    return value != null ? value : getter.apply(clientOptions);
+  }
+
+  /**
+   * Applies the policy to a call.
+   * @param call Call, subscribed to once per attempt.
+   * @param <T> Type of the call's response.
+   * @return Call with the policy applied.
+   */
+  public <T> Mono<T> apply(Mono<T> call) {
+    Mono<T> attempt = call;
+    if (this.hedgingDelay != null) {
+      attempt = hedge(call, this.hedgingDelay);
+    }
+    if (this.circuitBreaker != null) {
+      attempt = this.circuitBreaker.apply(attempt);
+    }
+
+    return this.retryPolicy.apply(attempt);
+  }
+
+  /**
+   * Applies the policy to a streaming call, which is never hedged.
+   * @param call Call, subscribed to once per attempt.
+   * @param <T> Type of the call's responses.
+   * @return Call with the policy applied.
+   */
+  public <T> Flux<T> apply(Flux<T> call) {
+    Flux<T> attempt = call;
+    if (this.circuitBreaker != null) {
+      attempt = this.circuitBreaker.apply(attempt);
+    }
+
+    return this.retryPolicy.apply(attempt);
+  }
+
+  /**
+   * Races a call with a copy of it started after a delay, the first response winning. A failure that a retry could
+   * fix does not end the race, so the call only fails once both attempts did, with the error of the first one. Any
+   * other failure of the first attempt fails the call right away, without starting the copy.
+   */
+  private static <T> Mono<T> hedge(Mono<T> call, Duration delay) {
+    // Responses are wrapped so that empty ones, and errors not worth hedging, win the race like any other response.
+    Mono<Mono<T>> hedged = call.map(Mono::just).defaultIfEmpty(Mono.empty());
+    Mono<Mono<T>> primary =
+        hedged.onErrorResume(e -> !RetryPolicy.isRetryableGrpcError(e), e -> Mono.just(Mono.error(e)));
+    return Mono.firstWithValue(primary, hedged.delaySubscription(delay))
+        .onErrorMap(e -> e.getCause() != null, e -> Exceptions.unwrapMultiple(e.getCause()).get(0))
+        .flatMap(Function.identity());
+  }
+}
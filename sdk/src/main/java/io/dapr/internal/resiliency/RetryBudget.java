@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+import io.dapr.client.resiliency.RetryBudgetOptions;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Token bucket limiting retries, with the semantics of gRPC's retry throttling.
+ */
+public final class RetryBudget {
+
+  /**
+   * Tokens are kept in thousandths, so fractions of a token can be given back atomically.
+   */
+  private static final int SCALE = 1000;
+
+  private final int maxTokens;
+
+  private final int threshold;
+
+  private final int tokenRatio;
+
+  private final AtomicInteger tokens;
+
+  /**
+   * Instantiates a new retry budget.
+   * @param options Retry budget options.
+   */
+  public RetryBudget(RetryBudgetOptions options) {
+    this.maxTokens = options.getMaxTokens() * SCALE;
+    this.threshold = this.maxTokens / 2;
+    this.tokenRatio = Math.max(1, (int) Math.round(options.getTokenRatio() * SCALE));
+    this.tokens = new AtomicInteger(this.maxTokens);
+  }
+
+  /**
+   * Takes a token for a failed call.
+   * @return True if the call can be retried.
+   */
+  boolean onFailure() {
+    return tokens.updateAndGet(current -> Math.max(0, current - SCALE)) > threshold;
+  }
+
+  /**
+   * Gives back a fraction of a token for a successful call.
+   */
+  void onSuccess() {
+    if (tokens.get() < maxTokens) {
+      tokens.updateAndGet(current -> Math.min(maxTokens, current + tokenRatio));
+    }
+  }
+}
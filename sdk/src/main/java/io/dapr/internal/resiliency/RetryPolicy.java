@@ -20,8 +20,11 @@ import io.grpc.StatusRuntimeException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+import reactor.util.retry.RetrySpec;
 
 import java.time.Duration;
+import java.util.function.Consumer;
 
 /**
  * Retry policy for SDK communication to Dapr API.
@@ -32,14 +35,45 @@ public final class RetryPolicy {
 
   private static final int MAX_BACKOFF_SECONDS = 5;
 
+  private static final double DEFAULT_JITTER = 0.5;
+
   private final Retry retrySpec;
 
+  private final RetryBudget retryBudget;
+
+  private final Consumer<Throwable> retryListener;
+
   public RetryPolicy() {
     this(null);
   }
 
   public RetryPolicy(Integer maxRetries) {
-    this.retrySpec = buildRetrySpec(maxRetries != null ? maxRetries : Properties.MAX_RETRIES.get());
+    this(maxRetries, null, null, null, null, null);
+  }
+
+  /**
+   * Instantiates a new retry policy.
+   * @param maxRetries Maximum number of retries, null for the default.
+   * @param initialBackoff Backoff before the first retry, null for the default.
+   * @param maxBackoff Maximum backoff, null for the default.
+   * @param jitter Jitter applied to backoffs, null for the default.
+   * @param retryBudget Budget shared with other policies, null to not limit retries further.
+   * @param retryListener Called with the error before every retry, null if not needed.
+   */
+  public RetryPolicy(
+      Integer maxRetries,
+      Duration initialBackoff,
+      Duration maxBackoff,
+      Double jitter,
+      RetryBudget retryBudget,
+      Consumer<Throwable> retryListener) {
+    this.retryBudget = retryBudget;
+    this.retryListener = retryListener;
+    this.retrySpec = buildRetrySpec(
+        maxRetries != null ? maxRetries : Properties.MAX_RETRIES.get(),
+        initialBackoff != null ? initialBackoff : Duration.ofMillis(MIN_BACKOFF_MILLIS),
+        maxBackoff != null ? maxBackoff : Duration.ofSeconds(MAX_BACKOFF_SECONDS),
+        jitter != null ? jitter : DEFAULT_JITTER);
   }
 
   /**
@@ -53,6 +87,10 @@ public final class RetryPolicy {
       return response;
     }
 
+    if (this.retryBudget != null) {
+      response = response.doOnSuccess(value -> this.retryBudget.onSuccess());
+    }
+
     return response.retryWhen(retrySpec)
         .onErrorMap(throwable -> findDaprException(throwable));
   }
@@ -68,26 +106,55 @@ public final class RetryPolicy {
       return response;
     }
 
+    if (this.retryBudget != null) {
+      response = response.doOnComplete(this.retryBudget::onSuccess);
+    }
+
     return response.retryWhen(retrySpec)
         .onErrorMap(throwable -> findDaprException(throwable));
   }
 
-  private static Retry buildRetrySpec(int maxRetries) {
+  private Retry buildRetrySpec(int maxRetries, Duration initialBackoff, Duration maxBackoff, double jitter) {
     if (maxRetries == 0) {
       return null;
     }
 
     if (maxRetries < 0) {
-      return Retry.indefinitely()
-          .filter(throwable -> isRetryableGrpcError(throwable));
+      return withRetryListener(Retry.indefinitely()
+          .filter(throwable -> shouldRetry(throwable)));
+    }
+
+    return withRetryListener(Retry.backoff(maxRetries, initialBackoff)
+        .maxBackoff(maxBackoff)
+        .jitter(jitter)
+        .filter(throwable -> shouldRetry(throwable)));
+  }
+
+  private Retry withRetryListener(RetrySpec retrySpec) {
+    if (this.retryListener == null) {
+      return retrySpec;
+    }
+
+    return retrySpec.doBeforeRetry(signal -> this.retryListener.accept(signal.failure()));
+  }
+
+  private Retry withRetryListener(RetryBackoffSpec retrySpec) {
+    if (this.retryListener == null) {
+      return retrySpec;
+    }
+
+    return retrySpec.doBeforeRetry(signal -> this.retryListener.accept(signal.failure()));
+  }
+
+  private boolean shouldRetry(Throwable throwable) {
+    if (!isRetryableGrpcError(throwable)) {
+      return false;
     }
 
-    return Retry.backoff(maxRetries, Duration.ofMillis(MIN_BACKOFF_MILLIS))
-        .maxBackoff(Duration.ofSeconds(MAX_BACKOFF_SECONDS))
-        .filter(throwable -> isRetryableGrpcError(throwable));
+    return this.retryBudget == null || this.retryBudget.onFailure();
   }
 
-  private static boolean isRetryableGrpcError(Throwable throwable) {
+  static boolean isRetryableGrpcError(Throwable throwable) {
     Status grpcStatus = findGrpcStatusCode(throwable);
     if (grpcStatus == null) {
       return false;
@@ -13,7 +13,9 @@ limitations under the License.
 
 package io.dapr.internal.subscription;
 
+import com.google.protobuf.ByteString;
 import io.dapr.client.domain.CloudEvent;
+import io.dapr.client.domain.LazyCloudEvent;
 import io.dapr.exceptions.DaprException;
 import io.dapr.serializer.DaprObjectSerializer;
 import io.dapr.utils.TypeRef;
@@ -105,14 +107,13 @@ public class EventSubscriberStreamObserver<T>
   }
 
   private boolean isCloudEventType(TypeRef<T> typeRef) {
-    Type t = typeRef.getType();
-
-    if (t instanceof ParameterizedType) {
-      ParameterizedType pt = (ParameterizedType) t;
-      return pt.getRawType() == CloudEvent.class;
-    }
+    Type t = getRawType(typeRef);
+    return t == CloudEvent.class || t == LazyCloudEvent.class;
+  }
 
-    return t == CloudEvent.class;
+  private static Type getRawType(TypeRef<?> typeRef) {
+    Type t = typeRef.getType();
+    return t instanceof ParameterizedType ? ((ParameterizedType) t).getRawType() : t;
   }
 
   @SuppressWarnings("unchecked")
@@ -120,22 +121,26 @@ public class EventSubscriberStreamObserver<T>
     // Extract inner type from CloudEvent<T>
     TypeRef<?> innerType = extractInnerType(type);
 
-    // Deserialize the data field into the inner type
-    Object data;
-    if (innerType != null) {
-      data = objectSerializer.deserialize(message.getData().toByteArray(), innerType);
+    LazyCloudEvent.Decoder<Object> decoder = innerType == null
+        ? ByteString::toStringUtf8
+        : data -> objectSerializer.deserialize(data.toByteArray(), innerType);
+
+    // Decoding is only deferred when the subscriber asked for LazyCloudEvent: the event is then acked before its
+    // data is decoded, so a malformed payload is acked SUCCESS instead of DROP.
+    CloudEvent<Object> cloudEvent;
+    if (getRawType(type) == LazyCloudEvent.class) {
+      cloudEvent = new LazyCloudEvent<>(message.getData(), decoder);
     } else {
-      data = message.getData().toStringUtf8();
+      cloudEvent = new CloudEvent<>();
+      cloudEvent.setData(decoder.decode(message.getData()));
     }
 
     // Build CloudEvent from protobuf fields
-    CloudEvent<Object> cloudEvent = new CloudEvent<>();
     cloudEvent.setId(message.getId());
     cloudEvent.setSource(message.getSource());
     cloudEvent.setType(message.getType());
     cloudEvent.setSpecversion(message.getSpecVersion());
     cloudEvent.setDatacontenttype(message.getDataContentType());
-    cloudEvent.setData(data);
     cloudEvent.setTopic(message.getTopic());
     cloudEvent.setPubsubName(message.getPubsubName());
 
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.utils;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histogram with fixed bucket boundaries.
+ *
+ * <p>Bucket {@code i} counts the recorded values that are less than or equal to the {@code i}-th boundary and
+ * greater than the previous one. Values above the last boundary are counted in an overflow bucket. Recording
+ * does not allocate, so it can be used on hot paths.</p>
+ */
+public final class Histogram {
+
+  private final long[] bounds;
+
+  private final LongAdder[] counts;
+
+  private final LongAdder sum = new LongAdder();
+
+  private final LongAccumulator max = new LongAccumulator(Long::max, Long.MIN_VALUE);
+
+  /**
+   * Instantiates a Histogram.
+   *
+   * @param bounds Upper boundaries of each bucket, in ascending order.
+   */
+  public Histogram(long... bounds) {
+    if (bounds == null || bounds.length == 0) {
+      throw new IllegalArgumentException("At least one bucket boundary is required");
+    }
+
+    for (int i = 1; i < bounds.length; i++) {
+      if (bounds[i] <= bounds[i - 1]) {
+        throw new IllegalArgumentException("Bucket boundaries must be in ascending order");
+      }
+    }
+
+    this.bounds = bounds.clone();
+    this.counts = new LongAdder[bounds.length + 1];
+    for (int i = 0; i < this.counts.length; i++) {
+      this.counts[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Instantiates a Histogram with exponentially growing bucket boundaries.
+   *
+   * @param start  Upper boundary of the first bucket.
+   * @param factor Growth factor between consecutive boundaries.
+   * @param count  Number of buckets, not counting the overflow bucket.
+   * @return Histogram.
+   */
+  public static Histogram exponential(long start, double factor, int count) {
+    if (start < 1 || factor <= 1 || count < 1) {
+      throw new IllegalArgumentException("Invalid exponential histogram parameters");
+    }
+
+    long[] bounds = new long[count];
+    double bound = start;
+    for (int i = 0; i < count; i++) {
+      bounds[i] = i == 0 ? start : Math.max(bounds[i - 1] + 1, (long) bound);
+      bound *= factor;
+    }
+
+    return new Histogram(bounds);
+  }
+
+  /**
+   * Records a value.
+   *
+   * @param value Value to be recorded.
+   */
+  public void record(long value) {
+    int index = Arrays.binarySearch(bounds, value);
+    if (index < 0) {
+      index = -index - 1;
+    }
+
+    counts[index].increment();
+    sum.add(value);
+    max.accumulate(value);
+  }
+
+  /**
+   * Gets the number of recorded values.
+   *
+   * @return Number of recorded values.
+   */
+  public long getCount() {
+    long count = 0;
+    for (LongAdder bucket : counts) {
+      count += bucket.sum();
+    }
+
+    return count;
+  }
+
+  /**
+   * Gets the sum of recorded values.
+   *
+   * @return Sum of recorded values.
+   */
+  public long getSum() {
+    return sum.sum();
+  }
+
+  /**
+   * Gets the largest recorded value.
+   *
+   * @return Largest recorded value, or 0 if nothing was recorded.
+   */
+  public long getMax() {
+    long value = max.get();
+    return value == Long.MIN_VALUE ? 0 : value;
+  }
+
+  /**
+   * Gets the upper boundaries of each bucket, not counting the overflow bucket.
+   *
+   * @return Copy of the bucket boundaries.
+   */
+  public long[] getBucketBounds() {
+    return bounds.clone();
+  }
+
+  /**
+   * Gets the number of values recorded in each bucket, the last element being the overflow bucket.
+   *
+   * @return Snapshot of the bucket counts.
+   */
+  public long[] getBucketCounts() {
+    long[] result = new long[counts.length];
+    for (int i = 0; i < counts.length; i++) {
+      result[i] = counts[i].sum();
+    }
+
+    return result;
+  }
+
+  /**
+   * Estimates a percentile as the upper boundary of the bucket it falls into.
+   *
+   * @param percentile Percentile, between 0 and 100.
+   * @return Estimated value, the largest recorded value if it falls into the overflow bucket, or 0 if empty.
+   */
+  public long getPercentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100");
+    }
+
+    long[] snapshot = getBucketCounts();
+    long total = 0;
+    for (long count : snapshot) {
+      total += count;
+    }
+
+    if (total == 0) {
+      return 0;
+    }
+
+    long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+    long seen = 0;
+    for (int i = 0; i < bounds.length; i++) {
+      seen += snapshot[i];
+      if (seen >= rank) {
+        return bounds[i];
+      }
+    }
+
+    return getMax();
+  }
+}
@@ -16,6 +16,7 @@ package io.dapr.utils;
 import io.dapr.config.Properties;
 import io.dapr.exceptions.DaprError;
 import io.dapr.exceptions.DaprException;
+import io.dapr.internal.grpc.ManagedChannelPool;
 import io.grpc.ChannelCredentials;
 import io.grpc.ClientInterceptor;
 import io.grpc.Grpc;
@@ -33,9 +34,14 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
+import static io.dapr.config.Properties.GRPC_CHANNEL_POOL_ISOLATE_STREAMS;
+import static io.dapr.config.Properties.GRPC_CHANNEL_POOL_SELECTION;
+import static io.dapr.config.Properties.GRPC_CHANNEL_POOL_SIZE;
 import static io.dapr.config.Properties.GRPC_ENABLE_KEEP_ALIVE;
 import static io.dapr.config.Properties.GRPC_ENDPOINT;
 import static io.dapr.config.Properties.GRPC_KEEP_ALIVE_TIMEOUT_SECONDS;
@@ -128,7 +134,7 @@ public final class NetworkUtils {
   }
 
   /**
-   * Creates a GRPC managed channel.
+   * Creates a GRPC managed channel, or a pool of them when {@link Properties#GRPC_CHANNEL_POOL_SIZE} is more than 1.
    * 
    * @param properties   instance to set up the GrpcEndpoint
    * @param interceptors Optional interceptors to add to the channel.
@@ -136,6 +142,37 @@ public final class NetworkUtils {
    */
   public static ManagedChannel buildGrpcManagedChannel(Properties properties, ClientInterceptor... interceptors) {
     var settings = GrpcEndpointSettings.parse(properties);
+    int poolSize = properties.getValue(GRPC_CHANNEL_POOL_SIZE);
+    if (poolSize <= 1) {
+      return buildGrpcManagedChannel(properties, settings, interceptors);
+    }
+
+    ManagedChannelPool.Selection selection;
+    try {
+      selection = ManagedChannelPool.Selection.parse(properties.getValue(GRPC_CHANNEL_POOL_SELECTION));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          "Invalid gRPC channel pool selection: " + properties.getValue(GRPC_CHANNEL_POOL_SELECTION), e);
+    }
+
+    // Streams get a channel on top of the requested ones, so unary calls are still spread over the pool size.
+    boolean isolateStreams = properties.getValue(GRPC_CHANNEL_POOL_ISOLATE_STREAMS);
+    int channelCount = isolateStreams ? poolSize + 1 : poolSize;
+    List<ManagedChannel> channels = new ArrayList<>(channelCount);
+    try {
+      for (int i = 0; i < channelCount; i++) {
+        channels.add(buildGrpcManagedChannel(properties, settings, interceptors));
+      }
+    } catch (RuntimeException e) {
+      channels.forEach(ManagedChannel::shutdownNow);
+      throw e;
+    }
+
+    return new ManagedChannelPool(channels, selection, isolateStreams);
+  }
+
+  private static ManagedChannel buildGrpcManagedChannel(
+      Properties properties, GrpcEndpointSettings settings, ClientInterceptor... interceptors) {
 
     boolean insecureTls = properties.getValue(GRPC_TLS_INSECURE);
     if (insecureTls) {
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.BulkPublishEntry;
+import io.dapr.serializer.DaprObjectSerializer;
+import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.utils.DefaultContentTypeConverter;
+import io.dapr.v1.DaprPubsubProtos;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BulkPublishEncoderTest {
+
+  private static final DaprPubsubProtos.BulkPublishRequest ENVELOPE = DaprPubsubProtos.BulkPublishRequest.newBuilder()
+      .setPubsubName("pubsub")
+      .setTopic("topic")
+      .build();
+
+  private final BulkPublishEncoder encoder = new BulkPublishEncoder(new DefaultObjectSerializer());
+
+  @Test
+  public void encodesLikeContentTypeConverter() throws Exception {
+    List<BulkPublishEntry<Object>> entries = List.of(
+        new BulkPublishEntry<>("1", "text", "text/plain"),
+        new BulkPublishEntry<>("2", 42, "text/plain;charset=utf-8"),
+        new BulkPublishEntry<>("3", new byte[] {1, 2, 3}, "application/octet-stream"),
+        new BulkPublishEntry<>("4", Map.of("id", 1), "application/json"),
+        new BulkPublishEntry<>("5", Map.of("id", 2), "application/cloudevents+json"));
+
+    List<DaprPubsubProtos.BulkPublishRequestEntry> encoded = encoder.encode(entries);
+
+    assertEquals(entries.size(), encoded.size());
+    for (int i = 0; i < entries.size(); i++) {
+      BulkPublishEntry<Object> entry = entries.get(i);
+      assertEquals(entry.getEntryId(), encoded.get(i).getEntryId());
+      assertEquals(entry.getContentType(), encoded.get(i).getContentType());
+      assertArrayEquals(
+          DefaultContentTypeConverter.convertEventToBytesForGrpc(entry.getEvent(), entry.getContentType()),
+          encoded.get(i).getEvent().toByteArray());
+    }
+  }
+
+  @Test
+  public void defaultsToSerializerContentType() {
+    List<BulkPublishEntry<Object>> entries = List.of(new BulkPublishEntry<>("1", Map.of("id", 1), null));
+
+    DaprPubsubProtos.BulkPublishRequestEntry encoded = encoder.encode(entries).get(0);
+
+    assertEquals("application/json", encoded.getContentType());
+    assertEquals("{\"id\":1}", encoded.getEvent().toStringUtf8());
+  }
+
+  @Test
+  public void binaryEventIsCopied() {
+    byte[] event = "original".getBytes(StandardCharsets.UTF_8);
+    List<BulkPublishEntry<Object>> entries = List.of(new BulkPublishEntry<>("1", event, null));
+
+    DaprPubsubProtos.BulkPublishRequestEntry encoded = encoder.encode(entries).get(0);
+    event[0] = 'X';
+
+    assertEquals("original", encoded.getEvent().toStringUtf8());
+  }
+
+  @Test
+  public void customSerializerIgnoresContentType() throws Exception {
+    DaprObjectSerializer serializer = mock(DaprObjectSerializer.class);
+    when(serializer.getContentType()).thenReturn("application/custom");
+    when(serializer.serialize(any())).thenReturn("custom".getBytes(StandardCharsets.UTF_8));
+    BulkPublishEncoder customEncoder = new BulkPublishEncoder(serializer);
+
+    List<DaprPubsubProtos.BulkPublishRequestEntry> encoded = customEncoder.encode(List.of(
+        new BulkPublishEntry<>("1", 1, "text/plain"),
+        new BulkPublishEntry<>("2", 2, null)));
+
+    assertEquals("text/plain", encoded.get(0).getContentType());
+    assertEquals("custom", encoded.get(0).getEvent().toStringUtf8());
+    assertEquals("application/custom", encoded.get(1).getContentType());
+  }
+
+  @Test
+  public void largeBatchKeepsOrder() {
+    int size = BulkBatching.PARALLEL_THRESHOLD * 4 + 7;
+    List<BulkPublishEntry<String>> entries = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      entries.add(new BulkPublishEntry<>(Integer.toString(i), "event-" + i, i % 2 == 0 ? "text/plain" : null));
+    }
+
+    List<DaprPubsubProtos.BulkPublishRequestEntry> encoded = encoder.encode(entries);
+
+    assertEquals(size, encoded.size());
+    for (int i = 0; i < size; i++) {
+      assertEquals(Integer.toString(i), encoded.get(i).getEntryId());
+      String expected = i % 2 == 0 ? "event-" + i : "\"event-" + i + "\"";
+      assertEquals(expected, encoded.get(i).getEvent().toStringUtf8());
+    }
+  }
+
+  @Test
+  public void splitsByEntryCount() {
+    BulkPublishEncoder countEncoder = new BulkPublishEncoder(new DefaultObjectSerializer(), 1024 * 1024, 3, 2);
+    List<DaprPubsubProtos.BulkPublishRequestEntry> encoded = countEncoder.encode(entries(8, 10));
+
+    List<List<DaprPubsubProtos.BulkPublishRequestEntry>> batches = countEncoder.split(ENVELOPE, encoded);
+
+    assertEquals(List.of(3, 3, 2), batches.stream().map(List::size).collect(Collectors.toList()));
+    assertEquals("3", batches.get(1).get(0).getEntryId());
+  }
+
+  @Test
+  public void splitsBySize() {
+    int maxBytes = 1000;
+    BulkPublishEncoder sizeEncoder = new BulkPublishEncoder(new DefaultObjectSerializer(), maxBytes, 0, 2);
+    List<DaprPubsubProtos.BulkPublishRequestEntry> encoded = sizeEncoder.encode(entries(50, 100));
+
+    List<List<DaprPubsubProtos.BulkPublishRequestEntry>> batches = sizeEncoder.split(ENVELOPE, encoded);
+
+    assertTrue(batches.size() > 1);
+    int total = 0;
+    for (List<DaprPubsubProtos.BulkPublishRequestEntry> batch : batches) {
+      int size = ENVELOPE.toBuilder().addAllEntries(batch).build().getSerializedSize();
+      assertTrue(size <= maxBytes, "batch of " + size + " bytes exceeds the limit");
+      total += batch.size();
+    }
+    assertEquals(50, total);
+  }
+
+  @Test
+  public void oversizedEntryIsSentAlone() {
+    BulkPublishEncoder sizeEncoder = new BulkPublishEncoder(new DefaultObjectSerializer(), 200, 0, 2);
+    List<BulkPublishEntry<String>> entries = new ArrayList<>(entries(2, 10));
+    entries.add(1, new BulkPublishEntry<>("big", "x".repeat(500), "text/plain"));
+
+    List<List<DaprPubsubProtos.BulkPublishRequestEntry>> batches =
+        sizeEncoder.split(ENVELOPE, sizeEncoder.encode(entries));
+
+    assertEquals(3, batches.size());
+    assertEquals("big", batches.get(1).get(0).getEntryId());
+  }
+
+  @Test
+  public void smallRequestIsNotSplit() {
+    List<DaprPubsubProtos.BulkPublishRequestEntry> encoded = encoder.encode(entries(100, 100));
+
+    assertEquals(1, encoder.split(ENVELOPE, encoded).size());
+  }
+
+  @Test
+  public void largeBatchReportsMismatch() {
+    List<BulkPublishEntry<Object>> entries = new ArrayList<>();
+    for (int i = 0; i < BulkBatching.PARALLEL_THRESHOLD * 2; i++) {
+      entries.add(new BulkPublishEntry<>(Integer.toString(i), "event", "text/plain"));
+    }
+    entries.set(1500, new BulkPublishEntry<>("1500", "not binary", "application/octet-stream"));
+
+    assertThrows(IllegalArgumentException.class, () -> encoder.encode(entries));
+  }
+
+  private static List<BulkPublishEntry<String>> entries(int count, int eventSize) {
+    List<BulkPublishEntry<String>> entries = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      entries.add(new BulkPublishEntry<>(Integer.toString(i), "e".repeat(eventSize), "text/plain"));
+    }
+    return entries;
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import com.google.protobuf.ByteString;
+import io.dapr.client.domain.State;
+import io.dapr.v1.CommonProtos;
+import io.dapr.v1.DaprStateProtos;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BulkStateBatcherTest {
+
+  private static final DaprStateProtos.GetBulkStateRequest GET_ENVELOPE =
+      DaprStateProtos.GetBulkStateRequest.newBuilder().setStoreName("store").build();
+
+  private static final DaprStateProtos.SaveStateRequest SAVE_ENVELOPE =
+      DaprStateProtos.SaveStateRequest.newBuilder().setStoreName("store").build();
+
+  @Test
+  public void splitsKeysByCount() {
+    BulkStateBatcher batcher = new BulkStateBatcher(3, 1024 * 1024, 2);
+
+    List<List<String>> batches = batcher.splitKeys(GET_ENVELOPE, keys(8));
+
+    assertEquals(List.of(3, 3, 2), batches.stream().map(List::size).collect(Collectors.toList()));
+    assertEquals("3", batches.get(1).get(0));
+  }
+
+  @Test
+  public void splitsStatesBySize() {
+    int maxBytes = 1000;
+    BulkStateBatcher batcher = new BulkStateBatcher(0, maxBytes, 2);
+    List<CommonProtos.StateItem> items = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      items.add(CommonProtos.StateItem.newBuilder()
+          .setKey(Integer.toString(i))
+          .setValue(ByteString.copyFromUtf8("v".repeat(100)))
+          .build());
+    }
+
+    List<List<CommonProtos.StateItem>> batches = batcher.splitStates(SAVE_ENVELOPE, items);
+
+    assertTrue(batches.size() > 1);
+    int total = 0;
+    for (List<CommonProtos.StateItem> batch : batches) {
+      int size = SAVE_ENVELOPE.toBuilder().addAllStates(batch).build().getSerializedSize();
+      assertTrue(size <= maxBytes, "batch of " + size + " bytes exceeds the limit");
+      total += batch.size();
+    }
+    assertEquals(50, total);
+  }
+
+  @Test
+  public void smallRequestIsNotSplit() {
+    BulkStateBatcher batcher = new BulkStateBatcher(1000, 4 * 1024 * 1024, 4);
+
+    assertEquals(1, batcher.splitKeys(GET_ENVELOPE, keys(100)).size());
+  }
+
+  @Test
+  public void largeSaveIsEncodedInOrder() throws IOException {
+    BulkStateBatcher batcher = new BulkStateBatcher(1000, 4 * 1024 * 1024, 4);
+    List<State<?>> states = new ArrayList<>();
+    for (int i = 0; i < BulkBatching.PARALLEL_THRESHOLD * 3 + 5; i++) {
+      states.add(new State<>(Integer.toString(i)));
+    }
+
+    List<CommonProtos.StateItem> encoded = batcher.encode(states,
+        state -> CommonProtos.StateItem.newBuilder().setKey(state.getKey()).build());
+
+    assertEquals(states.size(), encoded.size());
+    for (int i = 0; i < states.size(); i++) {
+      assertEquals(Integer.toString(i), encoded.get(i).getKey());
+    }
+  }
+
+  @Test
+  public void largeSaveReportsSerializationFailure() {
+    BulkStateBatcher batcher = new BulkStateBatcher(1000, 4 * 1024 * 1024, 4);
+    List<State<?>> states = new ArrayList<>();
+    for (int i = 0; i < BulkBatching.PARALLEL_THRESHOLD * 2; i++) {
+      states.add(new State<>(Integer.toString(i)));
+    }
+
+    assertThrows(IOException.class, () -> batcher.encode(states, state -> {
+      if (state.getKey().equals("1500")) {
+        throw new IOException("cannot serialize");
+      }
+      return CommonProtos.StateItem.newBuilder().setKey(state.getKey()).build();
+    }));
+  }
+
+  @Test
+  public void invalidLimits() {
+    assertThrows(IllegalArgumentException.class, () -> new BulkStateBatcher(0, 0, 1));
+    assertThrows(IllegalArgumentException.class, () -> new BulkStateBatcher(0, 1, 0));
+  }
+
+  private static List<String> keys(int count) {
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      keys.add(Integer.toString(i));
+    }
+    return keys;
+  }
+}
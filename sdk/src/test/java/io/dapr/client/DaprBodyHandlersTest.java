@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DaprBodyHandlersTest {
+
+  @Test
+  public void ofFlux_readsBodyOnDemand() {
+    HttpResponse.BodySubscriber<Flux<ByteBuffer>> subscriber = DaprBodyHandlers.ofFlux().apply(responseInfo());
+    AtomicLong requested = new AtomicLong();
+    subscriber.onSubscribe(new Flow.Subscription() {
+      @Override
+      public void request(long n) {
+        requested.addAndGet(n);
+      }
+
+      @Override
+      public void cancel() {
+      }
+    });
+    Flux<ByteBuffer> body = subscriber.getBody().toCompletableFuture().join();
+
+    StepVerifier.create(body.map(buffer -> StandardCharsets.UTF_8.decode(buffer).toString()), 0)
+        .thenRequest(1)
+        .then(() -> subscriber.onNext(List.of(buffer("a"), buffer("b"))))
+        .expectNext("a")
+        .then(() -> assertEquals(1, requested.get()))
+        .thenRequest(1)
+        .expectNext("b")
+        .then(() -> assertEquals(2, requested.get()))
+        .thenRequest(1)
+        .then(() -> subscriber.onNext(List.of(buffer("c"))))
+        .expectNext("c")
+        .then(subscriber::onComplete)
+        .verifyComplete();
+  }
+
+  private static ByteBuffer buffer(String value) {
+    return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static HttpResponse.ResponseInfo responseInfo() {
+    return new HttpResponse.ResponseInfo() {
+      @Override
+      public int statusCode() {
+        return 200;
+      }
+
+      @Override
+      public HttpHeaders headers() {
+        return HttpHeaders.of(Map.of(), (name, value) -> true);
+      }
+
+      @Override
+      public HttpClient.Version version() {
+        return HttpClient.Version.HTTP_1_1;
+      }
+    };
+  }
+}
@@ -14,6 +14,7 @@ limitations under the License.
 package io.dapr.client;
 
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
 
 import java.net.http.HttpRequest.BodyPublisher;
 import java.nio.ByteBuffer;
@@ -23,6 +24,8 @@ import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -52,6 +55,44 @@ public class DaprBodyPublishersTest {
     assertEquals(0L, publisher.contentLength());
   }
 
+  @Test
+  public void ofFlux_streamsBuffersOnDemand() throws Exception {
+    AtomicLong requested = new AtomicLong();
+    Flux<ByteBuffer> body = Flux.range(0, 1000)
+        .map(i -> ByteBuffer.wrap("x".getBytes()))
+        .doOnRequest(requested::addAndGet);
+    List<ByteBuffer> received = new ArrayList<>();
+    AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+
+    BodyPublisher publisher = DaprBodyPublishers.ofFlux(body);
+    publisher.subscribe(new Flow.Subscriber<ByteBuffer>() {
+      @Override
+      public void onSubscribe(Flow.Subscription s) {
+        subscription.set(s);
+      }
+
+      @Override
+      public void onNext(ByteBuffer item) {
+        received.add(item);
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+      }
+
+      @Override
+      public void onComplete() {
+      }
+    });
+    subscription.get().request(2);
+
+    assertEquals(-1L, publisher.contentLength());
+    assertEquals(2, received.size());
+    assertEquals(2, requested.get());
+    assertEquals(1000, DaprBodyPublishers.ofFlux(body, 1000).contentLength());
+    assertEquals("x".repeat(1000), drain(DaprBodyPublishers.ofFlux(body, 1000)));
+  }
+
   private static String drain(BodyPublisher publisher) throws Exception {
     List<ByteBuffer> chunks = new ArrayList<>();
     CountDownLatch done = new CountDownLatch(1);
@@ -69,6 +69,7 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 import reactor.core.publisher.Mono;
+import uk.org.webcompere.systemstubs.properties.SystemProperties;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -85,7 +86,10 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -789,6 +793,106 @@ public class DaprClientGrpcTest {
     assertEquals("not found", result.stream().skip(1).findFirst().get().getError());
   }
 
+  @Test
+  public void getBulkStateSplitsLargeRequestTest() throws Exception {
+    List<List<String>> sentBatches = new CopyOnWriteArrayList<>();
+    doAnswer((Answer<Void>) invocation -> {
+      DaprStateProtos.GetBulkStateRequest request = invocation.getArgument(0);
+      sentBatches.add(request.getKeysList());
+      DaprStateProtos.GetBulkStateResponse.Builder builder = DaprStateProtos.GetBulkStateResponse.newBuilder();
+      for (String key : request.getKeysList()) {
+        builder.addItems(DaprStateProtos.BulkStateItem.newBuilder()
+            .setKey(key)
+            .setData(serialize("value-" + key))
+            .build());
+      }
+      StreamObserver<DaprStateProtos.GetBulkStateResponse> observer =
+          (StreamObserver<DaprStateProtos.GetBulkStateResponse>) invocation.getArguments()[1];
+      observer.onNext(builder.build());
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).getBulkState(any(DaprStateProtos.GetBulkStateRequest.class), any());
+
+    List<String> keys = Arrays.asList("1", "2", "3", "4", "5");
+    List<State<String>> result = new SystemProperties("dapr.bulk.state.max.batch.keys", "2")
+        .execute(() -> new DaprClientImpl(
+            channel, daprStub, daprHttp, new DefaultObjectSerializer(), new DefaultObjectSerializer())
+            .getBulkStateStream(new GetBulkStateRequest(STATE_STORE_NAME, keys), String.class)
+            .collectList()
+            .block());
+
+    assertEquals(List.of(List.of("1", "2"), List.of("3", "4"), List.of("5")), sentBatches);
+    assertEquals(keys, result.stream().map(State::getKey).collect(Collectors.toList()));
+    assertEquals("value-5", result.get(4).getValue());
+  }
+
+  @Test
+  public void saveBulkStateSplitsLargeRequestTest() throws Exception {
+    List<List<String>> sentBatches = new CopyOnWriteArrayList<>();
+    doAnswer((Answer<Void>) invocation -> {
+      DaprStateProtos.SaveStateRequest request = invocation.getArgument(0);
+      sentBatches.add(request.getStatesList().stream()
+          .map(CommonProtos.StateItem::getKey)
+          .collect(Collectors.toList()));
+      StreamObserver<Empty> observer = (StreamObserver<Empty>) invocation.getArguments()[1];
+      observer.onNext(Empty.getDefaultInstance());
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).saveState(any(DaprStateProtos.SaveStateRequest.class), any());
+
+    List<State<?>> states = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      states.add(new State<>(Integer.toString(i), "value-" + i, (String) null));
+    }
+
+    new SystemProperties("dapr.bulk.state.max.batch.keys", "2")
+        .execute(() -> new DaprClientImpl(
+            channel, daprStub, daprHttp, new DefaultObjectSerializer(), new DefaultObjectSerializer())
+            .saveBulkState(STATE_STORE_NAME, states)
+            .block());
+
+    assertEquals(3, sentBatches.size());
+    assertEquals(List.of("0", "1", "2", "3", "4"), sentBatches.stream()
+        .flatMap(List::stream)
+        .sorted()
+        .collect(Collectors.toList()));
+  }
+
+  @Test
+  public void saveBulkStateWithRepeatedKeySendsBatchesInOrderTest() throws Exception {
+    List<List<String>> sentBatches = new CopyOnWriteArrayList<>();
+    List<StreamObserver<Empty>> pending = new CopyOnWriteArrayList<>();
+    doAnswer((Answer<Void>) invocation -> {
+      DaprStateProtos.SaveStateRequest request = invocation.getArgument(0);
+      sentBatches.add(request.getStatesList().stream()
+          .map(CommonProtos.StateItem::getKey)
+          .collect(Collectors.toList()));
+      pending.add((StreamObserver<Empty>) invocation.getArguments()[1]);
+      return null;
+    }).when(daprStub).saveState(any(DaprStateProtos.SaveStateRequest.class), any());
+
+    List<State<?>> states = new ArrayList<>();
+    for (String key : List.of("a", "b", "c", "a", "d")) {
+      states.add(new State<>(key, "value", (String) null));
+    }
+
+    CompletableFuture<Void> saved = new SystemProperties("dapr.bulk.state.max.batch.keys", "2")
+        .execute(() -> new DaprClientImpl(
+            channel, daprStub, daprHttp, new DefaultObjectSerializer(), new DefaultObjectSerializer())
+            .saveBulkState(STATE_STORE_NAME, states)
+            .toFuture());
+
+    // Each batch is only sent once the previous one completed, so the later copy of "a" is applied last.
+    for (int i = 0; i < 3; i++) {
+      assertEquals(i + 1, sentBatches.size());
+      pending.get(i).onNext(Empty.getDefaultInstance());
+      pending.get(i).onCompleted();
+    }
+
+    saved.get(5, TimeUnit.SECONDS);
+    assertEquals(List.of(List.of("a", "b"), List.of("c", "a"), List.of("d")), sentBatches);
+  }
+
   @Test
   public void getStatesByteArray() throws IOException {
     Map<String, String> metadata = new HashMap<>();
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Empty;
+import io.dapr.client.instrumentation.DaprClientListener;
+import io.dapr.client.resiliency.OperationType;
+import io.dapr.client.resiliency.ResiliencyOptions;
+import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.v1.DaprGrpc;
+import io.dapr.v1.DaprStateProtos;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class DaprClientListenerTest {
+
+  private final List<String> events = new CopyOnWriteArrayList<>();
+
+  private final AtomicInteger getStateFailures = new AtomicInteger();
+
+  private Server server;
+
+  private ManagedChannel channel;
+
+  private DaprClientListener listener;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    DaprGrpc.DaprImplBase daprImplBase = new DaprGrpc.DaprImplBase() {
+      @Override
+      public void getState(DaprStateProtos.GetStateRequest request,
+          StreamObserver<DaprStateProtos.GetStateResponse> responseObserver) {
+        if (getStateFailures.getAndDecrement() > 0) {
+          responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+          return;
+        }
+
+        responseObserver.onNext(DaprStateProtos.GetStateResponse.newBuilder()
+            .setData(ByteString.copyFromUtf8("\"value\""))
+            .build());
+        responseObserver.onCompleted();
+      }
+
+      @Override
+      public void saveState(DaprStateProtos.SaveStateRequest request, StreamObserver<Empty> responseObserver) {
+        responseObserver.onNext(Empty.getDefaultInstance());
+        responseObserver.onCompleted();
+      }
+    };
+
+    String serverName = InProcessServerBuilder.generateName();
+    server = InProcessServerBuilder.forName(serverName).directExecutor().addService(daprImplBase).build().start();
+    channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+    listener = new DaprClientListener() {
+      @Override
+      public void onCallStarted(String method) {
+        events.add("started " + method);
+      }
+
+      @Override
+      public void onCallCompleted(
+          String method, String status, long durationNanos, long requestBytes, long responseBytes) {
+        assertTrue(durationNanos >= 0);
+        assertTrue(requestBytes > 0);
+        events.add("completed " + method + " " + status + (responseBytes > 0 ? " with response" : ""));
+      }
+
+      @Override
+      public void onRetry(OperationType operationType, Throwable error) {
+        events.add("retry " + operationType);
+      }
+
+      @Override
+      public void onSerialized(String serializer, long durationNanos, int bytes) {
+        events.add("serialized " + serializer + " " + bytes);
+      }
+
+      @Override
+      public void onDeserialized(String serializer, long durationNanos, int bytes) {
+        events.add("deserialized " + serializer + " " + bytes);
+      }
+    };
+  }
+
+  @AfterEach
+  public void tearDown() {
+    channel.shutdownNow();
+    server.shutdownNow();
+  }
+
+  @Test
+  public void reportsCalls() {
+    DaprClientImpl client = newClient(null);
+
+    assertEquals("value", client.getState("store", "key", String.class).block().getValue());
+    client.saveState("store", "key", "value").block();
+
+    assertEquals(List.of(
+        "started GetState",
+        "completed GetState OK with response",
+        "started SaveState",
+        "completed SaveState OK"), callEvents(4));
+    assertTrue(events.contains("deserialized state 7"));
+    assertTrue(events.contains("serialized state 7"));
+  }
+
+  @Test
+  public void reportsRetries() {
+    getStateFailures.set(1);
+    DaprClientImpl client = newClient(new ResiliencyOptions()
+        .setMaxRetries(1)
+        .setInitialBackoff(Duration.ofMillis(1)));
+
+    client.getState("store", "key", String.class).block();
+
+    assertEquals(List.of(
+        "started GetState",
+        "completed GetState UNAVAILABLE",
+        "retry STATE_READ",
+        "started GetState",
+        "completed GetState OK with response"), callEvents(5));
+  }
+
+  /**
+   * Gets the events other than serialization, once there are as many as expected: the response is delivered
+   * to the caller before the call is reported as completed.
+   */
+  private List<String> callEvents(int expected) {
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (true) {
+      List<String> callEvents = events.stream()
+          .filter(event -> !event.contains("serialized"))
+          .collect(Collectors.toList());
+      if (callEvents.size() >= expected || System.nanoTime() > deadline) {
+        return callEvents;
+      }
+
+      Thread.onSpinWait();
+    }
+  }
+
+  private DaprClientImpl newClient(ResiliencyOptions resiliencyOptions) {
+    return new DaprClientImpl(mock(GrpcChannelFacade.class), DaprGrpc.newStub(channel), mock(DaprHttp.class),
+        new DefaultObjectSerializer(), new DefaultObjectSerializer(), resiliencyOptions, null, null, listener);
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.PublishEventRequest;
+import io.dapr.client.domain.PublishEventResult;
+import io.dapr.exceptions.DaprException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DaprEventPublisherTest {
+
+  private DaprClient client;
+
+  private List<PublishEventRequest> dispatched;
+
+  private List<Sinks.Empty<Void>> responses;
+
+  @BeforeEach
+  public void setUp() {
+    client = mock(DaprClient.class);
+    dispatched = new CopyOnWriteArrayList<>();
+    responses = new CopyOnWriteArrayList<>();
+    when(client.publishEvent(any(PublishEventRequest.class))).thenAnswer(invocation -> {
+      Sinks.Empty<Void> response = Sinks.empty();
+      dispatched.add(invocation.getArgument(0));
+      responses.add(response);
+      return response.asMono();
+    });
+  }
+
+  @Test
+  public void limitsInFlightPublishes() {
+    DaprEventPublisher publisher = new DaprEventPublisher(client, 2, 10);
+
+    for (int i = 0; i < 5; i++) {
+      publisher.publish(request("orders", i)).subscribe();
+    }
+
+    assertEquals(2, dispatched.size());
+    assertEquals(2, publisher.getInFlight());
+    assertEquals(3, publisher.getQueueDepth());
+
+    responses.get(0).tryEmitEmpty();
+
+    assertEquals(3, dispatched.size());
+    assertEquals(2, publisher.getInFlight());
+    assertEquals(2, publisher.getQueueDepth());
+  }
+
+  @Test
+  public void dispatchesTopicsRoundRobin() {
+    DaprEventPublisher publisher = new DaprEventPublisher(client, 1, 10);
+
+    publisher.publish(request("orders", 0)).subscribe();
+    publisher.publish(request("orders", 1)).subscribe();
+    publisher.publish(request("orders", 2)).subscribe();
+    publisher.publish(request("orders", 3)).subscribe();
+    publisher.publish(request("payments", 0)).subscribe();
+
+    for (int i = 0; i < 5; i++) {
+      responses.get(i).tryEmitEmpty();
+    }
+
+    List<String> order = dispatched.stream()
+        .map(r -> r.getTopic() + "-" + r.getData())
+        .collect(Collectors.toList());
+    assertEquals(List.of("orders-0", "orders-1", "payments-0", "orders-2", "orders-3"), order);
+  }
+
+  @Test
+  public void rejectsWhenQueueIsFull() {
+    DaprEventPublisher publisher = new DaprEventPublisher(client, 1, 1);
+
+    publisher.publish(request("orders", 0)).subscribe();
+    publisher.publish(request("orders", 1)).subscribe();
+
+    DaprException exception = assertThrows(DaprException.class,
+        () -> publisher.publish(request("orders", 2)).block());
+    assertEquals("PUBLISH_QUEUE_FULL", exception.getErrorCode());
+    assertEquals(1, dispatched.size());
+  }
+
+  @Test
+  public void cancelledPublishIsNotDispatched() {
+    DaprEventPublisher publisher = new DaprEventPublisher(client, 1, 10);
+
+    publisher.publish(request("orders", 0)).subscribe();
+    publisher.publish(request("orders", 1)).subscribe().dispose();
+    publisher.publish(request("orders", 2)).subscribe();
+    assertEquals(1, publisher.getQueueDepth());
+
+    responses.get(0).tryEmitEmpty();
+
+    assertEquals(2, dispatched.size());
+    assertEquals(2, dispatched.get(1).getData());
+  }
+
+  @Test
+  public void publishesStreamAndReportsFailures() {
+    when(client.publishEvent(any(PublishEventRequest.class))).thenAnswer(invocation -> {
+      PublishEventRequest request = invocation.getArgument(0);
+      if ((Integer) request.getData() % 10 == 0) {
+        return Mono.error(new IllegalStateException("unavailable"));
+      }
+      return Mono.empty();
+    });
+    DaprEventPublisher publisher = new DaprEventPublisher(client, 4, 8);
+
+    List<PublishEventResult> results = publisher.publish(Flux.range(0, 100).map(i -> request("orders", i)))
+        .collectList()
+        .block();
+
+    assertEquals(100, results.size());
+    assertEquals(10, results.stream().filter(r -> !r.isSuccess()).count());
+    assertTrue(results.stream().filter(r -> !r.isSuccess())
+        .allMatch(r -> (Integer) r.getRequest().getData() % 10 == 0));
+    assertEquals(100, publisher.getLatencyHistogram().getCount());
+    assertEquals(100, publisher.getQueueDepthHistogram().getCount());
+    assertTrue(publisher.getQueueDepthHistogram().getMax() <= 8);
+    assertEquals(0, publisher.getInFlight());
+    assertEquals(0, publisher.getQueueDepth());
+  }
+
+  @Test
+  public void resultCarriesLatency() {
+    DaprEventPublisher publisher = new DaprEventPublisher(client);
+
+    Mono<List<PublishEventResult>> results = publisher.publish(Flux.just(request("orders", 0))).collectList();
+    List<PublishEventResult> collected = new CopyOnWriteArrayList<>();
+    results.subscribe(collected::addAll);
+    responses.get(0).tryEmitEmpty();
+
+    assertEquals(1, collected.size());
+    assertTrue(collected.get(0).isSuccess());
+    assertFalse(collected.get(0).getLatency().isNegative());
+  }
+
+  @Test
+  public void invalidLimits() {
+    assertThrows(IllegalArgumentException.class, () -> new DaprEventPublisher(null));
+    assertThrows(IllegalArgumentException.class, () -> new DaprEventPublisher(client, 0, 1));
+    assertThrows(IllegalArgumentException.class, () -> new DaprEventPublisher(client, 1, 0));
+  }
+
+  private static PublishEventRequest request(String topic, int data) {
+    return new PublishEventRequest("pubsub", topic, data);
+  }
+}
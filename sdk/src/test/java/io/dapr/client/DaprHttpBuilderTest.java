@@ -18,8 +18,14 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 import java.net.http.HttpClient;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class DaprHttpBuilderTest {
@@ -33,6 +39,31 @@ public class DaprHttpBuilderTest {
     assertSame(getHttpClient(daprHttp), getHttpClient(anotherDaprHttp));
   }
 
+  @Test
+  public void clientsWithDifferentSettingsDoNotShareHttpClient() throws Exception {
+    Properties properties = new Properties(Map.of(Properties.HTTP_CLIENT_HTTP2_ENABLED.getName(), "true"));
+    DaprHttp http2 = new DaprHttpBuilder().build(properties);
+    DaprHttp http1 = new DaprHttpBuilder().build(new Properties());
+
+    assertEquals(HttpClient.Version.HTTP_2, getHttpClient(http2).version());
+    assertEquals(HttpClient.Version.HTTP_1_1, getHttpClient(http1).version());
+    assertSame(getHttpClient(http2), getHttpClient(new DaprHttpBuilder().build(properties)));
+  }
+
+  @Test
+  public void customExecutorGetsOwnHttpClient() throws Exception {
+    Executor executor = Executors.newSingleThreadExecutor();
+    try {
+      Properties properties = new Properties();
+      HttpClient custom = getHttpClient(new DaprHttpBuilder().withExecutor(executor).build(properties));
+
+      assertSame(executor, custom.executor().get());
+      assertNotSame(custom, getHttpClient(new DaprHttpBuilder().build(properties)));
+    } finally {
+      ((ExecutorService) executor).shutdown();
+    }
+  }
+
   private static HttpClient getHttpClient(DaprHttp daprHttp) throws Exception {
     Field httpClientField = DaprHttp.class.getDeclaredField("httpClient");
     httpClientField.setAccessible(true);
@@ -34,6 +34,7 @@ import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 import static io.dapr.utils.TestUtils.formatIpAddress;
@@ -398,6 +399,39 @@ public class DaprHttpTest {
     assertEquals("value1", request.headers().firstValue("header1").get());
   }
 
+  @Test
+  public void invokeMethodEncodesUriAndPropagatesContext() {
+    MockHttpResponse mockHttpResponse = new MockHttpResponse(HTTP_OK);
+    CompletableFuture<HttpResponse<Object>> mockResponse = CompletableFuture.completedFuture(mockHttpResponse);
+    ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+    Map<String, List<String>> urlParameters = Map.of("key name", List.of("a&b"));
+    Context context = Context.of(
+        "traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01",
+        "TraceState", "vendor=value",
+        "other", "ignored");
+
+    when(httpClient.sendAsync(any(), any())).thenReturn(mockResponse);
+
+    DaprHttp daprHttp = new DaprHttp(sidecarIp, 3500, daprTokenApi, READ_TIMEOUT, httpClient);
+    daprHttp.invokeApi("PUT", new String[]{"v1.0", "invoke", "my app", "", "method/1"}, urlParameters,
+        (byte[]) null, null, context).block();
+
+    verify(httpClient).sendAsync(requestCaptor.capture(), any());
+
+    HttpRequest request = requestCaptor.getValue();
+    String requestId = request.headers().firstValue("X-DaprRequestId").get();
+
+    assertEquals("PUT", request.method());
+    assertEquals("http://" + sidecarIp + ":3500/v1.0/invoke/my%20app/method%2F1?key+name=a%26b",
+        request.uri().toString());
+    assertEquals("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01",
+        request.headers().firstValue("traceparent").get());
+    assertEquals("vendor=value", request.headers().firstValue("TraceState").get());
+    assertFalse(request.headers().firstValue("other").isPresent());
+    assertEquals(4, UUID.fromString(requestId).version());
+    assertEquals(2, UUID.fromString(requestId).variant());
+  }
+
   @Test
   public void invokePostMethodRuntime() {
     MockHttpResponse mockHttpResponse = new MockHttpResponse(HTTP_SERVER_ERROR);
@@ -17,6 +17,8 @@ import io.dapr.utils.UriUtils;
 import io.dapr.utils.Version;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
 import java.net.http.HttpClient;
@@ -24,6 +26,7 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandler;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -38,6 +41,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -216,4 +220,21 @@ public class DaprInvokeHttpClientTest {
     assertSame(future, result);
     verify(httpClient).sendAsync(same(request), any());
   }
+
+  @Test
+  public void sendStreaming_sendsOnSubscription() {
+    DaprInvokeHttpClient invoker = new DaprInvokeHttpClient(httpClient, BASE_URI, null, null);
+    HttpRequest request = invoker.newRequestBuilder("files/report")
+        .POST(DaprBodyPublishers.ofFlux(Flux.just(ByteBuffer.wrap(new byte[] {1}))))
+        .build();
+    @SuppressWarnings("unchecked")
+    HttpResponse<Flux<ByteBuffer>> stubbedResponse = mock(HttpResponse.class);
+    doReturn(CompletableFuture.completedFuture(stubbedResponse)).when(httpClient).sendAsync(same(request), any());
+
+    Mono<HttpResponse<Flux<ByteBuffer>>> response = invoker.sendStreaming(request);
+    verify(httpClient, never()).sendAsync(any(), any());
+
+    assertSame(stubbedResponse, response.block());
+    verify(httpClient).sendAsync(same(request), any());
+  }
 }
@@ -48,6 +48,8 @@ import io.dapr.client.domain.SystemMessage;
 import io.dapr.client.domain.ToolMessage;
 import io.dapr.client.domain.UnlockResponseStatus;
 import io.dapr.client.domain.UserMessage;
+import io.dapr.client.domain.query.Pagination;
+import io.dapr.client.domain.query.filters.EqFilter;
 import io.dapr.client.domain.query.Query;
 import io.dapr.serializer.DaprObjectSerializer;
 import io.dapr.serializer.DefaultObjectSerializer;
@@ -72,8 +74,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import uk.org.webcompere.systemstubs.properties.SystemProperties;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -86,10 +91,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import static io.dapr.utils.TestUtils.assertThrowsDaprException;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -98,6 +105,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
@@ -278,6 +286,105 @@ public class DaprPreviewClientGrpcTest {
     assertEquals( 0, res.getFailedEntries().size(), "expected no entry in failed entries list");
   }
 
+  @Test
+  public void publishEventsFailedEntriesTest() {
+    doAnswer((Answer<BulkPublishResponse>) invocation -> {
+      StreamObserver<DaprPubsubProtos.BulkPublishResponse> observer =
+          (StreamObserver<DaprPubsubProtos.BulkPublishResponse>) invocation.getArguments()[1];
+      DaprPubsubProtos.BulkPublishResponse.Builder builder = DaprPubsubProtos.BulkPublishResponse.newBuilder()
+          .addFailedEntries(DaprPubsubProtos.BulkPublishResponseFailedEntry.newBuilder()
+              .setEntryId("2")
+              .setError("failed to publish")
+              .build());
+      observer.onNext(builder.build());
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).bulkPublishEvent(any(DaprPubsubProtos.BulkPublishRequest.class), any());
+
+    BulkPublishEntry<String> entry1 = new BulkPublishEntry<>("1", "first", "text/plain", null);
+    BulkPublishEntry<String> entry2 = new BulkPublishEntry<>("2", "second", "text/plain", null);
+    BulkPublishRequest<String> req = new BulkPublishRequest<>(PUBSUB_NAME, TOPIC_NAME, List.of(entry1, entry2));
+    BulkPublishResponse<String> res = previewClient.publishEvents(req).block();
+
+    Assertions.assertNotNull(res);
+    assertEquals(1, res.getFailedEntries().size());
+    assertSame(entry2, res.getFailedEntries().get(0).getEntry());
+    assertEquals("failed to publish", res.getFailedEntries().get(0).getErrorMessage());
+  }
+
+  @Test
+  public void publishEventsSplitsLargeRequestTest() throws Exception {
+    List<List<String>> sentBatches = new CopyOnWriteArrayList<>();
+    doAnswer((Answer<Void>) invocation -> {
+      DaprPubsubProtos.BulkPublishRequest request = invocation.getArgument(0);
+      StreamObserver<DaprPubsubProtos.BulkPublishResponse> observer =
+          (StreamObserver<DaprPubsubProtos.BulkPublishResponse>) invocation.getArguments()[1];
+      List<String> ids = request.getEntriesList().stream()
+          .map(DaprPubsubProtos.BulkPublishRequestEntry::getEntryId)
+          .collect(Collectors.toList());
+      sentBatches.add(ids);
+      if (ids.contains("3")) {
+        observer.onError(newStatusRuntimeException("UNAVAILABLE", "broker unavailable"));
+        return null;
+      }
+      DaprPubsubProtos.BulkPublishResponse.Builder builder = DaprPubsubProtos.BulkPublishResponse.newBuilder();
+      if (ids.contains("1")) {
+        builder.addFailedEntries(DaprPubsubProtos.BulkPublishResponseFailedEntry.newBuilder()
+            .setEntryId("1")
+            .setError("rejected")
+            .build());
+      }
+      observer.onNext(builder.build());
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).bulkPublishEvent(any(DaprPubsubProtos.BulkPublishRequest.class), any());
+
+    List<BulkPublishEntry<String>> entries = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      entries.add(new BulkPublishEntry<>(Integer.toString(i), "event-" + i, "text/plain"));
+    }
+    BulkPublishRequest<String> req = new BulkPublishRequest<>(PUBSUB_NAME, TOPIC_NAME, entries);
+
+    BulkPublishResponse<String> res = new SystemProperties("dapr.bulk.publish.max.batch.entries", "2")
+        .execute(() -> new DaprClientImpl(
+            channel, daprStub, daprHttp, new DefaultObjectSerializer(), new DefaultObjectSerializer())
+            .publishEvents(req)
+            .block());
+
+    assertEquals(3, sentBatches.size());
+    Set<String> failedIds = res.getFailedEntries().stream()
+        .map(entry -> entry.getEntry().getEntryId())
+        .collect(Collectors.toSet());
+    assertEquals(Set.of("1", "2", "3"), failedIds);
+    assertTrue(res.getFailedEntries().stream()
+        .filter(entry -> entry.getEntry().getEntryId().equals("2"))
+        .allMatch(entry -> entry.getErrorMessage().contains("broker unavailable")));
+  }
+
+  @Test
+  public void publishEventsSplitRequestFailsWhenAllBatchesFailTest() throws Exception {
+    doAnswer((Answer<Void>) invocation -> {
+      StreamObserver<DaprPubsubProtos.BulkPublishResponse> observer =
+          (StreamObserver<DaprPubsubProtos.BulkPublishResponse>) invocation.getArguments()[1];
+      observer.onError(newStatusRuntimeException("UNAVAILABLE", "broker unavailable"));
+      return null;
+    }).when(daprStub).bulkPublishEvent(any(DaprPubsubProtos.BulkPublishRequest.class), any());
+
+    BulkPublishRequest<String> req = new BulkPublishRequest<>(PUBSUB_NAME, TOPIC_NAME, List.of(
+        new BulkPublishEntry<>("1", "first", "text/plain"),
+        new BulkPublishEntry<>("2", "second", "text/plain")));
+
+    new SystemProperties("dapr.bulk.publish.max.batch.entries", "1").execute(() -> {
+      DaprClientImpl client = new DaprClientImpl(
+          channel, daprStub, daprHttp, new DefaultObjectSerializer(), new DefaultObjectSerializer());
+      assertThrowsDaprException(
+          ExecutionException.class,
+          "UNAVAILABLE",
+          "UNAVAILABLE: broker unavailable",
+          () -> client.publishEvents(req).block());
+    });
+  }
+
   @Test
   public void publishEventsObjectTest() {
     doAnswer((Answer<Void>) invocation -> {
@@ -437,6 +544,77 @@ public class DaprPreviewClientGrpcTest {
     assertEquals( "error data", response.getResults().get(0).getError(), "result must be same");
   }
 
+  @Test
+  public void queryStateStreamFollowsTokens() throws JsonProcessingException {
+    Map<String, DaprStateProtos.QueryStateResponse> pages = new HashMap<>();
+    pages.put("", buildQueryStateResponse(List.of(
+        new QueryStateItem<Object>("1", (Object) "a", null), new QueryStateItem<Object>("2", (Object) "b", null)), "t1"));
+    pages.put("t1", buildQueryStateResponse(List.of(new QueryStateItem<Object>("3", (Object) "c", null)), "t2"));
+    pages.put("t2", buildQueryStateResponse(List.of(new QueryStateItem<Object>("4", null, "error data")), ""));
+    List<String> queries = new CopyOnWriteArrayList<>();
+    doAnswer(invocation -> {
+      DaprStateProtos.QueryStateRequest req = invocation.getArgument(0);
+      queries.add(req.getQuery());
+      String token = MAPPER.readTree(req.getQuery()).path("page").path("token").asText("");
+      StreamObserver<DaprStateProtos.QueryStateResponse> observer = invocation.getArgument(1);
+      observer.onNext(pages.get(token));
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).queryStateAlpha1(any(DaprStateProtos.QueryStateRequest.class), any());
+
+    Query query = new Query()
+        .setFilter(new EqFilter<>("status", "open"))
+        .setPagination(new Pagination(2, null));
+    List<QueryStateItem<String>> items = previewClient.queryStateStream(
+        new QueryStateRequest(QUERY_STORE_NAME).setQuery(query), String.class).collectList().block();
+
+    assertEquals(List.of("1", "2", "3", "4"), items.stream().map(QueryStateItem::getKey).collect(Collectors.toList()));
+    assertEquals("c", items.get(2).getValue());
+    assertEquals("error data", items.get(3).getError());
+    assertEquals(3, queries.size());
+    assertEquals(2, MAPPER.readTree(queries.get(2)).path("page").path("limit").asInt());
+    assertNull(query.getPagination().getToken());
+  }
+
+  @Test
+  public void queryStateStreamPrefetchesOnePage() {
+    AtomicInteger requests = new AtomicInteger();
+    doAnswer(invocation -> {
+      int page = requests.incrementAndGet();
+      StreamObserver<DaprStateProtos.QueryStateResponse> observer = invocation.getArgument(1);
+      observer.onNext(buildQueryStateResponse(List.of(
+          new QueryStateItem<Object>(page + "-1", (Object) "a", null),
+          new QueryStateItem<Object>(page + "-2", (Object) "b", null)), "t" + page));
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).queryStateAlpha1(any(DaprStateProtos.QueryStateRequest.class), any());
+    List<String> keys = new CopyOnWriteArrayList<>();
+
+    previewClient.queryStateStream(new QueryStateRequest(QUERY_STORE_NAME).setQueryString("{}"), String.class)
+        .subscribe(new BaseSubscriber<QueryStateItem<String>>() {
+          @Override
+          protected void hookOnSubscribe(Subscription subscription) {
+            request(1);
+          }
+
+          @Override
+          protected void hookOnNext(QueryStateItem<String> value) {
+            keys.add(value.getKey());
+          }
+        });
+
+    assertEquals(List.of("1-1"), keys);
+    assertEquals(2, requests.get());
+  }
+
+  @Test
+  public void queryStateStreamRequiresJsonQuery() {
+    assertThrows(IllegalArgumentException.class, () -> previewClient.queryStateStream(
+        new QueryStateRequest(QUERY_STORE_NAME).setQueryString("[]"), String.class).blockFirst());
+    assertThrows(IllegalArgumentException.class, () -> previewClient.queryStateStream(
+        new QueryStateRequest(QUERY_STORE_NAME), String.class).blockFirst());
+  }
+
   @Test
   public void tryLock() {
 
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Empty;
+import io.dapr.client.domain.State;
+import io.dapr.client.domain.StateOptions;
+import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.v1.DaprGrpc;
+import io.dapr.v1.DaprStateProtos;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DaprStateCacheTest {
+
+  private final AtomicLong clock = new AtomicLong();
+
+  private DaprStateCache cache;
+
+  private DaprGrpc.DaprStub daprStub;
+
+  private DaprClientImpl client;
+
+  @BeforeEach
+  public void setUp() {
+    cache = new DaprStateCache(3, Duration.ofSeconds(10), clock::get);
+    daprStub = mock(DaprGrpc.DaprStub.class);
+    when(daprStub.withInterceptors(any())).thenReturn(daprStub);
+    client = new DaprClientImpl(mock(GrpcChannelFacade.class), daprStub, mock(DaprHttp.class),
+        new DefaultObjectSerializer(), new DefaultObjectSerializer(), null, null, cache);
+  }
+
+  @Test
+  public void expiresAfterTtl() {
+    cache.put(cache.startLoad(), "store", "key", response("value", "1"));
+    clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+    assertNotNull(cache.get("store", "key"));
+
+    clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+    assertNull(cache.get("store", "key"));
+    assertEquals(1, cache.getExpirationCount());
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(0.5, cache.getHitRate());
+    assertEquals(5000, cache.getHitAgeHistogram().getMax());
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsed() {
+    cache.put(cache.startLoad(), "store", "a", response("a", "1"));
+    cache.put(cache.startLoad(), "store", "b", response("b", "1"));
+    cache.put(cache.startLoad(), "store", "c", response("c", "1"));
+    cache.get("store", "a");
+
+    cache.put(cache.startLoad(), "store", "d", response("d", "1"));
+
+    assertEquals(3, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+    assertNotNull(cache.get("store", "a"));
+    assertNull(cache.get("store", "b"));
+  }
+
+  @Test
+  public void loadOverlappingInvalidationIsNotCached() {
+    long loadToken = cache.startLoad();
+    cache.invalidate("store", "key");
+
+    cache.put(loadToken, "store", "key", response("stale", "1"));
+
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void loadOverlappingInvalidationOfOtherKeysIsCached() {
+    long loadToken = cache.startLoad();
+    cache.invalidate("store", "other");
+    cache.invalidate("other", "key");
+
+    cache.put(loadToken, "store", "key", response("fresh", "1"));
+
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void loadOverlappingInvalidateAllIsNotCached() {
+    long loadToken = cache.startLoad();
+    cache.invalidateAll();
+
+    cache.put(loadToken, "store", "key", response("stale", "1"));
+
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void invalidationTrackingIsBounded() {
+    long loadToken = cache.startLoad();
+    // More distinct invalidated keys than maxEntries: tracking falls back to discarding every load in flight.
+    for (int i = 0; i < 4; i++) {
+      cache.invalidate("store", "other-" + i);
+    }
+
+    cache.put(loadToken, "store", "key", response("maybe-stale", "1"));
+    cache.put(cache.startLoad(), "store", "later", response("fresh", "1"));
+
+    assertNull(cache.get("store", "key"));
+    assertNotNull(cache.get("store", "later"));
+  }
+
+  @Test
+  public void invalidatesOnStream() {
+    Sinks.Many<String> keys = Sinks.many().unicast().onBackpressureBuffer();
+    cache.put(cache.startLoad(), "store", "a", response("a", "1"));
+    cache.put(cache.startLoad(), "other", "a", response("a", "1"));
+    cache.invalidateOn("store", keys.asFlux());
+
+    keys.tryEmitNext("a");
+
+    assertNull(cache.get("store", "a"));
+    assertNotNull(cache.get("other", "a"));
+    assertEquals(1, cache.getInvalidationCount());
+  }
+
+  @Test
+  public void onlyEventualReadsWithoutMetadataAreCacheable() {
+    assertTrue(DaprStateCache.isCacheable(null, null));
+    assertTrue(DaprStateCache.isCacheable(new StateOptions(StateOptions.Consistency.EVENTUAL, null), Map.of()));
+    assertFalse(DaprStateCache.isCacheable(new StateOptions(StateOptions.Consistency.STRONG, null), null));
+    assertFalse(DaprStateCache.isCacheable(null, Map.of("partitionKey", "p")));
+  }
+
+  @Test
+  public void invalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new DaprStateCache(0, Duration.ofSeconds(1)));
+    assertThrows(IllegalArgumentException.class, () -> new DaprStateCache(1, Duration.ZERO));
+  }
+
+  @Test
+  public void clientServesRepeatedReadsFromCache() {
+    mockGetState(response("\"value\"", "1"));
+
+    State<String> first = client.getState("store", "key", String.class).block();
+    State<String> second = client.getState("store", "key", String.class).block();
+
+    assertEquals("value", first.getValue());
+    assertEquals("value", second.getValue());
+    assertEquals("1", second.getEtag());
+    verify(daprStub, times(1)).getState(any(), any());
+    assertEquals(1, cache.getHitCount());
+  }
+
+  @Test
+  public void clientWriteInvalidatesCachedState() {
+    mockGetState(response("\"value\"", "1"));
+    doAnswer(invocation -> {
+      StreamObserver<Empty> observer = invocation.getArgument(1);
+      observer.onNext(Empty.getDefaultInstance());
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).saveState(any(DaprStateProtos.SaveStateRequest.class), any());
+
+    client.getState("store", "key", String.class).block();
+    client.saveState("store", "key", "updated").block();
+    client.getState("store", "key", String.class).block();
+
+    verify(daprStub, times(2)).getState(any(), any());
+  }
+
+  @Test
+  public void clientBulkReadOnlyRequestsMissingKeys() {
+    cache.put(cache.startLoad(), "store", "a", response("\"cached\"", "1"));
+    ArgumentCaptor<DaprStateProtos.GetBulkStateRequest> captor =
+        ArgumentCaptor.forClass(DaprStateProtos.GetBulkStateRequest.class);
+    doAnswer(invocation -> {
+      StreamObserver<DaprStateProtos.GetBulkStateResponse> observer = invocation.getArgument(1);
+      observer.onNext(DaprStateProtos.GetBulkStateResponse.newBuilder()
+          .addItems(DaprStateProtos.BulkStateItem.newBuilder()
+              .setKey("b").setData(ByteString.copyFromUtf8("\"loaded\"")).setEtag("2"))
+          .addItems(DaprStateProtos.BulkStateItem.newBuilder().setKey("c").setError("not found"))
+          .build());
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).getBulkState(captor.capture(), any());
+
+    List<State<String>> states = client.getBulkState("store", List.of("a", "b", "c"), String.class).block();
+
+    assertEquals(List.of("b", "c"), captor.getValue().getKeysList());
+    assertEquals(3, states.size());
+    assertEquals("cached", states.get(0).getValue());
+    assertEquals("loaded", states.get(1).getValue());
+    assertEquals("not found", states.get(2).getError());
+    assertNotNull(cache.get("store", "b"));
+    assertNull(cache.get("store", "c"));
+  }
+
+  @Test
+  public void clientStrongReadsBypassCache() {
+    DaprStateProtos.GetStateResponse cached = response("\"cached\"", "1");
+    cache.put(cache.startLoad(), "store", "key", cached);
+    mockGetState(response("\"latest\"", "2"));
+
+    State<String> state = client.getState("store", "key",
+        new StateOptions(StateOptions.Consistency.STRONG, null), String.class).block();
+
+    assertEquals("latest", state.getValue());
+    assertSame(cached, cache.get("store", "key"));
+  }
+
+  private void mockGetState(DaprStateProtos.GetStateResponse response) {
+    doAnswer(invocation -> {
+      StreamObserver<DaprStateProtos.GetStateResponse> observer = invocation.getArgument(1);
+      observer.onNext(response);
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).getState(any(DaprStateProtos.GetStateRequest.class), any());
+  }
+
+  private static DaprStateProtos.GetStateResponse response(String data, String etag) {
+    return DaprStateProtos.GetStateResponse.newBuilder()
+        .setData(ByteString.copyFromUtf8(data))
+        .setEtag(etag)
+        .build();
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpRequestLimiterTest {
+
+  @Test
+  public void limitsRequestsInFlight() {
+    HttpRequestLimiter limiter = new HttpRequestLimiter(2);
+    List<CompletableFuture<String>> sent = new ArrayList<>();
+    List<CompletableFuture<String>> results = new ArrayList<>();
+
+    for (int i = 0; i < 4; i++) {
+      results.add(limiter.submit(() -> {
+        CompletableFuture<String> response = new CompletableFuture<>();
+        sent.add(response);
+        return response;
+      }));
+    }
+
+    assertEquals(2, sent.size());
+    assertEquals(2, limiter.getActive());
+    assertEquals(2, limiter.getQueued());
+
+    sent.get(0).complete("first");
+
+    assertEquals("first", results.get(0).join());
+    assertEquals(3, sent.size());
+    assertEquals(2, limiter.getActive());
+    assertEquals(1, limiter.getQueued());
+  }
+
+  @Test
+  public void cancelledRequestIsNotSent() {
+    HttpRequestLimiter limiter = new HttpRequestLimiter(1);
+    List<CompletableFuture<String>> sent = new ArrayList<>();
+
+    CompletableFuture<String> first = limiter.submit(() -> {
+      CompletableFuture<String> response = new CompletableFuture<>();
+      sent.add(response);
+      return response;
+    });
+    limiter.submit(() -> {
+      throw new AssertionError("cancelled request was sent");
+    }).cancel(false);
+    CompletableFuture<String> third = limiter.submit(() -> CompletableFuture.completedFuture("third"));
+
+    sent.get(0).complete("first");
+
+    assertEquals("first", first.join());
+    assertEquals("third", third.join());
+    assertEquals(0, limiter.getActive());
+    assertEquals(0, limiter.getQueued());
+  }
+
+  @Test
+  public void synchronousFailuresReleaseSlot() {
+    HttpRequestLimiter limiter = new HttpRequestLimiter(1);
+
+    CompletableFuture<String> failed = limiter.submit(() -> {
+      throw new IllegalStateException("cannot send");
+    });
+    CompletableFuture<String> next = limiter.submit(() -> CompletableFuture.completedFuture("next"));
+
+    assertTrue(failed.isCompletedExceptionally());
+    assertEquals("next", next.join());
+    assertEquals(0, limiter.getActive());
+  }
+
+  @Test
+  public void manySynchronousRequests() {
+    HttpRequestLimiter limiter = new HttpRequestLimiter(4);
+
+    for (int i = 0; i < 100_000; i++) {
+      String value = Integer.toString(i);
+      assertEquals(value, limiter.submit(() -> CompletableFuture.completedFuture(value)).join());
+    }
+    assertEquals(0, limiter.getActive());
+  }
+
+  @Test
+  public void invalidLimit() {
+    assertThrows(IllegalArgumentException.class, () -> new HttpRequestLimiter(0));
+  }
+}
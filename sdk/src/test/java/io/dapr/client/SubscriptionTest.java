@@ -15,6 +15,8 @@ package io.dapr.client;
 
 import com.google.protobuf.ByteString;
 import io.dapr.client.domain.CloudEvent;
+import io.dapr.client.domain.LazyCloudEvent;
+import io.dapr.exceptions.DaprException;
 import io.dapr.v1.DaprAppCallbackProtos;
 import io.dapr.v1.DaprGrpc;
 import io.dapr.v1.DaprPubsubProtos;
@@ -25,6 +27,7 @@ import org.junit.jupiter.api.Timeout;
 import org.mockito.stubbing.Answer;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -38,6 +41,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
@@ -277,4 +281,85 @@ public class SubscriptionTest {
 
     assertTrue(elapsedMs < 2000, "close() should interrupt reconnect sleep quickly, took " + elapsedMs + "ms");
   }
+
+  /**
+   * Data that cannot be deserialized when the listener reads it is acked DROP, so it goes to the dead-letter topic
+   * instead of being redelivered. Other listener failures are still acked RETRY.
+   */
+  @Test
+  @Timeout(15)
+  public void malformedDataReadByListenerIsDropped() throws Exception {
+    AtomicReference<StreamObserver<DaprPubsubProtos.SubscribeTopicEventsResponseAlpha1>> observerRef =
+        new AtomicReference<>();
+    Semaphore subscribeCalled = new Semaphore(0);
+    LinkedBlockingQueue<DaprPubsubProtos.SubscribeTopicEventsRequestAlpha1> requests = new LinkedBlockingQueue<>();
+
+    doAnswer((Answer<StreamObserver<DaprPubsubProtos.SubscribeTopicEventsRequestAlpha1>>) inv -> {
+      observerRef.set(inv.getArgument(0));
+      subscribeCalled.release();
+      return new StreamObserver<>() {
+        @Override
+        public void onNext(DaprPubsubProtos.SubscribeTopicEventsRequestAlpha1 req) {
+          requests.add(req);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+      };
+    }).when(asyncStub).subscribeTopicEventsAlpha1(any(StreamObserver.class));
+
+    List<RuntimeException> errors = new CopyOnWriteArrayList<>();
+    SubscriptionListener<String> listener = new SubscriptionListener<>() {
+      @Override
+      public Mono<SubscriptionListener.Status> onEvent(CloudEvent<String> event) {
+        if (event.getId().equals("failing")) {
+          return Mono.error(new IllegalStateException("busy"));
+        }
+        return Mono.just(event.getData()).thenReturn(Status.SUCCESS);
+      }
+
+      @Override
+      public void onError(RuntimeException exception) {
+        errors.add(exception);
+      }
+    };
+
+    Function<DaprPubsubProtos.SubscribeTopicEventsResponseAlpha1, CloudEvent<String>> converter = resp -> {
+      var ce = new LazyCloudEvent<String>(resp.getEventMessage().getData(), data -> {
+        throw new IOException("not json");
+      });
+      ce.setId(resp.getEventMessage().getId());
+      return ce;
+    };
+
+    var sub = new Subscription<>(asyncStub, request, listener, converter);
+    sub.start();
+    subscribeCalled.acquire();
+    observerRef.get().onNext(event("malformed"));
+    observerRef.get().onNext(event("failing"));
+
+    assertEquals(DaprAppCallbackProtos.TopicEventResponse.TopicEventResponseStatus.DROP, nextAck(requests, "malformed"));
+    assertEquals(DaprAppCallbackProtos.TopicEventResponse.TopicEventResponseStatus.RETRY, nextAck(requests, "failing"));
+    sub.close();
+
+    assertTrue(errors.stream().anyMatch(e -> e instanceof DaprException
+        && "DESERIALIZATION_ERROR".equals(((DaprException) e).getErrorCode())), "errors: " + errors);
+  }
+
+  private static DaprAppCallbackProtos.TopicEventResponse.TopicEventResponseStatus nextAck(
+      LinkedBlockingQueue<DaprPubsubProtos.SubscribeTopicEventsRequestAlpha1> requests, String id)
+      throws InterruptedException {
+    while (true) {
+      var req = requests.poll(5, TimeUnit.SECONDS);
+      assertNotNull(req, "no ack for " + id);
+      if (req.hasEventProcessed() && req.getEventProcessed().getId().equals(id)) {
+        return req.getEventProcessed().getStatus().getStatus();
+      }
+    }
+  }
 }
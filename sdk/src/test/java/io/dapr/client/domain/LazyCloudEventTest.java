@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+import io.dapr.exceptions.DaprException;
+import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.utils.TypeRef;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LazyCloudEventTest {
+
+  private static final DefaultObjectSerializer SERIALIZER = new DefaultObjectSerializer();
+
+  @Test
+  public void dataIsOnlyDecodedOnFirstAccess() {
+    AtomicInteger decodeCount = new AtomicInteger();
+    LazyCloudEvent<String> event = new LazyCloudEvent<>(ByteString.copyFromUtf8("\"hello\""), data -> {
+      decodeCount.incrementAndGet();
+      return SERIALIZER.deserialize(data.toByteArray(), TypeRef.STRING);
+    });
+    event.setId("1");
+    event.setType("my.type");
+
+    assertEquals("my.type", event.getType());
+    assertFalse(event.isDataDecoded());
+    assertEquals(0, decodeCount.get());
+
+    String first = event.getData();
+    String second = event.getData();
+
+    assertEquals("hello", first);
+    assertSame(first, second);
+    assertTrue(event.isDataDecoded());
+    assertEquals(1, decodeCount.get());
+  }
+
+  @Test
+  public void setDataSkipsDecoding() {
+    AtomicInteger decodeCount = new AtomicInteger();
+    LazyCloudEvent<String> event = new LazyCloudEvent<>(ByteString.copyFromUtf8("\"hello\""), data -> {
+      decodeCount.incrementAndGet();
+      return data.toStringUtf8();
+    });
+
+    event.setData("overridden");
+
+    assertEquals("overridden", event.getData());
+    assertEquals(0, decodeCount.get());
+  }
+
+  @Test
+  public void nullDecoderMeansNullData() {
+    LazyCloudEvent<String> event = new LazyCloudEvent<>(ByteString.copyFromUtf8("ignored"), null);
+
+    assertTrue(event.isDataDecoded());
+    assertNull(event.getData());
+    assertEquals("ignored", event.getRawData().toStringUtf8());
+  }
+
+  @Test
+  public void decodingFailureIsReportedOnAccess() {
+    LazyCloudEvent<String> event = new LazyCloudEvent<>(ByteString.copyFromUtf8("not-json"), data -> {
+      throw new IOException("bad payload");
+    });
+    event.setId("event-1");
+
+    DaprException exception = assertThrows(DaprException.class, event::getData);
+    assertEquals("DESERIALIZATION_ERROR", exception.getErrorCode());
+    assertFalse(event.isDataDecoded());
+  }
+
+  @Test
+  public void equalsComparesRawDataWithoutDecoding() {
+    AtomicInteger decodeCount = new AtomicInteger();
+    LazyCloudEvent.Decoder<String> decoder = data -> {
+      decodeCount.incrementAndGet();
+      return data.toStringUtf8();
+    };
+    LazyCloudEvent<String> event1 = new LazyCloudEvent<>(ByteString.copyFromUtf8("abc"), decoder);
+    event1.setId("1");
+    LazyCloudEvent<String> event2 = new LazyCloudEvent<>(ByteString.copyFromUtf8("abc"), decoder);
+    event2.setId("1");
+    LazyCloudEvent<String> event3 = new LazyCloudEvent<>(ByteString.copyFromUtf8("xyz"), decoder);
+    event3.setId("1");
+
+    assertEquals(event1, event2);
+    assertEquals(0, decodeCount.get());
+    assertEquals(event1.hashCode(), event2.hashCode());
+    assertNotEquals(event1, event3);
+  }
+
+  @Test
+  public void equalsPlainEventWithSameData() {
+    LazyCloudEvent<String> lazy = new LazyCloudEvent<>(ByteString.copyFromUtf8("\"hello\""),
+        data -> SERIALIZER.deserialize(data.toByteArray(), TypeRef.STRING));
+    lazy.setId("1");
+    lazy.setTopic("orders");
+    CloudEvent<String> plain = new CloudEvent<>();
+    plain.setId("1");
+    plain.setTopic("orders");
+    plain.setData("hello");
+    CloudEvent<String> other = new CloudEvent<>();
+    other.setId("1");
+    other.setTopic("orders");
+    other.setData("bye");
+
+    assertEquals(lazy, plain);
+    assertEquals(plain, lazy);
+    assertEquals(plain.hashCode(), lazy.hashCode());
+    assertNotEquals(lazy, other);
+    assertNotEquals(other, lazy);
+  }
+
+  @Test
+  public void malformedDataIsNotEqualToPlainEvent() {
+    LazyCloudEvent<String> lazy = new LazyCloudEvent<>(ByteString.copyFromUtf8("not-json"), data -> {
+      throw new IOException("bad payload");
+    });
+    lazy.setId("1");
+    CloudEvent<String> plain = new CloudEvent<>();
+    plain.setId("1");
+
+    assertNotEquals(lazy, plain);
+    assertNotEquals(plain, lazy);
+    assertEquals(lazy.hashCode(), lazy.hashCode());
+  }
+
+  @Test
+  public void equalsComparesReplacedData() {
+    LazyCloudEvent<String> event1 = new LazyCloudEvent<>(ByteString.copyFromUtf8("abc"), ByteString::toStringUtf8);
+    event1.setData("same");
+    LazyCloudEvent<String> event2 = new LazyCloudEvent<>(ByteString.copyFromUtf8("xyz"), ByteString::toStringUtf8);
+    event2.setData("same");
+
+    assertEquals(event1, event2);
+    assertEquals(event1.hashCode(), event2.hashCode());
+  }
+
+  @Test
+  public void serializesDecodedDataOnly() throws Exception {
+    LazyCloudEvent<String> event = new LazyCloudEvent<>(ByteString.copyFromUtf8("abc"), ByteString::toStringUtf8);
+    event.setId("1");
+
+    String json = new ObjectMapper().writeValueAsString(event);
+
+    assertTrue(json.contains("\"data\":\"abc\""));
+    assertFalse(json.contains("rawData"));
+    assertFalse(json.contains("dataDecoded"));
+  }
+}
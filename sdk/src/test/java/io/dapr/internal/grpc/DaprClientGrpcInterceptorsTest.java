@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.grpc;
+
+import io.dapr.client.Headers;
+import io.dapr.internal.resiliency.TimeoutPolicy;
+import io.dapr.v1.CommonProtos;
+import io.dapr.v1.DaprGrpc;
+import io.dapr.v1.DaprInvokeProtos;
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class DaprClientGrpcInterceptorsTest {
+
+  private static final Metadata.Key<String> APP_ID_KEY =
+      Metadata.Key.of("dapr-app-id", Metadata.ASCII_STRING_MARSHALLER);
+
+  private static final Metadata.Key<String> API_TOKEN_KEY =
+      Metadata.Key.of(Headers.DAPR_API_TOKEN, Metadata.ASCII_STRING_MARSHALLER);
+
+  private static final Metadata.Key<String> BAGGAGE_KEY =
+      Metadata.Key.of(Headers.BAGGAGE, Metadata.ASCII_STRING_MARSHALLER);
+
+  private static final Metadata.Key<String> TRACEPARENT_KEY =
+      Metadata.Key.of("traceparent", Metadata.ASCII_STRING_MARSHALLER);
+
+  private static final Metadata.Key<String> RESPONSE_KEY =
+      Metadata.Key.of("response-header", Metadata.ASCII_STRING_MARSHALLER);
+
+  private final AtomicReference<Metadata> received = new AtomicReference<>();
+
+  private final AtomicReference<Deadline> receivedDeadline = new AtomicReference<>();
+
+  private Server server;
+
+  private ManagedChannel channel;
+
+  private DaprGrpc.DaprBlockingStub stub;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    DaprGrpc.DaprImplBase daprImplBase = new DaprGrpc.DaprImplBase() {
+      @Override
+      public void invokeService(DaprInvokeProtos.InvokeServiceRequest request,
+          StreamObserver<CommonProtos.InvokeResponse> responseObserver) {
+        receivedDeadline.set(Context.current().getDeadline());
+        responseObserver.onNext(CommonProtos.InvokeResponse.getDefaultInstance());
+        responseObserver.onCompleted();
+      }
+    };
+
+    String serverName = InProcessServerBuilder.generateName();
+    server = InProcessServerBuilder.forName(serverName).directExecutor()
+        .addService(ServerInterceptors.intercept(daprImplBase, new ServerInterceptor() {
+          @Override
+          public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> serverCall,
+              Metadata metadata, ServerCallHandler<ReqT, RespT> next) {
+            received.set(metadata);
+            return next.startCall(new ForwardingServerCall.SimpleForwardingServerCall<>(serverCall) {
+              @Override
+              public void sendHeaders(Metadata headers) {
+                headers.put(RESPONSE_KEY, "value");
+                super.sendHeaders(headers);
+              }
+            }, metadata);
+          }
+        }))
+        .build()
+        .start();
+    channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+    stub = DaprGrpc.newBlockingStub(channel);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    channel.shutdownNow();
+    server.shutdownNow();
+  }
+
+  @Test
+  public void appliesCallSettings() {
+    DaprClientGrpcInterceptors interceptors =
+        new DaprClientGrpcInterceptors("token", new TimeoutPolicy(Duration.ofSeconds(30)));
+    reactor.util.context.Context context = reactor.util.context.Context.of(
+        Headers.BAGGAGE, "key=value",
+        "traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+    AtomicReference<Metadata> responseHeaders = new AtomicReference<>();
+
+    interceptors.intercept("app", stub, context, responseHeaders::set)
+        .invokeService(DaprInvokeProtos.InvokeServiceRequest.getDefaultInstance());
+
+    Metadata metadata = received.get();
+    assertEquals("app", metadata.get(APP_ID_KEY));
+    assertEquals("token", metadata.get(API_TOKEN_KEY));
+    assertEquals("key=value", metadata.get(BAGGAGE_KEY));
+    assertEquals("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01", metadata.get(TRACEPARENT_KEY));
+    assertNotNull(receivedDeadline.get());
+    assertEquals("value", responseHeaders.get().get(RESPONSE_KEY));
+  }
+
+  @Test
+  public void callsWithoutSettingsShareStub() {
+    DaprClientGrpcInterceptors interceptors = new DaprClientGrpcInterceptors("token", null);
+
+    DaprGrpc.DaprBlockingStub first = interceptors.intercept(stub, reactor.util.context.Context.empty());
+    DaprGrpc.DaprBlockingStub second = interceptors.intercept(stub);
+    first.invokeService(DaprInvokeProtos.InvokeServiceRequest.getDefaultInstance());
+
+    assertSame(first, second);
+    assertNotSame(first, interceptors.intercept("app", stub));
+    assertEquals("token", received.get().get(API_TOKEN_KEY));
+    assertNull(received.get().get(APP_ID_KEY));
+    assertNull(received.get().get(BAGGAGE_KEY));
+  }
+
+  @Test
+  public void skipsUnsetSettings() {
+    new DaprClientGrpcInterceptors().intercept(stub)
+        .invokeService(DaprInvokeProtos.InvokeServiceRequest.getDefaultInstance());
+
+    assertNull(received.get().get(API_TOKEN_KEY));
+    assertNull(received.get().get(APP_ID_KEY));
+  }
+}
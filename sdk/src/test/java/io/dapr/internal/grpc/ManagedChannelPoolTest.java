@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.grpc;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ManagedChannelPoolTest {
+
+  private static final MethodDescriptor<String, String> UNARY = method(MethodDescriptor.MethodType.UNARY);
+
+  private static final MethodDescriptor<String, String> STREAM = method(MethodDescriptor.MethodType.BIDI_STREAMING);
+
+  private final List<ClientCall<Object, Object>> calls = new ArrayList<>();
+
+  @Test
+  public void roundRobinSpreadsUnaryCalls() {
+    List<ManagedChannel> channels = channels(3);
+    ManagedChannelPool pool = new ManagedChannelPool(channels, ManagedChannelPool.Selection.ROUND_ROBIN, false);
+
+    for (int i = 0; i < 6; i++) {
+      pool.newCall(UNARY, CallOptions.DEFAULT);
+    }
+    pool.newCall(STREAM, CallOptions.DEFAULT);
+
+    verify(channels.get(0), times(3)).newCall(any(), any());
+    verify(channels.get(1), times(2)).newCall(any(), any());
+    verify(channels.get(2), times(2)).newCall(any(), any());
+  }
+
+  @Test
+  public void streamsAreIsolatedOnFirstChannel() {
+    List<ManagedChannel> channels = channels(3);
+    ManagedChannelPool pool = new ManagedChannelPool(channels, ManagedChannelPool.Selection.ROUND_ROBIN, true);
+
+    for (int i = 0; i < 4; i++) {
+      pool.newCall(UNARY, CallOptions.DEFAULT);
+      pool.newCall(STREAM, CallOptions.DEFAULT);
+    }
+
+    verify(channels.get(0), times(4)).newCall(STREAM, CallOptions.DEFAULT);
+    verify(channels.get(0), times(0)).newCall(UNARY, CallOptions.DEFAULT);
+    verify(channels.get(1), times(2)).newCall(UNARY, CallOptions.DEFAULT);
+    verify(channels.get(2), times(2)).newCall(UNARY, CallOptions.DEFAULT);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void leastInFlightAvoidsBusyChannels() {
+    List<ManagedChannel> channels = channels(2);
+    ManagedChannelPool pool = new ManagedChannelPool(channels, ManagedChannelPool.Selection.LEAST_IN_FLIGHT, false);
+
+    ClientCall<String, String> first = pool.newCall(UNARY, CallOptions.DEFAULT);
+    first.start(mock(ClientCall.Listener.class), new Metadata());
+    ClientCall<String, String> second = pool.newCall(UNARY, CallOptions.DEFAULT);
+    second.start(mock(ClientCall.Listener.class), new Metadata());
+    assertArrayEquals(new int[] {1, 1}, pool.getInFlight());
+
+    // Completes the call on the second channel, so the next call lands there although it is the first's turn.
+    ArgumentCaptor<ClientCall.Listener<Object>> listener = ArgumentCaptor.forClass(ClientCall.Listener.class);
+    verify(calls.get(1)).start(listener.capture(), any());
+    listener.getValue().onClose(Status.OK, new Metadata());
+    assertArrayEquals(new int[] {1, 0}, pool.getInFlight());
+
+    pool.newCall(UNARY, CallOptions.DEFAULT).start(mock(ClientCall.Listener.class), new Metadata());
+    assertArrayEquals(new int[] {1, 1}, pool.getInFlight());
+    verify(channels.get(0), times(1)).newCall(any(), any());
+    verify(channels.get(1), times(2)).newCall(any(), any());
+  }
+
+  @Test
+  public void shutdownAppliesToEveryChannel() throws InterruptedException {
+    List<ManagedChannel> channels = channels(2);
+    ManagedChannelPool pool = new ManagedChannelPool(channels, ManagedChannelPool.Selection.ROUND_ROBIN, true);
+    when(channels.get(0).isShutdown()).thenReturn(true);
+    when(channels.get(0).awaitTermination(any(Long.class), any())).thenReturn(true);
+
+    pool.shutdown();
+    assertFalse(pool.isShutdown());
+    when(channels.get(1).isShutdown()).thenReturn(true);
+    assertTrue(pool.isShutdown());
+    assertFalse(pool.awaitTermination(1, TimeUnit.SECONDS));
+    assertEquals("localhost:50001", pool.authority());
+    for (ManagedChannel channel : channels) {
+      verify(channel).shutdown();
+    }
+  }
+
+  @Test
+  public void isolatingStreamsNeedsTwoChannels() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new ManagedChannelPool(channels(1), ManagedChannelPool.Selection.ROUND_ROBIN, true));
+    assertThrows(IllegalArgumentException.class,
+        () -> ManagedChannelPool.Selection.parse("random"));
+    assertEquals(ManagedChannelPool.Selection.LEAST_IN_FLIGHT, ManagedChannelPool.Selection.parse("least_in_flight"));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<ManagedChannel> channels(int count) {
+    List<ManagedChannel> channels = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      ManagedChannel channel = mock(ManagedChannel.class);
+      ClientCall<Object, Object> call = mock(ClientCall.class);
+      when(channel.newCall(any(), any())).thenReturn(call);
+      calls.add(call);
+      when(channel.authority()).thenReturn("localhost:50001");
+      channels.add(channel);
+    }
+    return channels;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static MethodDescriptor<String, String> method(MethodDescriptor.MethodType type) {
+    MethodDescriptor.Marshaller<String> marshaller = mock(MethodDescriptor.Marshaller.class);
+    return MethodDescriptor.<String, String>newBuilder(marshaller, marshaller)
+        .setType(type)
+        .setFullMethodName(MethodDescriptor.generateFullMethodName("test.Service", type.name()))
+        .build();
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+import io.dapr.client.resiliency.CircuitBreakerOptions;
+import io.dapr.client.resiliency.OperationType;
+import io.dapr.client.resiliency.ResiliencyOptions;
+import io.dapr.client.resiliency.RetryBudgetOptions;
+import io.dapr.exceptions.DaprException;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResiliencyPolicyTest {
+
+  private static final Duration BACKOFF = Duration.ofMillis(1);
+
+  @Test
+  public void retryBudgetStopsRetries() {
+    Map<OperationType, ResiliencyPolicy> policies = ResiliencyPolicy.forOperations(new ResiliencyOptions()
+        .setMaxRetries(10)
+        .setInitialBackoff(BACKOFF)
+        .setRetryBudget(new RetryBudgetOptions().setMaxTokens(4)));
+    AtomicInteger attempts = new AtomicInteger();
+
+    assertThrows(RuntimeException.class,
+        () -> policies.get(OperationType.OTHER).apply(unavailable(attempts)).block());
+    assertEquals(2, attempts.get());
+
+    attempts.set(0);
+    assertThrows(RuntimeException.class,
+        () -> policies.get(OperationType.PUBLISH).apply(unavailable(attempts)).block());
+    assertEquals(1, attempts.get());
+  }
+
+  @Test
+  public void circuitBreakerFailsFast() {
+    AtomicLong clock = new AtomicLong();
+    CircuitBreaker circuitBreaker = new CircuitBreaker(new CircuitBreakerOptions()
+        .setFailureThreshold(2)
+        .setOpenDuration(Duration.ofSeconds(1)), "test", clock::get);
+    ResiliencyPolicy policy = new ResiliencyPolicy(new RetryPolicy(0), circuitBreaker, null);
+    AtomicInteger attempts = new AtomicInteger();
+
+    assertThrows(RuntimeException.class, () -> policy.apply(unavailable(attempts)).block());
+    assertThrows(RuntimeException.class, () -> policy.apply(unavailable(attempts)).block());
+    DaprException exception = assertThrows(DaprException.class,
+        () -> policy.apply(unavailable(attempts)).block());
+
+    assertEquals("CIRCUIT_BREAKER_OPEN", exception.getErrorCode());
+    assertEquals(2, attempts.get());
+    assertTrue(circuitBreaker.isOpen());
+
+    clock.addAndGet(Duration.ofSeconds(1).toNanos());
+    assertEquals("ok", policy.apply(Mono.just("ok")).block());
+    assertFalse(circuitBreaker.isOpen());
+  }
+
+  @Test
+  public void circuitBreakerReopensAfterFailedTrial() {
+    AtomicLong clock = new AtomicLong();
+    CircuitBreaker circuitBreaker = new CircuitBreaker(new CircuitBreakerOptions()
+        .setFailureThreshold(1)
+        .setOpenDuration(Duration.ofSeconds(1)), "test", clock::get);
+    ResiliencyPolicy policy = new ResiliencyPolicy(new RetryPolicy(0), circuitBreaker, null);
+    AtomicInteger attempts = new AtomicInteger();
+
+    assertThrows(RuntimeException.class, () -> policy.apply(unavailable(attempts)).block());
+    clock.addAndGet(Duration.ofSeconds(1).toNanos());
+    assertThrows(RuntimeException.class, () -> policy.apply(unavailable(attempts)).block());
+    DaprException exception = assertThrows(DaprException.class, () -> policy.apply(Mono.just("ok")).block());
+
+    assertEquals("CIRCUIT_BREAKER_OPEN", exception.getErrorCode());
+    assertEquals(2, attempts.get());
+  }
+
+  @Test
+  public void errorsFromDaprDoNotOpenCircuit() {
+    CircuitBreaker circuitBreaker = new CircuitBreaker(new CircuitBreakerOptions().setFailureThreshold(1), "test");
+    ResiliencyPolicy policy = new ResiliencyPolicy(new RetryPolicy(0), circuitBreaker, null);
+
+    assertThrows(RuntimeException.class,
+        () -> policy.apply(Mono.error(new StatusRuntimeException(Status.NOT_FOUND))).block());
+
+    assertFalse(circuitBreaker.isOpen());
+  }
+
+  @Test
+  public void hedgesSlowReads() {
+    Map<OperationType, ResiliencyPolicy> policies = ResiliencyPolicy.forOperations(new ResiliencyOptions()
+        .setHedgingDelay(Duration.ofMillis(10)));
+    AtomicInteger attempts = new AtomicInteger();
+    Mono<String> call = Mono.defer(() -> attempts.incrementAndGet() == 1 ? Mono.never() : Mono.just("hedged"));
+
+    assertEquals("hedged", policies.get(OperationType.STATE_READ).apply(call).block(Duration.ofSeconds(5)));
+    assertEquals(2, attempts.get());
+
+    attempts.set(0);
+    assertEquals("fast", policies.get(OperationType.STATE_READ).apply(Mono.defer(() -> {
+      attempts.incrementAndGet();
+      return Mono.just("fast");
+    })).block());
+    assertEquals(1, attempts.get());
+  }
+
+  @Test
+  public void hedgeSucceedsWhenPrimaryFails() {
+    Map<OperationType, ResiliencyPolicy> policies = ResiliencyPolicy.forOperations(new ResiliencyOptions()
+        .setMaxRetries(0)
+        .setHedgingDelay(Duration.ofMillis(10)));
+    AtomicInteger attempts = new AtomicInteger();
+    Mono<String> call = Mono.defer(() -> attempts.incrementAndGet() == 1
+        ? Mono.delay(Duration.ofMillis(50)).then(Mono.error(new StatusRuntimeException(Status.UNAVAILABLE)))
+        : Mono.delay(Duration.ofMillis(100)).thenReturn("hedged"));
+
+    assertEquals("hedged", policies.get(OperationType.STATE_READ).apply(call).block(Duration.ofSeconds(5)));
+    assertEquals(2, attempts.get());
+
+    attempts.set(0);
+    Mono<String> failing = Mono.defer(() -> Mono.error(
+        new StatusRuntimeException(attempts.incrementAndGet() == 1 ? Status.UNAVAILABLE : Status.INTERNAL)));
+    StatusRuntimeException error = assertThrows(StatusRuntimeException.class,
+        () -> policies.get(OperationType.STATE_READ).apply(failing).block(Duration.ofSeconds(5)));
+    assertEquals(Status.Code.UNAVAILABLE, error.getStatus().getCode());
+    assertEquals(2, attempts.get());
+
+    assertNull(policies.get(OperationType.STATE_READ).apply(Mono.empty()).block(Duration.ofSeconds(5)));
+  }
+
+  @Test
+  public void hedgeFailsFastWhenPrimaryErrorIsNotRetryable() {
+    Map<OperationType, ResiliencyPolicy> policies = ResiliencyPolicy.forOperations(new ResiliencyOptions()
+        .setHedgingDelay(Duration.ofSeconds(30)));
+    AtomicInteger attempts = new AtomicInteger();
+    Mono<String> call = Mono.defer(() -> {
+      attempts.incrementAndGet();
+      return Mono.error(new StatusRuntimeException(Status.INVALID_ARGUMENT));
+    });
+
+    // Waiting for the hedging delay would make the block time out.
+    StatusRuntimeException error = assertThrows(StatusRuntimeException.class,
+        () -> policies.get(OperationType.STATE_READ).apply(call).block(Duration.ofSeconds(5)));
+    assertEquals(Status.Code.INVALID_ARGUMENT, error.getStatus().getCode());
+    assertEquals(1, attempts.get());
+  }
+
+  @Test
+  public void operationOptionsOverrideClientOptions() {
+    Map<OperationType, ResiliencyPolicy> policies = ResiliencyPolicy.forOperations(new ResiliencyOptions()
+        .setMaxRetries(0)
+        .setInitialBackoff(BACKOFF)
+        .setOperationOptions(OperationType.STATE_READ, new ResiliencyOptions().setMaxRetries(2)));
+    AtomicInteger attempts = new AtomicInteger();
+
+    assertThrows(RuntimeException.class,
+        () -> policies.get(OperationType.STATE_READ).apply(unavailable(attempts)).block());
+    assertEquals(3, attempts.get());
+
+    attempts.set(0);
+    assertThrows(RuntimeException.class,
+        () -> policies.get(OperationType.PUBLISH).apply(unavailable(attempts)).block());
+    assertEquals(1, attempts.get());
+  }
+
+  @Test
+  public void invalidOptions() {
+    assertThrows(IllegalArgumentException.class, () -> new ResiliencyOptions().setJitter(1.5));
+    assertThrows(IllegalArgumentException.class, () -> new CircuitBreakerOptions().setFailureThreshold(0));
+    assertThrows(IllegalArgumentException.class, () -> new RetryBudgetOptions().setTokenRatio(0));
+  }
+
+  private static Mono<String> unavailable(AtomicInteger attempts) {
+    return Mono.defer(() -> {
+      attempts.incrementAndGet();
+      return Mono.error(new StatusRuntimeException(Status.UNAVAILABLE));
+    });
+  }
+}
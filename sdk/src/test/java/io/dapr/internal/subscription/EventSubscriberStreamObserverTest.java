@@ -15,6 +15,7 @@ package io.dapr.internal.subscription;
 
 import com.google.protobuf.ByteString;
 import io.dapr.client.domain.CloudEvent;
+import io.dapr.client.domain.LazyCloudEvent;
 import io.dapr.exceptions.DaprException;
 import io.dapr.serializer.DaprObjectSerializer;
 import io.dapr.serializer.DefaultObjectSerializer;
@@ -35,6 +36,8 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.argThat;
@@ -548,6 +551,101 @@ class EventSubscriberStreamObserverTest {
         .verifyComplete();
   }
 
+  @Test
+  @DisplayName("Should send DROP ack when CloudEvent data cannot be deserialized")
+  void testMalformedCloudEventDataIsDropped() {
+    Flux<CloudEvent<TestEvent>> flux = Flux.create(sink -> {
+      EventSubscriberStreamObserver<CloudEvent<TestEvent>> observer = new EventSubscriberStreamObserver<>(
+          mockStub,
+          sink,
+          new TypeRef<CloudEvent<TestEvent>>() {},
+          objectSerializer
+      );
+
+      observer.start(buildInitialRequest());
+
+      DaprPubsubProtos.SubscribeTopicEventsResponseAlpha1 response = DaprPubsubProtos.SubscribeTopicEventsResponseAlpha1.newBuilder()
+          .setEventMessage(
+              DaprAppCallbackProtos.TopicEventRequest.newBuilder()
+                  .setId("event-789")
+                  .setType("filtered.event.type")
+                  .setPubsubName(PUBSUB_NAME)
+                  .setTopic(TOPIC_NAME)
+                  .setData(ByteString.copyFromUtf8("not valid json"))
+                  .build()
+          )
+          .build();
+
+      observer.onNext(response);
+    });
+
+    StepVerifier.create(flux)
+        .expectErrorMatches(error ->
+            error instanceof DaprException
+            && error.getMessage().contains("DESERIALIZATION_ERROR")
+            && error.getMessage().contains("event-789"))
+        .verify();
+
+    ArgumentCaptor<DaprPubsubProtos.SubscribeTopicEventsRequestAlpha1> requestCaptor =
+        ArgumentCaptor.forClass(DaprPubsubProtos.SubscribeTopicEventsRequestAlpha1.class);
+    verify(mockRequestStream, atLeast(2)).onNext(requestCaptor.capture());
+
+    List<DaprPubsubProtos.SubscribeTopicEventsRequestAlpha1> ackRequests = requestCaptor.getAllValues().stream()
+        .filter(DaprPubsubProtos.SubscribeTopicEventsRequestAlpha1::hasEventProcessed)
+        .collect(Collectors.toList());
+
+    assertEquals(1, ackRequests.size());
+    assertEquals(
+        DaprAppCallbackProtos.TopicEventResponse.TopicEventResponseStatus.DROP,
+        ackRequests.get(0).getEventProcessed().getStatus().getStatus()
+    );
+  }
+
+  @Test
+  @DisplayName("Should defer decoding of LazyCloudEvent data and ack SUCCESS before the data is accessed")
+  void testLazyCloudEventDataIsDecodedOnAccess() {
+    Flux<LazyCloudEvent<TestEvent>> flux = Flux.create(sink -> {
+      EventSubscriberStreamObserver<LazyCloudEvent<TestEvent>> observer = new EventSubscriberStreamObserver<>(
+          mockStub,
+          sink,
+          new TypeRef<LazyCloudEvent<TestEvent>>() {},
+          objectSerializer
+      );
+
+      observer.start(buildInitialRequest());
+
+      DaprPubsubProtos.SubscribeTopicEventsResponseAlpha1 response = DaprPubsubProtos.SubscribeTopicEventsResponseAlpha1.newBuilder()
+          .setEventMessage(
+              DaprAppCallbackProtos.TopicEventRequest.newBuilder()
+                  .setId("event-790")
+                  .setType("filtered.event.type")
+                  .setPubsubName(PUBSUB_NAME)
+                  .setTopic(TOPIC_NAME)
+                  .setData(ByteString.copyFromUtf8("not valid json"))
+                  .build()
+          )
+          .build();
+
+      observer.onNext(response);
+      observer.onCompleted();
+    });
+
+    StepVerifier.create(flux)
+        .assertNext(cloudEvent -> {
+          // Envelope fields are readable without touching the payload
+          assertEquals("filtered.event.type", cloudEvent.getType());
+          assertFalse(cloudEvent.isDataDecoded());
+          DaprException exception = assertThrows(DaprException.class, cloudEvent::getData);
+          assertEquals("DESERIALIZATION_ERROR", exception.getErrorCode());
+        })
+        .verifyComplete();
+
+    // The event was acked before its data was decoded, so the malformed payload is not dropped.
+    verify(mockRequestStream, times(1)).onNext(argThat(request -> request.hasEventProcessed()
+        && request.getEventProcessed().getStatus().getStatus()
+            == DaprAppCallbackProtos.TopicEventResponse.TopicEventResponseStatus.SUCCESS));
+  }
+
   private DaprPubsubProtos.SubscribeTopicEventsRequestAlpha1 buildInitialRequest() {
     return DaprPubsubProtos.SubscribeTopicEventsRequestAlpha1.newBuilder()
         .setInitialRequest(
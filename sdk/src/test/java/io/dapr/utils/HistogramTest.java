@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HistogramTest {
+
+  @Test
+  public void recordsIntoBuckets() {
+    Histogram histogram = new Histogram(10, 100, 1000);
+
+    histogram.record(1);
+    histogram.record(10);
+    histogram.record(11);
+    histogram.record(500);
+    histogram.record(5000);
+
+    assertArrayEquals(new long[] {2, 1, 1, 1}, histogram.getBucketCounts());
+    assertEquals(5, histogram.getCount());
+    assertEquals(5522, histogram.getSum());
+    assertEquals(5000, histogram.getMax());
+  }
+
+  @Test
+  public void estimatesPercentiles() {
+    Histogram histogram = new Histogram(10, 100, 1000);
+    for (int i = 0; i < 90; i++) {
+      histogram.record(5);
+    }
+    for (int i = 0; i < 9; i++) {
+      histogram.record(50);
+    }
+    histogram.record(2000);
+
+    assertEquals(10, histogram.getPercentile(50));
+    assertEquals(10, histogram.getPercentile(90));
+    assertEquals(100, histogram.getPercentile(99));
+    assertEquals(2000, histogram.getPercentile(100));
+  }
+
+  @Test
+  public void emptyHistogram() {
+    Histogram histogram = Histogram.exponential(1, 2, 4);
+
+    assertArrayEquals(new long[] {1, 2, 4, 8}, histogram.getBucketBounds());
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMax());
+    assertEquals(0, histogram.getPercentile(99));
+  }
+
+  @Test
+  public void invalidBounds() {
+    assertThrows(IllegalArgumentException.class, () -> new Histogram());
+    assertThrows(IllegalArgumentException.class, () -> new Histogram(10, 5));
+    assertThrows(IllegalArgumentException.class, () -> Histogram.exponential(1, 1, 4));
+  }
+}
@@ -15,6 +15,7 @@ package io.dapr.utils;
 
 import io.dapr.config.Properties;
 import io.dapr.exceptions.DaprException;
+import io.dapr.internal.grpc.ManagedChannelPool;
 import io.dapr.utils.NetworkUtils.GrpcEndpointSettings;
 import io.grpc.ManagedChannel;
 import org.junit.jupiter.api.AfterAll;
@@ -82,6 +83,28 @@ public class NetworkUtilsTest {
     Assertions.assertEquals(expectedAuthority, channel.authority());
   }
 
+  @Test
+  public void testBuildGrpcManagedChannel_pool() {
+    var properties = new Properties(Map.of(
+        Properties.GRPC_CHANNEL_POOL_SIZE.getName(), "3",
+        Properties.GRPC_CHANNEL_POOL_SELECTION.getName(), "least_in_flight"));
+    channel = NetworkUtils.buildGrpcManagedChannel(properties);
+    channels.add(channel);
+
+    Assertions.assertInstanceOf(ManagedChannelPool.class, channel);
+    Assertions.assertEquals(String.format("%s:%s", defaultSidecarIP, defaultGrpcPort), channel.authority());
+    channel.shutdown();
+    Assertions.assertTrue(channel.isShutdown());
+  }
+
+  @Test
+  public void testBuildGrpcManagedChannel_invalidPoolSelection() {
+    var properties = new Properties(Map.of(
+        Properties.GRPC_CHANNEL_POOL_SIZE.getName(), "2",
+        Properties.GRPC_CHANNEL_POOL_SELECTION.getName(), "random"));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> NetworkUtils.buildGrpcManagedChannel(properties));
+  }
+
   @Test
   public void testBuildGrpcManagedChannel_httpsEndpointNoPort() {
     var properties = new Properties(Map.of(Properties.GRPC_ENDPOINT.getName(), "https://example.com"));